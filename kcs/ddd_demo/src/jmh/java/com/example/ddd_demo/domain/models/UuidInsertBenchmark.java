@@ -0,0 +1,119 @@
+package com.example.ddd_demo.domain.models;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * UUIDv4とUUIDv7を一意索引付きのテーブルへ大量にINSERTしたときのスループットと索引サイズを比較するベンチマーク
+ *
+ * <p>{@code uq_product_uuid} と同じ構成(uuid列の一意索引)のテーブルを毎回作り直し、
+ * {@code rows} 件を {@code batch} 件ずつのバッチINSERTで追加する。
+ * 計測値(1回あたりの所要時間)に加え、終了時に索引サイズとWAL生成量を標準出力へ出す。</p>
+ *
+ * <p>PostgreSQLへの接続先は環境変数で指定する(既定はapplication.propertiesと同じ)。</p>
+ * <pre>{@code
+ * JDBC_URL=jdbc:postgresql://localhost:5432/restapi-exercise JDBC_USER=postgres JDBC_PASSWORD=postgres \
+ *   gradlew jmh -PjmhIncludes=UuidInsertBenchmark
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class UuidInsertBenchmark {
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    private UuidGenerator.Strategy strategy;
+
+    @Param({"5000000"})
+    private int rows;
+
+    @Param({"10000"})
+    private int batch;
+
+    private Connection connection;
+    /**
+     * INSERT開始時点のWAL位置
+     */
+    private String walStart;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+            env("JDBC_URL", "jdbc:postgresql://localhost:5432/restapi-exercise") + "?reWriteBatchedInserts=true",
+            env("JDBC_USER", "postgres"),
+            env("JDBC_PASSWORD", "postgres"));
+        try (var st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_uuid");
+            st.execute("CREATE TABLE bench_uuid ("
+                + "id SERIAL PRIMARY KEY, "
+                + "product_uuid UUID NOT NULL, "
+                + "CONSTRAINT uq_bench_uuid UNIQUE (product_uuid))");
+            st.execute("CHECKPOINT");
+            try (var rs = st.executeQuery("SELECT pg_current_wal_lsn()::text")) {
+                rs.next();
+                walStart = rs.getString(1);
+            }
+        }
+        connection.setAutoCommit(false);
+        UuidGenerator.use(strategy);
+    }
+
+    @Benchmark
+    public void insert() throws SQLException {
+        try (var ps = connection.prepareStatement("INSERT INTO bench_uuid (product_uuid) VALUES (?)")) {
+            for (int i = 1; i <= rows; i++) {
+                UUID uuid = UuidGenerator.next();
+                ps.setObject(1, uuid);
+                ps.addBatch();
+                if (i % batch == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (var st = connection.createStatement();
+             var rs = st.executeQuery("SELECT "
+                + "pg_size_pretty(pg_relation_size('uq_bench_uuid')), "
+                + "pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_lsn(), '" + walStart + "'::pg_lsn))")) {
+            rs.next();
+            System.out.printf("%n[%s] rows=%d uq_bench_uuid=%s wal=%s%n",
+                strategy, rows, rs.getString(1), rs.getString(2));
+            st.execute("DROP TABLE bench_uuid");
+        } finally {
+            connection.close();
+            UuidGenerator.use(UuidGenerator.Strategy.RANDOM);
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        var value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
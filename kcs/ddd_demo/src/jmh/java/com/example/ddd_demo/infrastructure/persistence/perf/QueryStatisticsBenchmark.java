@@ -0,0 +1,87 @@
+package com.example.ddd_demo.infrastructure.persistence.perf;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Result;
+import org.jooq.Record1;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * SQL文の形ごとの実行統計({@link QueryStatisticsListener})が1回のクエリ実行に加える時間を計測するベンチマーク
+ *
+ * <ul>
+ *   <li><b>withoutListener</b> ― リスナーを登録していない DSLContext で1行を取得する</li>
+ *   <li><b>withListener</b> ― 同じクエリを、リスナーを登録した DSLContext で取得する(2つの差がリスナーの負荷)</li>
+ *   <li><b>recordOnly</b> ― {@link QueryStatistics#record} だけを呼ぶ(キャッシュ済みのSQL文の集計)</li>
+ * </ul>
+ *
+ * <p>DBアクセスの時間を除くため、jOOQ の {@link MockConnection} が固定の結果を返す。
+ * 差は数マイクロ秒以内(キャッシュ済みのSQL文では正規化を行わず、ハッシュ表の参照・ヒストグラムとカウンタの更新だけ)を目安とする。</p>
+ * <pre>{@code
+ * gradlew jmh -PjmhIncludes=QueryStatisticsBenchmark
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryStatisticsBenchmark {
+
+    private static final String SQL = "select \"id\" from \"product\" where \"id\" = ?";
+
+    private QueryStatistics statistics;
+    private DSLContext plain;
+    private DSLContext instrumented;
+    private Table<?> table;
+    private Field<Integer> id;
+
+    @Setup
+    public void setUp() {
+        id = DSL.field(DSL.name("id"), Integer.class);
+        table = DSL.table(DSL.name("product"));
+        var create = DSL.using(SQLDialect.POSTGRES);
+        Result<Record1<Integer>> result = create.newResult(id);
+        result.add(create.newRecord(id).values(1));
+        var connection = new MockConnection(ctx -> new MockResult[] { new MockResult(1, result) });
+
+        // スロークエリのログは出さない
+        statistics = new QueryStatistics(Duration.ofMinutes(1), 1000);
+        plain = DSL.using(connection, SQLDialect.POSTGRES);
+        instrumented = plain.configuration().deriveAppending(new QueryStatisticsListener(statistics)).dsl();
+    }
+
+    @TearDown
+    public void tearDown() {
+        statistics.snapshot().forEach(s ->
+            System.out.printf("%n%s count=%d mean=%.1fus p99=%dus%n", s.sql(), s.count(), s.meanMicros(), s.p99Micros()));
+    }
+
+    @Benchmark
+    public Object withoutListener() {
+        return plain.select(id).from(table).where(id.eq(1)).fetch();
+    }
+
+    @Benchmark
+    public Object withListener() {
+        return instrumented.select(id).from(table).where(id.eq(1)).fetch();
+    }
+
+    @Benchmark
+    public void recordOnly() {
+        statistics.record(SQL, 1_000, 1, null);
+    }
+}
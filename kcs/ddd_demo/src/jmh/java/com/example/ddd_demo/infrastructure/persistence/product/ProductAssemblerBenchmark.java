@@ -0,0 +1,105 @@
+package com.example.ddd_demo.infrastructure.persistence.product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.ddd_demo.domain.models.product.Product;
+import com.example.ddd_demo.infrastructure.persistence.category.CategoryRecordMapper;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductCategoryTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductStockTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.records.ProductCategoryRecord;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.records.ProductRecord;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.records.ProductStockRecord;
+import com.example.ddd_demo.infrastructure.persistence.stock.StcokRecordMapper;
+
+/**
+ * JOIN結果1行から商品集約を合成する処理のベンチマーク
+ *
+ * <ul>
+ *   <li><b>viaTableRecords</b> ― 全列をSELECTした行を {@code rec.into(XxxRecord.class)} で
+ *       3つのRecordに詰め替え、{@link ProductAssembler#assemble(ProductRecord, ProductCategoryRecord, ProductStockRecord)} で合成する(従来の経路)</li>
+ *   <li><b>byFieldIndex</b> ― {@link ProductAssembler#AGGREGATE_FIELDS} の並び順でSELECTした行から、
+ *       {@link ProductAssembler#assemble(Record)} で列の位置を指定して直接合成する</li>
+ * </ul>
+ *
+ * <p>DBアクセスは含めず、取得済みの1行を集約へ変換する部分だけを計測する。
+ * {@code gradlew jmh} で実行すると、gcプロファイラにより1行あたりのアロケーション量
+ * ({@code gc.alloc.rate.norm})も出力される。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductAssemblerBenchmark {
+
+    private ProductAssembler assembler;
+    /**
+     * 従来の経路で利用していた、各テーブルの全列を含む行
+     */
+    private Record fullRow;
+    /**
+     * {@link ProductAssembler#AGGREGATE_FIELDS} の列だけを含む行
+     */
+    private Record narrowRow;
+
+    @Setup
+    public void setUp() {
+        assembler = new ProductAssembler(
+            Mappers.getMapper(ProductRecordMapper.class),
+            Mappers.getMapper(CategoryRecordMapper.class),
+            Mappers.getMapper(StcokRecordMapper.class));
+
+        DSLContext dsl = DSL.using(SQLDialect.POSTGRES);
+        var productUuid  = UUID.fromString("aaaaaaaa-1111-2222-3333-bbbbbbbbbbbb");
+        var categoryUuid = UUID.fromString("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4");
+        var stockUuid    = UUID.fromString("22222222-2222-2222-2222-222222222222");
+
+        var p = ProductTable.PRODUCT;
+        var s = ProductStockTable.PRODUCT_STOCK;
+        var c = ProductCategoryTable.PRODUCT_CATEGORY;
+        var fields = new ArrayList<Field<?>>();
+        fields.addAll(List.of(p.fields()));
+        fields.addAll(List.of(s.fields()));
+        fields.addAll(List.of(c.fields()));
+        fullRow = dsl.newRecord(fields.toArray(Field<?>[]::new));
+        fullRow.set(p.PRODUCT_UUID, productUuid);
+        fullRow.set(p.NAME, "えんぴつ");
+        fullRow.set(p.PRICE, 120);
+        fullRow.set(s.STOCK_UUID, stockUuid);
+        fullRow.set(s.STOCK, 10);
+        fullRow.set(c.CATEGORY_UUID, categoryUuid);
+        fullRow.set(c.NAME, "文房具");
+
+        narrowRow = dsl.newRecord(ProductAssembler.AGGREGATE_FIELDS.toArray(Field<?>[]::new));
+        narrowRow.fromArray(productUuid, "えんぴつ", "えんぴつ", 120, categoryUuid, "文房具", stockUuid, 10);
+    }
+
+    @Benchmark
+    public Product viaTableRecords() {
+        ProductRecord pr         = fullRow.into(ProductRecord.class);
+        ProductStockRecord sr    = fullRow.into(ProductStockRecord.class);
+        ProductCategoryRecord cr = fullRow.into(ProductCategoryRecord.class);
+        return assembler.assemble(pr, cr, sr);
+    }
+
+    @Benchmark
+    public Product byFieldIndex() {
+        return assembler.assemble(narrowRow);
+    }
+}
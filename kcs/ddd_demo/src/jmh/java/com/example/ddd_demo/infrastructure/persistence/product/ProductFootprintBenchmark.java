@@ -0,0 +1,110 @@
+package com.example.ddd_demo.infrastructure.persistence.product;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.example.ddd_demo.domain.models.product.Product;
+import com.example.ddd_demo.domain.models.product.ProductName;
+import com.example.ddd_demo.infrastructure.persistence.category.CategoryRecordMapper;
+import com.example.ddd_demo.infrastructure.persistence.stock.StcokRecordMapper;
+
+/**
+ * 商品の一覧・エクスポートを想定し、{@code rows} 件の結果行を商品集約へ変換したときのメモリ量を計測するベンチマーク
+ *
+ * <ul>
+ *   <li>1回の変換で割り当てたバイト数 ― gcプロファイラの {@code gc.alloc.rate.norm}</li>
+ *   <li>変換した集約のリストが保持するヒープ量 ― 終了時にGC後のヒープ使用量の差を標準出力へ出す</li>
+ * </ul>
+ *
+ * <p>単価・在庫数・カテゴリは実データと同じく少数の値に偏らせている(共有インスタンスの効果が出る条件)。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProductFootprintBenchmark {
+
+    @Param({"100000"})
+    private int rows;
+
+    private ProductAssembler assembler;
+    private List<Record> result;
+    /**
+     * 変換結果(ヒープ量の計測が終わるまで保持する)
+     */
+    private List<Product> retained;
+    /**
+     * 変換前のヒープ使用量
+     */
+    private long baseline;
+
+    @Setup
+    public void setUp() {
+        assembler = new ProductAssembler(
+            Mappers.getMapper(ProductRecordMapper.class),
+            Mappers.getMapper(CategoryRecordMapper.class),
+            Mappers.getMapper(StcokRecordMapper.class));
+        DSLContext dsl = DSL.using(SQLDialect.POSTGRES);
+        var fields = ProductAssembler.AGGREGATE_FIELDS.toArray(Field<?>[]::new);
+        var categories = new UUID[] { UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID() };
+        var categoryNames = new String[] { "文房具", "雑貨", "パソコン周辺機器" };
+        result = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            var name = "商品" + i;
+            var rec = dsl.newRecord(fields);
+            rec.fromArray(UUID.randomUUID(), name, ProductName.normalize(name), 100 + (i % 50) * 10,
+                categories[i % 3], categoryNames[i % 3], UUID.randomUUID(), i % 101);
+            result.add(rec);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void measureBaseline() {
+        retained = null;
+        baseline = usedHeapAfterGc();
+    }
+
+    @Benchmark
+    public List<Product> assemble() {
+        var products = new ArrayList<Product>(result.size());
+        for (var rec : result) {
+            products.add(assembler.assemble(rec));
+        }
+        retained = products;
+        return products;
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportRetainedHeap() {
+        long used = usedHeapAfterGc();
+        System.out.printf("%nretained heap for %d products: %,d bytes (%,d bytes/product)%n",
+            retained.size(), used - baseline, (used - baseline) / retained.size());
+        retained = null;
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
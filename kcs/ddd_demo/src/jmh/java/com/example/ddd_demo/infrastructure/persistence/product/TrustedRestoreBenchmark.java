@@ -0,0 +1,100 @@
+package com.example.ddd_demo.infrastructure.persistence.product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.ddd_demo.domain.models.category.Category;
+import com.example.ddd_demo.domain.models.category.CategoryId;
+import com.example.ddd_demo.domain.models.category.CategoryName;
+import com.example.ddd_demo.domain.models.product.Product;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.product.ProductName;
+import com.example.ddd_demo.domain.models.product.ProductPrice;
+import com.example.ddd_demo.domain.models.stock.Stock;
+import com.example.ddd_demo.domain.models.stock.StockId;
+import com.example.ddd_demo.domain.models.stock.StockQuantity;
+import com.example.ddd_demo.infrastructure.persistence.category.CategoryRecordMapper;
+import com.example.ddd_demo.infrastructure.persistence.stock.StcokRecordMapper;
+
+/**
+ * 一覧取得サイズの結果行を商品集約へ復元する処理のベンチマーク(検証あり/検証なし)
+ *
+ * <ul>
+ *   <li><b>validated</b> ― 値オブジェクトの {@code of(...)} と {@code Product.restore(...)} で
+ *       トリム・長さ・範囲・完全性を検証しながら復元する</li>
+ *   <li><b>trusted</b> ― {@link ProductAssembler#assemble(Record)} で、DBのCHECK制約を前提に検証なしで復元する
+ *       (正規化した商品名も name_normalized 列から受け取る)</li>
+ * </ul>
+ *
+ * <p>{@code rows} は1回の一覧取得で返す件数を想定している。DBアクセスは含めない。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrustedRestoreBenchmark {
+
+    @Param({"20", "100", "1000"})
+    private int rows;
+
+    private ProductAssembler assembler;
+    private List<Record> result;
+
+    @Setup
+    public void setUp() {
+        assembler = new ProductAssembler(
+            Mappers.getMapper(ProductRecordMapper.class),
+            Mappers.getMapper(CategoryRecordMapper.class),
+            Mappers.getMapper(StcokRecordMapper.class));
+        DSLContext dsl = DSL.using(SQLDialect.POSTGRES);
+        var fields = ProductAssembler.AGGREGATE_FIELDS.toArray(Field<?>[]::new);
+        var categoryUuid = UUID.randomUUID();
+        result = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            var name = "ＵＳＢキーボード" + i;
+            var rec = dsl.newRecord(fields);
+            rec.fromArray(UUID.randomUUID(), name, ProductName.normalize(name), 50 + i % 9950,
+                categoryUuid, "文房具", UUID.randomUUID(), i % 101);
+            result.add(rec);
+        }
+    }
+
+    @Benchmark
+    public List<Product> validated() {
+        var products = new ArrayList<Product>(result.size());
+        for (var rec : result) {
+            products.add(Product.restore(
+                ProductId.fromUuid(rec.get(0, UUID.class)),
+                ProductName.of(rec.get(1, String.class)),
+                ProductPrice.of(rec.get(3, Integer.class)),
+                Category.restore(CategoryId.fromUuid(rec.get(4, UUID.class)), CategoryName.of(rec.get(5, String.class))),
+                Stock.restore(StockId.fromUuid(rec.get(6, UUID.class)), StockQuantity.of(rec.get(7, Integer.class)))));
+        }
+        return products;
+    }
+
+    @Benchmark
+    public List<Product> trusted() {
+        var products = new ArrayList<Product>(result.size());
+        for (var rec : result) {
+            products.add(assembler.assemble(rec));
+        }
+        return products;
+    }
+}
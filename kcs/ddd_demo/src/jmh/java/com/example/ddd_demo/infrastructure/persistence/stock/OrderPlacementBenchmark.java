@@ -0,0 +1,287 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 複数の商品を含む注文を多数のスレッドが同時に確定したときの、デッドロックの有無とスループットを比較するベンチマーク
+ *
+ * <p>各注文は {@code products} 個の商品からランダムに選んだ10〜100明細(重複なし・ランダムな順序)で、
+ * 注文どうしは多くの商品を共有する。</p>
+ * <ul>
+ *   <li>{@code sortedSingleStatement} ― 在庫の行を主キー順に {@code FOR UPDATE} でロックし、すべての明細が足りる場合だけ
+ *       1回の {@code UPDATE ... FROM} で減算するSQL文を自動コミットで1回実行する
+ *       ({@link StockJooqRepository#ALLOCATE_SQL} と同じ形。商品UUIDの解決だけを省く)</li>
+ *   <li>{@code perLineUnsorted} ― 1つのトランザクションで、明細の順に1行ずつ条件付き {@code UPDATE} し、
+ *       足りない明細があればロールバックする(ロックの取得順が注文ごとに異なる)。
+ *       デッドロックで中断された注文はロールバックして失敗として数える</li>
+ * </ul>
+ *
+ * <p>各イテレーションの終了時に「確定した明細の数量の合計 = 初期在庫の合計 - 残り在庫の合計」を検証し、
+ * {@code sortedSingleStatement} でデッドロック(SQLSTATE 40P01)が1件でも発生した場合は例外で計測を失敗させる。
+ * 確定した注文のスループットとデッドロックの件数も標準出力へ出す。
+ * {@code poolSize} ごとの結果を並べると、コネクション数に対するスケールの仕方を比較できる。</p>
+ *
+ * <p>PostgreSQLへの接続先は環境変数で指定する(既定はapplication.propertiesと同じ)。</p>
+ * <pre>{@code
+ * JDBC_URL=jdbc:postgresql://localhost:5432/restapi-exercise JDBC_USER=postgres JDBC_PASSWORD=postgres \
+ *   gradlew jmh -PjmhIncludes=OrderPlacementBenchmark
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(64)
+@Fork(1)
+public class OrderPlacementBenchmark {
+
+    private static final String ALLOCATE_SQL = """
+        WITH line AS (
+            SELECT l.product_id, l.quantity FROM unnest(?::integer[], ?::integer[]) AS l(product_id, quantity)
+        ),
+        locked AS (
+            SELECT st.product_id, st.stock - st.reserved AS available
+              FROM bench_order_stock st
+             WHERE st.product_id IN (SELECT product_id FROM line)
+             ORDER BY st.product_id
+               FOR UPDATE
+        ),
+        decision AS (
+            SELECT bool_and(k.available IS NOT NULL AND k.available >= line.quantity) AS ok
+              FROM line LEFT JOIN locked k ON k.product_id = line.product_id
+        ),
+        updated AS (
+            UPDATE bench_order_stock st
+               SET stock = st.stock - line.quantity
+              FROM line, decision
+             WHERE decision.ok
+               AND st.product_id = line.product_id
+               AND st.stock - st.reserved >= line.quantity
+            RETURNING st.product_id
+        )
+        SELECT count(*) FROM updated
+        """;
+
+    private static final String DEADLOCK_DETECTED = "40P01";
+
+    /**
+     * コネクションプールのサイズ
+     */
+    @Param({"4", "8", "16", "32"})
+    private int poolSize;
+
+    /**
+     * 注文が選ぶ商品の数(少ないほど注文どうしが重なる)
+     */
+    @Param({"200"})
+    private int products;
+
+    /**
+     * イテレーション開始時の1商品あたりの在庫数(計測中に売り切れないだけの量)
+     */
+    @Param({"100000000"})
+    private int initialStock;
+
+    private HikariDataSource dataSource;
+    /**
+     * 確定した注文の件数
+     */
+    private final AtomicLong placed = new AtomicLong();
+    /**
+     * 確定した明細の数量の合計
+     */
+    private final AtomicLong units = new AtomicLong();
+    /**
+     * デッドロックで中断された注文の件数
+     */
+    private final AtomicLong deadlocks = new AtomicLong();
+    /**
+     * 実行中のベンチマークが {@code sortedSingleStatement} かどうか
+     */
+    private boolean sorted;
+    /**
+     * イテレーションの開始時刻
+     */
+    private long startedAt;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        var config = new HikariConfig();
+        config.setJdbcUrl(env("JDBC_URL", "jdbc:postgresql://localhost:5432/restapi-exercise"));
+        config.setUsername(env("JDBC_USER", "postgres"));
+        config.setPassword(env("JDBC_PASSWORD", "postgres"));
+        config.setMaximumPoolSize(poolSize);
+        config.setConnectionTimeout(TimeUnit.MINUTES.toMillis(1));
+        dataSource = new HikariDataSource(config);
+        try (var c = dataSource.getConnection(); var st = c.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_order_stock");
+            st.execute("CREATE TABLE bench_order_stock (product_id integer PRIMARY KEY,"
+                + " stock integer NOT NULL, reserved integer NOT NULL DEFAULT 0)");
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void reset(BenchmarkParams params) throws SQLException {
+        try (var c = dataSource.getConnection(); var st = c.createStatement()) {
+            st.execute("TRUNCATE bench_order_stock");
+            st.execute("INSERT INTO bench_order_stock (product_id, stock)"
+                + " SELECT g, " + initialStock + " FROM generate_series(1, " + products + ") g");
+        }
+        sorted = params.getBenchmark().endsWith("sortedSingleStatement");
+        placed.set(0);
+        units.set(0);
+        deadlocks.set(0);
+        startedAt = System.nanoTime();
+    }
+
+    /**
+     * 主キー順のロック + 1回のUPDATE(自動コミット)
+     */
+    @Benchmark
+    public boolean sortedSingleStatement() throws SQLException {
+        var order = randomOrder();
+        try (var c = dataSource.getConnection(); var ps = c.prepareStatement(ALLOCATE_SQL)) {
+            ps.setArray(1, c.createArrayOf("integer", order[0]));
+            ps.setArray(2, c.createArrayOf("integer", order[1]));
+            try (var rs = ps.executeQuery()) {
+                rs.next();
+                return count(rs.getInt(1) == order[0].length, order[1]);
+            }
+        } catch (SQLException ex) {
+            if (DEADLOCK_DETECTED.equals(ex.getSQLState())) {
+                deadlocks.incrementAndGet();
+                return false;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * 比較用: 明細の順に1行ずつUPDATE → COMMIT(足りなければROLLBACK)
+     */
+    @Benchmark
+    public boolean perLineUnsorted() throws SQLException {
+        var order = randomOrder();
+        try (var c = dataSource.getConnection()) {
+            c.setAutoCommit(false);
+            try (var ps = c.prepareStatement(
+                    "UPDATE bench_order_stock SET stock = stock - ? WHERE product_id = ? AND stock - reserved >= ?")) {
+                for (int i = 0; i < order[0].length; i++) {
+                    ps.setInt(1, order[1][i]);
+                    ps.setInt(2, order[0][i]);
+                    ps.setInt(3, order[1][i]);
+                    if (ps.executeUpdate() == 0) {
+                        c.rollback();
+                        return false;
+                    }
+                }
+                c.commit();
+                return count(true, order[1]);
+            } catch (SQLException ex) {
+                c.rollback();
+                if (DEADLOCK_DETECTED.equals(ex.getSQLState())) {
+                    deadlocks.incrementAndGet();
+                    return false;
+                }
+                throw ex;
+            } finally {
+                c.setAutoCommit(true);
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void verify() throws SQLException {
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        try (var c = dataSource.getConnection();
+             var st = c.createStatement();
+             var rs = st.executeQuery("SELECT sum(stock)::bigint, count(*) FROM bench_order_stock")) {
+            rs.next();
+            long remaining = rs.getLong(1);
+            long expected = (long) initialStock * rs.getLong(2) - units.get();
+            System.out.printf("%n[%s pool=%d] placed=%d (%.0f orders/s) deadlocks=%d%n",
+                sorted ? "sorted" : "unsorted", poolSize, placed.get(), placed.get() / seconds, deadlocks.get());
+            if (remaining != expected) {
+                throw new IllegalStateException(String.format(
+                    "在庫の整合性が崩れました。 remaining=%d expected=%d", remaining, expected));
+            }
+            if (sorted && deadlocks.get() > 0) {
+                throw new IllegalStateException("主キー順にロックしたにもかかわらずデッドロックが発生しました。: " + deadlocks.get());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (var c = dataSource.getConnection(); var st = c.createStatement()) {
+            st.execute("DROP TABLE bench_order_stock");
+        } finally {
+            dataSource.close();
+        }
+    }
+
+    /**
+     * 10〜100明細のランダムな注文(商品Idは重複なし・ランダムな順序、数量は1〜3)
+     * @return [0]: 商品Id、[1]: 数量
+     */
+    private Integer[][] randomOrder() {
+        var random = ThreadLocalRandom.current();
+        int lines = Math.min(products, random.nextInt(10, 101));
+        // 部分的なFisher–Yatesで、商品Idを重複なく選ぶ
+        var ids = new int[products];
+        for (int i = 0; i < products; i++) {
+            ids[i] = i + 1;
+        }
+        var productIds = new Integer[lines];
+        var quantities = new Integer[lines];
+        for (int i = 0; i < lines; i++) {
+            int j = random.nextInt(i, products);
+            int tmp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = tmp;
+            productIds[i] = ids[i];
+            quantities[i] = random.nextInt(1, 4);
+        }
+        return new Integer[][] {productIds, quantities};
+    }
+
+    private boolean count(boolean success, Integer[] quantities) {
+        if (success) {
+            placed.incrementAndGet();
+            long total = 0;
+            for (var q : quantities) {
+                total += q;
+            }
+            units.addAndGet(total);
+        }
+        return success;
+    }
+
+    private static String env(String name, String defaultValue) {
+        var value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 1つの商品(SKU)の在庫へ多数のスレッドが同時に引当を行ったときのスループットを比較するベンチマーク
+ *
+ * <ul>
+ *   <li>{@code conditionalUpdate} ― {@code UPDATE ... SET stock = stock - 1 WHERE ... AND stock >= 1 RETURNING stock}
+ *       を自動コミットで1回実行する({@link StockJooqRepository#decreaseIfAvailable} と同じ形)</li>
+ *   <li>{@code selectForUpdate} ― {@code SELECT ... FOR UPDATE} で読み取り、アプリケーションで判定してから
+ *       {@code UPDATE} し、{@code COMMIT} する(行ロックを3往復の間保持する)</li>
+ * </ul>
+ *
+ * <p>テーブルにはCHECK制約を付けず、在庫数が負にならないことをWHERE句(または行ロック)だけで保証できるかを確かめる。
+ * 各イテレーションの終了時に「成功した引当の件数 = 初期在庫 - 残り在庫」かつ「残り在庫 ≧ 0」を検証し、
+ * 崩れていれば例外で計測を失敗させる。成功した引当のスループットも標準出力へ出す。</p>
+ *
+ * <p>PostgreSQLへの接続先は環境変数で指定する(既定はapplication.propertiesと同じ)。</p>
+ * <pre>{@code
+ * JDBC_URL=jdbc:postgresql://localhost:5432/restapi-exercise JDBC_USER=postgres JDBC_PASSWORD=postgres \
+ *   gradlew jmh -PjmhIncludes=StockDecrementBenchmark
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(256)
+@Fork(1)
+public class StockDecrementBenchmark {
+
+    /**
+     * コネクションプールのサイズ
+     */
+    @Param({"16", "64"})
+    private int poolSize;
+
+    /**
+     * イテレーション開始時の在庫数(計測中に売り切れないだけの量)
+     */
+    @Param({"100000000"})
+    private int initialStock;
+
+    private HikariDataSource dataSource;
+    /**
+     * 成功した引当の件数
+     */
+    private final AtomicLong sold = new AtomicLong();
+    /**
+     * イテレーションの開始時刻
+     */
+    private long startedAt;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        var config = new HikariConfig();
+        config.setJdbcUrl(env("JDBC_URL", "jdbc:postgresql://localhost:5432/restapi-exercise"));
+        config.setUsername(env("JDBC_USER", "postgres"));
+        config.setPassword(env("JDBC_PASSWORD", "postgres"));
+        config.setMaximumPoolSize(poolSize);
+        config.setConnectionTimeout(TimeUnit.MINUTES.toMillis(1));
+        dataSource = new HikariDataSource(config);
+        try (var c = dataSource.getConnection(); var st = c.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_stock");
+            st.execute("CREATE TABLE bench_stock (product_id integer PRIMARY KEY, stock integer NOT NULL)");
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() throws SQLException {
+        try (var c = dataSource.getConnection(); var st = c.createStatement()) {
+            st.execute("TRUNCATE bench_stock");
+            st.execute("INSERT INTO bench_stock VALUES (1, " + initialStock + ")");
+        }
+        sold.set(0);
+        startedAt = System.nanoTime();
+    }
+
+    /**
+     * 条件付きUPDATE(判定と減算を1文で行い、自動コミット)
+     */
+    @Benchmark
+    public boolean conditionalUpdate() throws SQLException {
+        try (var c = dataSource.getConnection();
+             var ps = c.prepareStatement(
+                "UPDATE bench_stock SET stock = stock - ? WHERE product_id = ? AND stock >= ? RETURNING stock")) {
+            ps.setInt(1, 1);
+            ps.setInt(2, 1);
+            ps.setInt(3, 1);
+            try (var rs = ps.executeQuery()) {
+                return count(rs.next());
+            }
+        }
+    }
+
+    /**
+     * 比較用: SELECT ... FOR UPDATE → 判定 → UPDATE → COMMIT
+     */
+    @Benchmark
+    public boolean selectForUpdate() throws SQLException {
+        try (var c = dataSource.getConnection()) {
+            c.setAutoCommit(false);
+            try {
+                boolean ok = false;
+                try (var ps = c.prepareStatement("SELECT stock FROM bench_stock WHERE product_id = ? FOR UPDATE")) {
+                    ps.setInt(1, 1);
+                    try (var rs = ps.executeQuery()) {
+                        ok = rs.next() && rs.getInt(1) >= 1;
+                    }
+                }
+                if (ok) {
+                    try (var ps = c.prepareStatement("UPDATE bench_stock SET stock = stock - ? WHERE product_id = ?")) {
+                        ps.setInt(1, 1);
+                        ps.setInt(2, 1);
+                        ps.executeUpdate();
+                    }
+                }
+                c.commit();
+                return count(ok);
+            } catch (SQLException ex) {
+                c.rollback();
+                throw ex;
+            } finally {
+                c.setAutoCommit(true);
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void verify() throws SQLException {
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        try (Connection c = dataSource.getConnection();
+             var st = c.createStatement();
+             var rs = st.executeQuery("SELECT stock FROM bench_stock WHERE product_id = 1")) {
+            rs.next();
+            long remaining = rs.getLong(1);
+            System.out.printf("%n[pool=%d] sold=%d remaining=%d (%.0f decrements/s)%n",
+                poolSize, sold.get(), remaining, sold.get() / seconds);
+            if (remaining < 0 || sold.get() != initialStock - remaining) {
+                throw new IllegalStateException(String.format(
+                    "在庫の整合性が崩れました。 sold=%d remaining=%d initial=%d", sold.get(), remaining, initialStock));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (var c = dataSource.getConnection(); var st = c.createStatement()) {
+            st.execute("DROP TABLE bench_stock");
+        } finally {
+            dataSource.close();
+        }
+    }
+
+    private boolean count(boolean success) {
+        if (success) {
+            sold.incrementAndGet();
+        }
+        return success;
+    }
+
+    private static String env(String name, String defaultValue) {
+        var value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
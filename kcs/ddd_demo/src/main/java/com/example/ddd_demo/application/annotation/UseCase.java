@@ -3,6 +3,12 @@ package com.example.ddd_demo.application.annotation;
 import java.lang.annotation.*;
 import org.springframework.stereotype.Component;
 
+/**
+ * ユースケースの実装(Interactor)を表すステレオタイプ
+ *
+ * <p>付与したクラスの public メソッドは {@link UseCaseMetricsAspect} により計測される
+ * (所要時間の分布・実行中の件数・例外の型ごとのエラー件数)。</p>
+ */
 @Target(ElementType.TYPE)               // クラスに付与する
 @Retention(RetentionPolicy.RUNTIME)     // 実行時まで保持する
 @Component                              // Springコンポーネントとして登録
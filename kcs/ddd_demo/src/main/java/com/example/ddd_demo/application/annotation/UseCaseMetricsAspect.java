@@ -0,0 +1,132 @@
+package com.example.ddd_demo.application.annotation;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link UseCase} を付与したクラスの public メソッドを計測する
+ *
+ * <p>ユースケース(クラス名)・メソッドごとに、以下のメトリクスを登録する
+ * (Prometheus 形式では {@code /actuator/prometheus} から取得できる)。</p>
+ * <ul>
+ *   <li>{@value #EXECUTION} ― 所要時間(タグ outcome=SUCCESS/ERROR、exception=例外の型)。
+ *       件数からスループットを、パーセンタイル用のヒストグラムと p50/p95/p99 から分布を求める</li>
+ *   <li>{@value #IN_FLIGHT} ― 実行中の件数</li>
+ *   <li>{@value #ERRORS} ― 例外の型ごとのエラー件数</li>
+ * </ul>
+ * <p>トランザクションより外側で計測するため、所要時間にはコミットを含み、コミット時の失敗もエラーとして数える。
+ * 分布の設定は {@code management.metrics.distribution.*.usecase.execution} で上書きできる。
+ * 同じクラス内からの呼び出し(プロキシを経由しない呼び出し)は計測しない。</p>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UseCaseMetricsAspect {
+
+    static final String EXECUTION = "usecase.execution";
+    static final String IN_FLIGHT = "usecase.in.flight";
+    static final String ERRORS = "usecase.errors";
+
+    /**
+     * ユースケースのメソッドごとのメトリクス
+     */
+    private record Meters(Timer success, AtomicInteger inFlight) {}
+
+    private record Key(Class<?> type, Method method) {}
+
+    /**
+     * メトリクスの登録先
+     */
+    private final MeterRegistry registry;
+    /**
+     * メソッド → メトリクス(呼び出しごとに登録先を検索しない)
+     */
+    private final Map<Key, Meters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * コンストラクタ
+     * @param registry メトリクスの登録先
+     */
+    public UseCaseMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * ユースケースのメソッドの実行を計測する
+     * @param pjp 実行するメソッド
+     * @return メソッドの戻り値
+     * @throws Throwable メソッドが投げた例外(そのまま再送出する)
+     */
+    @Around("@within(com.example.ddd_demo.application.annotation.UseCase) && execution(public * *(..))")
+    public Object measure(ProceedingJoinPoint pjp) throws Throwable {
+        var type = AopUtils.getTargetClass(pjp.getTarget());
+        var method = ((MethodSignature) pjp.getSignature()).getMethod();
+        var m = meters.computeIfAbsent(new Key(type, method), k -> register(k.type().getSimpleName(), k.method().getName()));
+        m.inFlight().incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            var result = pjp.proceed();
+            m.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            long elapsed = System.nanoTime() - start;
+            var usecase = type.getSimpleName();
+            var exception = ex.getClass().getSimpleName();
+            timer(usecase, method.getName(), "ERROR", exception)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+            Counter.builder(ERRORS)
+                .description("ユースケースのエラー件数(例外の型ごと)")
+                .tag("usecase", usecase)
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .register(registry)
+                .increment();
+            throw ex;
+        } finally {
+            m.inFlight().decrementAndGet();
+        }
+    }
+
+    private Meters register(String usecase, String method) {
+        var inFlight = new AtomicInteger();
+        Gauge.builder(IN_FLIGHT, inFlight, AtomicInteger::get)
+            .description("実行中のユースケースの件数")
+            .tag("usecase", usecase)
+            .tag("method", method)
+            .strongReference(true)
+            .register(registry);
+        return new Meters(timer(usecase, method, "SUCCESS", "none"), inFlight);
+    }
+
+    private Timer timer(String usecase, String method, String outcome, String exception) {
+        return Timer.builder(EXECUTION)
+            .description("ユースケースの所要時間")
+            .tag("usecase", usecase)
+            .tag("method", method)
+            .tag("outcome", outcome)
+            .tag("exception", exception)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(registry);
+    }
+}
@@ -21,6 +21,13 @@ public interface CategoryService {
      */
     List<Category> getCategories();
 
+    /**
+     * 商品カテゴリ一覧の版を取得する
+     * <p>{@link #getCategories()} の結果が変わると版も変わる。</p>
+     * @return 一覧の版
+     */
+    String getCategoriesVersion();
+
     /**
      * 商品カテゴリIdで商品カテゴリを取得する
      * @param categoryId 商品カテゴリId(VO)
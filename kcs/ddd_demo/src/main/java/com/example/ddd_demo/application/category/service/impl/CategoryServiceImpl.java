@@ -38,6 +38,15 @@ public class CategoryServiceImpl implements CategoryService {
         return categoryRepository.findAll();
     }
 
+    /**
+     * 商品カテゴリ一覧の版を取得する
+     * @return 一覧の版
+     */
+    @Override
+    public String getCategoriesVersion() {
+        return categoryRepository.findAllVersion();
+    }
+
     /**
      * 商品カテゴリIdで商品カテゴリを取得する
      * @param categoryId 商品カテゴリId(VO)
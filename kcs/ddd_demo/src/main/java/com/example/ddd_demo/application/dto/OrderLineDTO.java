@@ -0,0 +1,23 @@
+package com.example.ddd_demo.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 注文明細DTO(商品と数量)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLineDTO {
+    /**
+     * 商品ID(UUID形式)
+     * {@code ProductId} 値オブジェクトに対応。
+     */
+    private String productId;
+    /**
+     * 数量
+     */
+    private Integer quantity;
+}
@@ -0,0 +1,86 @@
+package com.example.ddd_demo.application.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 注文の確定結果を表すDTO。
+ *
+ * <p>注文はすべての明細を引き当てるか、1つも引き当てないかのどちらかとなる。
+ * 明細ごとの引当状況を、同じ商品Idを合算した上で指定順に報告する。</p>
+ */
+@Schema(name = "OrderPlacementResult", description = "注文の確定結果")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPlacementResultDTO {
+
+    /**
+     * 明細ごとの引当状況
+     */
+    public enum Status {
+        /** 引き当てた */
+        ALLOCATED,
+        /** 在庫は足りるが、他の明細を引き当てられないため引き当てなかった */
+        SKIPPED,
+        /** 引当可能数が足りない */
+        INSUFFICIENT,
+        /** 指定された商品が存在しない */
+        NOT_FOUND
+    }
+
+    /**
+     * 明細ごとの引当結果
+     */
+    @Schema(name = "OrderPlacementLine", description = "明細ごとの引当結果")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+        /**
+         * 商品Id
+         */
+        @Schema(description = "商品Id", example = "9959e553-c9da-4646-bd85-8663a3541583")
+        private String productId;
+
+        /**
+         * 数量
+         */
+        @Schema(description = "数量", example = "2")
+        private int quantity;
+
+        /**
+         * 引当状況
+         */
+        @Schema(description = "引当状況", example = "ALLOCATED")
+        private Status status;
+
+        /**
+         * 引当前の引当可能数(商品が存在しない場合はnull)
+         */
+        @Schema(description = "引当前の引当可能数(商品が存在しない場合はnull)", example = "100")
+        private Integer availableToPromise;
+
+        /**
+         * 引当後の在庫(引き当てた場合のみ)
+         */
+        @Schema(description = "引当後の在庫(引き当てた場合のみ)")
+        private StockDTO stock;
+    }
+
+    /**
+     * すべての明細を引き当てた場合はtrue(falseの場合はどの明細も引き当てていない)
+     */
+    @Schema(description = "すべての明細を引き当てた場合はtrue", example = "true")
+    private boolean placed;
+
+    /**
+     * 明細ごとの引当結果(指定順)
+     */
+    @Schema(description = "明細ごとの引当結果(指定順)")
+    private List<Line> lines;
+}
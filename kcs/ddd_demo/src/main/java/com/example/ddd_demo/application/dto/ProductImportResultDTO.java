@@ -0,0 +1,102 @@
+package com.example.ddd_demo.application.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 商品カタログの一括取り込み結果を表すDTO。
+ *
+ * <p>一括取り込みでは不正な行があっても全体を失敗させず、
+ * 不正な行・登録しなかった行を行番号付きで報告する（件数が多い場合は先頭の一部のみ）。</p>
+ */
+@Schema(name = "ProductImportResult", description = "商品カタログの一括取り込み結果")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResultDTO {
+
+    /**
+     * 登録しなかった理由
+     */
+    public enum Reason {
+        /** 同名の商品が既に存在する(ファイル内の重複を含む) */
+        CONFLICT,
+        /** 指定された商品カテゴリが存在しない */
+        NOT_FOUND,
+        /** 入力値がドメインルールに違反している(CSVの形式不正を含む) */
+        INVALID
+    }
+
+    /**
+     * 登録しなかった行
+     */
+    @Schema(name = "ProductImportReject", description = "登録しなかった行")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Reject {
+        /**
+         * 行番号(ヘッダ行を1行目とする)
+         */
+        @Schema(description = "行番号(ヘッダ行を1行目とする)", example = "2")
+        private long line;
+
+        /**
+         * 商品名(読み取れた場合のみ)
+         */
+        @Schema(description = "商品名(読み取れた場合のみ)", example = "蛍光ペン(赤)")
+        private String name;
+
+        /**
+         * 登録しなかった理由
+         */
+        @Schema(description = "登録しなかった理由", example = "CONFLICT")
+        private Reason reason;
+
+        /**
+         * メッセージ
+         */
+        @Schema(description = "メッセージ")
+        private String message;
+    }
+
+    /**
+     * 読み込んだデータ行の件数(ヘッダ行・空行を除く)
+     */
+    @Schema(description = "読み込んだデータ行の件数", example = "10000")
+    private long read;
+
+    /**
+     * 登録した件数
+     */
+    @Schema(description = "登録した件数", example = "9990")
+    private long inserted;
+
+    /**
+     * 登録しなかった件数
+     */
+    @Schema(description = "登録しなかった件数", example = "10")
+    private long rejected;
+
+    /**
+     * 所要時間(ミリ秒)
+     */
+    @Schema(description = "所要時間(ミリ秒)", example = "850")
+    private long elapsedMillis;
+
+    /**
+     * 毎秒処理件数
+     */
+    @Schema(description = "毎秒処理件数", example = "11764")
+    private long rowsPerSecond;
+
+    /**
+     * 登録しなかった行(行番号順・先頭の一部のみ)
+     */
+    @Schema(description = "登録しなかった行(行番号順・先頭の一部のみ)")
+    private List<Reject> rejects;
+}
@@ -0,0 +1,36 @@
+package com.example.ddd_demo.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 商品の一括検索における1件ごとの検索結果を表すDTO。
+ *
+ * <p>リクエストで指定された検索キー（商品Idまたは商品名）の順に並べて返し、
+ * 該当する商品が存在しないキーは {@code found=false} として明示する。</p>
+ */
+@Schema(name = "ProductLookupResult", description = "商品一括検索の1件ごとの結果")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLookupResultDTO {
+    /**
+     * 検索キー(リクエストで指定された商品Idまたは商品名)
+     */
+    @Schema(description = "検索キー(商品Idまたは商品名)", example = "蛍光ペン(赤)")
+    private String key;
+
+    /**
+     * 該当する商品が存在したか
+     */
+    @Schema(description = "該当商品の有無", example = "true")
+    private boolean found;
+
+    /**
+     * 該当した商品(存在しない場合はnull)
+     */
+    @Schema(description = "該当商品(存在しない場合はnull)")
+    private ProductDTO product;
+}
@@ -0,0 +1,32 @@
+package com.example.ddd_demo.application.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 商品一覧の1ページ分を表すDTO。
+ *
+ * <p>次のページは {@code next} をカーソル（{@code after}）として指定して取得する。
+ * 最終ページでは {@code next} は {@code null} となる。</p>
+ */
+@Schema(name = "ProductPage", description = "商品一覧(1ページ分)")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPageDTO {
+    /**
+     * ページ内の商品(並び順どおり)
+     */
+    @Schema(description = "ページ内の商品")
+    private List<ProductDTO> items;
+
+    /**
+     * 次ページのカーソル(最終ページの場合はnull)
+     */
+    @Schema(description = "次ページのカーソル(最終ページの場合はnull)", example = "UFJJQ0U6OTk1OWU1NTMtYzlkYS00NjQ2LWJkODUtODY2M2EzNTQxNTgzOjEwMA")
+    private String next;
+}
@@ -0,0 +1,63 @@
+package com.example.ddd_demo.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 商品一括登録における1件ごとの登録結果を表すDTO。
+ *
+ * <p>一括登録では1件の失敗で全体を失敗させず、
+ * リクエスト内の位置（index）ごとに成功・重複などの結果を返す。</p>
+ */
+@Schema(name = "ProductRegisterResult", description = "商品一括登録の1件ごとの結果")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductRegisterResultDTO {
+
+    /**
+     * 登録結果の種別
+     */
+    public enum Status {
+        /** 登録成功 */
+        CREATED,
+        /** 同名の商品が既に存在する(リスト内の重複を含む) */
+        CONFLICT,
+        /** 指定された商品カテゴリが存在しない */
+        NOT_FOUND,
+        /** 入力値がドメインルールに違反している */
+        INVALID
+    }
+
+    /**
+     * リクエスト内の位置(0始まり)
+     */
+    @Schema(description = "リクエスト内の位置(0始まり)", example = "0")
+    private int index;
+
+    /**
+     * 商品名(リクエストの値)
+     */
+    @Schema(description = "商品名", example = "蛍光ペン(赤)")
+    private String name;
+
+    /**
+     * 登録結果の種別
+     */
+    @Schema(description = "登録結果", example = "CREATED")
+    private Status status;
+
+    /**
+     * 失敗時のメッセージ(成功時はnull)
+     */
+    @Schema(description = "失敗理由(成功時はnull)")
+    private String message;
+
+    /**
+     * 登録された商品(成功時のみ)
+     */
+    @Schema(description = "登録された商品(成功時のみ)")
+    private ProductDTO product;
+}
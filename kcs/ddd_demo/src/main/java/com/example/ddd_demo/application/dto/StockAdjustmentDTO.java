@@ -0,0 +1,23 @@
+package com.example.ddd_demo.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 在庫調整DTO(商品ごとの在庫の増減量)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAdjustmentDTO {
+    /**
+     * 商品ID(UUID形式)
+     * {@code ProductId} 値オブジェクトに対応。
+     */
+    private String productId;
+    /**
+     * 在庫の増減量(負数は減算)
+     */
+    private Integer delta;
+}
@@ -0,0 +1,115 @@
+package com.example.ddd_demo.application.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 在庫の一括調整結果を表すDTO。
+ *
+ * <p>一括調整では範囲外となる商品があっても全体を失敗させず、
+ * 反映した在庫と反映しなかった商品をそれぞれ商品Id順に報告する。</p>
+ */
+@Schema(name = "StockAdjustmentResult", description = "在庫の一括調整結果")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAdjustmentResultDTO {
+
+    /**
+     * 反映しなかった理由
+     */
+    public enum Reason {
+        /** 反映後の在庫数が範囲外(0未満・100超)となる */
+        OUT_OF_RANGE,
+        /** 指定された商品が存在しない */
+        NOT_FOUND
+    }
+
+    /**
+     * 反映した在庫
+     */
+    @Schema(name = "StockAdjustmentApplied", description = "反映した在庫")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Applied {
+        /**
+         * 商品Id
+         */
+        @Schema(description = "商品Id", example = "9959e553-c9da-4646-bd85-8663a3541583")
+        private String productId;
+
+        /**
+         * 反映後の在庫
+         */
+        @Schema(description = "反映後の在庫")
+        private StockDTO stock;
+    }
+
+    /**
+     * 反映しなかった商品
+     */
+    @Schema(name = "StockAdjustmentReject", description = "反映しなかった商品")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Reject {
+        /**
+         * 商品Id
+         */
+        @Schema(description = "商品Id", example = "9959e553-c9da-4646-bd85-8663a3541583")
+        private String productId;
+
+        /**
+         * 指定された増減量
+         */
+        @Schema(description = "指定された増減量", example = "-120")
+        private int delta;
+
+        /**
+         * 反映しなかった理由
+         */
+        @Schema(description = "反映しなかった理由", example = "OUT_OF_RANGE")
+        private Reason reason;
+
+        /**
+         * 現在の在庫数(商品が存在しない場合はnull)
+         */
+        @Schema(description = "現在の在庫数(商品が存在しない場合はnull)", example = "100")
+        private Integer current;
+
+        /**
+         * メッセージ
+         */
+        @Schema(description = "メッセージ")
+        private String message;
+    }
+
+    /**
+     * 反映した件数
+     */
+    @Schema(description = "反映した件数", example = "9990")
+    private int appliedCount;
+
+    /**
+     * 反映しなかった件数
+     */
+    @Schema(description = "反映しなかった件数", example = "10")
+    private int rejectedCount;
+
+    /**
+     * 反映した在庫(商品Id順)
+     */
+    @Schema(description = "反映した在庫(商品Id順)")
+    private List<Applied> applied;
+
+    /**
+     * 反映しなかった商品(商品Id順)
+     */
+    @Schema(description = "反映しなかった商品(商品Id順)")
+    private List<Reject> rejects;
+}
@@ -0,0 +1,39 @@
+package com.example.ddd_demo.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 引当可能数DTO(在庫数・予約中の数量・引当可能数)
+ */
+@Schema(name = "StockAvailability", description = "引当可能数")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAvailabilityDTO {
+    /**
+     * 商品ID(UUID形式)
+     */
+    @Schema(description = "商品Id", example = "9959e553-c9da-4646-bd85-8663a3541583")
+    private String productId;
+
+    /**
+     * 在庫数
+     */
+    @Schema(description = "在庫数", example = "100")
+    private int onHand;
+
+    /**
+     * 予約中の数量
+     */
+    @Schema(description = "予約中の数量", example = "3")
+    private int reserved;
+
+    /**
+     * 引当可能数(在庫数 − 予約中の数量)
+     */
+    @Schema(description = "引当可能数", example = "97")
+    private int availableToPromise;
+}
@@ -0,0 +1,53 @@
+package com.example.ddd_demo.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 在庫の移動DTO(記録した移動と在庫数への反映状況)
+ */
+@Schema(name = "StockMovement", description = "在庫の移動")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockMovementDTO {
+
+    /**
+     * 在庫数への反映状況
+     */
+    public enum Status {
+        /** 記録済み・未反映 */
+        PENDING,
+        /** 在庫数へ反映済み */
+        APPLIED,
+        /** 反映後の在庫数が範囲外(0未満・100超)となるため反映しなかった */
+        REJECTED
+    }
+
+    /**
+     * 移動ID(UUIDv7形式)
+     * {@code StockMovementId} 値オブジェクトに対応。
+     */
+    @Schema(description = "移動Id", example = "0192f0c4-6a5e-7c3a-9b1d-2f4e5a6b7c8d")
+    private String movementId;
+
+    /**
+     * 商品ID(UUID形式)
+     */
+    @Schema(description = "商品Id", example = "9959e553-c9da-4646-bd85-8663a3541583")
+    private String productId;
+
+    /**
+     * 在庫の増減量(負数は出庫)
+     */
+    @Schema(description = "在庫の増減量", example = "-3")
+    private int delta;
+
+    /**
+     * 在庫数への反映状況
+     */
+    @Schema(description = "在庫数への反映状況", example = "PENDING")
+    private Status status;
+}
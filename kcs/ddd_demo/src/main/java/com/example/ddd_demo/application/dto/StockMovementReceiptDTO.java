@@ -0,0 +1,39 @@
+package com.example.ddd_demo.application.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 在庫の移動の受付結果を表すDTO。
+ *
+ * <p>受け付けた移動は台帳へ記録済みで、在庫数へは非同期に反映される。
+ * 反映状況は移動Idを指定して取得する。</p>
+ */
+@Schema(name = "StockMovementReceipt", description = "在庫の移動の受付結果")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockMovementReceiptDTO {
+
+    /**
+     * 受け付けた件数
+     */
+    @Schema(description = "受け付けた件数", example = "9990")
+    private int acceptedCount;
+
+    /**
+     * 受け付けた移動(入力順。反映状況はすべて PENDING)
+     */
+    @Schema(description = "受け付けた移動(入力順)")
+    private List<StockMovementDTO> accepted;
+
+    /**
+     * 存在しないため受け付けなかった商品Id(入力順・重複なし)
+     */
+    @Schema(description = "存在しないため受け付けなかった商品Id")
+    private List<String> notFoundProductIds;
+}
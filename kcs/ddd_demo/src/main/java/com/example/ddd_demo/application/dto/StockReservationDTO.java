@@ -0,0 +1,42 @@
+package com.example.ddd_demo.application.dto;
+
+import java.time.Instant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 在庫の予約DTO
+ */
+@Schema(name = "StockReservation", description = "在庫の予約")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationDTO {
+    /**
+     * 予約ID(UUID形式)
+     * {@code StockReservationId} 値オブジェクトに対応。
+     */
+    @Schema(description = "予約Id", example = "3f1c2b7a-8d4e-4c1a-9f2b-6e5d4c3b2a19")
+    private String reservationId;
+
+    /**
+     * 商品ID(UUID形式)
+     */
+    @Schema(description = "商品Id", example = "9959e553-c9da-4646-bd85-8663a3541583")
+    private String productId;
+
+    /**
+     * 予約数量
+     */
+    @Schema(description = "予約数量", example = "2")
+    private int quantity;
+
+    /**
+     * 有効期限(この時刻までに確定されなければ自動的に解放する)
+     */
+    @Schema(description = "有効期限", example = "2025-01-01T00:15:00Z")
+    private Instant expiresAt;
+}
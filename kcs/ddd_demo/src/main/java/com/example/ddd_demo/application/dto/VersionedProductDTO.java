@@ -0,0 +1,24 @@
+package com.example.ddd_demo.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 商品DTOと、その内容を読み取った時点の版
+ *
+ * <p>版は商品DTOと同じ読み取りで得たもので、応答のETagにそのまま利用できる。</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VersionedProductDTO {
+    /**
+     * 商品情報の版(不透明な文字列)
+     */
+    private String version;
+    /**
+     * 商品情報
+     */
+    private ProductDTO product;
+}
@@ -0,0 +1,26 @@
+package com.example.ddd_demo.application.exception;
+/**
+ * {@code InsufficientStockException} は、アプリケーション層において
+ * 「在庫が足りないため要求を満たせない」ことを示す実行時例外です。
+ *
+ * <p>主に在庫の引当処理（例：注文・決済による在庫の減算）で、
+ * 要求数量が現在の在庫数を上回る場合にスローされます。
+ *
+ * <p>この例外は在庫切れというビジネス上の状態を表すため、
+ * 技術的なエラー（例：SQL例外）とは区別して扱います。
+ *
+ * <p>層の責務：
+ * <ul>
+ *   <li>発生層：アプリケーション層（Service、Usecase）</li>
+ *   <li>捕捉層：ControllerまたはExceptionHandler（HTTP 409 Conflictに変換）</li>
+ * </ul>
+ */
+public class InsufficientStockException extends RuntimeException {
+    /**
+     * コンストラクタ
+     * @param message エラーメッセージ
+     */
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+}
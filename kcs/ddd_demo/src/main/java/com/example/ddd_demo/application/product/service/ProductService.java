@@ -1,8 +1,19 @@
 package com.example.ddd_demo.application.product.service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.example.ddd_demo.domain.models.category.CategoryId;
 import com.example.ddd_demo.domain.models.product.Product;
+import com.example.ddd_demo.domain.models.product.ProductBulkLoader;
 import com.example.ddd_demo.domain.models.product.ProductId;
 import com.example.ddd_demo.domain.models.product.ProductName;
+import com.example.ddd_demo.domain.models.product.ProductPage;
+import com.example.ddd_demo.domain.models.product.ProductPageCursor;
+import com.example.ddd_demo.domain.models.product.ProductSortKey;
+import com.example.ddd_demo.domain.models.product.ProductRepository;
+import com.example.ddd_demo.domain.models.product.ProductVersion;
 
 /**
  * 商品に関するアプリケーションサービスインターフェイス。
@@ -32,6 +43,24 @@ public interface ProductService {
      */
     Product getProductById(ProductId productId);
 
+    /**
+     * 商品Idで商品集約の版を取得する
+     * @param productId 商品Id(VO)
+     * @return 商品集約の版
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     */
+    ProductVersion getProductVersion(ProductId productId);
+
+    /**
+     * 商品Idで商品集約と版を取得する(両方を同じ読み取りで得る)
+     * @param productId 商品Id(VO)
+     * @return 商品集約と版
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     */
+    ProductRepository.Versioned getVersionedProductById(ProductId productId);
+
     /**
      * 商品名で商品を取得する
      * @param productName 商品名(VO)
@@ -41,9 +70,60 @@ public interface ProductService {
      */
     Product getProductByName(ProductName productName);
 
+    /**
+     * 複数の商品Idで商品をまとめて取得する
+     * @param productIds 商品Id(VO)のコレクション
+     * @return 存在した商品のリスト(順不同・存在しない商品Idは含まれない)
+     */
+    List<Product> getProductsByIds(Collection<ProductId> productIds);
+
+    /**
+     * 複数の商品名で商品をまとめて取得する
+     * @param productNames 商品名(VO)のコレクション
+     * @return 存在した商品のリスト(順不同・存在しない商品名は含まれない)
+     */
+    List<Product> getProductsByNames(Collection<ProductName> productNames);
+
+    /**
+     * 商品カテゴリに属する商品を1ページ分取得する
+     * @param categoryId 商品カテゴリId(VO)
+     * @param after 直前のページのカーソル(最初のページはnull)
+     * @param limit 1ページあたりの最大件数
+     * @param sort 並び順
+     * @return 商品の1ページ分
+     */
+    ProductPage getProductPage(CategoryId categoryId, ProductPageCursor after, int limit, ProductSortKey sort);
+
     /**
      * 商品を登録する
      * @param product 登録対象商品(Entity)
+     * @return 登録された商品(Entity)
+     * @throws com.example.ddd_demo.application.exception.ExistsException
+     *         同一名の商品が既に存在する場合(一意制約で検出する)
+     */
+    Product addProduct(Product product);
+
+    /**
+     * 商品をまとめて登録する
+     * <p>既に存在する商品名・リスト内で重複する商品名・存在しないカテゴリの商品は登録されない。</p>
+     * @param products 登録対象商品(Entity)のリスト
+     * @return 登録された商品(Entity)のリスト(入力順)
+     */
+    List<Product> addProducts(List<Product> products);
+
+    /**
+     * すべての商品を1件ずつ走査する
+     * <p>全件をリストとして保持しない(メモリ使用量は件数に依存しない)。</p>
+     * @param action 商品ごとに呼び出される処理
+     * @return 走査した商品の件数
+     */
+    long scanProducts(Consumer<? super Product> action);
+
+    /**
+     * 商品の一括取り込みを開始する
+     * <p>取り込みセッションへ商品を投入し、最後にまとめて登録する。
+     * 開始から登録までを1つのトランザクション内で行うこと。</p>
+     * @return 取り込みセッション
      */
-    void addProduct(Product product);
+    ProductBulkLoader.Session beginImport();
 }
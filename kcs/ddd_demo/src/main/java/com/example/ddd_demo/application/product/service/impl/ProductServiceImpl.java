@@ -1,16 +1,25 @@
 package com.example.ddd_demo.application.product.service.impl;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
 
 import com.example.ddd_demo.application.exception.ExistsException;
 import com.example.ddd_demo.application.exception.NotFoundException;
 import com.example.ddd_demo.application.product.service.ProductService;
+import com.example.ddd_demo.domain.models.category.CategoryId;
 import com.example.ddd_demo.domain.models.product.Product;
+import com.example.ddd_demo.domain.models.product.ProductBulkLoader;
 import com.example.ddd_demo.domain.models.product.ProductId;
 import com.example.ddd_demo.domain.models.product.ProductName;
+import com.example.ddd_demo.domain.models.product.ProductPage;
+import com.example.ddd_demo.domain.models.product.ProductPageCursor;
 import com.example.ddd_demo.domain.models.product.ProductRepository;
+import com.example.ddd_demo.domain.models.product.ProductSortKey;
+import com.example.ddd_demo.domain.models.product.ProductVersion;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +38,8 @@ public class ProductServiceImpl implements ProductService{
     
     private final ProductRepository repository;
 
+    private final ProductBulkLoader bulkLoader;
+
     /**
      * 商品が既に存在するかを調べる
      * @param productName 商品名(VO)
@@ -60,6 +71,36 @@ public class ProductServiceImpl implements ProductService{
         return result;
     }
 
+    /**
+     * 商品Idで商品集約の版を取得する
+     * @param productId 商品Id(VO)
+     * @return 商品集約の版
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     */
+    @Override
+    public ProductVersion getProductVersion(ProductId productId) {
+        return repository.findVersionById(productId)
+            .orElseThrow(() ->
+            new NotFoundException(String.format(
+                "商品Id:[%s]の商品は存在しません。", productId.value())));
+    }
+
+    /**
+     * 商品Idで商品集約と版を取得する(両方を同じ読み取りで得る)
+     * @param productId 商品Id(VO)
+     * @return 商品集約と版
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     */
+    @Override
+    public ProductRepository.Versioned getVersionedProductById(ProductId productId) {
+        return repository.findVersionedById(productId)
+            .orElseThrow(() ->
+            new NotFoundException(String.format(
+                "商品Id:[%s]の商品は存在しません。", productId.value())));
+    }
+
     /**
      * 商品名で商品を取得する
      * @param productName 商品名(VO)
@@ -76,13 +117,82 @@ public class ProductServiceImpl implements ProductService{
         return result;
     }
 
+    /**
+     * 複数の商品Idで商品をまとめて取得する
+     * @param productIds 商品Id(VO)のコレクション
+     * @return 存在した商品のリスト(順不同・存在しない商品Idは含まれない)
+     */
+    @Override
+    public List<Product> getProductsByIds(Collection<ProductId> productIds) {
+        return repository.findAllByIds(productIds);
+    }
+
+    /**
+     * 複数の商品名で商品をまとめて取得する
+     * @param productNames 商品名(VO)のコレクション
+     * @return 存在した商品のリスト(順不同・存在しない商品名は含まれない)
+     */
+    @Override
+    public List<Product> getProductsByNames(Collection<ProductName> productNames) {
+        return repository.findAllByNames(productNames);
+    }
+
+    /**
+     * 商品カテゴリに属する商品を1ページ分取得する
+     * @param categoryId 商品カテゴリId(VO)
+     * @param after 直前のページのカーソル(最初のページはnull)
+     * @param limit 1ページあたりの最大件数
+     * @param sort 並び順
+     * @return 商品の1ページ分
+     */
+    @Override
+    public ProductPage getProductPage(
+        CategoryId categoryId, ProductPageCursor after, int limit, ProductSortKey sort) {
+        return repository.findPageByCategory(categoryId, after, limit, sort);
+    }
+
     /**
      * 商品を登録する
+     * <p>商品名の重複は一意制約で検出するため、事前の存在確認は行わない。</p>
      * @param product 登録対象商品(Entity)
+     * @return 登録された商品(Entity)
+     * @throws com.example.ddd_demo.application.exception.ExistsException
+     *         同一名の商品が既に存在する場合
+     */
+    @Override
+    public Product addProduct(Product product) {
+        return repository.create(product)
+            .orElseThrow(() -> new ExistsException(
+                String.format("商品名:[%s]は既に登録済みです。", product.getName().value())));
+    }
+
+    /**
+     * 商品をまとめて登録する
+     * @param products 登録対象商品(Entity)のリスト
+     * @return 登録された商品(Entity)のリスト(入力順)
+     */
+    @Override
+    public List<Product> addProducts(List<Product> products) {
+        return repository.createAll(products);
+    }
+
+    /**
+     * すべての商品を1件ずつ走査する
+     * @param action 商品ごとに呼び出される処理
+     * @return 走査した商品の件数
+     */
+    @Override
+    public long scanProducts(Consumer<? super Product> action) {
+        return repository.scanAll(action);
+    }
+
+    /**
+     * 商品の一括取り込みを開始する
+     * @return 取り込みセッション
      */
     @Override
-    public void addProduct(Product product) {
-        repository.create(product);
+    public ProductBulkLoader.Session beginImport() {
+        return bulkLoader.begin();
     }
 
 }
@@ -0,0 +1,26 @@
+package com.example.ddd_demo.application.product.usecase;
+
+import java.util.List;
+
+import com.example.ddd_demo.application.dto.StockAdjustmentDTO;
+import com.example.ddd_demo.application.dto.StockAdjustmentResultDTO;
+
+/**
+ * ユースケース:[在庫を一括調整する]を実現するインターフェイス
+ *
+ * <p>倉庫の棚卸し結果など、多数の商品の在庫増減をまとめて反映する。
+ * 反映後の在庫数が範囲外となる商品・存在しない商品があっても全体を失敗させず、結果で報告する。</p>
+ */
+public interface AdjustStockUsecase {
+    /**
+     * 商品ごとの在庫の増減量をまとめて反映する
+     * <p>同じ商品Idが複数回指定された場合は増減量を合算する。</p>
+     * @param adjustments 商品Idと増減量のリスト
+     * @return 反映結果
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         商品IdがUUID形式でない場合
+     * @throws com.example.ddd_demo.application.exception.InvalidInputException
+     *         商品Id・増減量が指定されていない場合
+     */
+    StockAdjustmentResultDTO adjust(List<StockAdjustmentDTO> adjustments);
+}
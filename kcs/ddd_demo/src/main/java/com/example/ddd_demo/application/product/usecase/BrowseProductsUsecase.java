@@ -0,0 +1,22 @@
+package com.example.ddd_demo.application.product.usecase;
+
+import com.example.ddd_demo.application.dto.ProductPageDTO;
+
+/**
+ * ユースケース:[商品カテゴリで商品を閲覧する]を実現するインターフェイス
+ */
+public interface BrowseProductsUsecase {
+    /**
+     * 商品カテゴリに属する商品を1ページ分取得する
+     * @param categoryId 商品カテゴリId(UUID文字列)
+     * @param after 直前のページのカーソル(最初のページはnull)
+     * @param limit 1ページあたりの最大件数
+     * @param sort 並び順("price" / "name")
+     * @return 商品の1ページ分
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         カテゴリId・カーソル・並び順が不正な場合
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品カテゴリが存在しない場合
+     */
+    ProductPageDTO browse(String categoryId, String after, int limit, String sort);
+}
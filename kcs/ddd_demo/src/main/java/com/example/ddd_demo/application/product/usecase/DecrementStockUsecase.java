@@ -0,0 +1,25 @@
+package com.example.ddd_demo.application.product.usecase;
+
+import com.example.ddd_demo.application.dto.StockDTO;
+
+/**
+ * ユースケース:[商品の在庫を引き当てる]を実現するインターフェイス
+ *
+ * <p>注文・決済など、同じ商品へ要求が集中する場面で利用する。
+ * 在庫が足りる場合だけ減算し、在庫数が負になることはない。</p>
+ */
+public interface DecrementStockUsecase {
+    /**
+     * 商品Idを指定して在庫を減算する
+     * @param productId 商品Id(UUID文字列)
+     * @param quantity 減算量
+     * @return 減算後の在庫
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         商品IdがUUID形式でない、または減算量が範囲外の場合
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     * @throws com.example.ddd_demo.application.exception.InsufficientStockException
+     *         在庫が足りない場合
+     */
+    StockDTO decrement(String productId, int quantity);
+}
@@ -0,0 +1,19 @@
+package com.example.ddd_demo.application.product.usecase;
+
+import java.util.function.Consumer;
+
+import com.example.ddd_demo.application.dto.ProductDTO;
+
+/**
+ * ユースケース:[商品カタログを全件エクスポートする]を実現するインターフェイス
+ */
+public interface ExportProductsUsecase {
+    /**
+     * すべての商品を1件ずつ出力先に渡す
+     * <p>全件をメモリに保持せず、取得した商品から順に {@code sink} へ渡す。
+     * 出力形式(NDJSON / CSV 等)への変換は呼び出し側が行う。</p>
+     * @param sink 商品DTOを1件ずつ受け取る出力先(例外をスローするとエクスポートを中断する)
+     * @return 出力した商品の件数
+     */
+    long exportAll(Consumer<ProductDTO> sink);
+}
@@ -0,0 +1,23 @@
+package com.example.ddd_demo.application.product.usecase;
+
+import java.io.InputStream;
+
+import com.example.ddd_demo.application.dto.ProductImportResultDTO;
+
+/**
+ * ユースケース:[商品カタログを一括で取り込む]を実現するインターフェイス
+ */
+public interface ImportProductsUsecase {
+    /**
+     * CSVの商品をまとめて登録する
+     * <p>1行目はヘッダ行とし、{@code name,price,categoryId,stockQuantity} の列を必須とする
+     * (列の順序は問わず、エクスポートしたCSVの {@code id} 等の列は無視する)。
+     * 全件をメモリに保持せず、読み込んだ行から順に検証・投入する。
+     * 不正な行・既に存在する商品名の行は登録せず、結果として報告する。</p>
+     * @param csv CSV(UTF-8)
+     * @return 取り込み結果
+     * @throws com.example.ddd_demo.application.exception.InvalidInputException
+     *         CSVが空の場合、または必須の列がヘッダ行に無い場合
+     */
+    ProductImportResultDTO importCsv(InputStream csv);
+}
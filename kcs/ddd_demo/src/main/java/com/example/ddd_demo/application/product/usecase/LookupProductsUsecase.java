@@ -0,0 +1,28 @@
+package com.example.ddd_demo.application.product.usecase;
+
+import java.util.List;
+
+import com.example.ddd_demo.application.dto.ProductLookupResultDTO;
+
+/**
+ * ユースケース:[複数の商品をまとめて検索する]を実現するインターフェイス
+ */
+public interface LookupProductsUsecase {
+    /**
+     * 複数の商品Idを指定して商品情報をまとめて取得する
+     * @param ids 商品Id(UUID文字列)のリスト
+     * @return 指定順に並んだ検索結果(存在しない商品Idは found=false)
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         商品IdがUUID形式でない場合
+     */
+    List<ProductLookupResultDTO> lookupByIds(List<String> ids);
+
+    /**
+     * 複数の商品名を指定して商品情報をまとめて取得する
+     * @param names 商品名のリスト
+     * @return 指定順に並んだ検索結果(存在しない商品名は found=false)
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         商品名が不正な場合
+     */
+    List<ProductLookupResultDTO> lookupByNames(List<String> names);
+}
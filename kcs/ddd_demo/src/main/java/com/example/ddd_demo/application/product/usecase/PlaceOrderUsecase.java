@@ -0,0 +1,31 @@
+package com.example.ddd_demo.application.product.usecase;
+
+import java.util.List;
+
+import com.example.ddd_demo.application.dto.OrderLineDTO;
+import com.example.ddd_demo.application.dto.OrderPlacementResultDTO;
+
+/**
+ * ユースケース:[注文を確定する]を実現するインターフェイス
+ *
+ * <p>注文の全明細(複数の商品)の在庫を1回で引き当てる。すべての明細の引当可能数が足りる場合だけ減算し、
+ * 1つでも足りない明細があれば、どの商品の在庫も変更せずに明細ごとの理由を返す。</p>
+ */
+public interface PlaceOrderUsecase {
+    /**
+     * 1回の注文で指定できる最大明細数
+     */
+    int MAX_LINES = 100;
+
+    /**
+     * 注文の全明細の在庫を引き当てる
+     * <p>同じ商品Idが複数回指定された場合は数量を合算する。</p>
+     * @param lines 商品Idと数量のリスト(1〜{@value #MAX_LINES}件)
+     * @return 確定結果
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         商品IdがUUID形式でない、または(合算後の)数量が範囲外の場合
+     * @throws com.example.ddd_demo.application.exception.InvalidInputException
+     *         明細が指定されていない・件数超過、または商品Id・数量が指定されていない場合
+     */
+    OrderPlacementResultDTO place(List<OrderLineDTO> lines);
+}
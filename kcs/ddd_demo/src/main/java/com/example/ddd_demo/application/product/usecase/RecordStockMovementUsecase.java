@@ -0,0 +1,39 @@
+package com.example.ddd_demo.application.product.usecase;
+
+import java.util.List;
+
+import com.example.ddd_demo.application.dto.StockAdjustmentDTO;
+import com.example.ddd_demo.application.dto.StockMovementDTO;
+import com.example.ddd_demo.application.dto.StockMovementReceiptDTO;
+
+/**
+ * ユースケース:[在庫の移動を記録する]を実現するインターフェイス
+ *
+ * <p>入出庫を在庫の移動の台帳へ追記するだけで受け付け、在庫数へは非同期に反映する。
+ * 同じ商品への記録どうしが在庫の行ロックを奪い合わない。
+ * 反映後の在庫数が範囲外となる移動は、反映時に不成立(REJECTED)となる。</p>
+ */
+public interface RecordStockMovementUsecase {
+    /**
+     * 商品ごとの在庫の増減を移動として記録する
+     * <p>1件の指定が1件の移動となる(同じ商品Idの指定も合算しない)。</p>
+     * @param movements 商品Idと増減量のリスト
+     * @return 受付結果
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         商品IdがUUID形式でない場合、増減量が0または範囲外の場合
+     * @throws com.example.ddd_demo.application.exception.InvalidInputException
+     *         商品Id・増減量が指定されていない場合
+     */
+    StockMovementReceiptDTO record(List<StockAdjustmentDTO> movements);
+
+    /**
+     * 移動Idを指定して、記録した移動と在庫数への反映状況を取得する
+     * @param movementId 移動Id(UUIDv7文字列)
+     * @return StockMovementDTO
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         移動IdがUUIDv7形式でない場合
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された移動Idに該当する移動が存在しない場合
+     */
+    StockMovementDTO getMovement(String movementId);
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.example.ddd_demo.application.dto.CategoryDTO;
 import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.dto.ProductRegisterResultDTO;
 
 /**
  * <p><b>ユースケース: 商品を登録する</b> を実現するアプリケーション層のインターフェイス。</p>
@@ -27,6 +28,13 @@ public interface RegisterProductUsecase {
      */
     List<CategoryDTO> getCategories();
 
+    /**
+     * 商品カテゴリ一覧の版を取得する
+     * <p>{@link #getCategories()} の結果が変わると版も変わる(一覧の組み立ては行わない)。</p>
+     * @return 一覧の版(不透明な文字列)
+     */
+    String getCategoriesVersion();
+
     /**
      * 指定されたカテゴリIDでカテゴリを取得する。
      *
@@ -63,4 +71,15 @@ public interface RegisterProductUsecase {
      *         同名の商品が既に存在するとき
      */
     ProductDTO addProduct(ProductDTO product);
+
+    /**
+     * 商品をまとめて登録する。
+     * <p>1件の失敗で全体を失敗させず、入力の位置ごとに登録結果を返す。
+     * 重複（既存・リスト内）は {@code CONFLICT}、カテゴリ不明は {@code NOT_FOUND}、
+     * ドメインルール違反は {@code INVALID} として結果に含める。</p>
+     *
+     * @param products 登録対象の商品DTOリスト
+     * @return 入力順に並んだ1件ごとの登録結果
+     */
+    List<ProductRegisterResultDTO> addProducts(List<ProductDTO> products);
 }
@@ -0,0 +1,72 @@
+package com.example.ddd_demo.application.product.usecase;
+
+import com.example.ddd_demo.application.dto.StockAvailabilityDTO;
+import com.example.ddd_demo.application.dto.StockDTO;
+import com.example.ddd_demo.application.dto.StockReservationDTO;
+
+/**
+ * ユースケース:[在庫を予約する]を実現するインターフェイス
+ *
+ * <p>カートに入れた商品の在庫を一定時間だけ仮押さえし、注文の確定時に在庫数から減算する。
+ * 有効期限までに確定されなかった予約は自動的に解放する。
+ * 予約中の数量は他の引当・予約に使われない(引当可能数 = 在庫数 − 予約中の数量)。</p>
+ */
+public interface ReserveStockUsecase {
+    /**
+     * 予約の既定の保持時間(分)
+     */
+    int DEFAULT_HOLD_MINUTES = 15;
+    /**
+     * 予約の最大の保持時間(分)
+     */
+    int MAX_HOLD_MINUTES = 120;
+
+    /**
+     * 商品の在庫を予約する
+     * @param productId 商品Id(UUID文字列)
+     * @param quantity 予約数量
+     * @param holdMinutes 保持時間(分。nullの場合は {@value #DEFAULT_HOLD_MINUTES})
+     * @return 予約
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         商品IdがUUID形式でない、または予約数量が範囲外の場合
+     * @throws com.example.ddd_demo.application.exception.InvalidInputException
+     *         保持時間が範囲外の場合
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     * @throws com.example.ddd_demo.application.exception.InsufficientStockException
+     *         引当可能数が足りない場合
+     */
+    StockReservationDTO reserve(String productId, int quantity, Integer holdMinutes);
+
+    /**
+     * 予約を確定し、予約数量を在庫数から減算する
+     * @param reservationId 予約Id(UUID文字列)
+     * @return 減算後の在庫
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         予約IdがUUID形式でない場合
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         予約が存在しない(確定・解放・期限切れを含む)場合
+     */
+    StockDTO confirm(String reservationId);
+
+    /**
+     * 予約を解放する
+     * @param reservationId 予約Id(UUID文字列)
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         予約IdがUUID形式でない場合
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         予約が存在しない(確定・解放・期限切れを含む)場合
+     */
+    void release(String reservationId);
+
+    /**
+     * 商品の引当可能数を取得する
+     * @param productId 商品Id(UUID文字列)
+     * @return 在庫数・予約中の数量・引当可能数
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         商品IdがUUID形式でない場合
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     */
+    StockAvailabilityDTO getAvailability(String productId);
+}
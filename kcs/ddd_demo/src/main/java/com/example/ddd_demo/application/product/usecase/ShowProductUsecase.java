@@ -0,0 +1,47 @@
+package com.example.ddd_demo.application.product.usecase;
+
+import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.dto.VersionedProductDTO;
+
+/**
+ * ユースケース:[商品の詳細を表示する]を実現するインターフェイス
+ *
+ * <p>クライアントが前回取得した内容から変わっていなければ、
+ * {@link #getVersion(String)} だけで応答できる(集約の組み立てを行わない)。</p>
+ */
+public interface ShowProductUsecase {
+    /**
+     * 商品Idを指定して商品情報の版を取得する
+     * <p>商品・在庫・商品カテゴリのいずれかが変わると版も変わる。</p>
+     * @param productId 商品Id(UUID文字列)
+     * @return 版(不透明な文字列)
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         商品IdがUUID形式でない場合
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     */
+    String getVersion(String productId);
+
+    /**
+     * 商品Idを指定して商品情報を取得する
+     * @param productId 商品Id(UUID文字列)
+     * @return ProductDTO
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         商品IdがUUID形式でない場合
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     */
+    ProductDTO getProduct(String productId);
+
+    /**
+     * 商品Idを指定して商品情報と版を取得する
+     * <p>版は商品情報と同じ読み取りで得るため、応答の本文と版(ETag)が食い違わない。</p>
+     * @param productId 商品Id(UUID文字列)
+     * @return 商品情報と版
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         商品IdがUUID形式でない場合
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     */
+    VersionedProductDTO getVersionedProduct(String productId);
+}
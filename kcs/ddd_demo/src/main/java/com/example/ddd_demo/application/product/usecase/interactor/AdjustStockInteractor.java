@@ -0,0 +1,85 @@
+package com.example.ddd_demo.application.product.usecase.interactor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.application.annotation.UseCase;
+import com.example.ddd_demo.application.dto.StockAdjustmentDTO;
+import com.example.ddd_demo.application.dto.StockAdjustmentResultDTO;
+import com.example.ddd_demo.application.dto.StockAdjustmentResultDTO.Applied;
+import com.example.ddd_demo.application.dto.StockAdjustmentResultDTO.Reason;
+import com.example.ddd_demo.application.dto.StockAdjustmentResultDTO.Reject;
+import com.example.ddd_demo.application.dto.StockDTO;
+import com.example.ddd_demo.application.exception.InvalidInputException;
+import com.example.ddd_demo.application.product.usecase.AdjustStockUsecase;
+import com.example.ddd_demo.application.stock.service.StockService;
+import com.example.ddd_demo.domain.mapper.DomainBiMapper;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.Stock;
+import com.example.ddd_demo.domain.models.stock.StockRepository.RejectReason;
+import com.example.ddd_demo.domain.models.stock.StockRepository.Rejected;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ユースケース:[在庫を一括調整する]を実現するインターフェイスの実装
+ *
+ * <h3>トランザクション</h3>
+ * <p>すべてのチャンクを1つのトランザクションで反映する(途中でデータベースエラーが発生した場合は何も反映しない)。
+ * 範囲外となる商品は更新されないだけで、トランザクションは失敗させない。</p>
+ */
+@UseCase
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdjustStockInteractor implements AdjustStockUsecase {
+    /**
+     * 在庫サービスインターフェイス
+     */
+    private final StockService service;
+    /**
+     * StockエンティティとStockDTOの相互変換Mapper
+     */
+    private final DomainBiMapper<StockDTO, Stock> stockMapper;
+
+    /**
+     * 商品ごとの在庫の増減量をまとめて反映する
+     * @param adjustments 商品Idと増減量のリスト
+     * @return 反映結果
+     */
+    @Transactional
+    @Override
+    public StockAdjustmentResultDTO adjust(List<StockAdjustmentDTO> adjustments) {
+        if (adjustments == null) throw new InvalidInputException("在庫調整のリストは必須です。");
+        // 同じ商品への増減は合算して1件にする(1回の更新で同じ行を2度更新できないため)
+        var deltas = new LinkedHashMap<ProductId, Integer>(adjustments.size() * 2);
+        for (var adjustment : adjustments) {
+            if (adjustment == null || adjustment.getProductId() == null) {
+                throw new InvalidInputException("商品Idは必須です。");
+            }
+            if (adjustment.getDelta() == null) throw new InvalidInputException("在庫の増減量は必須です。");
+            deltas.merge(ProductId.fromString(adjustment.getProductId()), adjustment.getDelta(), Integer::sum);
+        }
+
+        var result = service.adjustStocks(deltas);
+        var applied = result.applied().stream()
+            .map(a -> new Applied(a.productId().value(), stockMapper.fromDomain(a.stock())))
+            .toList();
+        var rejects = result.rejected().stream()
+            .map(AdjustStockInteractor::toReject)
+            .toList();
+        return new StockAdjustmentResultDTO(applied.size(), rejects.size(), applied, rejects);
+    }
+
+    private static Reject toReject(Rejected rejected) {
+        var productId = rejected.productId().value();
+        if (rejected.reason() == RejectReason.NOT_FOUND) {
+            return new Reject(productId, rejected.delta(), Reason.NOT_FOUND, null,
+                String.format("商品Id:[%s]の商品は存在しません。", productId));
+        }
+        return new Reject(productId, rejected.delta(), Reason.OUT_OF_RANGE, rejected.current(),
+            String.format("商品Id:[%s]の在庫数が範囲外になります。(在庫数:%d、増減量:%d)",
+                productId, rejected.current(), rejected.delta()));
+    }
+}
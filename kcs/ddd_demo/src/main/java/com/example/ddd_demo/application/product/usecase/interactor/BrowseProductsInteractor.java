@@ -0,0 +1,63 @@
+package com.example.ddd_demo.application.product.usecase.interactor;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.application.annotation.UseCase;
+import com.example.ddd_demo.application.category.service.CategoryService;
+import com.example.ddd_demo.application.dto.ProductPageDTO;
+import com.example.ddd_demo.application.mapper.ProductDTOAssembler;
+import com.example.ddd_demo.application.product.service.ProductService;
+import com.example.ddd_demo.application.product.usecase.BrowseProductsUsecase;
+import com.example.ddd_demo.domain.models.category.CategoryId;
+import com.example.ddd_demo.domain.models.product.ProductPageCursor;
+import com.example.ddd_demo.domain.models.product.ProductSortKey;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ユースケース:[商品カテゴリで商品を閲覧する]を実現するインターフェイスの実装
+ */
+@UseCase
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BrowseProductsInteractor implements BrowseProductsUsecase {
+    /**
+     * 商品サービスインターフェイス
+     */
+    private final ProductService productService;
+    /**
+     * 商品カテゴリサービスインターフェイス
+     */
+    private final CategoryService categoryService;
+    /**
+     * DmainEntityとDTOの相互変換と組み立て
+     */
+    private final ProductDTOAssembler assembler;
+
+    /**
+     * 商品カテゴリに属する商品を1ページ分取得する
+     * <p>ページが空の場合に限り商品カテゴリの存在を確認し、
+     * 存在しなければ {@code NotFoundException} とする(通常のページ取得では追加の問い合わせを行わない)。</p>
+     * @param categoryId 商品カテゴリId(UUID文字列)
+     * @param after 直前のページのカーソル(最初のページはnull)
+     * @param limit 1ページあたりの最大件数
+     * @param sort 並び順("price" / "name")
+     * @return 商品の1ページ分
+     */
+    @Override
+    public ProductPageDTO browse(String categoryId, String after, int limit, String sort) {
+        // 入力をVOに変換する(不正な値はDomainException)
+        var id = CategoryId.fromString(categoryId);
+        var sortKey = ProductSortKey.fromString(sort);
+        var cursor = (after == null || after.isBlank()) ? null : ProductPageCursor.decode(after);
+        // 1ページ分を取得する
+        var page = productService.getProductPage(id, cursor, limit, sortKey);
+        // 空のページは商品カテゴリの存在を確認する(存在しなければNotFoundException)
+        if (page.getItems().isEmpty()) {
+            categoryService.getCategoryById(id);
+        }
+        // ProductエンティティをProductDTOに変換して返す
+        var items = page.getItems().stream().map(assembler::assembleDto).toList();
+        return new ProductPageDTO(items, page.getNext().map(ProductPageCursor::encode).orElse(null));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.ddd_demo.application.product.usecase.interactor;
+
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.application.annotation.UseCase;
+import com.example.ddd_demo.application.dto.StockDTO;
+import com.example.ddd_demo.application.product.usecase.DecrementStockUsecase;
+import com.example.ddd_demo.application.stock.service.StockService;
+import com.example.ddd_demo.domain.mapper.DomainBiMapper;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.Stock;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ユースケース:[商品の在庫を引き当てる]を実現するインターフェイスの実装
+ *
+ * <h3>トランザクション</h3>
+ * <p>在庫の判定と減算は1つのSQL文で完結するため、トランザクションを開始せず自動コミットで実行する
+ * ({@link Propagation#NOT_SUPPORTED})。行ロックはSQL文の実行中だけ保持され、
+ * COMMITの往復を待つ間も他の要求を待たせない。</p>
+ */
+@UseCase
+@RequiredArgsConstructor
+public class DecrementStockInteractor implements DecrementStockUsecase {
+    /**
+     * 在庫サービスインターフェイス
+     */
+    private final StockService service;
+    /**
+     * StockエンティティとStockDTOの相互変換Mapper
+     */
+    private final DomainBiMapper<StockDTO, Stock> stockMapper;
+
+    /**
+     * 商品Idを指定して在庫を減算する
+     * @param productId 商品Id(UUID文字列)
+     * @param quantity 減算量
+     * @return 減算後の在庫
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public StockDTO decrement(String productId, int quantity) {
+        var stock = service.decreaseStock(ProductId.fromString(productId), quantity);
+        return stockMapper.fromDomain(stock);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.ddd_demo.application.product.usecase.interactor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.application.annotation.UseCase;
+import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.mapper.ProductDTOAssembler;
+import com.example.ddd_demo.application.product.service.ProductService;
+import com.example.ddd_demo.application.product.usecase.ExportProductsUsecase;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * ユースケース:[商品カタログを全件エクスポートする]を実現するインターフェイスの実装
+ *
+ * <p>読み取り専用トランザクション内でカーソルにより全件を走査し、1件ずつDTOに変換して出力先に渡す。</p>
+ * <p>メトリクス：{@code product.export}(所要時間)、{@code product.export.rows}(出力件数)、
+ * {@code product.export.rows.per.second}(直近のエクスポートの毎秒出力件数)</p>
+ */
+@UseCase
+@Transactional(readOnly = true)
+public class ExportProductsInteractor implements ExportProductsUsecase {
+    /**
+     * 商品サービスインターフェイス
+     */
+    private final ProductService productService;
+    /**
+     * DmainEntityとDTOの相互変換と組み立て
+     */
+    private final ProductDTOAssembler assembler;
+
+    private final Timer exports;
+    private final Counter rows;
+    /**
+     * 直近のエクスポートの毎秒出力件数
+     */
+    private final AtomicLong lastRowsPerSecond = new AtomicLong();
+
+    /**
+     * コンストラクタ
+     * @param productService 商品サービスインターフェイス
+     * @param assembler DTOの組み立て
+     * @param registry メトリクスの登録先
+     */
+    public ExportProductsInteractor(
+        ProductService productService, ProductDTOAssembler assembler, MeterRegistry registry) {
+        this.productService = productService;
+        this.assembler = assembler;
+        this.exports = Timer.builder("product.export")
+            .description("商品エクスポートの所要時間").register(registry);
+        this.rows = Counter.builder("product.export.rows")
+            .description("商品エクスポートの出力件数").register(registry);
+        Gauge.builder("product.export.rows.per.second", lastRowsPerSecond, AtomicLong::get)
+            .description("直近の商品エクスポートの毎秒出力件数").register(registry);
+    }
+
+    /**
+     * すべての商品を1件ずつ出力先に渡す
+     * @param sink 商品DTOを1件ずつ受け取る出力先
+     * @return 出力した商品の件数
+     */
+    @Override
+    public long exportAll(Consumer<ProductDTO> sink) {
+        long start = System.nanoTime();
+        long count = productService.scanProducts(product -> {
+            sink.accept(assembler.assembleDto(product));
+            rows.increment();
+        });
+        long elapsed = System.nanoTime() - start;
+        exports.record(elapsed, TimeUnit.NANOSECONDS);
+        lastRowsPerSecond.set(elapsed == 0 ? count : count * TimeUnit.SECONDS.toNanos(1) / elapsed);
+        return count;
+    }
+}
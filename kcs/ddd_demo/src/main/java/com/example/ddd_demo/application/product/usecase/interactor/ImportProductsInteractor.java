@@ -0,0 +1,401 @@
+package com.example.ddd_demo.application.product.usecase.interactor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.application.annotation.UseCase;
+import com.example.ddd_demo.application.category.service.CategoryService;
+import com.example.ddd_demo.application.dto.ProductImportResultDTO;
+import com.example.ddd_demo.application.dto.ProductImportResultDTO.Reason;
+import com.example.ddd_demo.application.dto.ProductImportResultDTO.Reject;
+import com.example.ddd_demo.application.exception.InvalidInputException;
+import com.example.ddd_demo.application.product.service.ProductService;
+import com.example.ddd_demo.application.product.usecase.ImportProductsUsecase;
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.category.Category;
+import com.example.ddd_demo.domain.models.category.CategoryId;
+import com.example.ddd_demo.domain.models.product.Product;
+import com.example.ddd_demo.domain.models.product.ProductBulkLoader;
+import com.example.ddd_demo.domain.models.product.ProductName;
+import com.example.ddd_demo.domain.models.product.ProductPrice;
+import com.example.ddd_demo.domain.models.stock.StockQuantity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * ユースケース:[商品カタログを一括で取り込む]を実現するインターフェイスの実装
+ *
+ * <h3>処理の流れ</h3>
+ * <ol>
+ *   <li>CSVを1行ずつ読み込み、{@code batch-size} 行ごとにまとめる。</li>
+ *   <li>まとめた行を専用のフォークジョインプールで並列に検証し、ドメイン集約 {@code Product} へ変換する
+ *       (値オブジェクトの生成による検証・カテゴリの存在確認)。</li>
+ *   <li>検証結果は読み込み順に受け取り、正しい行は取り込みセッションへ投入する(COPY)。</li>
+ *   <li>最後に投入した商品をまとめて登録し、不正な行・重複した行を報告する。</li>
+ * </ol>
+ *
+ * <h3>メモリ</h3>
+ * <p>検証中のまとまりは並列数の2倍までとし、上限に達したら先頭のまとまりの完了を待ってから読み込みを再開する(背圧)。
+ * 保持する行数は件数に依存せず {@code 並列数 × 2 × batch-size} 行までとなる。</p>
+ *
+ * <p>メトリクス：{@code product.import}(所要時間)、{@code product.import.rows}(result=inserted/rejected)、
+ * {@code product.import.progress.rows}(実行中の取り込みの読み込み済み行数の合計)、
+ * {@code product.import.rows.per.second}(直近の取り込みの毎秒処理件数)</p>
+ */
+@UseCase
+@Transactional(readOnly = true)
+public class ImportProductsInteractor implements ImportProductsUsecase {
+    /**
+     * 結果に含める、登録しなかった行の最大件数
+     */
+    static final int REJECT_REPORT_LIMIT = 1000;
+
+    /**
+     * 商品サービスインターフェイス
+     */
+    private final ProductService productService;
+    /**
+     * 商品カテゴリサービスインターフェイス
+     */
+    private final CategoryService categoryService;
+    /**
+     * 検証を行う専用のプール
+     */
+    private final ForkJoinPool pool;
+    /**
+     * 1回の検証タスクで扱う行数
+     */
+    private final int batchSize;
+    /**
+     * 同時に検証中とするまとまりの上限
+     */
+    private final int maxInFlight;
+
+    private final Timer imports;
+    private final Counter inserted;
+    private final Counter rejected;
+    /**
+     * 実行中の取り込みの読み込み済み行数の合計(取り込みごとに加算し、終了時に差し引く)
+     */
+    private final AtomicLong progress = new AtomicLong();
+    /**
+     * 直近の取り込みの毎秒処理件数
+     */
+    private final AtomicLong lastRowsPerSecond = new AtomicLong();
+
+    /**
+     * コンストラクタ
+     * @param productService 商品サービスインターフェイス
+     * @param categoryService 商品カテゴリサービスインターフェイス
+     * @param registry メトリクスの登録先
+     * @param parallelism 検証の並列数(0以下の場合はCPU数)
+     * @param batchSize 1回の検証タスクで扱う行数
+     */
+    public ImportProductsInteractor(
+        ProductService productService, CategoryService categoryService, MeterRegistry registry,
+        @Value("${app.product.import.parallelism:0}") int parallelism,
+        @Value("${app.product.import.batch-size:1000}") int batchSize) {
+        this.productService = productService;
+        this.categoryService = categoryService;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxInFlight = threads * 2;
+        this.imports = Timer.builder("product.import")
+            .description("商品取り込みの所要時間").register(registry);
+        this.inserted = Counter.builder("product.import.rows").tag("result", "inserted")
+            .description("商品取り込みの処理件数").register(registry);
+        this.rejected = Counter.builder("product.import.rows").tag("result", "rejected")
+            .description("商品取り込みの処理件数").register(registry);
+        Gauge.builder("product.import.progress.rows", progress, AtomicLong::get)
+            .description("実行中の商品取り込みの読み込み済み行数の合計").register(registry);
+        Gauge.builder("product.import.rows.per.second", lastRowsPerSecond, AtomicLong::get)
+            .description("直近の商品取り込みの毎秒処理件数").register(registry);
+    }
+
+    /**
+     * 検証用のプールを停止する
+     */
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <h4>トランザクション</h4>
+     * <p>本メソッドは書き込みを伴うため、メソッド境界で {@code @Transactional} を付与する。
+     * 取り込みはすべて登録されるか、まったく登録されないかのいずれかとなる。</p>
+     */
+    @Transactional
+    @Override
+    public ProductImportResultDTO importCsv(InputStream csv) {
+        if (csv == null) throw new InvalidInputException("CSVがnullです。");
+        long start = System.nanoTime();
+        var reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8), 64 * 1024);
+        var columns = Columns.of(readLine(reader));
+        // 商品カテゴリを1回で取得する(検証タスクから並行に参照する不変の表)
+        Map<CategoryId, Category> categories = Map.copyOf(categoryService.getCategories().stream()
+            .collect(Collectors.toMap(Category::getCategoryId, Function.identity())));
+
+        var report = new Report();
+        ProductBulkLoader.Result merged;
+        // 結果には自身の読み込み行数を使う(ゲージは同時に実行中の取り込みと共有する)
+        long read = 0;
+        try (var session = productService.beginImport()) {
+            Deque<ForkJoinTask<List<Row>>> inFlight = new ArrayDeque<>();
+            var batch = new ArrayList<Line>(batchSize);
+            long lineNo = 1;
+            String text;
+            while ((text = readLine(reader)) != null) {
+                lineNo++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                read++;
+                progress.incrementAndGet();
+                batch.add(new Line(lineNo, text));
+                if (batch.size() == batchSize) {
+                    inFlight.addLast(submit(batch, columns, categories));
+                    batch = new ArrayList<>(batchSize);
+                    // 背圧: 検証中のまとまりが上限に達したら、先頭の完了を待って投入する
+                    while (inFlight.size() >= maxInFlight) {
+                        stage(session, inFlight.removeFirst().join(), report);
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                inFlight.addLast(submit(batch, columns, categories));
+            }
+            while (!inFlight.isEmpty()) {
+                stage(session, inFlight.removeFirst().join(), report);
+            }
+            merged = session.merge(REJECT_REPORT_LIMIT);
+        } finally {
+            progress.addAndGet(-read);
+        }
+
+        merged.conflicts().forEach(c -> report.add(new Reject(c.line(), c.name(), Reason.CONFLICT,
+            String.format("商品名:[%s]は既に登録済みです。", c.name()))));
+        long rejectedCount = report.count + merged.conflicted();
+        long elapsed = System.nanoTime() - start;
+        long rowsPerSecond = elapsed == 0 ? read : read * TimeUnit.SECONDS.toNanos(1) / elapsed;
+        imports.record(elapsed, TimeUnit.NANOSECONDS);
+        inserted.increment(merged.inserted());
+        rejected.increment(rejectedCount);
+        lastRowsPerSecond.set(rowsPerSecond);
+        return new ProductImportResultDTO(read, merged.inserted(), rejectedCount,
+            TimeUnit.NANOSECONDS.toMillis(elapsed), rowsPerSecond, report.rejects());
+    }
+
+    /**
+     * 検証済みの行を投入する(不正な行は報告に加える)
+     */
+    private static void stage(ProductBulkLoader.Session session, List<Row> rows, Report report) {
+        for (var row : rows) {
+            if (row.product() != null) {
+                session.stage(row.line(), row.product());
+            } else {
+                report.count++;
+                report.add(row.reject());
+            }
+        }
+    }
+
+    /**
+     * まとまりの検証をプールへ投入する
+     */
+    private ForkJoinTask<List<Row>> submit(List<Line> batch, Columns columns, Map<CategoryId, Category> categories) {
+        return pool.submit(() -> batch.stream().map(line -> validate(line, columns, categories)).toList());
+    }
+
+    /**
+     * 1行を検証してドメイン集約へ変換する
+     */
+    private static Row validate(Line line, Columns columns, Map<CategoryId, Category> categories) {
+        List<String> fields;
+        try {
+            fields = parse(line.text());
+        } catch (IllegalArgumentException ex) {
+            return Row.rejected(line.no(), null, Reason.INVALID, ex.getMessage());
+        }
+        if (fields.size() < columns.width()) {
+            return Row.rejected(line.no(), null, Reason.INVALID,
+                String.format("項目数が不足しています。(%d項目)", fields.size()));
+        }
+        var rawName = fields.get(columns.name());
+        try {
+            var name = ProductName.of(rawName);
+            var price = ProductPrice.of(parseInteger(fields.get(columns.price()), "商品単価"));
+            var quantity = StockQuantity.of(parseInteger(fields.get(columns.stockQuantity()), "在庫数"));
+            var rawCategoryId = fields.get(columns.categoryId());
+            var category = categories.get(CategoryId.fromString(rawCategoryId));
+            if (category == null) {
+                return Row.rejected(line.no(), rawName, Reason.NOT_FOUND,
+                    String.format("商品カテゴリId:[%s]は存在しません。", rawCategoryId));
+            }
+            return new Row(line.no(), Product.createNew(name, price, category, quantity), null);
+        } catch (DomainException | InvalidInputException ex) {
+            return Row.rejected(line.no(), rawName, Reason.INVALID, ex.getMessage());
+        }
+    }
+
+    /**
+     * 整数の項目を読み取る
+     */
+    private static Integer parseInteger(String value, String label) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new InvalidInputException(String.format("%sは整数で指定してください。[%s]", label, value));
+        }
+    }
+
+    /**
+     * CSVの1行を項目に分割する(ダブルクォートで囲まれた項目に対応する)
+     * @throws IllegalArgumentException ダブルクォートが閉じられていない場合
+     */
+    static List<String> parse(String text) {
+        var fields = new ArrayList<String>();
+        var field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("ダブルクォートが閉じられていません。");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * 1行を読み込む
+     */
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * 読み込んだ1行
+     */
+    private record Line(long no, String text) {}
+
+    /**
+     * 1行の検証結果(正しい行はproduct、不正な行はrejectを保持する)
+     */
+    private record Row(long line, Product product, Reject reject) {
+        static Row rejected(long line, String name, Reason reason, String message) {
+            return new Row(line, null, new Reject(line, name, reason, message));
+        }
+    }
+
+    /**
+     * ヘッダ行から求めた必須の列の位置
+     */
+    private record Columns(int name, int price, int categoryId, int stockQuantity) {
+        static Columns of(String header) {
+            if (header == null) throw new InvalidInputException("CSVが空です。");
+            // UTF-8のBOMを取り除く
+            if (header.startsWith("\uFEFF")) header = header.substring(1);
+            var names = parse(header).stream().map(h -> h.trim().toLowerCase(Locale.ROOT)).toList();
+            return new Columns(
+                indexOf(names, "name"), indexOf(names, "price"),
+                indexOf(names, "categoryid"), indexOf(names, "stockquantity"));
+        }
+
+        private static int indexOf(List<String> names, String column) {
+            int index = names.indexOf(column);
+            if (index < 0) {
+                throw new InvalidInputException(String.format("ヘッダ行に列:[%s]がありません。", column));
+            }
+            return index;
+        }
+
+        /**
+         * 必須の列をすべて含むために必要な項目数
+         */
+        int width() {
+            return Math.max(Math.max(name, price), Math.max(categoryId, stockQuantity)) + 1;
+        }
+    }
+
+    /**
+     * 登録しなかった行の報告(先頭 {@link #REJECT_REPORT_LIMIT} 件のみ保持する)
+     */
+    private static final class Report {
+        private final List<Reject> rejects = new ArrayList<>();
+        /**
+         * 検証で不正となった行の件数
+         */
+        private long count;
+
+        void add(Reject reject) {
+            rejects.add(reject);
+            if (rejects.size() > REJECT_REPORT_LIMIT * 2) {
+                trim();
+            }
+        }
+
+        List<Reject> rejects() {
+            trim();
+            return List.copyOf(rejects);
+        }
+
+        private void trim() {
+            rejects.sort(Comparator.comparingLong(Reject::getLine));
+            if (rejects.size() > REJECT_REPORT_LIMIT) {
+                rejects.subList(REJECT_REPORT_LIMIT, rejects.size()).clear();
+            }
+        }
+    }
+}
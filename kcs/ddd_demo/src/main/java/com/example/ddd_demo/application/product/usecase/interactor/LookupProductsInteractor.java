@@ -0,0 +1,90 @@
+package com.example.ddd_demo.application.product.usecase.interactor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.application.annotation.UseCase;
+import com.example.ddd_demo.application.dto.ProductLookupResultDTO;
+import com.example.ddd_demo.application.mapper.ProductDTOAssembler;
+import com.example.ddd_demo.application.product.service.ProductService;
+import com.example.ddd_demo.application.product.usecase.LookupProductsUsecase;
+import com.example.ddd_demo.domain.models.product.Product;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.product.ProductName;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ユースケース:[複数の商品をまとめて検索する]を実現するインターフェイスの実装
+ *
+ * <p>検索キーごとに問い合わせるのではなく、サービス経由で1回の問い合わせでまとめて取得し、
+ * 指定された順に並べ直して返す。</p>
+ */
+@UseCase
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LookupProductsInteractor implements LookupProductsUsecase {
+    /**
+     * 商品サービスインターフェイス
+     */
+    private final ProductService service;
+    /**
+     * DmainEntityとDTOの相互変換と組み立て
+     */
+    private final ProductDTOAssembler assembler;
+
+    /**
+     * 複数の商品Idを指定して商品情報をまとめて取得する
+     * @param ids 商品Id(UUID文字列)のリスト
+     * @return 指定順に並んだ検索結果(存在しない商品Idは found=false)
+     */
+    @Override
+    public List<ProductLookupResultDTO> lookupByIds(List<String> ids) {
+        // 商品IdのVOに変換する(不正な形式はDomainException)
+        var productIds = ids.stream().map(ProductId::fromString).toList();
+        // まとめて取得し、商品Idで引けるようにする
+        Map<ProductId, Product> found = service.getProductsByIds(productIds).stream()
+            .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+        // 指定順に結果を並べる
+        return toResults(ids, productIds, found);
+    }
+
+    /**
+     * 複数の商品名を指定して商品情報をまとめて取得する
+     * @param names 商品名のリスト
+     * @return 指定順に並んだ検索結果(存在しない商品名は found=false)
+     */
+    @Override
+    public List<ProductLookupResultDTO> lookupByNames(List<String> names) {
+        // 商品名のVOに変換する(不正な値はDomainException)
+        var productNames = names.stream().map(ProductName::of).toList();
+        // まとめて取得し、正規化した商品名で引けるようにする(全角/半角・大文字/小文字の違いを同一視)
+        Map<String, Product> found = service.getProductsByNames(productNames).stream()
+            .collect(Collectors.toMap(p -> p.getName().normalized(), Function.identity()));
+        // 指定順に結果を並べる
+        return toResults(names, productNames.stream().map(ProductName::normalized).toList(), found);
+    }
+
+    /**
+     * 検索キーの指定順に検索結果を並べる
+     * @param keys リクエストで指定された検索キー
+     * @param vos 検索キーを変換したVO(keysと同じ順)
+     * @param found VOをキーとした取得済み商品
+     * @return 検索結果のリスト
+     */
+    private <K> List<ProductLookupResultDTO> toResults(
+        List<String> keys, List<K> vos, Map<K, Product> found) {
+        var results = new ProductLookupResultDTO[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            var product = found.get(vos.get(i));
+            results[i] = product == null
+                ? new ProductLookupResultDTO(keys.get(i), false, null)
+                : new ProductLookupResultDTO(keys.get(i), true, assembler.assembleDto(product));
+        }
+        return List.of(results);
+    }
+}
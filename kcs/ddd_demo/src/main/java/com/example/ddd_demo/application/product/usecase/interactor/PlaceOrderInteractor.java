@@ -0,0 +1,75 @@
+package com.example.ddd_demo.application.product.usecase.interactor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.application.annotation.UseCase;
+import com.example.ddd_demo.application.dto.OrderLineDTO;
+import com.example.ddd_demo.application.dto.OrderPlacementResultDTO;
+import com.example.ddd_demo.application.dto.OrderPlacementResultDTO.Line;
+import com.example.ddd_demo.application.dto.OrderPlacementResultDTO.Status;
+import com.example.ddd_demo.application.dto.StockDTO;
+import com.example.ddd_demo.application.exception.InvalidInputException;
+import com.example.ddd_demo.application.product.usecase.PlaceOrderUsecase;
+import com.example.ddd_demo.application.stock.service.StockService;
+import com.example.ddd_demo.domain.mapper.DomainBiMapper;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.Stock;
+import com.example.ddd_demo.domain.models.stock.StockRepository.AllocationLine;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ユースケース:[注文を確定する]を実現するインターフェイスの実装
+ *
+ * <h3>トランザクション</h3>
+ * <p>引当は1回の更新で行い、関係する在庫の行は商品の主キー順にロックされる。
+ * 同じ商品を異なる順序で含む注文が同時に確定されても、ロックの待ち合いが循環しない(デッドロックしない)。</p>
+ */
+@UseCase
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlaceOrderInteractor implements PlaceOrderUsecase {
+    /**
+     * 在庫サービスインターフェイス
+     */
+    private final StockService service;
+    /**
+     * StockエンティティとStockDTOの相互変換Mapper
+     */
+    private final DomainBiMapper<StockDTO, Stock> stockMapper;
+
+    /**
+     * 注文の全明細の在庫を引き当てる
+     * @param lines 商品Idと数量のリスト
+     * @return 確定結果
+     */
+    @Transactional
+    @Override
+    public OrderPlacementResultDTO place(List<OrderLineDTO> lines) {
+        if (lines == null || lines.isEmpty()) throw new InvalidInputException("注文の明細は必須です。");
+        if (lines.size() > MAX_LINES) {
+            throw new InvalidInputException("1回の注文で指定できる明細は" + MAX_LINES + "件までです。");
+        }
+        // 同じ商品の数量は合算して1件にする(1回の更新で同じ行を2度更新できないため)
+        var quantities = new LinkedHashMap<ProductId, Integer>(lines.size() * 2);
+        for (var line : lines) {
+            if (line == null || line.getProductId() == null) throw new InvalidInputException("商品Idは必須です。");
+            if (line.getQuantity() == null) throw new InvalidInputException("数量は必須です。");
+            quantities.merge(ProductId.fromString(line.getProductId()), line.getQuantity(), Integer::sum);
+        }
+
+        var result = service.allocateOrder(quantities);
+        var placed = result.lines().stream()
+            .map(this::toLine)
+            .toList();
+        return new OrderPlacementResultDTO(result.allocated(), placed);
+    }
+
+    private Line toLine(AllocationLine line) {
+        return new Line(line.productId().value(), line.quantity(), Status.valueOf(line.status().name()),
+            line.available(), line.stock() == null ? null : stockMapper.fromDomain(line.stock()));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.ddd_demo.application.product.usecase.interactor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.application.annotation.UseCase;
+import com.example.ddd_demo.application.dto.StockAdjustmentDTO;
+import com.example.ddd_demo.application.dto.StockMovementDTO;
+import com.example.ddd_demo.application.dto.StockMovementDTO.Status;
+import com.example.ddd_demo.application.dto.StockMovementReceiptDTO;
+import com.example.ddd_demo.application.exception.InvalidInputException;
+import com.example.ddd_demo.application.product.usecase.RecordStockMovementUsecase;
+import com.example.ddd_demo.application.stock.service.StockService;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.StockMovement;
+import com.example.ddd_demo.domain.models.stock.StockMovementId;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ユースケース:[在庫の移動を記録する]を実現するインターフェイスの実装
+ *
+ * <h3>トランザクション</h3>
+ * <p>すべての移動を1つのトランザクションで追記する(途中でデータベースエラーが発生した場合は何も記録しない)。
+ * 在庫の行は更新しないため、トランザクションは在庫の行ロックを取らない。</p>
+ */
+@UseCase
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RecordStockMovementInteractor implements RecordStockMovementUsecase {
+    /**
+     * 在庫サービスインターフェイス
+     */
+    private final StockService service;
+
+    /**
+     * 商品ごとの在庫の増減を移動として記録する
+     * @param movements 商品Idと増減量のリスト
+     * @return 受付結果
+     */
+    @Transactional
+    @Override
+    public StockMovementReceiptDTO record(List<StockAdjustmentDTO> movements) {
+        if (movements == null) throw new InvalidInputException("在庫の移動のリストは必須です。");
+        var requested = new ArrayList<StockMovement>(movements.size());
+        for (var movement : movements) {
+            if (movement == null || movement.getProductId() == null) {
+                throw new InvalidInputException("商品Idは必須です。");
+            }
+            if (movement.getDelta() == null) throw new InvalidInputException("在庫の増減量は必須です。");
+            requested.add(StockMovement.record(ProductId.fromString(movement.getProductId()), movement.getDelta()));
+        }
+
+        var recorded = service.recordMovements(requested);
+        var accepted = recorded.stream()
+            .map(m -> toDto(m, Status.PENDING))
+            .toList();
+        // 記録されなかった移動は、商品が存在しないもの
+        var recordedProducts = new HashSet<ProductId>();
+        recorded.forEach(m -> recordedProducts.add(m.getProductId()));
+        var notFound = new LinkedHashSet<String>();
+        for (var movement : requested) {
+            if (!recordedProducts.contains(movement.getProductId())) {
+                notFound.add(movement.getProductId().value());
+            }
+        }
+        return new StockMovementReceiptDTO(accepted.size(), accepted, List.copyOf(notFound));
+    }
+
+    /**
+     * 移動Idを指定して、記録した移動と在庫数への反映状況を取得する
+     * @param movementId 移動Id(UUIDv7文字列)
+     * @return StockMovementDTO
+     */
+    @Override
+    public StockMovementDTO getMovement(String movementId) {
+        var result = service.getMovement(StockMovementId.fromString(movementId));
+        return toDto(result.movement(), Status.valueOf(result.status().name()));
+    }
+
+    private static StockMovementDTO toDto(StockMovement movement, Status status) {
+        return new StockMovementDTO(movement.getMovementId().value(), movement.getProductId().value(),
+            movement.getDelta(), status);
+    }
+}
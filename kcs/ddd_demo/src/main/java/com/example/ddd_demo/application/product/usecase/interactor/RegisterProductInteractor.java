@@ -1,7 +1,11 @@
 package com.example.ddd_demo.application.product.usecase.interactor;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,10 +13,17 @@ import com.example.ddd_demo.application.annotation.UseCase;
 import com.example.ddd_demo.application.category.service.CategoryService;
 import com.example.ddd_demo.application.dto.CategoryDTO;
 import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.dto.ProductRegisterResultDTO;
+import com.example.ddd_demo.application.dto.ProductRegisterResultDTO.Status;
+import com.example.ddd_demo.application.exception.InvalidInputException;
 import com.example.ddd_demo.application.mapper.ProductDTOAssembler;
 import com.example.ddd_demo.application.product.service.ProductService;
 import com.example.ddd_demo.application.product.usecase.RegisterProductUsecase;
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.category.Category;
 import com.example.ddd_demo.domain.models.category.CategoryId;
+import com.example.ddd_demo.domain.models.product.Product;
+import com.example.ddd_demo.domain.models.product.ProductId;
 import com.example.ddd_demo.domain.models.product.ProductName;
 
 import lombok.RequiredArgsConstructor;
@@ -65,6 +76,14 @@ public class RegisterProductInteractor implements RegisterProductUsecase{
         return categories;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCategoriesVersion() {
+        return categoryService.getCategoriesVersion();
+    }
+
     /**
      * {@inheritDoc}
      * <p>UUID文字列から {@link CategoryId} を再構築し、カテゴリを取得してDTOに変換する。</p>
@@ -92,8 +111,8 @@ public class RegisterProductInteractor implements RegisterProductUsecase{
      *   <li>DTOに含まれるカテゴリIDからカテゴリを取得（存在必須）。</li>
      *   <li>DTOへカテゴリ名等を再設定（整合性の明示）。</li>
      *   <li>AssemblerでDTO→ドメイン集約 {@code Product} を合成。</li>
-     *   <li>アプリケーションサービス経由で登録。</li>
-     *   <li>登録結果を商品名で再取得し、DTOに変換して返却。</li>
+     *   <li>アプリケーションサービス経由で登録（商品と在庫は1文で永続化される）。</li>
+     *   <li>登録された集約をそのままDTOに変換して返却（再取得は行わない）。</li>
      * </ol>
      *
      * <h4>トランザクション</h4>
@@ -108,11 +127,73 @@ public class RegisterProductInteractor implements RegisterProductUsecase{
         product.setCategory(assembler.toCategoryDto(category));
         // ProductSTOからProductエンティティを復元する
         var registProduct = assembler.assembleDomain(product);
-        // 商品を登録する
-        productService.addProduct(registProduct);
-        // 登録した商品を取得する
-        var newProduct = productService.getProductByName(ProductName.of(product.getName()));
+        // 商品を登録する(永続化された集約が返る)
+        var newProduct = productService.addProduct(registProduct);
         // ProductエンティティをProductDTOに変換して返す
         return assembler.assembleDto(newProduct);
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <h4>処理フロー</h4>
+     * <ol>
+     *   <li>商品カテゴリを1回だけ全件取得し、カテゴリIDで引ける表を作る（商品ごとの参照は行わない）。</li>
+     *   <li>DTOごとにカテゴリの存在確認とドメイン集約への変換を行い、失敗はその位置の結果とする。</li>
+     *   <li>変換できた商品をアプリケーションサービス経由でまとめて登録する。</li>
+     *   <li>登録されなかった商品は重複（{@code CONFLICT}）として結果に含める。</li>
+     * </ol>
+     *
+     * <h4>トランザクション</h4>
+     * <p>本メソッドは書き込みを伴うため、メソッド境界で {@code @Transactional} を付与する。</p>
+     */
+    @Transactional
+    @Override
+    public List<ProductRegisterResultDTO> addProducts(List<ProductDTO> products) {
+        if (products == null) throw new InvalidInputException("商品リストがnullです。");
+        // 商品カテゴリを1回で取得する
+        Map<CategoryId, Category> categories = categoryService.getCategories().stream()
+            .collect(Collectors.toMap(Category::getCategoryId, Function.identity()));
+
+        var results = new ProductRegisterResultDTO[products.size()];
+        var targets = new ArrayList<Product>(products.size());
+        var indexes = new HashMap<ProductId, Integer>();
+        for (int i = 0; i < products.size(); i++) {
+            var product = products.get(i);
+            var name = product == null ? null : product.getName();
+            try {
+                if (product == null) {
+                    throw new InvalidInputException("商品がnullです。");
+                }
+                if (product.getCategory() == null) {
+                    throw new InvalidInputException("CategoryDTOがnullです。");
+                }
+                var category = categories.get(CategoryId.fromString(product.getCategory().getId()));
+                if (category == null) {
+                    results[i] = new ProductRegisterResultDTO(i, name, Status.NOT_FOUND,
+                        String.format("商品カテゴリId:[%s]は存在しません。", product.getCategory().getId()), null);
+                    continue;
+                }
+                // DTOに商品カテゴリ名を設定してからProductエンティティを復元する
+                product.setCategory(assembler.toCategoryDto(category));
+                var registProduct = assembler.assembleDomain(product);
+                targets.add(registProduct);
+                indexes.put(registProduct.getProductId(), i);
+            } catch (DomainException | InvalidInputException ex) {
+                results[i] = new ProductRegisterResultDTO(i, name, Status.INVALID, ex.getMessage(), null);
+            }
+        }
+
+        // 商品をまとめて登録する(登録された集約のみが返る)
+        for (var saved : productService.addProducts(targets)) {
+            int i = indexes.remove(saved.getProductId());
+            results[i] = new ProductRegisterResultDTO(
+                i, saved.getName().value(), Status.CREATED, null, assembler.assembleDto(saved));
+        }
+        // 登録されなかった商品は同名商品の重複
+        indexes.forEach((id, i) -> results[i] = new ProductRegisterResultDTO(
+            i, products.get(i).getName(), Status.CONFLICT,
+            String.format("商品名:[%s]は既に登録済みです。", products.get(i).getName()), null));
+        return List.of(results);
+    }
 }
@@ -0,0 +1,91 @@
+package com.example.ddd_demo.application.product.usecase.interactor;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.application.annotation.UseCase;
+import com.example.ddd_demo.application.dto.StockAvailabilityDTO;
+import com.example.ddd_demo.application.dto.StockDTO;
+import com.example.ddd_demo.application.dto.StockReservationDTO;
+import com.example.ddd_demo.application.exception.InvalidInputException;
+import com.example.ddd_demo.application.product.usecase.ReserveStockUsecase;
+import com.example.ddd_demo.application.stock.service.StockService;
+import com.example.ddd_demo.domain.mapper.DomainBiMapper;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.Stock;
+import com.example.ddd_demo.domain.models.stock.StockReservationId;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ユースケース:[在庫を予約する]を実現するインターフェイスの実装
+ */
+@UseCase
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReserveStockInteractor implements ReserveStockUsecase {
+    /**
+     * 在庫サービスインターフェイス
+     */
+    private final StockService service;
+    /**
+     * StockエンティティとStockDTOの相互変換Mapper
+     */
+    private final DomainBiMapper<StockDTO, Stock> stockMapper;
+
+    /**
+     * 商品の在庫を予約する
+     * @param productId 商品Id(UUID文字列)
+     * @param quantity 予約数量
+     * @param holdMinutes 保持時間(分)
+     * @return 予約
+     */
+    @Transactional
+    @Override
+    public StockReservationDTO reserve(String productId, int quantity, Integer holdMinutes) {
+        int minutes = holdMinutes == null ? DEFAULT_HOLD_MINUTES : holdMinutes;
+        if (minutes < 1 || minutes > MAX_HOLD_MINUTES) {
+            throw new InvalidInputException("予約の保持時間は 1 以上 " + MAX_HOLD_MINUTES + " 以下(分)で指定してください。");
+        }
+        var expiresAt = Instant.now().plus(Duration.ofMinutes(minutes));
+        var reservation = service.reserveStock(ProductId.fromString(productId), quantity, expiresAt);
+        return new StockReservationDTO(reservation.getReservationId().value(), reservation.getProductId().value(),
+            reservation.getQuantity(), reservation.getExpiresAt());
+    }
+
+    /**
+     * 予約を確定し、予約数量を在庫数から減算する
+     * @param reservationId 予約Id(UUID文字列)
+     * @return 減算後の在庫
+     */
+    @Transactional
+    @Override
+    public StockDTO confirm(String reservationId) {
+        return stockMapper.fromDomain(service.confirmReservation(StockReservationId.fromString(reservationId)));
+    }
+
+    /**
+     * 予約を解放する
+     * @param reservationId 予約Id(UUID文字列)
+     */
+    @Transactional
+    @Override
+    public void release(String reservationId) {
+        service.releaseReservation(StockReservationId.fromString(reservationId));
+    }
+
+    /**
+     * 商品の引当可能数を取得する
+     * @param productId 商品Id(UUID文字列)
+     * @return 在庫数・予約中の数量・引当可能数
+     */
+    @Override
+    public StockAvailabilityDTO getAvailability(String productId) {
+        var id = ProductId.fromString(productId);
+        var availability = service.getAvailability(id);
+        return new StockAvailabilityDTO(id.value(), availability.onHand(), availability.reserved(),
+            availability.availableToPromise());
+    }
+}
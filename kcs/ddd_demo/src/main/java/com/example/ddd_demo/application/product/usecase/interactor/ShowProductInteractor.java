@@ -0,0 +1,64 @@
+package com.example.ddd_demo.application.product.usecase.interactor;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.application.annotation.UseCase;
+import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.dto.VersionedProductDTO;
+import com.example.ddd_demo.application.mapper.ProductDTOAssembler;
+import com.example.ddd_demo.application.product.service.ProductService;
+import com.example.ddd_demo.application.product.usecase.ShowProductUsecase;
+import com.example.ddd_demo.domain.models.product.ProductId;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ユースケース:[商品の詳細を表示する]を実現するインターフェイスの実装
+ */
+@UseCase
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ShowProductInteractor implements ShowProductUsecase {
+    /**
+     * 商品サービスインターフェイス
+     */
+    private final ProductService service;
+    /**
+     * DmainEntityとDTOの相互変換と組み立て
+     */
+    private final ProductDTOAssembler assembler;
+
+    /**
+     * 商品Idを指定して商品情報の版を取得する
+     * @param productId 商品Id(UUID文字列)
+     * @return 版
+     */
+    @Override
+    public String getVersion(String productId) {
+        return service.getProductVersion(ProductId.fromString(productId)).value();
+    }
+
+    /**
+     * 商品Idを指定して商品情報を取得する
+     * @param productId 商品Id(UUID文字列)
+     * @return ProductDTO
+     */
+    @Override
+    public ProductDTO getProduct(String productId) {
+        // Idで商品を取得
+        var result = service.getProductById(ProductId.fromString(productId));
+        // Productエンティティの集約をProductDTOの集約に変換して返す
+        return assembler.assembleDto(result);
+    }
+
+    /**
+     * 商品Idを指定して商品情報と版を取得する
+     * @param productId 商品Id(UUID文字列)
+     * @return 商品情報と版
+     */
+    @Override
+    public VersionedProductDTO getVersionedProduct(String productId) {
+        var result = service.getVersionedProductById(ProductId.fromString(productId));
+        return new VersionedProductDTO(result.version().value(), assembler.assembleDto(result.product()));
+    }
+}
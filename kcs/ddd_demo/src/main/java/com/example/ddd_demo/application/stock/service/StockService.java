@@ -0,0 +1,111 @@
+package com.example.ddd_demo.application.stock.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.Stock;
+import com.example.ddd_demo.domain.models.stock.StockMovement;
+import com.example.ddd_demo.domain.models.stock.StockMovementId;
+import com.example.ddd_demo.domain.models.stock.StockMovementRepository.Recorded;
+import com.example.ddd_demo.domain.models.stock.StockReservation;
+import com.example.ddd_demo.domain.models.stock.StockReservationId;
+import com.example.ddd_demo.domain.models.stock.StockReservationRepository.Availability;
+import com.example.ddd_demo.domain.models.stock.StockRepository.AdjustmentResult;
+import com.example.ddd_demo.domain.models.stock.StockRepository.AllocationResult;
+
+/**
+ * 在庫に関するアプリケーションサービスインターフェイス。
+ *
+ * <p>本インターフェイスは、ユースケースから呼び出される
+ * 在庫操作の窓口を定義する。</p>
+ *
+ * <p>この層ではトランザクションは管理しない（境界はUseCase側）。</p>
+ */
+public interface StockService {
+    /**
+     * 商品の在庫を引き当てる(在庫が足りる場合だけ減算する)
+     * @param productId 商品Id(VO)
+     * @param amount 減算量
+     * @return 減算後の在庫
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     * @throws com.example.ddd_demo.application.exception.InsufficientStockException
+     *         在庫が足りない場合
+     */
+    Stock decreaseStock(ProductId productId, int amount);
+
+    /**
+     * 複数商品の在庫をまとめて増減する
+     * <p>反映後の在庫数が範囲外となる商品・存在しない商品は反映せず、結果に含めて返す。</p>
+     * @param deltas 商品Id(VO) → 増減量
+     * @return 反映結果
+     */
+    AdjustmentResult adjustStocks(Map<ProductId, Integer> deltas);
+
+    /**
+     * 注文の全明細の在庫を、すべて足りる場合だけまとめて減算する
+     * <p>1つでも在庫が足りない・存在しない商品があれば、どの商品も減算せず、明細ごとの理由を結果に含めて返す。</p>
+     * @param quantities 商品Id(VO) → 減算量
+     * @return 引当結果
+     */
+    AllocationResult allocateOrder(Map<ProductId, Integer> quantities);
+
+    /**
+     * 在庫の移動を台帳へ記録する(在庫数への反映は非同期)
+     * <p>存在しない商品への移動は記録しない。</p>
+     * @param movements 記録する移動
+     * @return 記録した移動(入力順)
+     */
+    List<StockMovement> recordMovements(List<StockMovement> movements);
+
+    /**
+     * 記録した在庫の移動と反映状況を取得する
+     * @param movementId 移動Id(VO)
+     * @return 移動と反映状況
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された移動Idに該当する移動が存在しない場合
+     */
+    Recorded getMovement(StockMovementId movementId);
+
+    /**
+     * 商品の在庫を、有効期限まで予約する(引当可能数が足りる場合だけ)
+     * @param productId 商品Id(VO)
+     * @param quantity 予約数量
+     * @param expiresAt 有効期限
+     * @return 予約
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     * @throws com.example.ddd_demo.application.exception.InsufficientStockException
+     *         引当可能数が足りない場合
+     */
+    StockReservation reserveStock(ProductId productId, int quantity, Instant expiresAt);
+
+    /**
+     * 予約を確定し、予約数量を在庫数から減算する
+     * @param reservationId 予約Id(VO)
+     * @return 減算後の在庫
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         予約が存在しない(確定・解放・期限切れを含む)場合
+     */
+    Stock confirmReservation(StockReservationId reservationId);
+
+    /**
+     * 予約を解放する
+     * @param reservationId 予約Id(VO)
+     * @return 解放した予約
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         予約が存在しない(確定・解放・期限切れを含む)場合
+     */
+    StockReservation releaseReservation(StockReservationId reservationId);
+
+    /**
+     * 商品の在庫数・予約中の数量・引当可能数を取得する
+     * @param productId 商品Id(VO)
+     * @return 在庫数と予約中の数量
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     */
+    Availability getAvailability(ProductId productId);
+}
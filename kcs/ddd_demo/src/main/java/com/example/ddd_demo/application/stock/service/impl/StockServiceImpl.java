@@ -0,0 +1,211 @@
+package com.example.ddd_demo.application.stock.service.impl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.example.ddd_demo.application.exception.InsufficientStockException;
+import com.example.ddd_demo.application.exception.NotFoundException;
+import com.example.ddd_demo.application.stock.service.StockService;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.Stock;
+import com.example.ddd_demo.domain.models.stock.StockMovement;
+import com.example.ddd_demo.domain.models.stock.StockMovementId;
+import com.example.ddd_demo.domain.models.stock.StockMovementRepository;
+import com.example.ddd_demo.domain.models.stock.StockMovementRepository.Recorded;
+import com.example.ddd_demo.domain.models.stock.StockRepository;
+import com.example.ddd_demo.domain.models.stock.StockReservation;
+import com.example.ddd_demo.domain.models.stock.StockReservationId;
+import com.example.ddd_demo.domain.models.stock.StockReservationRepository;
+import com.example.ddd_demo.domain.models.stock.StockReservationRepository.Availability;
+import com.example.ddd_demo.domain.models.stock.StockRepository.AdjustmentResult;
+import com.example.ddd_demo.domain.models.stock.StockRepository.AllocationResult;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link StockService} の実装クラス。
+ *
+ * <p>Repositoryを介して在庫を操作し、
+ * アプリケーション層の例外をスローする責務を担う。</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class StockServiceImpl implements StockService {
+
+    private final StockRepository repository;
+
+    /**
+     * 在庫の移動の台帳(app.stock.engine=IN_MEMORY の場合は登録されない)
+     */
+    private final Optional<StockMovementRepository> movementRepository;
+
+    /**
+     * 在庫の予約(app.stock.engine=IN_MEMORY の場合は登録されない)
+     */
+    private final Optional<StockReservationRepository> reservationRepository;
+
+    /**
+     * 商品の在庫を引き当てる(在庫が足りる場合だけ減算する)
+     * <p>減算できなかった場合だけ在庫を取得し、商品が存在しないのか在庫が足りないのかを判別する。</p>
+     * @param productId 商品Id(VO)
+     * @param amount 減算量
+     * @return 減算後の在庫
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     * @throws com.example.ddd_demo.application.exception.InsufficientStockException
+     *         在庫が足りない場合
+     */
+    @Override
+    public Stock decreaseStock(ProductId productId, int amount) {
+        var decreased = repository.decreaseIfAvailable(productId, amount);
+        if (decreased.isPresent()) {
+            return decreased.get();
+        }
+        var current = repository.findByProductId(productId)
+            .orElseThrow(() -> new NotFoundException(String.format(
+                "商品Id:[%s]の商品は存在しません。", productId.value())));
+        throw new InsufficientStockException(String.format(
+            "商品Id:[%s]の在庫が足りません。(在庫数:%d、要求数:%d)",
+            productId.value(), current.getQuantity().value(), amount));
+    }
+
+    /**
+     * 複数商品の在庫をまとめて増減する
+     * @param deltas 商品Id(VO) → 増減量
+     * @return 反映結果
+     */
+    @Override
+    public AdjustmentResult adjustStocks(Map<ProductId, Integer> deltas) {
+        return repository.applyDeltas(deltas);
+    }
+
+    /**
+     * 注文の全明細の在庫を、すべて足りる場合だけまとめて減算する
+     * @param quantities 商品Id(VO) → 減算量
+     * @return 引当結果
+     */
+    @Override
+    public AllocationResult allocateOrder(Map<ProductId, Integer> quantities) {
+        return repository.allocateAll(quantities);
+    }
+
+    /**
+     * 在庫の移動を台帳へ記録する(在庫数への反映は非同期)
+     * @param movements 記録する移動
+     * @return 記録した移動(入力順)
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         在庫の移動の台帳が利用できない(app.stock.engine=IN_MEMORY の)場合
+     */
+    @Override
+    public List<StockMovement> recordMovements(List<StockMovement> movements) {
+        return movements().appendAll(movements);
+    }
+
+    /**
+     * 記録した在庫の移動と反映状況を取得する
+     * @param movementId 移動Id(VO)
+     * @return 移動と反映状況
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された移動Idに該当する移動が存在しない場合、
+     *         または在庫の移動の台帳が利用できない(app.stock.engine=IN_MEMORY の)場合
+     */
+    @Override
+    public Recorded getMovement(StockMovementId movementId) {
+        return movements().findById(movementId)
+            .orElseThrow(() -> new NotFoundException(String.format(
+                "移動Id:[%s]の在庫の移動は存在しません。", movementId.value())));
+    }
+
+    /**
+     * 商品の在庫を、有効期限まで予約する(引当可能数が足りる場合だけ)
+     * <p>予約できなかった場合だけ引当可能数を取得し、商品が存在しないのか引当可能数が足りないのかを判別する。</p>
+     * @param productId 商品Id(VO)
+     * @param quantity 予約数量
+     * @param expiresAt 有効期限
+     * @return 予約
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     * @throws com.example.ddd_demo.application.exception.InsufficientStockException
+     *         引当可能数が足りない場合
+     */
+    @Override
+    public StockReservation reserveStock(ProductId productId, int quantity, Instant expiresAt) {
+        var reservation = StockReservation.hold(productId, quantity, expiresAt);
+        if (reservations().reserve(reservation)) {
+            return reservation;
+        }
+        var availability = getAvailability(productId);
+        throw new InsufficientStockException(String.format(
+            "商品Id:[%s]の引当可能数が足りません。(引当可能数:%d、要求数:%d)",
+            productId.value(), availability.availableToPromise(), quantity));
+    }
+
+    /**
+     * 予約を確定し、予約数量を在庫数から減算する
+     * @param reservationId 予約Id(VO)
+     * @return 減算後の在庫
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         予約が存在しない(確定・解放・期限切れを含む)場合
+     */
+    @Override
+    public Stock confirmReservation(StockReservationId reservationId) {
+        return reservations().confirm(reservationId)
+            .orElseThrow(() -> reservationNotFound(reservationId));
+    }
+
+    /**
+     * 予約を解放する
+     * @param reservationId 予約Id(VO)
+     * @return 解放した予約
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         予約が存在しない(確定・解放・期限切れを含む)場合
+     */
+    @Override
+    public StockReservation releaseReservation(StockReservationId reservationId) {
+        return reservations().release(reservationId)
+            .orElseThrow(() -> reservationNotFound(reservationId));
+    }
+
+    /**
+     * 商品の在庫数・予約中の数量・引当可能数を取得する
+     * @param productId 商品Id(VO)
+     * @return 在庫数と予約中の数量
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         指定された商品Idに該当する商品が存在しない場合
+     */
+    @Override
+    public Availability getAvailability(ProductId productId) {
+        return reservations().findAvailability(productId)
+            .orElseThrow(() -> new NotFoundException(String.format(
+                "商品Id:[%s]の商品は存在しません。", productId.value())));
+    }
+
+    /**
+     * 在庫の移動の台帳を取得する
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         在庫の移動の台帳が利用できない(app.stock.engine=IN_MEMORY の)場合
+     */
+    private StockMovementRepository movements() {
+        return movementRepository.orElseThrow(() -> new NotFoundException(
+            "在庫の移動の記録は app.stock.engine=IN_MEMORY では利用できません。"));
+    }
+
+    /**
+     * 在庫の予約のリポジトリを取得する
+     * @throws com.example.ddd_demo.application.exception.NotFoundException
+     *         在庫の予約が利用できない(app.stock.engine=IN_MEMORY の)場合
+     */
+    private StockReservationRepository reservations() {
+        return reservationRepository.orElseThrow(() -> new NotFoundException(
+            "在庫の予約は app.stock.engine=IN_MEMORY では利用できません。"));
+    }
+
+    private static NotFoundException reservationNotFound(StockReservationId reservationId) {
+        return new NotFoundException(String.format(
+            "予約Id:[%s]の予約は存在しないか、有効期限が切れています。", reservationId.value()));
+    }
+}
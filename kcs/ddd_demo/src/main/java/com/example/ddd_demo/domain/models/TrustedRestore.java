@@ -0,0 +1,63 @@
+package com.example.ddd_demo.domain.models;
+
+import java.lang.invoke.MethodHandles;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+
+/**
+ * DBから読み込んだ値を検証なしで復元するための権限(ケイパビリティ)
+ *
+ * <p>商品・商品カテゴリ・在庫の各テーブルは、ドメインと同じ規則をCHECK制約・型(varchar長)・NOT NULLで保証している。
+ * そのためDBから読み込んだ行を集約へ復元する際は、値オブジェクトの検証(トリム・長さ・範囲・集約の完全性)を省略できる。</p>
+ * <ul>
+ *   <li>検証を省略するファクトリ({@code restoreTrusted}/{@code trusted})は、このクラスのインスタンスを引数に要求する</li>
+ *   <li>インスタンスは {@link #obtain(MethodHandles.Lookup)} でのみ取得でき、
+ *       呼び出し元が永続化層({@value #ALLOWED_PACKAGE} 配下)のクラス自身であることを
+ *       {@link MethodHandles.Lookup} で確認する(他クラスになりすました Lookup は完全な権限を持たない)</li>
+ *   <li>アプリケーション層・プレゼンテーション層からは取得できないため、利用者の入力は必ず通常の検証を通る</li>
+ * </ul>
+ *
+ * <p>例：
+ * <pre>{@code
+ * private static final TrustedRestore TRUSTED = TrustedRestore.obtain(MethodHandles.lookup());
+ * ProductPrice price = ProductPrice.trusted(TRUSTED, rec.getPrice());
+ * }</pre>
+ */
+public final class TrustedRestore {
+    /**
+     * 権限を与えるパッケージ(永続化層)
+     */
+    static final String ALLOWED_PACKAGE = "com.example.ddd_demo.infrastructure.persistence";
+    /**
+     * 唯一のインスタンス
+     */
+    private static final TrustedRestore INSTANCE = new TrustedRestore();
+
+    private TrustedRestore() {}
+
+    /**
+     * 権限を取得する
+     * @param lookup 呼び出し元クラスで生成した {@code MethodHandles.lookup()}
+     * @return 権限
+     * @throws DomainException 呼び出し元が永続化層でない場合
+     */
+    public static TrustedRestore obtain(MethodHandles.Lookup lookup) {
+        if (lookup == null
+            || !lookup.hasFullPrivilegeAccess()
+            || !lookup.lookupClass().getPackageName().startsWith(ALLOWED_PACKAGE)) {
+            throw new DomainException("検証なしの復元は永続化層からのみ利用できます。");
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * 正しい権限が渡されたかを確認する
+     * @param token 権限
+     * @throws DomainException 権限がない場合
+     */
+    public static void check(TrustedRestore token) {
+        if (token != INSTANCE) {
+            throw new DomainException("検証なしの復元は永続化層からのみ利用できます。");
+        }
+    }
+}
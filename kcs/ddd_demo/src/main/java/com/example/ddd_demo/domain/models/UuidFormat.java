@@ -0,0 +1,119 @@
+package com.example.ddd_demo.domain.models;
+
+/**
+ * UUID文字列(8-4-4-4-12形式)と2つのlong値を相互変換するユーティリティ
+ *
+ * <p>{@link com.example.ddd_demo.domain.models.product.ProductId}・
+ * {@link com.example.ddd_demo.domain.models.category.CategoryId}・
+ * {@link com.example.ddd_demo.domain.models.stock.StockId} の内部表現で利用する。</p>
+ * <ul>
+ *   <li>検証・解析は1文字ずつ走査するだけで、正規表現や中間オブジェクトを生成しない</li>
+ *   <li>16進数は大文字/小文字を問わず受け付け、文字列化は常に小文字で行う</li>
+ * </ul>
+ */
+public final class UuidFormat {
+    /**
+     * UUID文字列の長さ(ハイフン付き36文字)
+     */
+    public static final int LENGTH = 36;
+    /**
+     * 小文字の16進数字
+     */
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+    private UuidFormat() {}
+
+    /**
+     * 8-4-4-4-12形式(半角ハイフンU+002D、16進のみ)のUUID文字列かを判定する
+     * @param s 判定する文字列
+     * @return UUID形式であればtrue
+     */
+    public static boolean isValid(String s) {
+        if (s == null || s.length() != LENGTH) return false;
+        for (int i = 0; i < LENGTH; i++) {
+            char ch = s.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (ch != '-') return false;
+            } else if (hex(ch) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * UUID文字列の上位64ビットを返す
+     * <p>事前に {@link #isValid(String)} で検証済みの文字列を渡すこと</p>
+     * @param s UUID文字列
+     * @return 上位64ビット
+     */
+    public static long mostSignificantBits(String s) {
+        // 8-4-4 → 0..7, 9..12, 14..17
+        long bits = parse(s, 0, 8);
+        bits = (bits << 16) | parse(s, 9, 13);
+        return (bits << 16) | parse(s, 14, 18);
+    }
+
+    /**
+     * UUID文字列の下位64ビットを返す
+     * <p>事前に {@link #isValid(String)} で検証済みの文字列を渡すこと</p>
+     * @param s UUID文字列
+     * @return 下位64ビット
+     */
+    public static long leastSignificantBits(String s) {
+        // 4-12 → 19..22, 24..35
+        long bits = parse(s, 19, 23);
+        return (bits << 48) | parse(s, 24, 36);
+    }
+
+    /**
+     * 2つのlong値をcanonicalなUUID文字列(小文字・ハイフン付き、36文字)にする
+     * @param msb 上位64ビット
+     * @param lsb 下位64ビット
+     * @return UUID文字列
+     */
+    public static String toCanonical(long msb, long lsb) {
+        char[] buf = new char[LENGTH];
+        format(msb >>> 32, buf, 0, 8);
+        buf[8] = '-';
+        format(msb >>> 16, buf, 9, 4);
+        buf[13] = '-';
+        format(msb, buf, 14, 4);
+        buf[18] = '-';
+        format(lsb >>> 48, buf, 19, 4);
+        buf[23] = '-';
+        format(lsb, buf, 24, 12);
+        return new String(buf);
+    }
+
+    /**
+     * s[from, to) の16進数字をlong値に変換する
+     */
+    private static long parse(String s, int from, int to) {
+        long bits = 0;
+        for (int i = from; i < to; i++) {
+            bits = (bits << 4) | hex(s.charAt(i));
+        }
+        return bits;
+    }
+
+    /**
+     * bitsの下位 digits*4 ビットを16進数字として buf[offset..] に書き込む
+     */
+    private static void format(long bits, char[] buf, int offset, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buf[i] = DIGITS[(int) (bits & 0xF)];
+            bits >>>= 4;
+        }
+    }
+
+    /**
+     * 16進数字1文字の値を返す(16進数字でなければ-1)
+     */
+    private static int hex(char ch) {
+        if (ch >= '0' && ch <= '9') return ch - '0';
+        if (ch >= 'a' && ch <= 'f') return ch - 'a' + 10;
+        if (ch >= 'A' && ch <= 'F') return ch - 'A' + 10;
+        return -1;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.ddd_demo.domain.models;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+
+/**
+ * 新規に発行するId(UUID)の生成器
+ *
+ * <p>{@link com.example.ddd_demo.domain.models.product.ProductId}・
+ * {@link com.example.ddd_demo.domain.models.category.CategoryId}・
+ * {@link com.example.ddd_demo.domain.models.stock.StockId} の {@code createNew()} から利用する。</p>
+ * <ul>
+ *   <li>{@link Strategy#RANDOM} ― UUIDv4({@link UUID#randomUUID()})</li>
+ *   <li>{@link Strategy#TIME_ORDERED} ― UUIDv7(RFC 9562)。先頭48ビットがUNIX時刻(ミリ秒)のため、
+ *       発行順に並び、B-tree索引への追加が右端に集中する(ページ分割・WALの増加を抑える)</li>
+ * </ul>
+ *
+ * <p>UUIDv7は「ミリ秒 + 12ビットのカウンタ」を1つの {@link AtomicLong} でCAS更新する。
+ * 同一ミリ秒内ではカウンタを1ずつ進め、溢れた場合は時刻部へ繰り上げるため、
+ * ロックを取らずにプロセス内で単調増加となる(時計が戻った場合も直前の値より大きい値を返す)。
+ * 残りの62ビットは乱数とする。</p>
+ *
+ * <p>既定の方式は {@link Strategy#RANDOM}。アプリケーションでは起動時に設定値
+ * ({@code app.id.strategy})で切り替える。</p>
+ */
+public final class UuidGenerator {
+
+    /**
+     * Idの生成方式
+     */
+    public enum Strategy {
+        /** UUIDv4(乱数) */
+        RANDOM,
+        /** UUIDv7(時刻順) */
+        TIME_ORDERED
+    }
+
+    /**
+     * 12ビットカウンタのビット数
+     */
+    private static final int COUNTER_BITS = 12;
+    /**
+     * 現在の生成方式
+     */
+    private static volatile Strategy strategy = Strategy.RANDOM;
+    /**
+     * 直前に発行したUUIDv7の「ミリ秒 << 12 | カウンタ」
+     */
+    private static final AtomicLong lastTimestamp = new AtomicLong();
+
+    private UuidGenerator() {}
+
+    /**
+     * 生成方式を切り替える
+     * @param newStrategy 生成方式
+     * @throws DomainException nullの場合
+     */
+    public static void use(Strategy newStrategy) {
+        if (newStrategy == null) {
+            throw new DomainException("Idの生成方式は必須です。");
+        }
+        strategy = newStrategy;
+    }
+
+    /**
+     * 現在の生成方式を返す
+     */
+    public static Strategy strategy() {
+        return strategy;
+    }
+
+    /**
+     * 現在の生成方式で新しいUUIDを発行する
+     * @return 新しいUUID
+     */
+    public static UUID next() {
+        return strategy == Strategy.TIME_ORDERED ? nextTimeOrdered() : UUID.randomUUID();
+    }
+
+    /**
+     * UUIDv7を発行する
+     * <pre>
+     *  unix_ts_ms(48) | ver=7(4) | counter(12) | var=10(2) | rand(62)
+     * </pre>
+     * @return 新しいUUIDv7
+     */
+    public static UUID nextTimeOrdered() {
+        long stamp = nextTimestamp(System.currentTimeMillis());
+        long msb = ((stamp >>> COUNTER_BITS) << 16)
+            | 0x7000L
+            | (stamp & ((1L << COUNTER_BITS) - 1));
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * 「ミリ秒 << 12 | カウンタ」を直前の値より大きくなるように進める
+     * @param nowMillis 現在時刻(ミリ秒)
+     * @return 今回の値
+     */
+    static long nextTimestamp(long nowMillis) {
+        long candidate = nowMillis << COUNTER_BITS;
+        while (true) {
+            long prev = lastTimestamp.get();
+            // 新しいミリ秒ならカウンタ0から、同一ミリ秒(または時計の後退)なら直前+1
+            long next = candidate > prev ? candidate : prev + 1;
+            if (lastTimestamp.compareAndSet(prev, next)) {
+                return next;
+            }
+        }
+    }
+}
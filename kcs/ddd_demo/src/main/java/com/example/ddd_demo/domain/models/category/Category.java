@@ -1,6 +1,7 @@
     package com.example.ddd_demo.domain.models.category;
 
     import com.example.ddd_demo.domain.exception.DomainException;
+    import com.example.ddd_demo.domain.models.TrustedRestore;
     /**
      * 商品カテゴリを表すエンティティ
      * - 同一性: CategoryId(値で等価)
@@ -34,6 +35,19 @@
             return new Category(id, name);
         }
 
+        /**
+         * 生成: DBから読み込んだ値を検証なしで再構築する(永続化層専用)
+         * @param token 永続化層の権限
+         * @param id 商品カテゴリId(非null)
+         * @param name 商品カテゴリ名(非null)
+         * @return 商品カテゴリエンティティ
+         * @throws DomainException 権限がない場合
+         */
+        public static Category restoreTrusted(TrustedRestore token, CategoryId id, CategoryName name) {
+            TrustedRestore.check(token);
+            return new Category(id, name, token);
+        }
+
         /**
          * コンストラクタ
          * @param id 商品カテゴリId
@@ -52,6 +66,14 @@
             this.name = name;   
         }
 
+        /**
+         * コンストラクタ(検証なし、{@link #restoreTrusted} 専用)
+         */
+        private Category(CategoryId id, CategoryName name, TrustedRestore token) {
+            this.categoryId = id;
+            this.name = name;
+        }
+
         /**
          * 名称を変更する
          * - nullは許可しない（ドメインルール違反としてDomainExceptionをスロー）
@@ -3,6 +3,7 @@ package com.example.ddd_demo.domain.models.category;
 import java.util.Objects;
 
 import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.TrustedRestore;
 
 
 /**
@@ -48,6 +49,19 @@ public final class CategoryName {
         return new CategoryName(trimmed);
     }
 
+    /**
+     * DBから読み込んだカテゴリ名を検証なしで復元する(永続化層専用)
+     * <p>product_category.name はCHECK制約(トリム済み・空でない)とvarchar(20)で保証されている。</p>
+     * @param token 永続化層の権限
+     * @param value カテゴリ名
+     * @return CategoryName
+     * @throws DomainException 権限がない場合
+     */
+    public static CategoryName trusted(TrustedRestore token, String value) {
+        TrustedRestore.check(token);
+        return new CategoryName(value);
+    }
+
     public String value() {
         return value;
     }
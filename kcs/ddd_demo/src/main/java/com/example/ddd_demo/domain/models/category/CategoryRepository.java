@@ -27,6 +27,7 @@ import java.util.Optional;
  * <ul>
  *   <li>カテゴリをIDで検索（単一取得）</li>
  *   <li>すべてのカテゴリを一覧で取得</li>
+ *   <li>カテゴリ一覧の版を取得</li>
  * </ul>
  *
  * <p>例：
@@ -62,4 +63,14 @@ public interface CategoryRepository {
      *         （結果が空の場合、空のリストを返す）
      */
     List<Category> findAll();
+
+    /**
+     * 商品カテゴリ一覧の版を取得する。
+     *
+     * <p>「カテゴリ一覧表示」で、前回取得した一覧から変わったかを判定するために利用されます。
+     * <br>{@link #findAll()} の結果（並び順を含む）が変わると版も必ず変わります。
+     *
+     * @return 一覧の版（不透明な文字列）
+     */
+    String findAllVersion();
 }
@@ -3,6 +3,7 @@ package com.example.ddd_demo.domain.models.product;
 import java.util.Objects;
 
 import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.TrustedRestore;
 import com.example.ddd_demo.domain.models.category.Category;
 import com.example.ddd_demo.domain.models.stock.Stock;
 import com.example.ddd_demo.domain.models.stock.StockQuantity;
@@ -55,6 +56,18 @@ public class Product {
         return new Product(id, name, price , category, stock);
     }
 
+    /**
+     * 生成: DBから読み込んだ値を検証なしで再構築する(永続化層専用)
+     * - 必須項目・CategoryとStockの完全性は、JOINした行(NOT NULL/外部キー)で保証されている
+     * @throws DomainException 権限がない場合
+     */
+    public static Product restoreTrusted(
+        TrustedRestore token, ProductId id, ProductName name,
+        ProductPrice price, Category category, Stock stock) {
+        TrustedRestore.check(token);
+        return new Product(id, name, price, category, stock, token);
+    }
+
     /**
      * 骨格だけで再構築するファクトリ(Assemblerで後から合成)
      */
@@ -87,6 +100,19 @@ public class Product {
         this.stock = stock;
     }
 
+    /**
+     * コンストラクタ(検証なし、{@link #restoreTrusted} 専用)
+     */
+    private Product(
+        ProductId id, ProductName name,
+        ProductPrice price, Category category, Stock stock, TrustedRestore token) {
+        this.productId = id;
+        this.name = name;
+        this.price = price;
+        this.category = category;
+        this.stock = stock;
+    }
+
     /**
      * カテゴリを設定する
      * @param categoryエンティティ
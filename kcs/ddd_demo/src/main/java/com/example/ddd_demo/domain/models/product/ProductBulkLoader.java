@@ -0,0 +1,68 @@
+package com.example.ddd_demo.domain.models.product;
+
+import java.util.List;
+
+/**
+ * 商品の一括取り込みを担うリポジトリインターフェイス
+ *
+ * <p>カタログの一括取り込み(数万〜数百万件)で利用されます。
+ * <br>商品を1件ずつ一時領域へ投入({@link Session#stage(long, Product)})し、
+ * 最後にまとめて本来の格納先へ反映({@link Session#merge(int)})することを想定します。
+ * これにより、件数に依存せず一定のメモリ・一定の往復回数で取り込めます。
+ * <br>呼び出し側は1つのトランザクション内で {@link #begin()} から {@link Session#merge(int)} までを呼び出してください。</p>
+ */
+public interface ProductBulkLoader {
+
+    /**
+     * 取り込みを開始する
+     * @return 取り込みセッション
+     */
+    Session begin();
+
+    /**
+     * 1回分の取り込み
+     * <p>{@link #merge(int)} を呼ばずに終了した場合、{@link #close()} で投入を中止する。</p>
+     */
+    interface Session extends AutoCloseable {
+        /**
+         * 商品を一時領域へ投入する(この時点では登録されない)
+         * @param line 取り込み元の行番号
+         * @param product 登録対象商品(カテゴリは存在するものに限る)
+         */
+        void stage(long line, Product product);
+
+        /**
+         * 投入した商品をまとめて登録する
+         * <p>商品名(正規化後)が既存の商品、または先に投入した商品と重複するものは登録しない。</p>
+         * @param rejectLimit 結果に含める未登録商品の最大件数
+         * @return 取り込み結果
+         */
+        Result merge(int rejectLimit);
+
+        /**
+         * 取り込みを終了する(登録前であれば投入を中止する)
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * 登録されなかった商品
+     * @param line 取り込み元の行番号
+     * @param name 商品名
+     */
+    record Rejected(long line, String name) {}
+
+    /**
+     * 取り込み結果
+     * @param staged 投入した件数
+     * @param inserted 登録した件数
+     * @param conflicted 商品名の重複により登録しなかった件数
+     * @param conflicts 商品名の重複により登録しなかった商品(行番号順・最大rejectLimit件)
+     */
+    record Result(long staged, long inserted, long conflicted, List<Rejected> conflicts) {
+        public Result {
+            conflicts = List.copyOf(conflicts);
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package com.example.ddd_demo.domain.models.product;
 
-import java.util.Objects;
 import java.util.UUID;
 
 import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.UuidFormat;
+import com.example.ddd_demo.domain.models.UuidGenerator;
 
 /**
  * 商品を一意に識別するための値オブジェクト。
@@ -14,11 +15,12 @@ import com.example.ddd_demo.domain.exception.DomainException;
  * 
  * 仕様・制約:
  * <ul>
- *   <li>内部表現は UUID（canonical形式: 小文字・ハイフン付き、36文字固定）</li>
+ *   <li>内部表現は UUID の上位/下位64ビット(2つのlong)、文字列表現はcanonical形式(小文字・ハイフン付き、36文字固定)</li>
  *   <li>外部から直接生成することはできない（不変性を維持）</li>
  *   <li>{@link #createNew()} により新しいUUIDを発行可能</li>
  *   <li>{@link #fromString(String)} により既存のUUID文字列を復元可能</li>
- *   <li>等価性は値（UUID文字列）の一致によって判定される</li>
+ *   <li>{@link #fromUuid(UUID)} によりDBから読み込んだUUIDを検証・再解析なしで復元可能</li>
+ *   <li>等価性は値（UUID）の一致によって判定される</li>
  * </ul>    
  *
  * <p>【設計意図】
@@ -36,31 +38,40 @@ import com.example.ddd_demo.domain.exception.DomainException;
  * @see java.util.UUID
  */
 public final class ProductId {
-    /** 
-     * canonicalなUUID文字列(不変) 
+    /**
+     * UUIDの上位64ビット
+     */
+    private final long msb;
+    /**
+     * UUIDの下位64ビット
+     */
+    private final long lsb;
+    /**
+     * canonicalなUUID文字列(初回の {@link #value()} 呼び出し時に生成してキャッシュする)
+     * <p>msb/lsbから一意に決まる値のため、複数スレッドで重複して生成しても結果は同じになる。</p>
      */
-    private final String value;
+    private String value;
 
-    /** 
+    /**
      * コンストラクタ
      * 外部から直接は生成させない(不変保証のため)
      */
-    private ProductId(String value) {
-        this.value = value;
+    private ProductId(long msb, long lsb) {
+        this.msb = msb;
+        this.lsb = lsb;
     }
 
     /**
-     * 新しいUUIDを発行してProductIdを生成する。
-     * UUID#toString は canonical(小文字・ハイフン付き)で返る。
-     * @return 新規生成された ProductId
+     * 新しいUUIDを発行してProductIdを生成する
+     * 生成方式(UUIDv4/UUIDv7)は {@link UuidGenerator} の設定に従う
+     * @return 新規生成されたProductId
      */
     public static ProductId createNew() {
-        String canonical = UUID.randomUUID().toString();
-        return new ProductId(canonical);
+        return fromUuid(UuidGenerator.next());
     }
 
     /**
-     * 既存のUUID文字列からProductIdを復元する。
+     * 既存のUUID文字列からProductIdを復元する
      * 入力は大文字/小文字を問わず受け付けるが、内部ではcanonical(小文字)に正規化する
      * @param raw UUID文字列(ハイフン付き36文字)
      * @return 検証済みのProductId
@@ -71,44 +82,66 @@ public final class ProductId {
             throw new DomainException("ProductIdは必須です。");
         }
         String s = raw.trim();
-        // UUIDの厳密検証（8-4-4-4-12形式）
-        if (!s.matches(
-    "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$")) {
+        // 8-4-4-4-12の厳密検証(半角ハイフンU+002D、16進のみ)
+        if (!UuidFormat.isValid(s)) {
             throw new DomainException("ProductIdはUUID形式で指定してください。: " + raw);
         }
-        // UUIDとして正規化（常に小文字・ハイフン付き）
-        String canonical = UUID.fromString(s).toString();
-        return new ProductId(canonical);
+        return new ProductId(UuidFormat.mostSignificantBits(s), UuidFormat.leastSignificantBits(s));
     }
 
     /**
-     * 正規化済みのUUID文字列を返す
-     * 常に小文字・ハイフン付き・36文字
+     * UUIDからProductIdを復元する(DBのUUID列から読み込んだ値の復元に利用する)
+     * <p>UUIDは既に構造が保証されているため、文字列の形式検証と再解析は行わない。</p>
+     * @param uuid UUID
+     * @return ProductId
+     * @throws DomainException nullの場合
+     */
+    public static ProductId fromUuid(UUID uuid) {
+        if (uuid == null) {
+            throw new DomainException("ProductIdは必須です。");
+        }
+        return new ProductId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * 正規化済みのUUID文字列を返す(常に小文字・ハイフン付き、36文字)
      */
     public String value() {
-        return value;
+        String v = value;
+        if (v == null) {
+            v = UuidFormat.toCanonical(msb, lsb);
+            value = v;
+        }
+        return v;
     }
 
-    /** 
-     * 現在保持している値を文字列として返す 
+    /**
+     * UUIDとして返す(jOOQのUUID列への受け渡しに利用する、文字列への変換は行わない)
+     */
+    public UUID toUuid() {
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * 現在保持している値
      */
     @Override
     public String toString() {
-        return value;
+        return value();
     }
 
-    /** 
-     * 値で等価判定(同じUUID文字列なら等価） 
+    /**
+     * 値で等価判定(同じUUIDなら等価)
      */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof ProductId)) return false;
         ProductId that = (ProductId) o;
-        return value.equals(that.value);
+        return msb == that.msb && lsb == that.lsb;
     }
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Long.hashCode(msb ^ lsb);
     }
 }
@@ -1,7 +1,10 @@
 package com.example.ddd_demo.domain.models.product;
 
+import java.text.Normalizer;
+import java.util.Locale;
 import java.util.Objects;
 import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.TrustedRestore;
 
 /**
  * 商品名を表す値オブジェクト
@@ -10,6 +13,9 @@ import com.example.ddd_demo.domain.exception.DomainException;
  *   ・必須（null/空/空白のみ不可）
  *   ・最大30文字
  *   ・前後の空白はトリムされる
+ * - 同一性の判定(検索・重複検出)には正規化した値 {@link #normalized()} を用いる
+ *   ・NFKC正規化(全角英数字/半角カナ等の表記揺れを統一)の後、大文字/小文字を畳み込む
+ *   ・正規化の規則はこのクラスだけが持つ。DBの product.name_normalized 列には永続化層がこの値を書き込む
  */
 public final class ProductName {
     
@@ -23,12 +29,40 @@ public final class ProductName {
      */
     private final String value;
 
+    /**
+     * 正規化した値(NFKC+小文字化)
+     */
+    private final String normalized;
+
     /**
      * コンストラクタ
      * 外部から直接は生成させない(不変保証のため)
      */
     private ProductName(String value) {
+        this(value, normalize(value));
+    }
+
+    /**
+     * コンストラクタ(正規化済みの値を受け取る)
+     */
+    private ProductName(String value, String normalized) {
         this.value = value;
+        this.normalized = normalized;
+    }
+
+    /**
+     * 商品名を正規化する(NFKC正規化の後、大文字/小文字を畳み込む)
+     * <p>例：「ＵＳＢ有線式キーボード」「USB有線式キーボード」→「usb有線式キーボード」</p>
+     * <p>小文字化だけでは「STRASSE」と「straße」、「ΣΟΦΟΣ」と「σοφοσ」が一致しないため、
+     * 大文字化してから小文字化する(ß→SS→ss、σ/ς→Σ→σ・ς)。畳み込みで分解された文字は再度NFKC正規化する。</p>
+     * @param value 商品名
+     * @return 正規化した商品名
+     */
+    public static String normalize(String value) {
+        var folded = Normalizer.normalize(value, Normalizer.Form.NFKC)
+            .toUpperCase(Locale.ROOT)
+            .toLowerCase(Locale.ROOT);
+        return Normalizer.normalize(folded, Normalizer.Form.NFKC);
     }
 
     /**
@@ -61,6 +95,21 @@ public final class ProductName {
         return new ProductName(trimmed);
     }
 
+    /**
+     * DBから読み込んだ商品名を検証なしで復元する(永続化層専用)
+     * <p>product.name はCHECK制約(トリム済み・空でない)とvarchar(30)で保証されている。
+     * 正規化した値もDBの name_normalized 列(登録時に {@link #normalize(String)} で算出した値)から受け取れる場合は再計算しない。</p>
+     * @param token 永続化層の権限
+     * @param value 商品名(トリム済み)
+     * @param normalized 正規化した商品名(nullの場合はここで計算する)
+     * @return ProductName
+     * @throws DomainException 権限がない場合
+     */
+    public static ProductName trusted(TrustedRestore token, String value, String normalized) {
+        TrustedRestore.check(token);
+        return new ProductName(value, normalized != null ? normalized : normalize(value));
+    }
+
     /** 
      * 値を返す 
      */
@@ -68,6 +117,13 @@ public final class ProductName {
         return value;
     }
 
+    /**
+     * 正規化した値を返す(全角/半角・大文字/小文字の違いを同一視した検索キー)
+     */
+    public String normalized() {
+        return normalized;
+    }
+
     /** 
      * 現在保持している値 
      */
@@ -0,0 +1,39 @@
+package com.example.ddd_demo.domain.models.product;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+
+/**
+ * 商品一覧の1ページ分を表す値オブジェクト
+ * - 不変
+ * - 次のページが存在する場合のみ、次ページの開始位置となるカーソルを保持する
+ */
+public final class ProductPage {
+    /**
+     * ページ内の商品(並び順どおり)
+     */
+    private final List<Product> items;
+    /**
+     * 次ページのカーソル(最終ページの場合はnull)
+     */
+    private final ProductPageCursor next;
+
+    /**
+     * コンストラクタ
+     * @param items ページ内の商品
+     * @param next 次ページのカーソル(最終ページの場合はnull)
+     */
+    public ProductPage(List<Product> items, ProductPageCursor next) {
+        if (items == null) throw new DomainException("商品リストは必須です。");
+        this.items = List.copyOf(items);
+        this.next = next;
+    }
+
+    /** 
+     * ゲッター
+     */
+    public List<Product> getItems() { return items; }
+    public Optional<ProductPageCursor> getNext() { return Optional.ofNullable(next); }
+}
@@ -0,0 +1,143 @@
+package com.example.ddd_demo.domain.models.product;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+
+/**
+ * 商品一覧のキーセット(シーク)ページングにおける「直前のページの最後の商品」の位置を表す値オブジェクト
+ * - 不変／自己検証／値で等価
+ * - 仕様:
+ *   ・ソートキー、その商品のソートキーの値、商品Idの3つで位置を一意に表す
+ *   ・次ページは (ソートキーの値, 商品Id) がこの位置より大きい商品から始まる
+ *   ・クライアントには {@link #encode()} による不透明なトークンとして渡す
+ *
+ * <p>OFFSETと異なり読み飛ばす行数に依存しないため、何ページ目でも取得コストは一定になる。</p>
+ */
+public final class ProductPageCursor {
+    /**
+     * トークン内の区切り文字
+     */
+    private static final char SEPARATOR = ':';
+
+    /**
+     * ソートキー
+     */
+    private final ProductSortKey sortKey;
+    /**
+     * ソートキーの値(単価の場合は数値の文字列表現)
+     */
+    private final String sortValue;
+    /**
+     * 商品Id(同値の並びを一意にするためのタイブレーカー)
+     */
+    private final ProductId productId;
+
+    /**
+     * コンストラクタ
+     * 外部から直接は生成させない(不変保証のため)
+     */
+    private ProductPageCursor(ProductSortKey sortKey, String sortValue, ProductId productId) {
+        this.sortKey = sortKey;
+        this.sortValue = sortValue;
+        this.productId = productId;
+    }
+
+    /**
+     * 指定した商品の位置を表すカーソルを生成する
+     * @param sortKey ソートキー
+     * @param product 位置となる商品(ページの最後の商品)
+     * @return カーソル
+     */
+    public static ProductPageCursor after(ProductSortKey sortKey, Product product) {
+        if (sortKey == null) throw new DomainException("ソートキーは必須です。");
+        if (product == null) throw new DomainException("商品は必須です。");
+        String value = switch (sortKey) {
+            case PRICE -> Integer.toString(product.getPrice().value());
+            case NAME  -> product.getName().value();
+        };
+        return new ProductPageCursor(sortKey, value, product.getProductId());
+    }
+
+    /**
+     * トークンからカーソルを復元する
+     * @param token {@link #encode()} で生成したトークン
+     * @return カーソル
+     * @throws DomainException トークンが不正な場合
+     */
+    public static ProductPageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new DomainException("カーソルは必須です。");
+        }
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            // ソートキー:商品Id:値 (値は区切り文字を含み得るため最後に置く)
+            var parts = raw.split(String.valueOf(SEPARATOR), 3);
+            if (parts.length != 3) {
+                throw new DomainException("カーソルが不正です。: " + token);
+            }
+            var sortKey = ProductSortKey.fromString(parts[0]);
+            if (sortKey == ProductSortKey.PRICE) {
+                Integer.parseInt(parts[2]);
+            }
+            return new ProductPageCursor(sortKey, parts[2], ProductId.fromString(parts[1]));
+        } catch (IllegalArgumentException | DomainException ex) {
+            throw new DomainException("カーソルが不正です。: " + token);
+        }
+    }
+
+    /**
+     * クライアントに渡す不透明なトークンに変換する(URLセーフなBase64)
+     * @return トークン
+     */
+    public String encode() {
+        var raw = sortKey.name() + SEPARATOR + productId.value() + SEPARATOR + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 
+     * ゲッター
+     */
+    public ProductSortKey getSortKey() { return sortKey; }
+    public ProductId getProductId()    { return productId; }
+    public String getSortValue()       { return sortValue; }
+
+    /**
+     * 単価順の場合のソートキーの値
+     * @return 単価
+     * @throws DomainException 単価順のカーソルでない場合
+     */
+    public int priceValue() {
+        if (sortKey != ProductSortKey.PRICE) {
+            throw new DomainException("単価順のカーソルではありません。");
+        }
+        return Integer.parseInt(sortValue);
+    }
+
+    /** 
+     * 値で等価判定 
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ProductPageCursor)) return false;
+        ProductPageCursor that = (ProductPageCursor) o;
+        return sortKey == that.sortKey
+            && sortValue.equals(that.sortValue)
+            && productId.equals(that.productId);
+    }
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortKey, sortValue, productId);
+    }
+
+    /** 
+     * 現在保持している値 
+     */
+    @Override
+    public String toString() {
+        return "ProductPageCursor{sortKey=" + sortKey + ", value=" + sortValue + ", id=" + productId + "}";
+    }
+}
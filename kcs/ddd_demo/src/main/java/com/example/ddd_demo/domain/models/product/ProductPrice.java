@@ -1,8 +1,7 @@
 package com.example.ddd_demo.domain.models.product;
 
-import java.util.Objects;
-
 import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.TrustedRestore;
 
 /**
  * 商品単価を表す値オブジェクト
@@ -10,6 +9,7 @@ import com.example.ddd_demo.domain.exception.DomainException;
  * - 仕様:
  *   ・必須（null不可）
  *   ・50以上10000以下を有効値とする
+ * - 有効値の範囲が限られるため、値ごとのインスタンスを初回生成時に登録して共有する(Flyweight)
  */
 public final class ProductPrice {
     /** 
@@ -20,18 +20,36 @@ public final class ProductPrice {
      * 最大値 
      */
     private static final int MAX_PRICE = 10000;
+    /**
+     * 値ごとの共有インスタンス(添字=単価-最小値、未生成はnull)
+     * <p>インスタンスは不変(finalフィールドのみ)のため、複数スレッドで同時に登録しても
+     * 同じ値の別インスタンスが一時的に混在するだけで、安全に共有できる。</p>
+     */
+    private static final ProductPrice[] CACHE = new ProductPrice[MAX_PRICE - MIN_PRICE + 1];
     /** 
      * 不変な単価 
      */
-    private final Integer value;
+    private final int value;
 
     /**
      * コンストラクタ
      * 外部から直接は生成させない(不変保証のため)
      */
-    private ProductPrice(Integer value) {
+    private ProductPrice(int value) {
         this.value = value;
     }
+
+    /**
+     * 有効範囲の単価の共有インスタンスを返す(未生成なら生成して登録する)
+     */
+    private static ProductPrice canonical(int value) {
+        var price = CACHE[value - MIN_PRICE];
+        if (price == null) {
+            price = new ProductPrice(value);
+            CACHE[value - MIN_PRICE] = price;
+        }
+        return price;
+    }
     
 
     /**
@@ -43,7 +61,7 @@ public final class ProductPrice {
      *   <li>50以上10000以下でなければならない</li>
      * </ul>
      * @param raw入力単価
-     * @return 検証済みの ProductPrice
+     * @return 検証済みの ProductPrice(値ごとの共有インスタンス)
      * @throws DomainException不正値の場合
      */
     public static ProductPrice of(Integer raw) {
@@ -55,13 +73,26 @@ public final class ProductPrice {
                 "商品単価は " + MIN_PRICE + " 以上 " + MAX_PRICE + " 以下で指定してください。: " + raw
             );
         }
-        return new ProductPrice(raw);
+        return canonical(raw);
+    }
+
+    /**
+     * DBから読み込んだ単価を検証なしで復元する(永続化層専用)
+     * <p>product.price はCHECK制約(50以上10000以下、NOT NULL)で保証されている。</p>
+     * @param token 永続化層の権限
+     * @param value 単価
+     * @return ProductPrice
+     * @throws DomainException 権限がない場合
+     */
+    public static ProductPrice trusted(TrustedRestore token, int value) {
+        TrustedRestore.check(token);
+        return value >= MIN_PRICE && value <= MAX_PRICE ? canonical(value) : new ProductPrice(value);
     }
 
     /** 
      * 単価の整数値を返す 
      */
-    public Integer value() {
+    public int value() {
         return value;
     }
 
@@ -70,7 +101,7 @@ public final class ProductPrice {
      */
     @Override
     public String toString() {
-        return value.toString();
+        return Integer.toString(value);
     }
 
     /** 
@@ -81,10 +112,10 @@ public final class ProductPrice {
         if (this == o) return true;
         if (!(o instanceof ProductPrice)) return false;
         ProductPrice that = (ProductPrice) o;
-        return Objects.equals(value, that.value);
+        return value == that.value;
     }
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Integer.hashCode(value);
     }
 }
@@ -1,6 +1,11 @@
 package com.example.ddd_demo.domain.models.product;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.example.ddd_demo.domain.models.category.CategoryId;
 
 /**
  * ドメインリポジトリ：{@code ProductRepository}
@@ -27,19 +32,19 @@ import java.util.Optional;
  *
  * <p>【責務】
  * <ul>
- *   <li>商品エンティティの新規登録（永続化）</li>
+ *   <li>商品エンティティの新規登録（永続化）・一括登録</li>
  *   <li>商品名の一意性検証</li>
- *   <li>商品IDまたは商品名による検索</li>
+ *   <li>商品IDまたは商品名による検索（複数件の一括検索を含む）</li>
+ *   <li>商品IDによる集約の版の取得（集約を組み立てない変更検知）</li>
+ *   <li>商品カテゴリ単位の一覧取得（キーセットページング）</li>
+ *   <li>全商品の逐次走査（エクスポート）</li>
  * </ul>
  *
  * <p>例：
  * <pre>{@code
  * Product product = new Product(...);
- * productRepository.create(product);
- *
- * if (productRepository.existsByName(ProductName.of("万年筆"))) {
- *     throw new ExistsException("同名の商品が既に存在します");
- * }
+ * Product saved = productRepository.create(product)
+ *                 .orElseThrow(() -> new ExistsException("同名の商品が既に存在します"));
  *
  * Product found = productRepository.findById(product.getId())
  *                 .orElseThrow(() -> new NotFoundException("商品が見つかりません"));
@@ -51,11 +56,30 @@ public interface ProductRepository {
      * 新しい商品を永続化する。
      *
      * <p>ドメイン上の新規登録操作（例：「商品を登録する」ユースケース）で呼び出されます。
-     * <br>同一名の商品が既に存在する場合は、ユースケース層で検証・制御を行うことを想定します。
+     * <br>商品名の一意性は永続化先の一意制約で保証し、事前の存在確認を必要としません。
+     * 同一名（正規化後）の商品が既に存在する場合は登録せず {@code Optional.empty()} を返すため、
+     * ユースケース層で重複として扱います（同時登録でも登録されるのは1件だけです）。
+     * <br>登録結果の再取得が不要になるよう、永続化された集約を返します。
      *
      * @param product 永続化対象の {@link Product} エンティティ
+     * @return
+     *  - 登録できた場合：永続化された {@link Product} エンティティを保持する {@code Optional}<br>
+     *  - 同一名の商品が既に存在する場合：{@code Optional.empty()}
+     */
+    Optional<Product> create(Product product);
+
+    /**
+     * 複数の商品をまとめて永続化する。
+     *
+     * <p>カタログ連携などの一括登録ユースケースで利用されます。
+     * <br>商品ごとに往復するのではなく、件数に依存しない少数のSQL文で登録することを想定します。
+     * <br>同一名の商品が既に存在する商品、リスト内で商品名が重複する2件目以降、
+     * 商品カテゴリが存在しない商品は登録されません（例外にはならず、戻り値に含まれません）。
+     *
+     * @param products 永続化対象の {@link Product} エンティティのリスト
+     * @return 実際に永続化された {@link Product} エンティティのリスト（入力順）
      */
-    void create(Product product);
+    List<Product> createAll(List<Product> products);
 
     /**
      * 指定された商品名が既に存在するかを確認する。
@@ -81,6 +105,34 @@ public interface ProductRepository {
      */
     Optional<Product> findById(ProductId productId);
 
+    /**
+     * 商品IDを指定して商品集約の版を取得する。
+     *
+     * <p>「商品詳細の表示」で、前回取得した内容から変わったかを判定するために利用されます。
+     * <br>集約の組み立ては行わず、各行の版だけを取得することを想定します。
+     * 集約の内容が変わると版も必ず変わります。
+     *
+     * @param productId 商品ID（値オブジェクト）
+     * @return
+     *  - 存在する場合：{@link ProductVersion} を保持する {@code Optional}<br>
+     *  - 存在しない場合：{@code Optional.empty()}
+     */
+    Optional<ProductVersion> findVersionById(ProductId productId);
+
+    /**
+     * 商品IDを指定して、商品集約とその版を1回の読み取りで取得する。
+     *
+     * <p>「商品詳細の表示」で、応答の本文と版(ETag)を一致させるために利用されます。
+     * <br>キャッシュなど別の読み取りで得た集約と版を組み合わせると、古い本文に新しい版が付くおそれがあるため、
+     * 集約と版は同じ行から取得することを想定します。
+     *
+     * @param productId 商品ID（値オブジェクト）
+     * @return
+     *  - 存在する場合：{@link Versioned} を保持する {@code Optional}<br>
+     *  - 存在しない場合：{@code Optional.empty()}
+     */
+    Optional<Versioned> findVersionedById(ProductId productId);
+
     /**
      * 商品名を指定して商品を取得する。
      *
@@ -93,4 +145,60 @@ public interface ProductRepository {
      *  - 存在しない場合：{@code Optional.empty()}
      */
     Optional<Product> findByName(ProductName productName);
+
+    /**
+     * 複数の商品IDを指定して商品をまとめて取得する。
+     *
+     * <p>カートやPOSなど、1リクエストで多数の商品を解決するユースケースで利用されます。
+     * <br>商品IDごとに問い合わせるのではなく、1回の問い合わせで取得することを想定します。
+     *
+     * @param productIds 商品ID（値オブジェクト）のコレクション
+     * @return 存在した {@link Product} エンティティのリスト（順不同、存在しないIDは含まれない）
+     */
+    List<Product> findAllByIds(Collection<ProductId> productIds);
+
+    /**
+     * 複数の商品名を指定して商品をまとめて取得する。
+     *
+     * <p>{@link #findAllByIds(Collection)} の商品名版です。
+     *
+     * @param productNames 商品名（値オブジェクト）のコレクション
+     * @return 存在した {@link Product} エンティティのリスト（順不同、存在しない商品名は含まれない）
+     */
+    List<Product> findAllByNames(Collection<ProductName> productNames);
+
+    /**
+     * 商品カテゴリに属する商品を1ページ分取得する。
+     *
+     * <p>「カテゴリで商品を閲覧する」ユースケースで利用されます。
+     * <br>OFFSETではなく、直前のページの最後の商品の位置（ソートキーの値, 商品ID）より後ろを
+     * 取得するキーセット（シーク）ページングを想定します。これにより何ページ目でも取得コストは一定です。
+     *
+     * @param categoryId 商品カテゴリID（値オブジェクト）
+     * @param after 直前のページのカーソル（最初のページは {@code null}）
+     * @param limit 1ページあたりの最大件数（1以上）
+     * @param sort 並び順
+     * @return 商品の1ページ分（存在しないカテゴリの場合は空のページ）
+     */
+    ProductPage findPageByCategory(CategoryId categoryId, ProductPageCursor after, int limit, ProductSortKey sort);
+
+    /**
+     * すべての商品を1件ずつ走査する。
+     *
+     * <p>検索・分析システムへの全件連携（エクスポート）で利用されます。
+     * <br>全件をリストとして保持せず、取得した商品を順に {@code action} へ渡すことを想定します。
+     * これにより、商品数に依存せず一定のメモリで全件を処理できます。
+     * <br>呼び出し側はトランザクション内で呼び出してください（カーソルによる逐次取得のため）。
+     *
+     * @param action 商品ごとに呼び出される処理（例外をスローすると走査を中断します）
+     * @return 走査した商品の件数
+     */
+    long scanAll(Consumer<? super Product> action);
+
+    /**
+     * 同じ読み取りで得た商品集約と版
+     * @param product 商品集約
+     * @param version 商品集約の版
+     */
+    record Versioned(Product product, ProductVersion version) {}
 }
@@ -0,0 +1,37 @@
+package com.example.ddd_demo.domain.models.product;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+
+/**
+ * 商品一覧の並び順(ソートキー)を表す列挙型
+ * - PRICE: 商品単価の昇順(同値は商品Idの昇順)
+ * - NAME : 商品名の昇順(同値は商品Idの昇順)
+ */
+public enum ProductSortKey {
+    /** 
+     * 商品単価順 
+     */
+    PRICE,
+    /** 
+     * 商品名順 
+     */
+    NAME;
+
+    /**
+     * 文字列からソートキーを復元する(大文字/小文字は区別しない)
+     * @param raw ソートキー文字列("price" / "name")
+     * @return ソートキー
+     * @throws DomainException 未知のソートキーの場合
+     */
+    public static ProductSortKey fromString(String raw) {
+        if (raw == null || raw.isBlank()) {
+            throw new DomainException("ソートキーは必須です。");
+        }
+        for (var key : values()) {
+            if (key.name().equalsIgnoreCase(raw.trim())) {
+                return key;
+            }
+        }
+        throw new DomainException("ソートキーはpriceまたはnameで指定してください。: " + raw);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.ddd_demo.domain.models.product;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+
+/**
+ * 商品集約の版を表す値オブジェクト
+ * - 不変／自己検証／値で等価
+ * - 仕様:
+ *   ・集約を構成する商品・在庫・商品カテゴリの各行の版(version列)の組で表す
+ *   ・いずれかの行が更新されると、その行の版は必ず新しい値になる(DB側で採番する)
+ *   ・したがって集約の内容が変わると {@link #value()} も必ず変わる
+ *
+ * <p>集約を組み立てずに「前回から変わったか」を判定するために利用する(HTTPのETagなど)。</p>
+ */
+public final class ProductVersion {
+    /**
+     * 商品の行の版
+     */
+    private final long product;
+    /**
+     * 在庫の行の版
+     */
+    private final long stock;
+    /**
+     * 商品カテゴリの行の版
+     */
+    private final long category;
+
+    /**
+     * コンストラクタ
+     * 外部から直接は生成させない(不変保証のため)
+     */
+    private ProductVersion(long product, long stock, long category) {
+        this.product = product;
+        this.stock = stock;
+        this.category = category;
+    }
+
+    /**
+     * 各行の版から集約の版を生成する
+     * @param product 商品の行の版
+     * @param stock 在庫の行の版
+     * @param category 商品カテゴリの行の版
+     * @return 集約の版
+     * @throws DomainException 版が1未満の場合
+     */
+    public static ProductVersion of(long product, long stock, long category) {
+        if (product < 1 || stock < 1 || category < 1) {
+            throw new DomainException("版は1以上でなければなりません。");
+        }
+        return new ProductVersion(product, stock, category);
+    }
+
+    /**
+     * 版の文字列表現(商品.在庫.商品カテゴリ)
+     * @return 例: {@code 12.13.2}
+     */
+    public String value() {
+        return product + "." + stock + "." + category;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ProductVersion)) return false;
+        var other = (ProductVersion) o;
+        return product == other.product && stock == other.stock && category == other.category;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(product) * 31 * 31 + Long.hashCode(stock) * 31 + Long.hashCode(category);
+    }
+
+    @Override
+    public String toString() {
+        return value();
+    }
+}
@@ -3,6 +3,7 @@ package com.example.ddd_demo.domain.models.stock;
 import java.util.Objects;
 
 import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.TrustedRestore;
 
 /**
  * ドメインエンティティ：{@code Stock}（商品在庫）
@@ -78,6 +79,20 @@ public final class Stock {
         return new Stock(id, quantity);
     }
 
+    /**
+     * DBから読み込んだ値を検証なしで再構築する(永続化層専用)
+     *
+     * @param token    永続化層の権限
+     * @param id       在庫ID(非null)
+     * @param quantity 在庫数(非null)
+     * @return 再構築された {@code Stock}
+     * @throws DomainException 権限がない場合
+     */
+    public static Stock restoreTrusted(TrustedRestore token, StockId id, StockQuantity quantity) {
+        TrustedRestore.check(token);
+        return new Stock(id, quantity, token);
+    }
+
     /**
      * コンストラクタ（private）
      * <p>不変条件（nullチェック）を集約し、外部からの直接生成を禁止する。
@@ -89,6 +104,14 @@ public final class Stock {
         this.quantity = quantity;
     }
 
+    /**
+     * コンストラクタ(検証なし、{@link #restoreTrusted} 専用)
+     */
+    private Stock(StockId id, StockQuantity quantity, TrustedRestore token) {
+        this.stockId = id;
+        this.quantity = quantity;
+    }
+
     /**
      * 在庫数を加算する。
      * <p>加算後の値が範囲外の場合、{@link StockQuantity#of(int)} が例外を送出する。
@@ -1,85 +1,121 @@
 package com.example.ddd_demo.domain.models.stock;
 
-import java.util.Objects;
 import java.util.UUID;
 
 import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.UuidFormat;
+import com.example.ddd_demo.domain.models.UuidGenerator;
 
 /**
  * 商品在庫を一意に識別する値オブジェクト
  * - 不変／自己検証／値で等価
- * - 内部表現はUUIDのcanonical文字列（小文字・ハイフン付き、36文字）
+ * - 内部表現はUUIDの上位/下位64ビット(2つのlong)、文字列はcanonical(小文字・ハイフン付き、36文字)
  */
 public final class StockId {
-    /** 
-     * canonicalなUUID文字列（不変） 
+    /**
+     * UUIDの上位64ビット
+     */
+    private final long msb;
+    /**
+     * UUIDの下位64ビット
+     */
+    private final long lsb;
+    /**
+     * canonicalなUUID文字列(初回の {@link #value()} 呼び出し時に生成してキャッシュする)
+     * <p>msb/lsbから一意に決まる値のため、複数スレッドで重複して生成しても結果は同じになる。</p>
      */
-    private final String value;
+    private String value;
 
-    /** 
+    /**
      * コンストラクタ
-     * 外部から直接は生成させない（不変保証のため） 
+     * 外部から直接は生成させない(不変保証のため)
      */
-    private StockId(String value) {
-        this.value = value;
+    private StockId(long msb, long lsb) {
+        this.msb = msb;
+        this.lsb = lsb;
     }
 
     /**
-     * 新しいUUIDを発行してStockId を生成する
-     * UUIDはcanonical(小文字・ハイフン付き)で返る
+     * 新しいUUIDを発行してStockIdを生成する
+     * 生成方式(UUIDv4/UUIDv7)は {@link UuidGenerator} の設定に従う
+     * @return 新規生成されたStockId
      */
     public static StockId createNew() {
-        String canonical = UUID.randomUUID().toString();
-        return new StockId(canonical);
+        return fromUuid(UuidGenerator.next());
     }
 
     /**
-     * 既存の UUID 文字列から StockId を復元する
-     * 大小問わず受け付け、内部ではcanonical(小文字)に正規化する
-     * @param raw UUID 文字列（ハイフン付き36文字）
-     * @throws DomainException UUID 形式でない場合
+     * 既存のUUID文字列からStockIdを復元する
+     * 入力は大文字/小文字を問わず受け付けるが、内部ではcanonical(小文字)に正規化する
+     * @param raw UUID文字列(ハイフン付き36文字)
+     * @return 検証済みのStockId
+     * @throws DomainException UUID形式でない場合
      */
     public static StockId fromString(String raw) {
         if (raw == null || raw.isBlank()) {
             throw new DomainException("StockId は必須です。");
         }
         String s = raw.trim();
-        // 8-4-4-4-12の厳密マッチ(半角ハイフン U+002D、16進のみ)
-        if (!s.matches("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$")) {
+        // 8-4-4-4-12の厳密検証(半角ハイフンU+002D、16進のみ)
+        if (!UuidFormat.isValid(s)) {
             throw new DomainException("StockId は UUID 形式で指定してください。: " + raw);
         }
-        // UUIDとして正規化(常に小文字・ハイフン付き)
-        String canonical = UUID.fromString(s).toString();
-        return new StockId(canonical);
+        return new StockId(UuidFormat.mostSignificantBits(s), UuidFormat.leastSignificantBits(s));
+    }
+
+    /**
+     * UUIDからStockIdを復元する(DBのUUID列から読み込んだ値の復元に利用する)
+     * <p>UUIDは既に構造が保証されているため、文字列の形式検証と再解析は行わない。</p>
+     * @param uuid UUID
+     * @return StockId
+     * @throws DomainException nullの場合
+     */
+    public static StockId fromUuid(UUID uuid) {
+        if (uuid == null) {
+            throw new DomainException("StockId は必須です。");
+        }
+        return new StockId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
     }
 
-    /** 
+    /**
      * 正規化済みのUUID文字列を返す(常に小文字・ハイフン付き、36文字)
      */
     public String value() {
-        return value;
+        String v = value;
+        if (v == null) {
+            v = UuidFormat.toCanonical(msb, lsb);
+            value = v;
+        }
+        return v;
+    }
+
+    /**
+     * UUIDとして返す(jOOQのUUID列への受け渡しに利用する、文字列への変換は行わない)
+     */
+    public UUID toUuid() {
+        return new UUID(msb, lsb);
     }
 
-    /** 
-     * 現在保持している値 
+    /**
+     * 現在保持している値
      */
     @Override
     public String toString() {
-        return value;
+        return value();
     }
 
-    /** 
-     * 値で等価判定(同じUUID文字列なら等価） 
+    /**
+     * 値で等価判定(同じUUIDなら等価)
      */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof StockId)) return false;
         StockId that = (StockId) o;
-        return value.equals(that.value);
+        return msb == that.msb && lsb == that.lsb;
     }
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Long.hashCode(msb ^ lsb);
     }
 }
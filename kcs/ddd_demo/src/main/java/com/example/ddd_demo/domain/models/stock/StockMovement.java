@@ -0,0 +1,96 @@
+package com.example.ddd_demo.domain.models.stock;
+
+import java.util.Objects;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.product.ProductId;
+
+/**
+ * ドメインエンティティ：{@code StockMovement}（在庫の移動）
+ *
+ * <p>商品の在庫数の増減（入庫・出庫）1件を表します。一度記録した移動は変更・削除しません（追記のみ）。
+ * 在庫数そのものは、記録した移動を順に反映した結果として求まります。</p>
+ *
+ * <p>【設計上の特徴】
+ * <ul>
+ *   <li>同一性: {@link StockMovementId}（UUIDv7。記録時刻を含む）により一意に識別される</li>
+ *   <li>属性: 対象の商品ID、増減量（0以外、-100〜100）</li>
+ *   <li>不変: 生成後に状態は変わらない</li>
+ * </ul>
+ */
+public final class StockMovement {
+    /** 移動ID */
+    private final StockMovementId movementId;
+    /** 対象の商品ID */
+    private final ProductId productId;
+    /** 増減量（負数は出庫） */
+    private final int delta;
+
+    private StockMovement(StockMovementId movementId, ProductId productId, int delta) {
+        if (movementId == null) throw new DomainException("移動IDは必須です。");
+        if (productId == null)  throw new DomainException("商品IDは必須です。");
+        if (delta == 0 || delta < -StockQuantity.MAX || delta > StockQuantity.MAX) {
+            throw new DomainException(
+                "在庫の増減量は0以外の -" + StockQuantity.MAX + " 以上 " + StockQuantity.MAX + " 以下で指定してください。: " + delta);
+        }
+        this.movementId = movementId;
+        this.productId = productId;
+        this.delta = delta;
+    }
+
+    /**
+     * 新しい移動を生成する（新しい移動IDを発行する）
+     * @param productId 対象の商品ID
+     * @param delta 増減量
+     * @return 新しい移動
+     * @throws DomainException 引数が不正な場合
+     */
+    public static StockMovement record(ProductId productId, int delta) {
+        return new StockMovement(StockMovementId.createNew(), productId, delta);
+    }
+
+    /**
+     * 既存の移動を復元する
+     * @param movementId 移動ID
+     * @param productId 対象の商品ID
+     * @param delta 増減量
+     * @return 復元した移動
+     * @throws DomainException 引数が不正な場合
+     */
+    public static StockMovement restore(StockMovementId movementId, ProductId productId, int delta) {
+        return new StockMovement(movementId, productId, delta);
+    }
+
+    /**
+     * @return 移動ID
+     */
+    public StockMovementId getMovementId() { return movementId; }
+    /**
+     * @return 対象の商品ID
+     */
+    public ProductId getProductId()        { return productId; }
+    /**
+     * @return 増減量（負数は出庫）
+     */
+    public int getDelta()                  { return delta; }
+
+    /**
+     * 移動IDによる等価性検証
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StockMovement)) return false;
+        return Objects.equals(movementId, ((StockMovement) o).movementId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(movementId);
+    }
+
+    @Override
+    public String toString() {
+        return "StockMovement{id=" + movementId + ", productId=" + productId + ", delta=" + delta + "}";
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.ddd_demo.domain.models.stock;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.UuidFormat;
+import com.example.ddd_demo.domain.models.UuidGenerator;
+
+/**
+ * 値オブジェクト：{@code StockMovementId}（在庫の移動ID）
+ *
+ * <p>在庫の移動（入出庫の1件）を一意に識別するIDです。
+ * 設定（{@code app.id.strategy}）に関わらず常にUUIDv7で発行し、
+ * 先頭48ビットに含まれる発行時刻を移動の記録時刻として利用します。</p>
+ *
+ * <ul>
+ *   <li>{@link #createNew()} により新しいUUIDv7を発行</li>
+ *   <li>{@link #fromString(String)} により既存のUUID文字列を復元可能（UUIDv7以外は不可）</li>
+ *   <li>{@link #createdAt()} により発行時刻（ミリ秒精度）を取得可能</li>
+ *   <li>等価性は値（UUID）の一致によって判定される</li>
+ * </ul>
+ */
+public final class StockMovementId {
+    private final long msb;
+    private final long lsb;
+
+    private StockMovementId(long msb, long lsb) {
+        this.msb = msb;
+        this.lsb = lsb;
+    }
+
+    /**
+     * 新しい移動IDを発行する（UUIDv7）
+     * @return 新しい移動ID
+     */
+    public static StockMovementId createNew() {
+        return fromUuid(UuidGenerator.nextTimeOrdered());
+    }
+
+    /**
+     * UUID文字列から移動IDを復元する
+     * @param raw UUID文字列
+     * @return 移動ID
+     * @throws DomainException UUID形式でない、またはUUIDv7でない場合
+     */
+    public static StockMovementId fromString(String raw) {
+        if (raw == null || raw.isBlank()) {
+            throw new DomainException("StockMovementId は必須です。");
+        }
+        String s = raw.trim();
+        if (!UuidFormat.isValid(s)) {
+            throw new DomainException("StockMovementId は UUID 形式で指定してください。: " + raw);
+        }
+        return fromUuid(new UUID(UuidFormat.mostSignificantBits(s), UuidFormat.leastSignificantBits(s)));
+    }
+
+    /**
+     * UUIDから移動IDを復元する
+     * @param uuid UUID（UUIDv7）
+     * @return 移動ID
+     * @throws DomainException nullまたはUUIDv7でない場合
+     */
+    public static StockMovementId fromUuid(UUID uuid) {
+        if (uuid == null) {
+            throw new DomainException("StockMovementId は必須です。");
+        }
+        if (uuid.version() != 7) {
+            throw new DomainException("StockMovementId は UUIDv7 で指定してください。: " + uuid);
+        }
+        return new StockMovementId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * 発行時刻（UUIDv7の先頭48ビット、ミリ秒精度）
+     * @return 発行時刻
+     */
+    public Instant createdAt() {
+        return Instant.ofEpochMilli(msb >>> 16);
+    }
+
+    /**
+     * UUID文字列（8-4-4-4-12）
+     */
+    public String value() {
+        return UuidFormat.toCanonical(msb, lsb);
+    }
+
+    public UUID toUuid() {
+        return new UUID(msb, lsb);
+    }
+
+    @Override
+    public String toString() {
+        return value();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StockMovementId)) return false;
+        StockMovementId that = (StockMovementId) o;
+        return msb == that.msb && lsb == that.lsb;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(msb ^ lsb);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.ddd_demo.domain.models.stock;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ドメインリポジトリ：{@code StockMovementRepository}（在庫の移動の台帳）
+ *
+ * <p>在庫の移動（{@link StockMovement}）を追記のみで記録する台帳の抽象契約です。
+ * 記録は在庫数を直接変更しないため、同じ商品への記録が同時に集中しても互いを待たせません。
+ * 記録した移動は、インフラストラクチャ層の実装が非同期にまとめて在庫数へ反映します。
+ * 反映後の在庫数が {@link StockQuantity#MIN}〜{@link StockQuantity#MAX} の範囲外となる移動は反映しません。</p>
+ *
+ * <p><b>責務:</b></p>
+ * <ul>
+ *   <li>在庫の移動の追記（更新・削除は行わない）</li>
+ *   <li>移動の反映状況（未反映・反映済み・不成立）の取得</li>
+ * </ul>
+ */
+public interface StockMovementRepository {
+
+    /**
+     * 在庫の移動をまとめて追記する。
+     *
+     * @param movements 追記する移動
+     * @return 追記した移動（入力順。存在しない商品への移動は含まない）
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         引数がnull、またはnullの要素を含む場合
+     */
+    List<StockMovement> appendAll(List<StockMovement> movements);
+
+    /**
+     * 移動IDを指定して、記録した移動と反映状況を取得する。
+     *
+     * @param movementId 移動ID
+     * @return
+     *  - 存在する場合：移動と反映状況を保持する {@code Optional}<br>
+     *  - 存在しない場合（記録されていない、または集計済みで削除された場合）：{@code Optional.empty()}
+     */
+    Optional<Recorded> findById(StockMovementId movementId);
+
+    /**
+     * 移動の反映状況
+     */
+    enum Status {
+        /** 未反映（在庫数にはまだ含まれていない） */
+        PENDING,
+        /** 在庫数へ反映済み */
+        APPLIED,
+        /** 反映後の在庫数が範囲外となるため反映しなかった */
+        REJECTED
+    }
+
+    /**
+     * 記録した移動と反映状況
+     * @param movement 移動
+     * @param status 反映状況
+     */
+    record Recorded(StockMovement movement, Status status) {}
+}
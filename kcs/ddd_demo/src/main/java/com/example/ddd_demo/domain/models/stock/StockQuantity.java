@@ -1,8 +1,7 @@
 package com.example.ddd_demo.domain.models.stock;
 
-import java.util.Objects;
-
 import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.TrustedRestore;
 
 /**
  * 商品在庫数を表す値オブジェクト
@@ -10,25 +9,35 @@ import com.example.ddd_demo.domain.exception.DomainException;
  * - 仕様:
  *   ・必須（null不可）
  *   ・0以上100以下を有効値とする
+ * - 有効値は101通りしかないため、値ごとのインスタンスを事前に生成して共有する(Flyweight)
  */
 public final class StockQuantity {
     /** 
      * 最小値 
      */
-    static final int MIN = 0;
+    public static final int MIN = 0;
     /** 
      * 最大値 
      */
-    static final int MAX = 100;
+    public static final int MAX = 100;
+    /**
+     * 値ごとの共有インスタンス(添字=在庫数)
+     */
+    private static final StockQuantity[] CACHE = new StockQuantity[MAX - MIN + 1];
+    static {
+        for (int i = MIN; i <= MAX; i++) {
+            CACHE[i - MIN] = new StockQuantity(i);
+        }
+    }
     /** 
      * 不変な在庫数 
      */
-    private final Integer value;
+    private final int value;
     /**
      * コンストラクタ
      * 外部から直接は生成させない(不変保証のため)
      */
-    private StockQuantity(Integer value) {
+    private StockQuantity(int value) {
         this.value = value;
     }
 
@@ -40,7 +49,7 @@ public final class StockQuantity {
      *   <li>0以上100以下</li>
      * </ul>
      * @param raw 入力在庫数
-     * @return 検証済みの StockQuantity
+     * @return 検証済みの StockQuantity(値ごとの共有インスタンス)
      * @throws DomainException 不正値の場合
      */
     public static StockQuantity of(Integer raw) {
@@ -52,13 +61,26 @@ public final class StockQuantity {
                 "在庫数は " + MIN + " 以上 " + MAX + " 以下で指定してください。: " + raw
             );
         }
-        return new StockQuantity(raw);
+        return CACHE[raw - MIN];
+    }
+
+    /**
+     * DBから読み込んだ在庫数を検証なしで復元する(永続化層専用)
+     * <p>product_stock.stock はCHECK制約(0以上100以下、NOT NULL)で保証されている。</p>
+     * @param token 永続化層の権限
+     * @param value 在庫数
+     * @return StockQuantity
+     * @throws DomainException 権限がない場合
+     */
+    public static StockQuantity trusted(TrustedRestore token, int value) {
+        TrustedRestore.check(token);
+        return value >= MIN && value <= MAX ? CACHE[value - MIN] : new StockQuantity(value);
     }
 
     /** 
      * 在庫数の整数値を返す 
      */
-    public Integer value() {
+    public int value() {
         return value;
     }
 
@@ -67,7 +89,7 @@ public final class StockQuantity {
      */
     @Override
     public String toString() {
-        return value.toString();
+        return Integer.toString(value);
     }
 
     /** 
@@ -78,10 +100,10 @@ public final class StockQuantity {
         if (this == o) return true;
         if (!(o instanceof StockQuantity)) return false;
         StockQuantity that = (StockQuantity) o;
-        return Objects.equals(value, that.value);
+        return value == that.value;
     }
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Integer.hashCode(value);
     }
 }
@@ -1,5 +1,11 @@
 package com.example.ddd_demo.domain.models.stock;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.example.ddd_demo.domain.models.product.ProductId;
+
 /**
  * ドメインリポジトリ：{@code StockRepository}
  *
@@ -16,6 +22,9 @@ package com.example.ddd_demo.domain.models.stock;
  * <ul>
  *   <li>ドメインエンティティ {@link Stock} の永続化（保存・更新）</li>
  *   <li>在庫情報の取得・再構築（必要に応じて拡張）</li>
+ *   <li>在庫の条件付き減算（在庫が足りる場合だけ減らす。読み取り→書き戻しを行わない）</li>
+ *   <li>在庫の一括調整（複数商品の増減をまとめて反映し、範囲外となる商品は反映せずに報告する）</li>
+ *   <li>注文の引当（複数商品の在庫をすべて引き当てるか、1つも引き当てないか）</li>
  * </ul>
  *
  * <p><b>実装例:</b>  
@@ -42,4 +51,136 @@ public interface StockRepository {
      *         在庫データが不正または欠損している場合
      */
     void create(Stock stock);
+
+    /**
+     * 商品IDを指定して在庫を取得する。
+     *
+     * @param productId 商品ID（値オブジェクト）
+     * @return
+     *  - 存在する場合：{@link Stock} エンティティを保持する {@code Optional}<br>
+     *  - 存在しない場合：{@code Optional.empty()}
+     */
+    Optional<Stock> findByProductId(ProductId productId);
+
+    /**
+     * 商品の在庫を、在庫が足りる場合だけ減算する。
+     *
+     * <p>「在庫を引き当てる」ユースケース（注文・決済）で利用されます。
+     * <br>現在の在庫数を読み取ってから書き戻すのではなく、
+     * 「在庫数 ≧ 減算量」を条件とした1回の更新で判定と減算を同時に行うことを想定します。
+     * これにより、同じ商品へ多数の要求が同時に集中しても在庫数が負になることはなく、
+     * 行ロックも更新1回の間しか保持しません。
+     *
+     * @param productId 商品ID（値オブジェクト）
+     * @param amount 減算量（1以上 {@link StockQuantity#MAX} 以下）
+     * @return
+     *  - 減算できた場合：減算後の {@link Stock} エンティティを保持する {@code Optional}<br>
+     *  - 在庫が足りない、または商品が存在しない場合：{@code Optional.empty()}
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         減算量が範囲外の場合
+     */
+    Optional<Stock> decreaseIfAvailable(ProductId productId, int amount);
+
+    /**
+     * 複数商品の在庫数へ増減量をまとめて反映する。
+     *
+     * <p>「在庫を一括調整する」ユースケース（倉庫の棚卸し結果の反映など）で利用されます。
+     * <br>商品ごとに更新を発行するのではなく、一定件数ごとに1回の更新で反映することを想定します。
+     * 反映後の在庫数が {@link StockQuantity#MIN}〜{@link StockQuantity#MAX} の範囲外となる商品は
+     * 反映せず（他の商品の反映は妨げない）、{@link Rejected} として報告します。
+     *
+     * @param deltas 商品ID → 増減量（負数は減算）
+     * @return 反映結果
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         引数がnull、またはnullのキー・値を含む場合
+     */
+    AdjustmentResult applyDeltas(Map<ProductId, Integer> deltas);
+
+    /**
+     * 注文の全明細の在庫を、すべて足りる場合だけまとめて減算する。
+     *
+     * <p>「注文を確定する」ユースケースで利用されます。
+     * <br>1つでも在庫が足りない（または存在しない）商品があれば、どの商品も減算しません。
+     * 同じ商品を含む注文が同時に確定されてもデッドロックしないよう、
+     * 実装は商品の行ロックを常に同じ順序（主キー順）で取得することを想定します。
+     *
+     * @param quantities 商品ID → 減算量（1以上 {@link StockQuantity#MAX} 以下）
+     * @return 引当結果（明細は引数の反復順）
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         引数がnull、nullのキー・値を含む、または減算量が範囲外の場合
+     */
+    AllocationResult allocateAll(Map<ProductId, Integer> quantities);
+
+    /**
+     * 反映しなかった理由
+     */
+    enum RejectReason {
+        /** 反映後の在庫数が範囲外となる */
+        OUT_OF_RANGE,
+        /** 商品が存在しない */
+        NOT_FOUND
+    }
+
+    /**
+     * 反映した在庫
+     * @param productId 商品ID
+     * @param stock 反映後の在庫
+     */
+    record Applied(ProductId productId, Stock stock) {}
+
+    /**
+     * 反映しなかった在庫
+     * @param productId 商品ID
+     * @param delta 指定された増減量
+     * @param reason 反映しなかった理由
+     * @param current 現在の在庫数（商品が存在しない場合はnull）
+     */
+    record Rejected(ProductId productId, int delta, RejectReason reason, Integer current) {}
+
+    /**
+     * 明細ごとの引当状況
+     */
+    enum AllocationStatus {
+        /** 引き当てた */
+        ALLOCATED,
+        /** 在庫は足りるが、他の明細を引き当てられないため引き当てなかった */
+        SKIPPED,
+        /** 在庫が足りない */
+        INSUFFICIENT,
+        /** 商品が存在しない */
+        NOT_FOUND
+    }
+
+    /**
+     * 注文の明細ごとの引当結果
+     * @param productId 商品ID
+     * @param quantity 指定された減算量
+     * @param status 引当状況
+     * @param available 引当前の引当可能数（商品が存在しない場合はnull）
+     * @param stock 減算後の在庫（引き当てた場合のみ。それ以外はnull）
+     */
+    record AllocationLine(ProductId productId, int quantity, AllocationStatus status, Integer available, Stock stock) {}
+
+    /**
+     * 注文の引当結果
+     * @param allocated すべての明細を引き当てた場合は {@code true}（それ以外はどの明細も引き当てていない）
+     * @param lines 明細ごとの引当結果
+     */
+    record AllocationResult(boolean allocated, List<AllocationLine> lines) {
+        public AllocationResult {
+            lines = List.copyOf(lines);
+        }
+    }
+
+    /**
+     * 一括調整の結果
+     * @param applied 反映した在庫
+     * @param rejected 反映しなかった在庫
+     */
+    record AdjustmentResult(List<Applied> applied, List<Rejected> rejected) {
+        public AdjustmentResult {
+            applied = List.copyOf(applied);
+            rejected = List.copyOf(rejected);
+        }
+    }
 }
@@ -0,0 +1,119 @@
+package com.example.ddd_demo.domain.models.stock;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.product.ProductId;
+
+/**
+ * ドメインエンティティ：{@code StockReservation}（在庫の予約）
+ *
+ * <p>カートに入れた商品の在庫を、注文が確定するまで一定時間だけ仮押さえしたものを表します。
+ * 予約中の数量は在庫数から差し引いて「引当可能数（available to promise）」を求めます。
+ * 期限までに確定（在庫数から減算）されなければ、自動的に解放されます。</p>
+ *
+ * <p>【設計上の特徴】
+ * <ul>
+ *   <li>同一性: {@link StockReservationId} により一意に識別される</li>
+ *   <li>属性: 対象の商品ID、数量（1〜100）、有効期限</li>
+ *   <li>不変: 生成後に状態は変わらない（確定・解放・期限切れで削除される）</li>
+ * </ul>
+ */
+public final class StockReservation {
+    /** 予約ID */
+    private final StockReservationId reservationId;
+    /** 対象の商品ID */
+    private final ProductId productId;
+    /** 予約数量 */
+    private final int quantity;
+    /** 有効期限 */
+    private final Instant expiresAt;
+
+    private StockReservation(StockReservationId reservationId, ProductId productId, int quantity, Instant expiresAt) {
+        if (reservationId == null) throw new DomainException("予約IDは必須です。");
+        if (productId == null)     throw new DomainException("商品IDは必須です。");
+        if (expiresAt == null)     throw new DomainException("予約の有効期限は必須です。");
+        if (quantity < 1 || quantity > StockQuantity.MAX) {
+            throw new DomainException(
+                "予約数量は 1 以上 " + StockQuantity.MAX + " 以下で指定してください。: " + quantity);
+        }
+        this.reservationId = reservationId;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 新しい予約を生成する（新しい予約IDを発行する）
+     * @param productId 対象の商品ID
+     * @param quantity 予約数量
+     * @param expiresAt 有効期限
+     * @return 新しい予約
+     * @throws DomainException 引数が不正な場合
+     */
+    public static StockReservation hold(ProductId productId, int quantity, Instant expiresAt) {
+        return new StockReservation(StockReservationId.createNew(), productId, quantity, expiresAt);
+    }
+
+    /**
+     * 既存の予約を復元する
+     * @param reservationId 予約ID
+     * @param productId 対象の商品ID
+     * @param quantity 予約数量
+     * @param expiresAt 有効期限
+     * @return 復元した予約
+     * @throws DomainException 引数が不正な場合
+     */
+    public static StockReservation restore(
+        StockReservationId reservationId, ProductId productId, int quantity, Instant expiresAt) {
+        return new StockReservation(reservationId, productId, quantity, expiresAt);
+    }
+
+    /**
+     * 指定時刻に期限切れかどうか
+     * @param now 判定する時刻
+     * @return 有効期限を過ぎている場合は {@code true}
+     */
+    public boolean isExpiredAt(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /**
+     * @return 予約ID
+     */
+    public StockReservationId getReservationId() { return reservationId; }
+    /**
+     * @return 対象の商品ID
+     */
+    public ProductId getProductId()              { return productId; }
+    /**
+     * @return 予約数量
+     */
+    public int getQuantity()                     { return quantity; }
+    /**
+     * @return 有効期限
+     */
+    public Instant getExpiresAt()                { return expiresAt; }
+
+    /**
+     * 予約IDによる等価性検証
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StockReservation)) return false;
+        return Objects.equals(reservationId, ((StockReservation) o).reservationId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reservationId);
+    }
+
+    @Override
+    public String toString() {
+        return "StockReservation{id=" + reservationId + ", productId=" + productId
+            + ", quantity=" + quantity + ", expiresAt=" + expiresAt + "}";
+    }
+}
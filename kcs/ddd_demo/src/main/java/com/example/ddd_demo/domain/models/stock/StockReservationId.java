@@ -0,0 +1,121 @@
+package com.example.ddd_demo.domain.models.stock;
+
+import java.util.UUID;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.UuidFormat;
+import com.example.ddd_demo.domain.models.UuidGenerator;
+
+/**
+ * 在庫の予約(引当の仮押さえ)を一意に識別する値オブジェクト
+ * - 不変／自己検証／値で等価
+ * - 内部表現はUUIDの上位/下位64ビット(2つのlong)、文字列はcanonical(小文字・ハイフン付き、36文字)
+ */
+public final class StockReservationId {
+    /**
+     * UUIDの上位64ビット
+     */
+    private final long msb;
+    /**
+     * UUIDの下位64ビット
+     */
+    private final long lsb;
+    /**
+     * canonicalなUUID文字列(初回の {@link #value()} 呼び出し時に生成してキャッシュする)
+     * <p>msb/lsbから一意に決まる値のため、複数スレッドで重複して生成しても結果は同じになる。</p>
+     */
+    private String value;
+
+    /**
+     * コンストラクタ
+     * 外部から直接は生成させない(不変保証のため)
+     */
+    private StockReservationId(long msb, long lsb) {
+        this.msb = msb;
+        this.lsb = lsb;
+    }
+
+    /**
+     * 新しいUUIDを発行してStockReservationIdを生成する
+     * 生成方式(UUIDv4/UUIDv7)は {@link UuidGenerator} の設定に従う
+     * @return 新規生成されたStockReservationId
+     */
+    public static StockReservationId createNew() {
+        return fromUuid(UuidGenerator.next());
+    }
+
+    /**
+     * 既存のUUID文字列からStockReservationIdを復元する
+     * 入力は大文字/小文字を問わず受け付けるが、内部ではcanonical(小文字)に正規化する
+     * @param raw UUID文字列(ハイフン付き36文字)
+     * @return 検証済みのStockReservationId
+     * @throws DomainException UUID形式でない場合
+     */
+    public static StockReservationId fromString(String raw) {
+        if (raw == null || raw.isBlank()) {
+            throw new DomainException("StockReservationId は必須です。");
+        }
+        String s = raw.trim();
+        // 8-4-4-4-12の厳密検証(半角ハイフンU+002D、16進のみ)
+        if (!UuidFormat.isValid(s)) {
+            throw new DomainException("StockReservationId は UUID 形式で指定してください。: " + raw);
+        }
+        return new StockReservationId(UuidFormat.mostSignificantBits(s), UuidFormat.leastSignificantBits(s));
+    }
+
+    /**
+     * UUIDからStockReservationIdを復元する(DBのUUID列から読み込んだ値の復元に利用する)
+     * <p>UUIDは既に構造が保証されているため、文字列の形式検証と再解析は行わない。</p>
+     * @param uuid UUID
+     * @return StockReservationId
+     * @throws DomainException nullの場合
+     */
+    public static StockReservationId fromUuid(UUID uuid) {
+        if (uuid == null) {
+            throw new DomainException("StockReservationId は必須です。");
+        }
+        return new StockReservationId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * 正規化済みのUUID文字列を返す(常に小文字・ハイフン付き、36文字)
+     */
+    public String value() {
+        String v = value;
+        if (v == null) {
+            v = UuidFormat.toCanonical(msb, lsb);
+            value = v;
+        }
+        return v;
+    }
+
+    /**
+     * UUIDとして返す(jOOQのUUID列への受け渡しに利用する、文字列への変換は行わない)
+     */
+    public UUID toUuid() {
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * 現在保持している値
+     */
+    @Override
+    public String toString() {
+        return value();
+    }
+
+    /**
+     * 値で等価判定(同じUUIDなら等価)
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StockReservationId)) return false;
+        StockReservationId that = (StockReservationId) o;
+        return msb == that.msb && lsb == that.lsb;
+    }
+    @Override
+    public int hashCode() {
+        return Long.hashCode(msb ^ lsb);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.ddd_demo.domain.models.stock;
+
+import java.util.Optional;
+
+import com.example.ddd_demo.domain.models.product.ProductId;
+
+/**
+ * ドメインリポジトリ：{@code StockReservationRepository}
+ *
+ * <p>在庫の予約（{@link StockReservation}）の永続化と、予約を考慮した在庫の操作の抽象契約を定義します。
+ * 商品ごとの予約中の数量の合計は在庫と同じ行で管理し、
+ * 「在庫数 − 予約中の数量 ≧ 予約数量」を条件とした1回の更新で予約することを想定します。</p>
+ *
+ * <p><b>責務:</b></p>
+ * <ul>
+ *   <li>引当可能数が足りる場合だけ予約する</li>
+ *   <li>予約の確定（在庫数から減算）・解放（予約中の数量から減算）</li>
+ *   <li>有効期限を過ぎた予約の自動解放（実装側で期限を管理する）</li>
+ *   <li>引当可能数（在庫数 − 予約中の数量）の取得</li>
+ * </ul>
+ *
+ * @see StockReservation
+ */
+public interface StockReservationRepository {
+    /**
+     * 引当可能数が足りる場合だけ予約する。
+     *
+     * @param reservation 予約
+     * @return 予約できた場合は {@code true}（引当可能数が足りない、または商品が存在しない場合は {@code false}）
+     * @throws com.example.ddd_demo.domain.exception.DomainException
+     *         引数がnullの場合
+     */
+    boolean reserve(StockReservation reservation);
+
+    /**
+     * 予約IDを指定して、有効な予約を取得する。
+     *
+     * @param reservationId 予約ID
+     * @return 予約（確定・解放・期限切れの場合は空）
+     */
+    Optional<StockReservation> findById(StockReservationId reservationId);
+
+    /**
+     * 予約を確定し、予約数量を在庫数から減算する。
+     *
+     * @param reservationId 予約ID
+     * @return 減算後の在庫（予約が確定・解放・期限切れの場合は空）
+     */
+    Optional<Stock> confirm(StockReservationId reservationId);
+
+    /**
+     * 予約を解放する（在庫数は変わらない）。
+     *
+     * @param reservationId 予約ID
+     * @return 解放した予約（予約が確定・解放・期限切れの場合は空）
+     */
+    Optional<StockReservation> release(StockReservationId reservationId);
+
+    /**
+     * 商品の在庫数と予約中の数量を取得する。
+     *
+     * @param productId 商品ID
+     * @return 在庫数と予約中の数量（商品が存在しない場合は空）
+     */
+    Optional<Availability> findAvailability(ProductId productId);
+
+    /**
+     * 在庫数と予約中の数量
+     * @param onHand 在庫数
+     * @param reserved 予約中の数量
+     */
+    record Availability(int onHand, int reserved) {
+        /**
+         * @return 引当可能数（在庫数 − 予約中の数量）
+         */
+        public int availableToPromise() {
+            return Math.max(0, onHand - reserved);
+        }
+    }
+}
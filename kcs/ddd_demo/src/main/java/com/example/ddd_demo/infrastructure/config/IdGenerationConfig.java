@@ -0,0 +1,25 @@
+package com.example.ddd_demo.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.ddd_demo.domain.models.UuidGenerator;
+
+/**
+ * 新規Idの生成方式を設定値から切り替える
+ *
+ * <p>{@code app.id.strategy}(RANDOM=UUIDv4 / TIME_ORDERED=UUIDv7)を起動時に
+ * {@link UuidGenerator} へ反映する。</p>
+ */
+@Configuration
+public class IdGenerationConfig {
+
+    /**
+     * コンストラクタ
+     * @param strategy Idの生成方式
+     */
+    public IdGenerationConfig(
+        @Value("${app.id.strategy:RANDOM}") UuidGenerator.Strategy strategy) {
+        UuidGenerator.use(strategy);
+    }
+}
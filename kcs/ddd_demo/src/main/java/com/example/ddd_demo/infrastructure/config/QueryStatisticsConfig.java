@@ -0,0 +1,31 @@
+package com.example.ddd_demo.infrastructure.config;
+
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.ddd_demo.infrastructure.persistence.perf.QueryStatistics;
+import com.example.ddd_demo.infrastructure.persistence.perf.QueryStatisticsListener;
+
+/**
+ * SQL文の形ごとの実行統計を DSLContext へ登録する
+ *
+ * <p>Spring Boot の jOOQ 自動構成は {@link ExecuteListenerProvider} のBeanを DSLContext の設定へ追加する。
+ * {@code app.perf.query.enabled=false} の場合は登録しない(統計は空のまま)。</p>
+ */
+@Configuration
+public class QueryStatisticsConfig {
+
+    /**
+     * SQL文の実行を {@link QueryStatistics} へ記録するリスナー
+     * @param statistics 記録先
+     * @return リスナーのプロバイダ
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.perf.query.enabled", havingValue = "true", matchIfMissing = true)
+    public ExecuteListenerProvider queryStatisticsListenerProvider(QueryStatistics statistics) {
+        return new DefaultExecuteListenerProvider(new QueryStatisticsListener(statistics));
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.ddd_demo.infrastructure.persistence.category;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jooq.DSLContext;
+import org.jooq.exception.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.ddd_demo.domain.mapper.ToDomainMapper;
+import com.example.ddd_demo.domain.models.category.Category;
+import com.example.ddd_demo.domain.models.category.CategoryId;
+import com.example.ddd_demo.domain.models.category.CategoryName;
+import com.example.ddd_demo.infrastructure.exception.InternalException;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductCategoryTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.records.ProductCategoryRecord;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 商品カテゴリのインプロセスキャッシュ
+ *
+ * <p>商品カテゴリは件数が少なくほとんど変更されないため、全件を不変のスナップショットとして保持し、
+ * 参照はすべてスナップショットから応答する（DBへの問い合わせを行わない）。</p>
+ * <ul>
+ *   <li>スナップショットは {@link AtomicReference} で丸ごと差し替えるため、参照側はロック不要</li>
+ *   <li>スナップショットには不変の値オブジェクト({@link CategoryId} / {@link CategoryName})だけを保持し、
+ *       {@link Category}(可変のエンティティ)は参照のたびに新しいインスタンスを生成する
+ *       (呼び出し側の rename がキャッシュや他の呼び出し側に波及しない)</li>
+ *   <li>{@code app.cache.category.refresh-interval} 間隔で先行リフレッシュ（refresh-ahead）する</li>
+ *   <li>スナップショットに無いカテゴリIdは1件だけDBを確認し（read-through）、存在すれば再読み込みする</li>
+ *   <li>{@link #invalidate()} で明示的に破棄でき、次回参照時に再読み込みする</li>
+ *   <li>カテゴリUUID→主キー(product_category.id)の解決も提供し、商品の登録時に問い合わせを不要にする</li>
+ *   <li>スナップショットごとに一覧の内容から版を算出し、一覧を組み立てずに変更を判定できるようにする</li>
+ * </ul>
+ *
+ * <p>メトリクス：{@code category.cache.requests}(result=hit/miss)、
+ * {@code category.cache.refreshes}、{@code category.cache.size}</p>
+ */
+@Component
+public class CategoryCache {
+
+    /**
+     * キャッシュされた商品カテゴリ(主キーと不変の値オブジェクトの組)
+     * @param pk product_category.id
+     * @param id 商品カテゴリId
+     * @param name 商品カテゴリ名
+     */
+    public record CachedCategory(Integer pk, CategoryId id, CategoryName name) {
+        /**
+         * 商品カテゴリエンティティを生成する(呼び出しごとに新しいインスタンス。値オブジェクトは共有する)
+         * @return 商品カテゴリエンティティ
+         */
+        public Category category() {
+            return Category.restoreTrusted(Trusted.TOKEN, id, name);
+        }
+
+        /**
+         * 商品集約の合成に利用するjOOQレコードに変換する
+         * @return 商品カテゴリのRecord
+         */
+        public ProductCategoryRecord toRecord() {
+            var rec = new ProductCategoryRecord();
+            rec.setId(pk);
+            rec.setCategoryUuid(id.toUuid());
+            rec.setName(name.value());
+            return rec;
+        }
+    }
+
+    /**
+     * 不変のスナップショット(カテゴリId→キャッシュ値、主キー順のキャッシュ値、一覧の版)
+     */
+    private record Snapshot(Map<CategoryId, CachedCategory> byId, List<CachedCategory> all, String version) {}
+
+    /**
+     * jOOQ のクエリ実行を担う DSLContext
+     */
+    private final DSLContext dsl;
+    /**
+     * jOOQのRecordからCategoryエンティティを再構築するMapper
+     */
+    private final ToDomainMapper<ProductCategoryRecord, Category> mapper;
+    /**
+     * 現在のスナップショット(未読み込み・破棄後はnull)
+     */
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * スナップショットから応答できた参照回数
+     */
+    private final Counter hits;
+    /**
+     * スナップショットに無かった参照回数
+     */
+    private final Counter misses;
+    /**
+     * スナップショットの読み込み回数
+     */
+    private final Counter refreshes;
+
+    /**
+     * コンストラクタ
+     * @param dsl DSLContext
+     * @param mapper RecordからCategoryへのMapper
+     * @param registry メトリクスの登録先
+     */
+    public CategoryCache(DSLContext dsl,
+        ToDomainMapper<ProductCategoryRecord, Category> mapper, MeterRegistry registry) {
+        this.dsl = dsl;
+        this.mapper = mapper;
+        this.hits = Counter.builder("category.cache.requests").tag("result", "hit")
+            .description("商品カテゴリキャッシュの参照回数").register(registry);
+        this.misses = Counter.builder("category.cache.requests").tag("result", "miss")
+            .description("商品カテゴリキャッシュの参照回数").register(registry);
+        this.refreshes = Counter.builder("category.cache.refreshes")
+            .description("商品カテゴリキャッシュの再読み込み回数").register(registry);
+        Gauge.builder("category.cache.size", snapshot, s -> s.get() == null ? 0 : s.get().all().size())
+            .description("商品カテゴリキャッシュの保持件数").register(registry);
+    }
+
+    /**
+     * 商品カテゴリIdで商品カテゴリを取得する
+     * @param categoryId 商品カテゴリId(VO)
+     * @return キャッシュ値(存在しない場合は空)
+     */
+    public Optional<CachedCategory> resolve(CategoryId categoryId) {
+        var cached = current().byId().get(categoryId);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        // スナップショット取得後に追加された可能性があるため、1件だけDBを確認する
+        if (!existsInDatabase(categoryId)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(reload().byId().get(categoryId));
+    }
+
+    /**
+     * 商品カテゴリIdで商品カテゴリを取得する
+     * @param categoryId 商品カテゴリId(VO)
+     * @return 商品カテゴリ(存在しない場合は空)
+     */
+    public Optional<Category> findById(CategoryId categoryId) {
+        return resolve(categoryId).map(CachedCategory::category);
+    }
+
+    /**
+     * 商品カテゴリIdを主キー(product_category.id)に解決する
+     * @param categoryId 商品カテゴリId(VO)
+     * @return 主キー(存在しない場合は空)
+     */
+    public Optional<Integer> resolvePk(CategoryId categoryId) {
+        return resolve(categoryId).map(CachedCategory::pk);
+    }
+
+    /**
+     * すべての商品カテゴリを主キー順に取得する
+     * @return 商品カテゴリの不変リスト(呼び出しごとに新しいエンティティ)
+     */
+    public List<Category> findAll() {
+        hits.increment();
+        return current().all().stream().map(CachedCategory::category).toList();
+    }
+
+    /**
+     * すべての商品カテゴリの一覧の版を取得する
+     * <p>{@link #findAll()} と同じスナップショットの内容(カテゴリIdと名前、並び順)から算出した値。
+     * 内容が同じであれば再読み込みしても同じ値になる。</p>
+     * @return 一覧の版(16桁の16進文字列)
+     */
+    public String version() {
+        return current().version();
+    }
+
+    /**
+     * DBから全件を読み込み、スナップショットを差し替える
+     * <p>設定された間隔で先行リフレッシュとして呼び出される。
+     * 読み込み中も参照は旧スナップショットから応答する。</p>
+     */
+    @Scheduled(
+        fixedDelayString = "${app.cache.category.refresh-interval:PT5M}",
+        initialDelayString = "${app.cache.category.refresh-interval:PT5M}")
+    public void refresh() {
+        reload();
+    }
+
+    /**
+     * スナップショットを破棄する(次回参照時に再読み込みする)
+     */
+    public void invalidate() {
+        snapshot.set(null);
+    }
+
+    /**
+     * 現在のスナップショットを返す(未読み込みなら読み込む)
+     */
+    private Snapshot current() {
+        var s = snapshot.get();
+        if (s != null) {
+            return s;
+        }
+        synchronized (this) {
+            s = snapshot.get();
+            return s != null ? s : reload();
+        }
+    }
+
+    /**
+     * 全件を読み込んでスナップショットを差し替える
+     */
+    private synchronized Snapshot reload() {
+        var loaded = load();
+        snapshot.set(loaded);
+        refreshes.increment();
+        return loaded;
+    }
+
+    /**
+     * 全件を読み込んでスナップショットを生成する
+     */
+    private Snapshot load() {
+        try {
+            var ct = ProductCategoryTable.PRODUCT_CATEGORY;
+            var records = dsl.selectFrom(ct).orderBy(ct.ID.asc()).fetch();
+            var byId = new LinkedHashMap<CategoryId, CachedCategory>();
+            for (var r : records) {
+                var category = mapper.toDomain(r);
+                byId.put(category.getCategoryId(),
+                    new CachedCategory(r.getId(), category.getCategoryId(), category.getName()));
+            }
+            var all = List.copyOf(byId.values());
+            return new Snapshot(Map.copyOf(byId), all,
+                versionOf(all.stream().map(CachedCategory::category).toList()));
+        } catch (DataAccessException ex) {
+            throw new InternalException("カテゴリ一覧の取得中にデータベースエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 一覧の内容から版を算出する(カテゴリIdと名前を並び順どおりにFNV-1aで64ビットに畳み込む)
+     */
+    static String versionOf(List<Category> categories) {
+        long hash = 0xcbf29ce484222325L;
+        for (var category : categories) {
+            var uuid = category.getCategoryId().toUuid();
+            hash = (hash ^ uuid.getMostSignificantBits()) * 0x100000001b3L;
+            hash = (hash ^ uuid.getLeastSignificantBits()) * 0x100000001b3L;
+            var name = category.getName().value();
+            for (int i = 0; i < name.length(); i++) {
+                hash = (hash ^ name.charAt(i)) * 0x100000001b3L;
+            }
+            // 名前の区切り(「ab」+「c」と「a」+「bc」を区別する)
+            hash = (hash ^ name.length()) * 0x100000001b3L;
+        }
+        return String.format("%016x", hash);
+    }
+
+    /**
+     * 指定された商品カテゴリIdがDBに存在するかを確認する
+     */
+    private boolean existsInDatabase(CategoryId categoryId) {
+        try {
+            var ct = ProductCategoryTable.PRODUCT_CATEGORY;
+            return dsl.fetchExists(ct, ct.CATEGORY_UUID.eq(categoryId.toUuid()));
+        } catch (DataAccessException ex) {
+            throw new InternalException("カテゴリ情報の取得中にデータベースエラーが発生しました。", ex);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.ddd_demo.infrastructure.persistence.category;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.category.Category;
+import com.example.ddd_demo.domain.models.category.CategoryId;
+import com.example.ddd_demo.domain.models.category.CategoryName;
+
+/**
+ * DBから読み込んだ商品カテゴリの値オブジェクトを共有するレジストリ
+ *
+ * <p>商品カテゴリはシステム全体で数件しかないが、商品の一覧・エクスポートでは行ごとに
+ * 同じカテゴリの {@link CategoryId} / {@link CategoryName} を生成していた。
+ * カテゴリUUIDごとに一度だけ生成した値オブジェクトを保持し、以降の行ではそれを共有する。</p>
+ * <ul>
+ *   <li>{@link Category} は可変のエンティティ(rename)のため共有せず、行ごとに新しいインスタンスを生成する
+ *       (共有するのは不変の値オブジェクトだけ)</li>
+ *   <li>カテゴリ名が変わっていれば新しい値で置き換える</li>
+ *   <li>初めて見たカテゴリだけは通常の検証を経て生成する</li>
+ *   <li>想定外に件数が増えた場合は {@value #MAX_ENTRIES} 件で全件を破棄する</li>
+ * </ul>
+ */
+public final class CategoryInterner {
+    /**
+     * 保持する上限件数
+     */
+    static final int MAX_ENTRIES = 1024;
+
+    /**
+     * 共有する値オブジェクトの組
+     */
+    private record Entry(CategoryId id, CategoryName name) {}
+
+    /**
+     * カテゴリUUID → 共有する値オブジェクト
+     */
+    private static final ConcurrentHashMap<UUID, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private CategoryInterner() {}
+
+    /**
+     * 商品カテゴリを復元する(値オブジェクトは共有インスタンスを利用する)
+     * @param categoryUuid カテゴリUUID(非null)
+     * @param name カテゴリ名(非null)
+     * @return 新しい商品カテゴリエンティティ
+     * @throws DomainException カテゴリ名が不正な場合
+     */
+    public static Category restore(UUID categoryUuid, String name) {
+        var entry = ENTRIES.get(categoryUuid);
+        if (entry == null || !entry.name().value().equals(name)) {
+            entry = new Entry(CategoryId.fromUuid(categoryUuid), CategoryName.of(name));
+            if (ENTRIES.size() >= MAX_ENTRIES) {
+                ENTRIES.clear();
+            }
+            ENTRIES.put(categoryUuid, entry);
+        }
+        return Category.restoreTrusted(Trusted.TOKEN, entry.id(), entry.name());
+    }
+}
@@ -71,9 +71,7 @@ public interface CategoryRecordMapper extends ToDomainMapper<ProductCategoryReco
         if (name == null || name.isBlank()) {
             throw new DomainException("カテゴリ名が未設定です。");
         }
-        // ProductCategoryRecordからCategoryを再構築する
-        return Category.restore(
-            CategoryId.fromString(categoryUuid.toString()), 
-            CategoryName.of(name));
+        // ProductCategoryRecordからCategoryを再構築する(CategoryId/CategoryNameはカテゴリごとに共有する)
+        return CategoryInterner.restore(categoryUuid, name);
     }
 }
@@ -0,0 +1,199 @@
+package com.example.ddd_demo.infrastructure.persistence.perf;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL文の形({@link SqlFingerprint})ごとの実行統計
+ *
+ * <p>形ごとに、実行回数・レイテンシの分布(HdrHistogram、マイクロ秒・有効桁2桁)・行数・エラーの件数(例外の型ごと)を集計する。
+ * 記録はロックを取らない(分布は {@link ConcurrentHistogram}、件数は {@link LongAdder})。</p>
+ * <ul>
+ *   <li>元のSQL文 → 集計先の対応を {@value #MAX_CACHED_SQL} 件までキャッシュし、同じSQL文の2回目以降は正規化しない</li>
+ *   <li>形の数は {@code app.perf.query.max-shapes} までとし、超えた形は {@value #OTHER_SHAPE} にまとめる(メモリを有界に保つ)</li>
+ *   <li>{@code app.perf.query.slow-threshold} 以上かかったSQL文は、形・識別子・所要時間・行数をキーと値の組でWARNログに出す
+ *       (バインド変数の値は出さない)</li>
+ * </ul>
+ */
+@Component
+public class QueryStatistics {
+
+    /**
+     * 元のSQL文 → 集計先の対応をキャッシュする最大件数
+     */
+    static final int MAX_CACHED_SQL = 10_000;
+    /**
+     * 形の数の上限を超えたSQL文の集計先
+     */
+    static final String OTHER_SHAPE = "(other)";
+    /**
+     * 分布に記録する最大のレイテンシ(マイクロ秒。超えた値はこの値として記録する)
+     */
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private static final Logger log = LoggerFactory.getLogger(QueryStatistics.class);
+
+    /**
+     * 形ごとの集計
+     */
+    static final class Shape {
+        final String fingerprint;
+        final String sql;
+        final ConcurrentHistogram latency = new ConcurrentHistogram(1, HIGHEST_MICROS, 2);
+        final LongAdder rows = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final Map<String, LongAdder> errorTypes = new ConcurrentHashMap<>();
+
+        Shape(String sql) {
+            this.sql = sql;
+            this.fingerprint = SqlFingerprint.hash(sql);
+        }
+    }
+
+    /**
+     * 形の集計結果
+     * @param fingerprint 形の識別子
+     * @param sql 正規化したSQL文
+     * @param count 実行回数
+     * @param errors エラーの件数
+     * @param errorTypes 例外の型 → 件数
+     * @param rows 取得・更新した行数の合計
+     * @param totalMillis 所要時間の合計(ミリ秒)
+     * @param meanMicros 平均(マイクロ秒)
+     * @param p50Micros 50パーセンタイル(マイクロ秒)
+     * @param p95Micros 95パーセンタイル(マイクロ秒)
+     * @param p99Micros 99パーセンタイル(マイクロ秒)
+     * @param maxMicros 最大(マイクロ秒)
+     */
+    public record ShapeSnapshot(
+        String fingerprint, String sql, long count, long errors, Map<String, Long> errorTypes, long rows,
+        double totalMillis, double meanMicros, long p50Micros, long p95Micros, long p99Micros, long maxMicros) {}
+
+    /**
+     * 元のSQL文 → 集計先
+     */
+    private final Map<String, Shape> bySql = new ConcurrentHashMap<>();
+    /**
+     * 正規化したSQL文 → 集計先
+     */
+    private final Map<String, Shape> shapes = new ConcurrentHashMap<>();
+    /**
+     * スロークエリとみなす所要時間(ナノ秒)
+     */
+    private final long slowThresholdNanos;
+    /**
+     * 形の数の上限
+     */
+    private final int maxShapes;
+
+    /**
+     * コンストラクタ
+     * @param slowThreshold スロークエリとみなす所要時間
+     * @param maxShapes 形の数の上限
+     */
+    public QueryStatistics(
+        @Value("${app.perf.query.slow-threshold:PT0.2S}") Duration slowThreshold,
+        @Value("${app.perf.query.max-shapes:1000}") int maxShapes) {
+        if (slowThreshold.isNegative()) {
+            throw new IllegalArgumentException("スロークエリの閾値は0以上で指定してください。: " + slowThreshold);
+        }
+        if (maxShapes < 1) {
+            throw new IllegalArgumentException("形の数の上限は1以上で指定してください。: " + maxShapes);
+        }
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.maxShapes = maxShapes;
+    }
+
+    /**
+     * 1回の実行を記録する
+     * @param sql 実行したSQL文(バインド変数は {@code ?})
+     * @param elapsedNanos 所要時間(ナノ秒。計測できなかった場合は負数)
+     * @param rows 取得・更新した行数(不明な場合は負数)
+     * @param error 発生した例外(無い場合はnull)
+     */
+    public void record(String sql, long elapsedNanos, long rows, Throwable error) {
+        var shape = shapeOf(sql);
+        if (elapsedNanos >= 0) {
+            shape.latency.recordValue(Math.max(1, Math.min(HIGHEST_MICROS, elapsedNanos / 1_000)));
+        }
+        if (rows > 0) {
+            shape.rows.add(rows);
+        }
+        if (error != null) {
+            shape.errors.increment();
+            shape.errorTypes.computeIfAbsent(error.getClass().getName(), k -> new LongAdder()).increment();
+        }
+        if (elapsedNanos >= slowThresholdNanos) {
+            log.atWarn()
+                .addKeyValue("event", "slow_query")
+                .addKeyValue("fingerprint", shape.fingerprint)
+                .addKeyValue("elapsedMs", elapsedNanos / 1_000_000.0)
+                .addKeyValue("rows", rows)
+                .addKeyValue("error", error == null ? null : error.getClass().getName())
+                .addKeyValue("sql", shape.sql)
+                .log("スロークエリ: {} ({} ms)", shape.fingerprint, elapsedNanos / 1_000_000);
+        }
+    }
+
+    /**
+     * 形ごとの集計結果(所要時間の合計の降順)
+     * @return 集計結果
+     */
+    public List<ShapeSnapshot> snapshot() {
+        var result = new ArrayList<ShapeSnapshot>(shapes.size());
+        for (var shape : shapes.values()) {
+            var h = shape.latency;
+            long count = h.getTotalCount();
+            var errorTypes = new TreeMap<String, Long>();
+            shape.errorTypes.forEach((type, n) -> errorTypes.put(type, n.sum()));
+            double mean = count == 0 ? 0 : h.getMean();
+            result.add(new ShapeSnapshot(shape.fingerprint, shape.sql, count, shape.errors.sum(), errorTypes,
+                shape.rows.sum(), mean * count / 1_000.0, mean,
+                h.getValueAtPercentile(50), h.getValueAtPercentile(95), h.getValueAtPercentile(99), h.getMaxValue()));
+        }
+        result.sort(Comparator.comparingDouble(ShapeSnapshot::totalMillis).reversed());
+        return result;
+    }
+
+    /**
+     * 集計結果をすべて破棄する
+     */
+    public void reset() {
+        bySql.clear();
+        shapes.clear();
+    }
+
+    /**
+     * SQL文の集計先(初めてのSQL文だけ正規化する)
+     */
+    private Shape shapeOf(String sql) {
+        var shape = bySql.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        var normalized = SqlFingerprint.normalize(sql);
+        shape = shapes.get(normalized);
+        if (shape == null) {
+            shape = shapes.size() < maxShapes
+                ? shapes.computeIfAbsent(normalized, Shape::new)
+                : shapes.computeIfAbsent(OTHER_SHAPE, Shape::new);
+        }
+        if (bySql.size() < MAX_CACHED_SQL) {
+            bySql.put(sql, shape);
+        }
+        return shape;
+    }
+}
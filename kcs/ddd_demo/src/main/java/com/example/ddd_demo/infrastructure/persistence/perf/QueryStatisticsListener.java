@@ -0,0 +1,57 @@
+package com.example.ddd_demo.infrastructure.persistence.perf;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+
+/**
+ * jOOQ が実行したSQL文を {@link QueryStatistics} へ記録する ExecuteListener
+ *
+ * <p>所要時間は文の実行開始({@link #executeStart})から、結果の取得を終えて文を閉じるまで({@link #end})とする
+ * (SQLの組み立ては含まず、結果の取得は含む)。行数は更新件数、または取得した {@code Result} の件数とする
+ * ({@code fetchLazy} など結果を保持しない取得では数えない)。</p>
+ */
+public class QueryStatisticsListener implements ExecuteListener {
+
+    /**
+     * 実行開始時刻(ナノ秒)を {@link ExecuteContext#data} に保持するキー
+     */
+    private static final Object STARTED_AT = new Object();
+
+    /**
+     * 記録先
+     */
+    private final QueryStatistics statistics;
+
+    /**
+     * コンストラクタ
+     * @param statistics 記録先
+     */
+    public QueryStatisticsListener(QueryStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        ctx.data(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        long end = System.nanoTime();
+        var sql = ctx.sql();
+        if (sql == null) {
+            var batch = ctx.batchSQL();
+            if (batch.length == 0 || batch[0] == null) {
+                return;
+            }
+            sql = batch[0];
+        }
+        var startedAt = ctx.data(STARTED_AT);
+        long elapsed = startedAt instanceof Long start ? end - start : -1;
+        long rows = ctx.rows();
+        if (rows < 0 && ctx.result() != null) {
+            rows = ctx.result().size();
+        }
+        statistics.record(sql, elapsed, rows, ctx.exception());
+    }
+}
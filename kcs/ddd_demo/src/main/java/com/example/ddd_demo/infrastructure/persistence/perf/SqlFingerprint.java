@@ -0,0 +1,60 @@
+package com.example.ddd_demo.infrastructure.persistence.perf;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+/**
+ * SQL文から、バインド変数・リテラル・件数の異なる並びを取り除いた「形」を求める
+ *
+ * <p>同じリポジトリのメソッドが発行するSQL文は、INリストやVALUESの件数が変わっても同じ形として集計したい。
+ * 以下の順に正規化する。</p>
+ * <ol>
+ *   <li>文字列リテラル・数値リテラルを {@code ?} にする(識別子の一部の数字は対象外)</li>
+ *   <li>{@code ?, ?, ?} の並びを {@code ?, ...} にまとめる(1件だけのINリストも同じ形にする)</li>
+ *   <li>同じ形の行の並び {@code (?, ?), (?, ?), ...} を {@code (?, ?), ...} にまとめる(1行だけのVALUESも同じ形にする)</li>
+ *   <li>連続する空白を1つにする</li>
+ * </ol>
+ * <p>正規化は正規表現を使うため、{@link QueryStatistics} は元のSQL文ごとに結果をキャッシュして使う。</p>
+ */
+final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.\"$])-?\\d+(?:\\.\\d+)?(?![\\w\"])");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern SINGLE_IN = Pattern.compile("(?i)\\bin\\s*\\(\\?\\)");
+    private static final Pattern ROW_LIST = Pattern.compile("(\\([^()]*\\))(?:\\s*,\\s*\\1)+");
+    private static final Pattern SINGLE_ROW = Pattern.compile("(?i)\\b(values\\s*\\([^()]*\\))(?!\\s*,)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    /**
+     * SQL文の形を求める
+     * @param sql SQL文(バインド変数は {@code ?})
+     * @return 正規化したSQL文
+     */
+    static String normalize(String sql) {
+        var s = STRING_LITERAL.matcher(sql).replaceAll("?");
+        s = NUMBER_LITERAL.matcher(s).replaceAll("?");
+        s = PARAMETER_LIST.matcher(s).replaceAll("?, ...");
+        s = SINGLE_IN.matcher(s).replaceAll("in (?, ...)");
+        s = ROW_LIST.matcher(s).replaceAll("$1, ...");
+        s = SINGLE_ROW.matcher(s).replaceAll("$1, ...");
+        return WHITESPACE.matcher(s).replaceAll(" ").trim();
+    }
+
+    /**
+     * 正規化したSQL文の短い識別子(FNV-1a 64ビットの16進数表記)
+     * @param normalized 正規化したSQL文
+     * @return 16桁の16進数
+     */
+    static String hash(String normalized) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : normalized.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return String.format("%016x", h);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.ddd_demo.infrastructure.persistence.product;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 文字列のブルームフィルタ
+ *
+ * <p>「確実に存在しない」か「存在するかもしれない」かを、要素数に依存しない一定のメモリで判定する。
+ * 偽陰性は無く、偽陽性の確率は想定要素数と目標偽陽性率から求めたビット数・ハッシュ数で制御する。</p>
+ * <ul>
+ *   <li>ビット配列は {@link AtomicLongArray} で保持し、追加と判定はロック無しで並行に行える</li>
+ *   <li>ハッシュは64bitハッシュ2つから k 個を導出する(ダブルハッシング)</li>
+ * </ul>
+ */
+class BloomFilter {
+
+    /**
+     * ビット配列
+     */
+    private final AtomicLongArray bits;
+    /**
+     * ビット数
+     */
+    private final long bitSize;
+    /**
+     * ハッシュ関数の数
+     */
+    private final int numHashes;
+    /**
+     * 立っているビットの数(推定偽陽性率の算出に利用)
+     */
+    private final AtomicLong bitCount = new AtomicLong();
+    /**
+     * 追加された要素数(重複を含む概数)
+     */
+    private final AtomicLong insertions = new AtomicLong();
+
+    /**
+     * 想定要素数と目標偽陽性率からフィルタを生成する
+     * @param expectedInsertions 想定要素数(1以上)
+     * @param fpp 目標偽陽性率(0 < fpp < 1)
+     * @return 空のフィルタ
+     */
+    static BloomFilter create(long expectedInsertions, double fpp) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("想定要素数は1以上を指定してください。");
+        }
+        if (!(fpp > 0.0 && fpp < 1.0)) {
+            throw new IllegalArgumentException("偽陽性率は0より大きく1未満で指定してください。");
+        }
+        // m = -n ln p / (ln 2)^2 , k = m / n ln 2
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        m = Math.max(64, m);
+        int k = (int) Math.max(1, Math.round((double) m / expectedInsertions * Math.log(2)));
+        return new BloomFilter(m, k);
+    }
+
+    private BloomFilter(long bitSize, int numHashes) {
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+        this.bitSize = (long) bits.length() * 64;
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * 要素を追加する
+     * @param value 要素
+     */
+    void put(String value) {
+        long h1 = hash(value, 0L);
+        long h2 = hash(value, 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < numHashes; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long prev = bits.getAndUpdate(word, w -> w | mask);
+            if ((prev & mask) == 0) {
+                bitCount.incrementAndGet();
+            }
+        }
+        insertions.incrementAndGet();
+    }
+
+    /**
+     * 要素が存在するかもしれないかを判定する
+     * @param value 要素
+     * @return {@code false} の場合は確実に存在しない
+     */
+    boolean mightContain(String value) {
+        long h1 = hash(value, 0L);
+        long h2 = hash(value, 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < numHashes; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 現在のビットの充填率から推定した偽陽性率
+     */
+    double expectedFpp() {
+        return Math.pow((double) bitCount.get() / bitSize, numHashes);
+    }
+
+    long bitSize() { return bitSize; }
+    int numHashes() { return numHashes; }
+    long insertions() { return insertions.get(); }
+
+    /**
+     * 文字列の64bitハッシュ(FNV-1aで畳み込み、最後にMurmur3のfmix64で攪拌する)
+     */
+    private static long hash(String value, long seed) {
+        long h = 0xcbf29ce484222325L ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
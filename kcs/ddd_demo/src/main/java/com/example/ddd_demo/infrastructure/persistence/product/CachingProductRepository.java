@@ -0,0 +1,420 @@
+package com.example.ddd_demo.infrastructure.persistence.product;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.category.Category;
+import com.example.ddd_demo.domain.models.category.CategoryId;
+import com.example.ddd_demo.domain.models.category.CategoryName;
+import com.example.ddd_demo.domain.models.product.Product;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.product.ProductName;
+import com.example.ddd_demo.domain.models.product.ProductPage;
+import com.example.ddd_demo.domain.models.product.ProductPageCursor;
+import com.example.ddd_demo.domain.models.product.ProductPrice;
+import com.example.ddd_demo.domain.models.product.ProductRepository;
+import com.example.ddd_demo.domain.models.product.ProductSortKey;
+import com.example.ddd_demo.domain.models.product.ProductVersion;
+import com.example.ddd_demo.domain.models.stock.Stock;
+import com.example.ddd_demo.domain.models.stock.StockId;
+import com.example.ddd_demo.domain.models.stock.StockQuantity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 商品集約のキャッシュを備えた {@link ProductRepository} のデコレータ
+ *
+ * <p>頻繁に参照される商品の {@code findById} / {@code findByName} をインプロセスで応答し、
+ * 商品・在庫・カテゴリのJOINを省略する。実際の永続化は {@link ProductJooqRepository} に委譲する。</p>
+ * <ul>
+ *   <li>Caffeine(W-TinyLFUによる受け入れ判定)で、推定メモリ量の上限とTTLにより追い出す</li>
+ *   <li>商品Idをキーに集約を保持し、正規化した商品名は商品Idへの索引として保持する</li>
+ *   <li>{@link Product} は可変のため、不変の値オブジェクトだけを保持し、参照のたびに新しい集約を組み立てて返す</li>
+ *   <li>更新系トランザクション内で読んだ値は、コミット後にのみキャッシュへ載せる(未コミットの値を共有しない)</li>
+ *   <li>{@code create} / {@code createAll} では登録した商品のキーを無効化する(write-through invalidation)</li>
+ *   <li>{@code existsByName} は {@link ProductNameFilter} で「確実に存在しない」商品名をDBに問い合わせずに判定する</li>
+ * </ul>
+ *
+ * <p>メトリクス：{@code cache.gets}(result=hit/miss)、{@code cache.evictions} 等(cache=product)、
+ * {@code product.cache.estimated.bytes}</p>
+ */
+@Primary
+@Repository
+public class CachingProductRepository implements ProductRepository {
+
+    /**
+     * キャッシュされた商品集約(不変の値オブジェクトのみで構成)
+     */
+    record CachedProduct(
+        ProductId productId, ProductName name, ProductPrice price,
+        CategoryId categoryId, CategoryName categoryName,
+        StockId stockId, StockQuantity quantity) {
+
+        /**
+         * 集約からキャッシュ値を生成する
+         */
+        static CachedProduct of(Product product) {
+            var category = product.getCategory();
+            var stock = product.getStock();
+            return new CachedProduct(
+                product.getProductId(), product.getName(), product.getPrice(),
+                category.getCategoryId(), category.getName(),
+                stock.getStockId(), stock.getQuantity());
+        }
+
+        /**
+         * 呼び出し側が自由に変更できる、新しい集約を組み立てる
+         */
+        Product toProduct() {
+            return Product.restore(productId, name, price,
+                Category.restore(categoryId, categoryName), Stock.restore(stockId, quantity));
+        }
+
+        /**
+         * 推定メモリ量(バイト)
+         * <p>オブジェクトヘッダ・参照・文字列(UTF-16換算)を概算した値。</p>
+         */
+        int estimatedBytes() {
+            // レコード本体+値オブジェクト7個+UUID文字列3個(36文字)の固定部分
+            final int fixed = 16 + 7 * 8 + 7 * 16 + 3 * (40 + 36 * 2);
+            // 商品名は表示用と正規化済みの2つを保持する
+            return fixed + 2 * (40 + name.value().length() * 2) + 40 + categoryName.value().length() * 2;
+        }
+    }
+
+    /**
+     * 永続化を担う実体のリポジトリ
+     */
+    private final ProductJooqRepository delegate;
+    /**
+     * 商品Id → 商品集約
+     */
+    private final Cache<ProductId, CachedProduct> byId;
+    /**
+     * 正規化した商品名 → 商品Id(索引)
+     */
+    private final Cache<String, ProductId> byName;
+    /**
+     * 商品名のブルームフィルタ
+     */
+    private final ProductNameFilter nameFilter;
+
+    /**
+     * コンストラクタ
+     * @param delegate 永続化を担う実体のリポジトリ
+     * @param nameFilter 商品名のブルームフィルタ
+     * @param registry メトリクスの登録先
+     * @param maxBytes 商品集約キャッシュの推定メモリ量の上限(バイト)
+     * @param ttl 登録後の有効期間
+     */
+    public CachingProductRepository(
+        ProductJooqRepository delegate,
+        ProductNameFilter nameFilter,
+        MeterRegistry registry,
+        @Value("${app.cache.product.max-bytes:16777216}") long maxBytes,
+        @Value("${app.cache.product.ttl:PT10M}") Duration ttl) {
+        this.delegate = delegate;
+        this.nameFilter = nameFilter;
+        this.byId = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((ProductId id, CachedProduct p) -> p.estimatedBytes())
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        // 索引は商品集約の件数を超えない程度に上限を設ける(索引先が追い出されていればミス扱い)
+        this.byName = Caffeine.newBuilder()
+            .maximumSize(Math.max(1, maxBytes / 256))
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(registry, byId, "product");
+        CaffeineCacheMetrics.monitor(registry, byName, "product.name");
+        Gauge.builder("product.cache.estimated.bytes", byId, CachingProductRepository::estimatedBytes)
+            .description("商品集約キャッシュの推定メモリ量")
+            .baseUnit("bytes")
+            .register(registry);
+    }
+
+    /**
+     * 新しい商品を永続化し、登録した商品のキーを無効化する
+     */
+    @Override
+    public Optional<Product> create(Product product) {
+        var saved = delegate.create(product);
+        saved.ifPresent(p -> {
+            nameFilter.put(p.getName().normalized());
+            invalidate(p);
+        });
+        return saved;
+    }
+
+    /**
+     * 複数の商品をまとめて永続化し、登録した商品のキーを無効化する
+     */
+    @Override
+    public List<Product> createAll(List<Product> products) {
+        var saved = delegate.createAll(products);
+        saved.forEach(p -> nameFilter.put(p.getName().normalized()));
+        saved.forEach(this::invalidate);
+        return saved;
+    }
+
+    /**
+     * 指定された商品名の存在有無
+     * <p>キャッシュに索引があれば存在、ブルームフィルタが否定すれば不在とし、
+     * いずれでもない場合だけDBで確認する。</p>
+     */
+    @Override
+    public Boolean existsByName(ProductName productName) {
+        if (productName == null) {
+            throw new DomainException("商品名は必須です。");
+        }
+        if (byName.getIfPresent(productName.normalized()) != null) {
+            return true;
+        }
+        if (!nameFilter.mightContain(productName.normalized())) {
+            return false;
+        }
+        var exists = delegate.existsByName(productName);
+        if (!exists) {
+            nameFilter.recordFalsePositive();
+        }
+        return exists;
+    }
+
+    /**
+     * 商品Idで商品を取得する(キャッシュ → DBの順)
+     */
+    @Override
+    public Optional<Product> findById(ProductId productId) {
+        if (productId == null) {
+            throw new DomainException("商品Idは必須です。");
+        }
+        var cached = byId.getIfPresent(productId);
+        if (cached != null) {
+            return Optional.of(cached.toProduct());
+        }
+        var found = delegate.findById(productId);
+        found.ifPresent(this::put);
+        return found;
+    }
+
+    /**
+     * 商品集約の版を取得する(キャッシュは利用せず、常にDBの最新の版を返す)
+     */
+    @Override
+    public Optional<ProductVersion> findVersionById(ProductId productId) {
+        return delegate.findVersionById(productId);
+    }
+
+    /**
+     * 商品集約と版を取得する(キャッシュは利用せず、常にDBの同じ行から両方を読み取る)
+     * <p>キャッシュの集約にDBの版を組み合わせると、古い本文に新しい版が付くおそれがあるため。</p>
+     */
+    @Override
+    public Optional<Versioned> findVersionedById(ProductId productId) {
+        return delegate.findVersionedById(productId);
+    }
+
+    /**
+     * 商品名で商品を取得する(キャッシュ → DBの順)
+     */
+    @Override
+    public Optional<Product> findByName(ProductName productName) {
+        if (productName == null) {
+            throw new DomainException("商品名は必須です。");
+        }
+        var id = byName.getIfPresent(productName.normalized());
+        var cached = id == null ? null : byId.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached.toProduct());
+        }
+        var found = delegate.findByName(productName);
+        found.ifPresent(this::put);
+        return found;
+    }
+
+    /**
+     * 複数の商品Idで商品をまとめて取得する(キャッシュに無い商品だけをDBから取得する)
+     */
+    @Override
+    public List<Product> findAllByIds(Collection<ProductId> productIds) {
+        if (productIds == null) {
+            throw new DomainException("商品Idリストは必須です。");
+        }
+        var result = new ArrayList<Product>(productIds.size());
+        var missing = new ArrayList<ProductId>();
+        for (var id : productIds.stream().distinct().toList()) {
+            var cached = byId.getIfPresent(id);
+            if (cached != null) {
+                result.add(cached.toProduct());
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            var found = delegate.findAllByIds(missing);
+            found.forEach(this::put);
+            result.addAll(found);
+        }
+        return result;
+    }
+
+    /**
+     * 複数の商品名で商品をまとめて取得する(キャッシュに無い商品だけをDBから取得する)
+     */
+    @Override
+    public List<Product> findAllByNames(Collection<ProductName> productNames) {
+        if (productNames == null) {
+            throw new DomainException("商品名リストは必須です。");
+        }
+        var result = new ArrayList<Product>(productNames.size());
+        var missing = new ArrayList<ProductName>();
+        var seen = new HashSet<String>();
+        for (var name : productNames) {
+            if (!seen.add(name.normalized())) continue;
+            var id = byName.getIfPresent(name.normalized());
+            var cached = id == null ? null : byId.getIfPresent(id);
+            if (cached != null) {
+                result.add(cached.toProduct());
+            } else {
+                missing.add(name);
+            }
+        }
+        if (!missing.isEmpty()) {
+            var found = delegate.findAllByNames(missing);
+            found.forEach(this::put);
+            result.addAll(found);
+        }
+        return result;
+    }
+
+    /**
+     * 商品カテゴリに属する商品を1ページ分取得する(キャッシュは利用しない)
+     */
+    @Override
+    public ProductPage findPageByCategory(
+        CategoryId categoryId, ProductPageCursor after, int limit, ProductSortKey sort) {
+        return delegate.findPageByCategory(categoryId, after, limit, sort);
+    }
+
+    /**
+     * すべての商品を1件ずつ走査する(キャッシュは利用せず、キャッシュにも載せない)
+     */
+    @Override
+    public long scanAll(Consumer<? super Product> action) {
+        return delegate.scanAll(action);
+    }
+
+    /**
+     * 指定された商品をキャッシュから取り除く(在庫の変更時など)
+     * <p>トランザクション内で呼び出された場合は、完了後にも再度取り除く
+     * (完了前に他のスレッドが変更前の値を載せても残さない)。</p>
+     * @param productId 商品Id
+     */
+    public void evict(ProductId productId) {
+        evict(List.of(productId));
+    }
+
+    /**
+     * 指定された複数の商品をキャッシュから取り除く(一括の在庫調整など)
+     * <p>トランザクション内で呼び出された場合は、完了後にも再度取り除く(登録する同期処理は1つ)。</p>
+     * @param productIds 商品Id
+     */
+    public void evict(Collection<ProductId> productIds) {
+        var targets = List.copyOf(productIds);
+        targets.forEach(this::evictNow);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    targets.forEach(CachingProductRepository.this::evictNow);
+                }
+            });
+        }
+    }
+
+    private void evictNow(ProductId productId) {
+        var cached = byId.getIfPresent(productId);
+        byId.invalidate(productId);
+        if (cached != null) {
+            byName.invalidate(cached.name().normalized());
+        }
+    }
+
+    /**
+     * キャッシュをすべて破棄する
+     */
+    public void evictAll() {
+        byId.invalidateAll();
+        byName.invalidateAll();
+    }
+
+    /**
+     * 取得した商品をキャッシュに載せる
+     * <p>更新系トランザクション内ではコミット後に載せ、ロールバックされた値を共有しない。</p>
+     */
+    private void put(Product product) {
+        var snapshot = CachedProduct.of(product);
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store(snapshot);
+                }
+            });
+            return;
+        }
+        store(snapshot);
+    }
+
+    /**
+     * 追い出しポリシーが集計済みの重みの合計(推定メモリ量)
+     * <p>メトリクスの収集ごとにメンテナンスを走らせないよう {@code cleanUp()} は呼ばない
+     * (直近の書き込みがまだ集計されていない分だけ遅れることがある)。</p>
+     */
+    private static double estimatedBytes(Cache<ProductId, CachedProduct> cache) {
+        return cache.policy().eviction()
+            .map(e -> e.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+
+    private void store(CachedProduct snapshot) {
+        byId.put(snapshot.productId(), snapshot);
+        byName.put(snapshot.name().normalized(), snapshot.productId());
+    }
+
+    /**
+     * 登録した商品のキーを無効化する(コミット後にも再度無効化する)
+     */
+    private void invalidate(Product product) {
+        byId.invalidate(product.getProductId());
+        byName.invalidate(product.getName().normalized());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    byId.invalidate(product.getProductId());
+                    byName.invalidate(product.getName().normalized());
+                }
+            });
+        }
+    }
+}
@@ -1,10 +1,26 @@
 package com.example.ddd_demo.infrastructure.persistence.product;
 
+import java.util.List;
+import java.util.UUID;
+
+import org.jooq.Field;
+import org.jooq.Record;
 import org.springframework.stereotype.Component;
 
 import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.category.CategoryId;
 import com.example.ddd_demo.domain.models.product.Product;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.product.ProductName;
+import com.example.ddd_demo.domain.models.product.ProductPrice;
+import com.example.ddd_demo.domain.models.stock.Stock;
+import com.example.ddd_demo.domain.models.stock.StockId;
+import com.example.ddd_demo.domain.models.stock.StockQuantity;
+import com.example.ddd_demo.infrastructure.persistence.category.CategoryInterner;
 import com.example.ddd_demo.infrastructure.persistence.category.CategoryRecordMapper;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductCategoryTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductStockTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
 import com.example.ddd_demo.infrastructure.persistence.schema.tables.records.ProductCategoryRecord;
 import com.example.ddd_demo.infrastructure.persistence.schema.tables.records.ProductRecord;
 import com.example.ddd_demo.infrastructure.persistence.schema.tables.records.ProductStockRecord;
@@ -23,6 +39,31 @@ import lombok.RequiredArgsConstructor;
 @Component
 @RequiredArgsConstructor
 public class ProductAssembler {
+    /**
+     * 商品集約の合成に必要な列(JOINしたSELECT句の並び順)
+     * <p>Repositoryはこの並び順のままSELECTし、{@link #assemble(Record)} は列の位置で値を読み取る。</p>
+     */
+    public static final List<Field<?>> AGGREGATE_FIELDS = List.of(
+        ProductTable.PRODUCT.PRODUCT_UUID,
+        ProductTable.PRODUCT.NAME,
+        ProductTable.PRODUCT.NAME_NORMALIZED,
+        ProductTable.PRODUCT.PRICE,
+        ProductCategoryTable.PRODUCT_CATEGORY.CATEGORY_UUID,
+        ProductCategoryTable.PRODUCT_CATEGORY.NAME,
+        ProductStockTable.PRODUCT_STOCK.STOCK_UUID,
+        ProductStockTable.PRODUCT_STOCK.STOCK);
+    /**
+     * {@link #AGGREGATE_FIELDS} における各列の位置
+     */
+    private static final int PRODUCT_UUID    = 0;
+    private static final int PRODUCT_NAME    = 1;
+    private static final int NAME_NORMALIZED = 2;
+    private static final int PRODUCT_PRICE   = 3;
+    private static final int CATEGORY_UUID   = 4;
+    private static final int CATEGORY_NAME   = 5;
+    private static final int STOCK_UUID      = 6;
+    private static final int STOCK           = 7;
+
     /** 
      * ProductRecord <-> Product 
      */
@@ -70,6 +111,43 @@ public class ProductAssembler {
             stock);
     }
 
+    /**
+     * {@link #AGGREGATE_FIELDS} の並び順でSELECTした1行から、完全な {@link Product} を合成する。
+     *
+     * <p>列の位置で型付きの値を直接読み取り、各値オブジェクトを1回だけ生成する。
+     * テーブルごとのRecordへの詰め替えや、骨格だけの集約の生成は行わない。
+     * 値の形式・範囲はDBのCHECK制約で保証されているため、nullの確認だけを行い再検証はしない。</p>
+     *
+     * @param rec {@link #AGGREGATE_FIELDS} の並び順でSELECTした結果行
+     * @return 合成済みのProduct集約
+     * @throws DomainException 必須項目欠落や不正値の場合
+     */
+    public Product assemble(Record rec) {
+        if (rec == null) throw new DomainException("商品情報が取得できません。");
+        var productUuid  = (UUID) rec.get(PRODUCT_UUID);
+        var name         = (String) rec.get(PRODUCT_NAME);
+        var normalized   = (String) rec.get(NAME_NORMALIZED);
+        var price        = (Integer) rec.get(PRODUCT_PRICE);
+        var categoryUuid = (UUID) rec.get(CATEGORY_UUID);
+        var categoryName = (String) rec.get(CATEGORY_NAME);
+        var stockUuid    = (UUID) rec.get(STOCK_UUID);
+        var quantity     = (Integer) rec.get(STOCK);
+        if (productUuid == null)  throw new DomainException("商品UUIDが不正です。");
+        if (name == null || name.isBlank()) throw new DomainException("商品名が未設定です。");
+        if (price == null)        throw new DomainException("商品価格が未設定です。");
+        if (categoryUuid == null) throw new DomainException("カテゴリUUIDが不正です。");
+        if (categoryName == null || categoryName.isBlank()) throw new DomainException("カテゴリ名が未設定です。");
+        if (stockUuid == null)    throw new DomainException("在庫UUIDが不正です。");
+        if (quantity == null)     throw new DomainException("在庫数が未設定です。");
+        var token = Trusted.TOKEN;
+        return Product.restoreTrusted(token,
+            ProductId.fromUuid(productUuid),
+            ProductName.trusted(token, name, normalized),
+            ProductPrice.trusted(token, price),
+            CategoryInterner.restore(categoryUuid, categoryName),
+            Stock.restoreTrusted(token, StockId.fromUuid(stockUuid), StockQuantity.trusted(token, quantity)));
+    }
+
     /**
      * 集約からProductRecordを作る(INSERT/UPDATE 用)
      * 注意：category_id(外部キー)はここでは埋めない。Repositoryで補完する。
@@ -93,10 +171,18 @@ public class ProductAssembler {
      * Repositoryでcategory_id(外部キー))を解決するために利用。
      */
     public String extractCategoryUuid(Product product) {
+        return extractCategoryId(product).value();
+    }
+
+    /**
+     * 集約からCategoryIdを取り出すユーティリティ。
+     * Repositoryでcategory_id(外部キー)を解決するために利用(文字列を経由しない)。
+     */
+    public CategoryId extractCategoryId(Product product) {
         if (product == null) throw new DomainException("Productがnullです。");
         var category = product.getCategory();
         if (category == null) throw new DomainException("ProductにCategoryが設定されていません。");
-        return category.getCategoryId().value();
+        return category.getCategoryId();
     }
 
 }   
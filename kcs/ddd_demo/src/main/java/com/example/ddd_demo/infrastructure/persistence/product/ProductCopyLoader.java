@@ -0,0 +1,303 @@
+package com.example.ddd_demo.infrastructure.persistence.product;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.product.Product;
+import com.example.ddd_demo.domain.models.product.ProductBulkLoader;
+import com.example.ddd_demo.infrastructure.exception.InternalException;
+import com.example.ddd_demo.infrastructure.persistence.category.CategoryCache;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductStockTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ProductBulkLoaderインターフェイス実装(PostgreSQLのCOPY)
+ *
+ * <p>商品を1件ずつINSERTせず、COPY FROM STDINでトランザクション内の一時テーブルへ流し込み、
+ * 1つのSQL文(CTE)で product / product_stock へまとめて反映する。</p>
+ * <ul>
+ *   <li>一時テーブルは {@code ON COMMIT DROP} で作成し、トランザクション終了時に破棄される</li>
+ *   <li>COPYへの送信は一定サイズごとにまとめて行い、保持するのは送信前のバッファのみ</li>
+ *   <li>商品名(正規化後)の重複は、ファイル内は行番号の小さいものを優先し、既存商品とは一意制約で除外する</li>
+ *   <li>投入した商品名は商品名フィルタへ追加する(登録されなくても偽陽性になるだけ)</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductCopyLoader implements ProductBulkLoader {
+
+    /**
+     * COPYへ送信する単位(文字数)
+     */
+    private static final int FLUSH_CHARS = 64 * 1024;
+
+    /**
+     * 取り込み用の一時テーブル
+     */
+    private static final Table<Record> STAGING = DSL.table(DSL.name("product_import_staging"));
+    private static final Field<Long> S_LINE = DSL.field(DSL.name("line"), SQLDataType.BIGINT);
+    private static final Field<UUID> S_PRODUCT_UUID = DSL.field(DSL.name("product_uuid"), SQLDataType.UUID);
+    private static final Field<String> S_NAME = DSL.field(DSL.name("name"), SQLDataType.VARCHAR(30));
+    private static final Field<String> S_NAME_NORMALIZED = DSL.field(DSL.name("name_normalized"), SQLDataType.VARCHAR);
+    private static final Field<Integer> S_PRICE = DSL.field(DSL.name("price"), SQLDataType.INTEGER);
+    private static final Field<Integer> S_CATEGORY_ID = DSL.field(DSL.name("category_id"), SQLDataType.INTEGER);
+    private static final Field<UUID> S_STOCK_UUID = DSL.field(DSL.name("stock_uuid"), SQLDataType.UUID);
+    private static final Field<Integer> S_STOCK = DSL.field(DSL.name("stock"), SQLDataType.INTEGER);
+
+    /**
+     * COPY文(列の並びは {@link Staged#append(StringBuilder)} と一致させる)
+     */
+    private static final String COPY_SQL = "COPY product_import_staging "
+        + "(line, product_uuid, name, name_normalized, price, category_id, stock_uuid, stock) "
+        + "FROM STDIN (FORMAT csv)";
+
+    /**
+     * トランザクションに割り当てられたコネクションの取得元
+     */
+    private final DataSource dataSource;
+    /**
+     * jOOQ のクエリ実行を担う DSLContext
+     */
+    private final DSLContext dsl;
+    /**
+     * Product集約の分解(集約 → Record)を担うアセンブラ
+     */
+    private final ProductAssembler assembler;
+    /**
+     * 商品カテゴリのインプロセスキャッシュ(カテゴリUUID→主キーの解決に利用)
+     */
+    private final CategoryCache categoryCache;
+    /**
+     * 商品名のブルームフィルタ
+     */
+    private final ProductNameFilter nameFilter;
+
+    /**
+     * 取り込みを開始する(一時テーブルを作成し、COPYを開始する)
+     * @return 取り込みセッション
+     * @throws InternalException トランザクション外で呼び出された場合、またはデータベースエラーが発生した場合
+     */
+    @Override
+    public Session begin() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new InternalException("商品の一括取り込みはトランザクション内で実行してください。");
+        }
+        // COPY中は同じコネクションで問い合わせできないため、カテゴリのスナップショットを先に読み込んでおく
+        categoryCache.findAll();
+        Connection conn = DataSourceUtils.getConnection(dataSource);
+        try {
+            dsl.dropTemporaryTableIfExists(STAGING).execute();
+            dsl.createTemporaryTable(STAGING)
+               .columns(S_LINE, S_PRODUCT_UUID, S_NAME, S_NAME_NORMALIZED,
+                        S_PRICE, S_CATEGORY_ID, S_STOCK_UUID, S_STOCK)
+               .onCommitDrop()
+               .execute();
+            var copyIn = conn.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            return new CopySession(conn, copyIn);
+        } catch (SQLException | DataAccessException ex) {
+            DataSourceUtils.releaseConnection(conn, dataSource);
+            throw new InternalException("商品の一括取り込みの開始中にデータベースエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 一時テーブルへ投入する1行
+     */
+    private record Staged(long line, UUID productUuid, String name, String nameNormalized,
+        int price, int categoryId, UUID stockUuid, int stock) {
+
+        /**
+         * CSVの1行として追記する
+         */
+        void append(StringBuilder sb) {
+            sb.append(line).append(',').append(productUuid).append(',');
+            appendQuoted(sb, name);
+            sb.append(',');
+            appendQuoted(sb, nameNormalized);
+            sb.append(',').append(price).append(',').append(categoryId)
+              .append(',').append(stockUuid).append(',').append(stock).append('\n');
+        }
+
+        private static void appendQuoted(StringBuilder sb, String value) {
+            sb.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') sb.append('"');
+                sb.append(c);
+            }
+            sb.append('"');
+        }
+    }
+
+    /**
+     * COPYによる取り込みセッション
+     */
+    private class CopySession implements Session {
+        private final Connection conn;
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 1024);
+        private long staged;
+        /**
+         * 投入を終了したか(登録済み、または中止済み)
+         */
+        private boolean closed;
+        /**
+         * コネクションを返却したか
+         */
+        private boolean released;
+
+        CopySession(Connection conn, CopyIn copyIn) {
+            this.conn = conn;
+            this.copyIn = copyIn;
+        }
+
+        @Override
+        public void stage(long line, Product product) {
+            if (product == null) throw new DomainException("商品は必須です。");
+            if (closed) throw new InternalException("取り込みは既に終了しています。");
+            // カテゴリUUIDから主キー値をキャッシュで解決する
+            Integer categoryPk = categoryCache.resolvePk(assembler.extractCategoryId(product))
+                .orElseThrow(() -> new DomainException("指定された商品カテゴリが存在しません。"));
+            var pr = assembler.toProductRecord(product);
+            var sr = assembler.toStockRecord(product);
+            new Staged(line, pr.getProductUuid(), pr.getName(), product.getName().normalized(),
+                pr.getPrice(), categoryPk, sr.getStockUuid(), sr.getStock()).append(buffer);
+            staged++;
+            nameFilter.put(product.getName().normalized());
+            if (buffer.length() >= FLUSH_CHARS) {
+                flush();
+            }
+        }
+
+        @Override
+        public Result merge(int rejectLimit) {
+            if (closed) throw new InternalException("取り込みは既に終了しています。");
+            closed = true;
+            try {
+                flush();
+                copyIn.endCopy();
+                // 一時テーブルは自動でANALYZEされないため、結合・重複排除の計画のために統計を取得する
+                dsl.execute("ANALYZE product_import_staging");
+                long inserted = mergeStaged();
+                long conflicted = staged - inserted;
+                var conflicts = conflicted == 0 || rejectLimit <= 0
+                    ? List.<Rejected>of()
+                    : fetchConflicts(rejectLimit);
+                return new Result(staged, inserted, conflicted, conflicts);
+            } catch (SQLException | DataAccessException ex) {
+                throw new InternalException("商品の一括取り込み中にデータベースエラーが発生しました。", ex);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            try {
+                // COPYの取り消し(cancelCopy)はトランザクションを異常状態にするため、
+                // 登録前に終了した場合はCOPYを終了してから一時テーブルごと破棄する
+                if (!closed) {
+                    closed = true;
+                    copyIn.endCopy();
+                    dsl.dropTemporaryTableIfExists(STAGING).execute();
+                }
+            } catch (SQLException | DataAccessException ex) {
+                throw new InternalException("商品の一括取り込みの中止中にデータベースエラーが発生しました。", ex);
+            } finally {
+                released = true;
+                DataSourceUtils.releaseConnection(conn, dataSource);
+            }
+        }
+
+        /**
+         * バッファをCOPYへ送信する
+         */
+        private void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            try {
+                byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+                buffer.setLength(0);
+            } catch (SQLException ex) {
+                throw new InternalException("商品の一括取り込み中にデータベースエラーが発生しました。", ex);
+            }
+        }
+    }
+
+    /**
+     * 一時テーブルの商品を product / product_stock へ1文で反映する
+     * @return 登録した件数
+     */
+    private long mergeStaged() {
+        var pt = ProductTable.PRODUCT;
+        var st = ProductStockTable.PRODUCT_STOCK;
+        // d: 商品名(正規化後)ごとに行番号の最も小さい行だけを残す
+        var d = DSL.name("d").as(
+            DSL.selectDistinct(S_LINE, S_PRODUCT_UUID, S_NAME, S_NAME_NORMALIZED, S_PRICE, S_CATEGORY_ID, S_STOCK_UUID, S_STOCK)
+               .on(S_NAME_NORMALIZED)
+               .from(STAGING)
+               .orderBy(S_NAME_NORMALIZED, S_LINE));
+        // p: 商品を追加する(既存商品と同名のものは一意制約で除外し、採番された主キーを受け取る)
+        var p = DSL.name("p").as(
+            DSL.insertInto(pt, pt.PRODUCT_UUID, pt.NAME, pt.NAME_NORMALIZED, pt.PRICE, pt.CATEGORY_ID)
+               .select(DSL.select(d.field(S_PRODUCT_UUID), d.field(S_NAME), d.field(S_NAME_NORMALIZED),
+                    d.field(S_PRICE), d.field(S_CATEGORY_ID))
+                  .from(d)
+                  .orderBy(d.field(S_LINE)))
+               .onConflict(pt.NAME_NORMALIZED).doNothing()
+               .returning(pt.ID, pt.PRODUCT_UUID));
+        // s: 登録された商品の在庫を追加する
+        var s = DSL.name("s").as(
+            DSL.insertInto(st, st.STOCK_UUID, st.STOCK, st.PRODUCT_ID)
+               .select(DSL.select(d.field(S_STOCK_UUID), d.field(S_STOCK), p.field(pt.ID))
+                  .from(p)
+                  .join(d).on(d.field(S_PRODUCT_UUID).eq(p.field(pt.PRODUCT_UUID))))
+               .returning(st.ID));
+        return dsl.with(d).with(p).with(s)
+            .selectCount()
+            .from(s)
+            .fetchOne(0, long.class);
+    }
+
+    /**
+     * 登録されなかった(商品名が重複した)行を行番号順に取得する
+     */
+    private List<Rejected> fetchConflicts(int limit) {
+        var pt = ProductTable.PRODUCT;
+        // 副問い合わせ内で product の列と区別するため、一時テーブルの列は別名で修飾する
+        var t = STAGING.as("t");
+        var line = DSL.field(DSL.name("t", S_LINE.getName()), SQLDataType.BIGINT);
+        var name = DSL.field(DSL.name("t", S_NAME.getName()), SQLDataType.VARCHAR(30));
+        var productUuid = DSL.field(DSL.name("t", S_PRODUCT_UUID.getName()), SQLDataType.UUID);
+        return dsl.select(line, name)
+            .from(t)
+            .whereNotExists(DSL.selectOne().from(pt).where(pt.PRODUCT_UUID.eq(productUuid)))
+            .orderBy(line)
+            .limit(limit)
+            .fetch(r -> new Rejected(r.value1(), r.value2()));
+    }
+}
@@ -1,22 +1,40 @@
 package com.example.ddd_demo.infrastructure.persistence.product;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SelectJoinStep;
 import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 
 import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.category.CategoryId;
 import com.example.ddd_demo.domain.models.product.Product;
 import com.example.ddd_demo.domain.models.product.ProductId;
 import com.example.ddd_demo.domain.models.product.ProductName;
+import com.example.ddd_demo.domain.models.product.ProductPage;
+import com.example.ddd_demo.domain.models.product.ProductPageCursor;
 import com.example.ddd_demo.domain.models.product.ProductRepository;
+import com.example.ddd_demo.domain.models.product.ProductSortKey;
+import com.example.ddd_demo.domain.models.product.ProductVersion;
 import com.example.ddd_demo.infrastructure.exception.InternalException;
+import com.example.ddd_demo.infrastructure.persistence.category.CategoryCache;
 import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductCategoryTable;
 import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductStockTable;
 import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
-import com.example.ddd_demo.infrastructure.persistence.schema.tables.records.ProductCategoryRecord;
 import com.example.ddd_demo.infrastructure.persistence.schema.tables.records.ProductRecord;
 import com.example.ddd_demo.infrastructure.persistence.schema.tables.records.ProductStockRecord;
 
@@ -38,43 +56,100 @@ public class ProductJooqRepository implements ProductRepository{
      * Product集約の「合成（Record → 集約）」および「分解（集約 → 個別Entity/Record）」を担うアセンブラ
      */
     private final ProductAssembler assembler;
+
+    /**
+     * 商品カテゴリのインプロセスキャッシュ(カテゴリUUID→主キーの解決に利用)
+     */
+    private final CategoryCache categoryCache;
+
+    /**
+     * 一括登録時に1回のSQL文で扱う最大件数(バインド変数の上限を超えないよう分割する)
+     */
+    static final int BATCH_CHUNK_SIZE = 500;
+
+    /**
+     * 集約と版を同時に取得する場合の選択列({@link ProductAssembler#AGGREGATE_FIELDS} の後ろに各テーブルの version 列)
+     */
+    private static final List<Field<?>> VERSIONED_FIELDS;
+    /**
+     * {@link #VERSIONED_FIELDS} における version 列の開始位置(商品・在庫・商品カテゴリの順)
+     */
+    private static final int VERSION_OFFSET = ProductAssembler.AGGREGATE_FIELDS.size();
+    static {
+        var fields = new ArrayList<Field<?>>(ProductAssembler.AGGREGATE_FIELDS);
+        fields.add(ProductTable.PRODUCT.VERSION);
+        fields.add(ProductStockTable.PRODUCT_STOCK.VERSION);
+        fields.add(ProductCategoryTable.PRODUCT_CATEGORY.VERSION);
+        VERSIONED_FIELDS = List.copyOf(fields);
+    }
+    /**
+     * 全件走査で1回の往復あたりに取得する行数
+     */
+    static final int SCAN_FETCH_SIZE = 1000;
  
     /**
      * 新しい商品を永続化する
+     *
+     * <p>カテゴリUUID→PKの解決は {@link CategoryCache} から問い合わせなしで行い、
+     * 商品のINSERTと在庫のINSERTをデータ変更CTEで1つのSQL文にまとめ、1往復で登録を完了する。</p>
+     * <pre>{@code
+     * WITH p AS (INSERT INTO product (...) VALUES (?, ?, ?, ?, ?) RETURNING ...),
+     *      s AS (INSERT INTO product_stock (...) SELECT ?, ?, p.id FROM p RETURNING ...)
+     * SELECT ... FROM p JOIN s ON s.product_id = p.id
+     * }</pre>
+     * カテゴリが存在しない場合はSQL文を発行せずに例外とする。
+     *
      * @param product 永続化する商品
+     * @return 永続化された商品(RETURNINGの値から再構築)
      */
     @Override
-    public void create(Product product) {
+    public Optional<Product> create(Product product) {
         if (product == null) throw new DomainException("商品は必須です。");
         try {
-            // カテゴリUUID → カテゴリの内部PK(INT)を解決
-            UUID categoryUuid = UUID.fromString(assembler.extractCategoryUuid(product));
-            // 商品カテゴリのUUIDから主キー値を取得する
-            Integer categoryPk = dsl
-                .select(ProductCategoryTable.PRODUCT_CATEGORY.ID)
-                .from(ProductCategoryTable.PRODUCT_CATEGORY)
-                .where(ProductCategoryTable.PRODUCT_CATEGORY.CATEGORY_UUID.eq(categoryUuid))
-                .fetchOneInto(Integer.class);
-            if (categoryPk == null) {
-                throw new DomainException("指定された商品カテゴリが存在しません。");
-            }
+            var pt = ProductTable.PRODUCT;
+            var st = ProductStockTable.PRODUCT_STOCK;
+            // カテゴリUUIDから主キー値をキャッシュで解決する
+            var category = categoryCache.resolve(assembler.extractCategoryId(product))
+                .orElseThrow(() -> new DomainException("指定された商品カテゴリが存在しません。"));
             // 集約からRecordを生成(外部キー未設定)
             ProductRecord pr         = assembler.toProductRecord(product);
             ProductStockRecord sr    = assembler.toStockRecord(product);
-            
-            // ProductRecordにcategory_idを補完して追加(主キー採番を受け取る)
-            pr.setCategoryId(categoryPk);
-            Integer productPk = dsl.insertInto(ProductTable.PRODUCT)
-                .set(pr)                                
-                .returning(ProductTable.PRODUCT.ID)
-                .fetchOne()
-                .getId();
-
-            // StockRecordにproduct_idを補完して追加
-            sr.setProductId(productPk);
-            dsl.insertInto(ProductStockTable.PRODUCT_STOCK)
-                .set(sr)
-                .execute();
+
+            // p: 解決したcategory_idで商品を追加する(主キー採番を受け取る)
+            var p = DSL.name("p").as(
+                DSL.insertInto(pt, pt.PRODUCT_UUID, pt.NAME, pt.NAME_NORMALIZED, pt.PRICE, pt.CATEGORY_ID)
+                   .values(pr.getProductUuid(), pr.getName(), product.getName().normalized(), pr.getPrice(), category.pk())
+                   // 同一名(正規化後)の商品が既に存在すれば登録しない(pは0行となり、sも実行されない)
+                   .onConflict(pt.NAME_NORMALIZED).doNothing()
+                   .returning(pt.ID, pt.PRODUCT_UUID, pt.NAME, pt.PRICE, pt.CATEGORY_ID));
+            // s: 採番されたproduct_idで在庫を追加する
+            var s = DSL.name("s").as(
+                DSL.insertInto(st, st.STOCK_UUID, st.STOCK, st.PRODUCT_ID)
+                   .select(DSL.select(
+                        DSL.val(sr.getStockUuid()), DSL.val(sr.getStock()), p.field(pt.ID))
+                      .from(p))
+                   .returning(st.STOCK_UUID, st.STOCK, st.PRODUCT_ID));
+
+            var rec = dsl.with(p).with(s)
+                .select(
+                    p.field(pt.PRODUCT_UUID), p.field(pt.NAME), p.field(pt.PRICE),
+                    s.field(st.STOCK_UUID), s.field(st.STOCK))
+                .from(p)
+                .join(s).on(s.field(st.PRODUCT_ID).eq(p.field(pt.ID)))
+                .fetchOne();
+            // 一意制約に抵触した(同一名の商品が存在する)
+            if (rec == null) {
+                return Optional.empty();
+            }
+            // RETURNINGの値から生成Recordを組み立ててAssemblerで合成
+            var savedProduct = new ProductRecord();
+            savedProduct.setProductUuid(rec.value1());
+            savedProduct.setName(rec.value2());
+            savedProduct.setPrice(rec.value3());
+            var savedStock = new ProductStockRecord();
+            savedStock.setStockUuid(rec.value4());
+            savedStock.setStock(rec.value5());
+            return Optional.of(assembler.assemble(savedProduct, category.toRecord(), savedStock));
         }catch (DataAccessException ex) {
             throw new InternalException("商品登録中にデータベースエラーが発生しました。", ex);
         } catch (Exception ex) {
@@ -83,8 +158,104 @@ public class ProductJooqRepository implements ProductRepository{
         }
     }
 
+    /**
+     * 複数の商品をまとめて永続化する
+     *
+     * <p>{@value #BATCH_CHUNK_SIZE}件ごとのチャンク単位で、以下のSQL文のみを発行する。
+     * 1件ずつ登録する場合と異なり、往復回数は商品数ではなくチャンク数に比例する。
+     * カテゴリUUID→PKの解決は {@link CategoryCache} から問い合わせなしで行う。</p>
+     * <ol>
+     *   <li>商品を複数行INSERT(既存名は {@code ON CONFLICT DO NOTHING} で除外し、RETURNINGで採番されたPKを受け取る)</li>
+     *   <li>在庫を複数行INSERT</li>
+     * </ol>
+     *
+     * @param products 永続化する商品のリスト
+     * @return 永続化された商品のリスト(入力順)
+     */
+    @Override
+    public List<Product> createAll(List<Product> products) {
+        if (products == null) throw new DomainException("商品リストは必須です。");
+        try {
+            var saved = new ArrayList<Product>(products.size());
+            // 同一リスト内の商品名の重複を検出するため、チャンクを跨いで保持する
+            var seenNames = new HashSet<String>();
+            for (int from = 0; from < products.size(); from += BATCH_CHUNK_SIZE) {
+                var chunk = products.subList(from, Math.min(from + BATCH_CHUNK_SIZE, products.size()));
+                saved.addAll(createChunk(chunk, seenNames));
+            }
+            return saved;
+        }catch (DataAccessException ex) {
+            throw new InternalException("商品一括登録中にデータベースエラーが発生しました。", ex);
+        } catch (Exception ex) {
+            if (ex instanceof DomainException) throw (DomainException) ex;
+            throw new InternalException("商品一括登録処理中に予期しないエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 1チャンク分の商品を登録する
+     * @param chunk 登録対象の商品
+     * @param seenNames 処理済みの正規化した商品名(チャンク内・チャンク間の重複排除に利用)
+     * @return 永続化された商品
+     */
+    private List<Product> createChunk(List<Product> chunk, Set<String> seenNames) {
+        var pt = ProductTable.PRODUCT;
+        var st = ProductStockTable.PRODUCT_STOCK;
+
+        // カテゴリUUID → 主キー・商品カテゴリをキャッシュで解決する
+        var categories = new HashMap<CategoryId, CategoryCache.CachedCategory>();
+        chunk.stream().map(assembler::extractCategoryId).distinct().forEach(categoryId ->
+            categoryCache.resolve(categoryId).ifPresent(c -> categories.put(categoryId, c)));
+
+        // 登録可能な商品だけを抽出する(リスト内の重複は2件目以降を除外する)
+        var candidates = new ArrayList<Product>(chunk.size());
+        for (var product : chunk) {
+            if (!categories.containsKey(assembler.extractCategoryId(product))) continue;
+            if (!seenNames.add(product.getName().normalized())) continue;
+            candidates.add(product);
+        }
+        if (candidates.isEmpty()) return List.of();
+
+        // 商品を複数行INSERTし、product_uuid → 採番されたPK を受け取る
+        // (既存名の商品は一意制約によりスキップされ、RETURNINGに含まれない)
+        var productInsert = dsl.insertInto(pt, pt.PRODUCT_UUID, pt.NAME, pt.NAME_NORMALIZED, pt.PRICE, pt.CATEGORY_ID);
+        for (var product : candidates) {
+            ProductRecord pr = assembler.toProductRecord(product);
+            var category = categories.get(assembler.extractCategoryId(product));
+            productInsert = productInsert.values(
+                pr.getProductUuid(), pr.getName(), product.getName().normalized(), pr.getPrice(), category.pk());
+        }
+        Map<UUID, Integer> productPks = productInsert
+            .onConflict(pt.NAME_NORMALIZED).doNothing()
+            .returning(pt.ID, pt.PRODUCT_UUID)
+            .fetchMap(pt.PRODUCT_UUID, pt.ID);
+        var targets = candidates.stream()
+            .filter(p -> productPks.containsKey(p.getProductId().toUuid()))
+            .toList();
+        if (targets.isEmpty()) return List.of();
+
+        // 在庫を複数行INSERTする
+        var stockInsert = dsl.insertInto(st, st.STOCK_UUID, st.STOCK, st.PRODUCT_ID);
+        for (var product : targets) {
+            ProductStockRecord sr = assembler.toStockRecord(product);
+            var productUuid = product.getProductId().toUuid();
+            stockInsert = stockInsert.values(sr.getStockUuid(), sr.getStock(), productPks.get(productUuid));
+        }
+        stockInsert.execute();
+
+        // 登録した値とキャッシュ上のカテゴリから集約を合成する
+        var saved = new ArrayList<Product>(targets.size());
+        for (var product : targets) {
+            var category = categories.get(assembler.extractCategoryId(product));
+            saved.add(assembler.assemble(
+                assembler.toProductRecord(product), category.toRecord(), assembler.toStockRecord(product)));
+        }
+        return saved;
+    }
+
     /**
      * 指定された商品名が存在有無を返す
+     * <p>正規化した商品名(全角/半角・大文字/小文字を同一視)の一意索引で判定する。</p>
      * @param productName 商品名
      * @return true:存在する false:存在しない
      */
@@ -97,7 +268,7 @@ public class ProductJooqRepository implements ProductRepository{
             return dsl.fetchExists(
             dsl.selectOne()
                .from(ProductTable.PRODUCT)
-               .where(ProductTable.PRODUCT.NAME.eq(productName.value())));
+               .where(ProductTable.PRODUCT.NAME_NORMALIZED.eq(productName.normalized())));
         }  catch (DataAccessException ex) {
             throw new InternalException("商品名の存在確認中にデータベースエラーが発生しました。", ex);
         } catch (Exception ex) {
@@ -118,29 +289,13 @@ public class ProductJooqRepository implements ProductRepository{
             throw new DomainException("商品Idは必須です。");
         }
         try {
-            // ProductテーブルとStockテーブルをJOINして取得
-            UUID uuid = UUID.fromString(productId.value());
-            // 各テーブルの全カラムを選択してJOINし、1行取得
-            var rec = dsl
-                .select(ProductTable.PRODUCT.fields())                 // Product 用
-                .select(ProductStockTable.PRODUCT_STOCK.fields())      // Stock 用
-                .select(ProductCategoryTable.PRODUCT_CATEGORY.fields())// Category 用
-                .from(ProductTable.PRODUCT)
-                .join(ProductStockTable.PRODUCT_STOCK)
-                    .on(ProductTable.PRODUCT.ID.eq(ProductStockTable.PRODUCT_STOCK.PRODUCT_ID))
-                .join(ProductCategoryTable.PRODUCT_CATEGORY)
-                    .on(ProductTable.PRODUCT.CATEGORY_ID.eq(ProductCategoryTable.PRODUCT_CATEGORY.ID))
+            // ProductテーブルとStockテーブル、CategoryテーブルをJOINして1行取得
+            UUID uuid = productId.toUuid();
+            var rec = selectAggregate()
                 .where(ProductTable.PRODUCT.PRODUCT_UUID.eq(uuid))
                 .fetchOne();
             // 該当なし → Optional.empty()
-            if (rec == null){
-                return Optional.empty();
-            }
-            // 生成RecordへマッピングしてAssemblerで合成
-            ProductRecord pr           = rec.into(ProductRecord.class);
-            ProductStockRecord sr      = rec.into(ProductStockRecord.class);
-            ProductCategoryRecord cr   = rec.into(ProductCategoryRecord.class);
-            return Optional.of(assembler.assemble(pr, cr, sr));
+            return Optional.ofNullable(rec).map(this::toProduct);
         }catch (DataAccessException ex) {
             throw new InternalException("商品情報の取得中にデータベースエラーが発生しました。", ex);
         } catch (Exception ex) {
@@ -148,8 +303,69 @@ public class ProductJooqRepository implements ProductRepository{
         }
     }
 
+    /**
+     * 指定された商品Idの商品集約の版を取得する
+     * <p>商品・在庫・商品カテゴリの version 列だけを選択し、集約の合成は行わない。</p>
+     * @param productId 商品Id(VO)
+     * @return
+     *  - 存在する場合: 商品集約の版を保持する Optional
+     *  - 存在しない場合: 空のOptional(Optional.empty())
+     */
+    @Override
+    public Optional<ProductVersion> findVersionById(ProductId productId) {
+        if (productId == null) {
+            throw new DomainException("商品Idは必須です。");
+        }
+        try {
+            var pt = ProductTable.PRODUCT;
+            var st = ProductStockTable.PRODUCT_STOCK;
+            var ct = ProductCategoryTable.PRODUCT_CATEGORY;
+            return dsl.select(pt.VERSION, st.VERSION, ct.VERSION)
+                .from(pt)
+                .join(st).on(pt.ID.eq(st.PRODUCT_ID))
+                .join(ct).on(pt.CATEGORY_ID.eq(ct.ID))
+                .where(pt.PRODUCT_UUID.eq(productId.toUuid()))
+                .fetchOptional()
+                .map(r -> ProductVersion.of(r.value1(), r.value2(), r.value3()));
+        }catch (DataAccessException ex) {
+            throw new InternalException("商品の版の取得中にデータベースエラーが発生しました。", ex);
+        } catch (Exception ex) {
+            throw new InternalException("商品の版の取得処理中に予期しないエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 指定された商品Idの商品集約と版を1回のSELECTで取得する
+     * <p>{@link ProductAssembler#AGGREGATE_FIELDS} の後ろに商品・在庫・商品カテゴリの version 列を加えて選択する。
+     * 集約と版が同じ行から得られるため、応答の本文と版(ETag)が食い違わない。</p>
+     * @param productId 商品Id(VO)
+     * @return
+     *  - 存在する場合: 商品集約と版を保持する Optional
+     *  - 存在しない場合: 空のOptional(Optional.empty())
+     */
+    @Override
+    public Optional<Versioned> findVersionedById(ProductId productId) {
+        if (productId == null) {
+            throw new DomainException("商品Idは必須です。");
+        }
+        try {
+            return selectAggregate(VERSIONED_FIELDS)
+                .where(ProductTable.PRODUCT.PRODUCT_UUID.eq(productId.toUuid()))
+                .fetchOptional()
+                .map(rec -> new Versioned(toProduct(rec), ProductVersion.of(
+                    rec.get(VERSION_OFFSET, Long.class),
+                    rec.get(VERSION_OFFSET + 1, Long.class),
+                    rec.get(VERSION_OFFSET + 2, Long.class))));
+        }catch (DataAccessException ex) {
+            throw new InternalException("商品情報と版の取得中にデータベースエラーが発生しました。", ex);
+        } catch (Exception ex) {
+            throw new InternalException("商品情報と版の取得処理中に予期しないエラーが発生しました。", ex);
+        }
+    }
+
     /** 
      * 商品名で商品を取得する
+     * <p>正規化した商品名(全角/半角・大文字/小文字を同一視)の一意索引で検索する。</p>
      * @param productName 商品名(VO)
      *  - 存在する場合: Productエンティティを保持する Optional  
      *  - 存在しない場合: 空のOptional(Optional.empty())
@@ -160,32 +376,202 @@ public class ProductJooqRepository implements ProductRepository{
             throw new DomainException("商品名は必須です。");
         }
         try {
-            // 各テーブルの“全カラム”を選択しておくと、into(ProductRecord.class) 等が安全に使える
-            var rec = dsl
-                .select(ProductTable.PRODUCT.fields())                // Product 用
-                .select(ProductStockTable.PRODUCT_STOCK.fields())     // Stock   用
-                .select(ProductCategoryTable.PRODUCT_CATEGORY.fields())// Category用
-                .from(ProductTable.PRODUCT)
-                .join(ProductStockTable.PRODUCT_STOCK)
-                    .on(ProductTable.PRODUCT.ID.eq(ProductStockTable.PRODUCT_STOCK.PRODUCT_ID))
-                .join(ProductCategoryTable.PRODUCT_CATEGORY)
-                    .on(ProductTable.PRODUCT.CATEGORY_ID.eq(ProductCategoryTable.PRODUCT_CATEGORY.ID))
-                .where(ProductTable.PRODUCT.NAME.eq(productName.value()))
+            var rec = selectAggregate()
+                .where(ProductTable.PRODUCT.NAME_NORMALIZED.eq(productName.normalized()))
                 .fetchOne();
             // 該当なし → Optional.empty()
-            if (rec == null){
-                return Optional.empty();
-            }
-            // レコード分解 → 生成Recordにマッピング → Assemblerで合成
-            ProductRecord pr = rec.into(ProductRecord.class);
-            ProductStockRecord sr = rec.into(ProductStockRecord.class);
-            ProductCategoryRecord cr = rec.into(ProductCategoryRecord.class);
-            return Optional.of(assembler.assemble(pr, cr, sr));
-            //return Optional.ofNullable(rec).map(mapper::toDomain);
+            return Optional.ofNullable(rec).map(this::toProduct);
         }catch (DataAccessException ex) {
             throw new InternalException("商品名による検索中にデータベースエラーが発生しました。", ex);
         } catch (Exception ex) {
             throw new InternalException("商品名による検索処理中に予期しないエラーが発生しました。", ex);
         }
     }
+
+    /**
+     * 複数の商品Idで商品をまとめて取得する
+     *
+     * <p>{@code product_uuid = ANY(?::uuid[])} の1回のJOINクエリで取得する。</p>
+     * @param productIds 商品Id(VO)のコレクション
+     * @return 存在した商品のリスト(順不同・該当なしは含まれない)
+     */
+    @Override
+    public List<Product> findAllByIds(Collection<ProductId> productIds) {
+        if (productIds == null) {
+            throw new DomainException("商品Idリストは必須です。");
+        }
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        try {
+            var uuids = productIds.stream()
+                .map(ProductId::toUuid)
+                .distinct()
+                .toArray(UUID[]::new);
+            return selectAggregate()
+                .where(ProductTable.PRODUCT.PRODUCT_UUID.eq(DSL.any(uuids)))
+                .fetch(this::toProduct);
+        }catch (DataAccessException ex) {
+            throw new InternalException("商品情報の一括取得中にデータベースエラーが発生しました。", ex);
+        } catch (Exception ex) {
+            throw new InternalException("商品情報の一括取得処理中に予期しないエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 複数の商品名で商品をまとめて取得する
+     *
+     * <p>{@code name_normalized = ANY(?::text[])} の1回のJOINクエリで取得する。</p>
+     * @param productNames 商品名(VO)のコレクション
+     * @return 存在した商品のリスト(順不同・該当なしは含まれない)
+     */
+    @Override
+    public List<Product> findAllByNames(Collection<ProductName> productNames) {
+        if (productNames == null) {
+            throw new DomainException("商品名リストは必須です。");
+        }
+        if (productNames.isEmpty()) {
+            return List.of();
+        }
+        try {
+            var names = productNames.stream()
+                .map(ProductName::normalized)
+                .distinct()
+                .toArray(String[]::new);
+            return selectAggregate()
+                .where(ProductTable.PRODUCT.NAME_NORMALIZED.eq(DSL.any(names)))
+                .fetch(this::toProduct);
+        }catch (DataAccessException ex) {
+            throw new InternalException("商品名による一括検索中にデータベースエラーが発生しました。", ex);
+        } catch (Exception ex) {
+            throw new InternalException("商品名による一括検索処理中に予期しないエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 商品カテゴリに属する商品を1ページ分取得する
+     *
+     * <p>OFFSETではなく行値比較によるシーク条件で次ページの先頭を特定する。</p>
+     * <pre>{@code
+     * ... WHERE p.category_id = ?
+     *       AND (p.price, p.product_uuid) > (?, ?)
+     *     ORDER BY p.price, p.product_uuid LIMIT ?+1
+     * }</pre>
+     * (category_id, price, product_uuid) / (category_id, name, product_uuid) の複合インデックスを
+     * 範囲走査するため、読み飛ばす行が発生せず何ページ目でも取得コストは一定となる。
+     * 次ページの有無は limit+1 件目の有無で判定する。
+     *
+     * @param categoryId 商品カテゴリId(VO)
+     * @param after 直前のページのカーソル(最初のページはnull)
+     * @param limit 1ページあたりの最大件数
+     * @param sort 並び順
+     * @return 商品の1ページ分
+     */
+    @Override
+    public ProductPage findPageByCategory(
+        CategoryId categoryId, ProductPageCursor after, int limit, ProductSortKey sort) {
+        if (categoryId == null) throw new DomainException("商品カテゴリIdは必須です。");
+        if (sort == null) throw new DomainException("ソートキーは必須です。");
+        if (limit < 1) throw new DomainException("取得件数は1以上で指定してください。");
+        if (after != null && after.getSortKey() != sort) {
+            throw new DomainException("カーソルのソートキーが指定された並び順と一致しません。");
+        }
+        try {
+            var pt = ProductTable.PRODUCT;
+            // カテゴリUUID→PKはキャッシュで解決し、複合インデックスの先頭列で絞り込む
+            var categoryPk = categoryCache.resolvePk(categoryId);
+            if (categoryPk.isEmpty()) {
+                return new ProductPage(List.of(), null);
+            }
+            Condition condition = pt.CATEGORY_ID.eq(categoryPk.get());
+            // シーク条件: (ソートキー, 商品UUID) > (カーソルの値, カーソルの商品UUID)
+            if (after != null) {
+                var afterUuid = after.getProductId().toUuid();
+                condition = condition.and(switch (sort) {
+                    case PRICE -> DSL.row(pt.PRICE, pt.PRODUCT_UUID).gt(after.priceValue(), afterUuid);
+                    case NAME  -> DSL.row(pt.NAME, pt.PRODUCT_UUID).gt(after.getSortValue(), afterUuid);
+                });
+            }
+            var sortField = switch (sort) {
+                case PRICE -> pt.PRICE;
+                case NAME  -> pt.NAME;
+            };
+            var rows = selectAggregate()
+                .where(condition)
+                .orderBy(sortField.asc(), pt.PRODUCT_UUID.asc())
+                .limit(limit + 1)
+                .fetch(this::toProduct);
+            // limit+1件目が取得できれば次ページが存在する
+            if (rows.size() <= limit) {
+                return new ProductPage(rows, null);
+            }
+            var items = rows.subList(0, limit);
+            return new ProductPage(items, ProductPageCursor.after(sort, items.get(limit - 1)));
+        }catch (DataAccessException ex) {
+            throw new InternalException("商品一覧の取得中にデータベースエラーが発生しました。", ex);
+        } catch (Exception ex) {
+            if (ex instanceof DomainException) throw (DomainException) ex;
+            throw new InternalException("商品一覧の取得処理中に予期しないエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * すべての商品を1件ずつ走査する
+     *
+     * <p>{@value #SCAN_FETCH_SIZE}行ずつカーソルで取得し、1行ごとに集約へ変換して {@code action} に渡す。
+     * 保持するのは取得中の行だけのため、件数に依存せずメモリ使用量は一定となる。
+     * (PostgreSQLはトランザクション内でのみfetchSizeによる逐次取得を行う)</p>
+     * @param action 商品ごとに呼び出される処理
+     * @return 走査した商品の件数
+     */
+    @Override
+    public long scanAll(Consumer<? super Product> action) {
+        if (action == null) throw new DomainException("走査処理は必須です。");
+        try (var cursor = selectAggregate()
+                .orderBy(ProductTable.PRODUCT.ID.asc())
+                .fetchSize(SCAN_FETCH_SIZE)
+                .fetchLazy()) {
+            long count = 0;
+            for (var rec : cursor) {
+                action.accept(toProduct(rec));
+                count++;
+            }
+            return count;
+        }catch (DataAccessException ex) {
+            throw new InternalException("商品の全件走査中にデータベースエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 商品・在庫・商品カテゴリをJOINしたSELECT文を生成する
+     * <p>集約の合成に必要な列だけを {@link ProductAssembler#AGGREGATE_FIELDS} の並び順で選択する</p>
+     * @return WHERE句を付与する前のSELECT文
+     */
+    private SelectJoinStep<Record> selectAggregate() {
+        return selectAggregate(ProductAssembler.AGGREGATE_FIELDS);
+    }
+
+    /**
+     * 商品・在庫・商品カテゴリをJOINしたSELECT文を、指定した列で生成する
+     * @param fields 選択する列(先頭は {@link ProductAssembler#AGGREGATE_FIELDS} の並び順であること)
+     * @return WHERE句を付与する前のSELECT文
+     */
+    private SelectJoinStep<Record> selectAggregate(List<Field<?>> fields) {
+        return dsl
+            .select(fields)
+            .from(ProductTable.PRODUCT)
+            .join(ProductStockTable.PRODUCT_STOCK)
+                .on(ProductTable.PRODUCT.ID.eq(ProductStockTable.PRODUCT_STOCK.PRODUCT_ID))
+            .join(ProductCategoryTable.PRODUCT_CATEGORY)
+                .on(ProductTable.PRODUCT.CATEGORY_ID.eq(ProductCategoryTable.PRODUCT_CATEGORY.ID));
+    }
+
+    /**
+     * JOIN結果の1行をAssemblerで商品集約に合成する(列の位置で直接読み取る)
+     * @param rec {@link #selectAggregate()} の結果行
+     * @return 商品集約
+     */
+    private Product toProduct(Record rec) {
+        return assembler.assemble(rec);
+    }
 }
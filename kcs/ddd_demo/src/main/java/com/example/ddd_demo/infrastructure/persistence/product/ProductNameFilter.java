@@ -0,0 +1,213 @@
+package com.example.ddd_demo.infrastructure.persistence.product;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.jooq.DSLContext;
+import org.jooq.exception.DataAccessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.ddd_demo.domain.models.product.ProductName;
+import com.example.ddd_demo.infrastructure.exception.InternalException;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 商品名のブルームフィルタ
+ *
+ * <p>正規化した商品名({@link ProductName#normalized()})を要素とし、商品名の存在確認のうち「確実に存在しない」ものをDBに問い合わせずに判定する。
+ * 「存在するかもしれない」場合だけ、呼び出し側がDBで確認する。</p>
+ * <ul>
+ *   <li>起動時に商品名をカーソルで逐次読み込んで構築し、{@code rebuild-interval} 間隔で再構築する</li>
+ *   <li>登録された商品名は {@link #put(String)} で即時に追加する(ロールバックされても偽陽性になるだけ)</li>
+ *   <li>構築前は常に「存在するかもしれない」と判定する</li>
+ *   <li>再構築中に追加された商品名、および未コミットのまま走査から漏れうる商品名は、
+ *       追加履歴(ジャーナル)から新しいフィルタへ引き継ぐ</li>
+ * </ul>
+ *
+ * <p>注意: フィルタはインスタンスごとに保持し、即時の追加は自インスタンスで登録した商品名だけが対象となる。
+ * 複数インスタンスで稼働する場合、他のインスタンスで登録された商品名は次の再構築までは「確実に存在しない」と判定される
+ * (存在確認が偽陰性となる)。単一インスタンスでの稼働を前提とする。</p>
+ *
+ * <p>メトリクス：{@code product.name.filter.requests}(result=absent/maybe)、
+ * {@code product.name.filter.false.positives}、{@code product.name.filter.rebuild}(所要時間)、
+ * {@code product.name.filter.expected.fpp}、{@code product.name.filter.bits}</p>
+ */
+@Component
+public class ProductNameFilter {
+
+    /**
+     * 走査時の1回あたりの取得件数
+     */
+    private static final int FETCH_SIZE = 1000;
+
+    /**
+     * jOOQ のクエリ実行を担う DSLContext
+     */
+    private final DSLContext dsl;
+    /**
+     * 目標偽陽性率
+     */
+    private final double fpp;
+    /**
+     * 想定要素数の下限
+     */
+    private final long minExpectedInsertions;
+    /**
+     * 現在のフィルタ(構築前はnull)
+     */
+    private volatile BloomFilter current;
+    /**
+     * 前回の再構築開始以降に追加された商品名
+     */
+    private volatile Set<String> journal = ConcurrentHashMap.newKeySet();
+    /**
+     * 追加(読み取りロック)とフィルタ・ジャーナルの差し替え(書き込みロック)を排他する
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Counter absent;
+    private final Counter maybe;
+    private final Counter falsePositives;
+    private final Timer rebuilds;
+
+    /**
+     * コンストラクタ
+     * @param dsl DSLContext
+     * @param registry メトリクスの登録先
+     * @param fpp 目標偽陽性率
+     * @param minExpectedInsertions 想定要素数の下限
+     */
+    public ProductNameFilter(DSLContext dsl, MeterRegistry registry,
+        @Value("${app.product.name-filter.fpp:0.01}") double fpp,
+        @Value("${app.product.name-filter.min-expected-insertions:10000}") long minExpectedInsertions) {
+        this.dsl = dsl;
+        this.fpp = fpp;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.absent = Counter.builder("product.name.filter.requests").tag("result", "absent")
+            .description("商品名フィルタの判定回数").register(registry);
+        this.maybe = Counter.builder("product.name.filter.requests").tag("result", "maybe")
+            .description("商品名フィルタの判定回数").register(registry);
+        this.falsePositives = Counter.builder("product.name.filter.false.positives")
+            .description("DBで確認した結果、存在しなかった回数").register(registry);
+        this.rebuilds = Timer.builder("product.name.filter.rebuild")
+            .description("商品名フィルタの構築に要した時間").register(registry);
+        Gauge.builder("product.name.filter.expected.fpp", this,
+                f -> f.current == null ? 1.0 : f.current.expectedFpp())
+            .description("ビットの充填率から推定した偽陽性率").register(registry);
+        Gauge.builder("product.name.filter.bits", this,
+                f -> f.current == null ? 0 : f.current.bitSize())
+            .description("商品名フィルタのビット数").register(registry);
+    }
+
+    /**
+     * 商品名が存在するかもしれないかを判定する
+     * @param name 正規化した商品名
+     * @return {@code false} の場合は確実に存在しない
+     */
+    public boolean mightContain(String name) {
+        var filter = current;
+        if (filter != null && !filter.mightContain(name)) {
+            absent.increment();
+            return false;
+        }
+        maybe.increment();
+        return true;
+    }
+
+    /**
+     * 「存在するかもしれない」と判定した商品名が、DBに存在しなかったことを記録する
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * 商品名を追加する
+     * @param name 正規化した商品名
+     */
+    public void put(String name) {
+        lock.readLock().lock();
+        try {
+            var filter = current;
+            if (filter != null) {
+                filter.put(name);
+            }
+            journal.add(name);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 起動時にフィルタを構築する
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    /**
+     * 全商品名を走査してフィルタを再構築する
+     * <p>件数の増加に合わせてサイズを見直し、充填による偽陽性率の悪化を防ぐ。
+     * 構築中も判定は旧フィルタで行う。</p>
+     */
+    @Scheduled(
+        fixedDelayString = "${app.product.name-filter.rebuild-interval:PT1H}",
+        initialDelayString = "${app.product.name-filter.rebuild-interval:PT1H}")
+    public synchronized void rebuild() {
+        rebuilds.record(() -> {
+            Set<String> carried;
+            lock.writeLock().lock();
+            try {
+                carried = journal;
+                journal = ConcurrentHashMap.newKeySet();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            var fresh = scan();
+            carried.forEach(fresh::put);
+            lock.writeLock().lock();
+            try {
+                journal.forEach(fresh::put);
+                current = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 全商品名をカーソルで逐次読み込み、新しいフィルタを生成する
+     * <p>name_normalized 列には登録時に {@link ProductName#normalize(String)} で算出した値が格納されているため、そのまま利用する。
+     * 件数の2倍を想定要素数とし、次の再構築までの増加に備える。</p>
+     */
+    private BloomFilter scan() {
+        try {
+            var pt = ProductTable.PRODUCT;
+            return dsl.transactionResult(cfg -> {
+                var tx = cfg.dsl();
+                long count = tx.fetchCount(pt);
+                var filter = BloomFilter.create(Math.max(minExpectedInsertions, count * 2), fpp);
+                // PostgreSQLはトランザクション内でのみfetchSizeによる逐次取得を行う
+                try (var cursor = tx.select(pt.NAME_NORMALIZED).from(pt).fetchSize(FETCH_SIZE).fetchLazy()) {
+                    for (var r : cursor) {
+                        filter.put(r.value1());
+                    }
+                }
+                return filter;
+            });
+        } catch (DataAccessException ex) {
+            throw new InternalException("商品名フィルタの構築中にデータベースエラーが発生しました。", ex);
+        }
+    }
+}
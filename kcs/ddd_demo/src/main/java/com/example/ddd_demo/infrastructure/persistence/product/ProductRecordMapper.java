@@ -49,8 +49,10 @@ public interface ProductRecordMapper extends DomainBiMapper<ProductRecord, Produ
      *   <li>{@code price} → {@link ProductPrice}</li>
      * </ul>
      *
-     * <p>このメソッドでは、永続化層から取得した値の妥当性を検証し、
-     * nullまたは不正な形式のデータが存在する場合は{@link DomainException}を送出します。</p>
+     * <p>このメソッドでは、永続化層から取得した値のnullを検証し、
+     * 存在する場合は{@link DomainException}を送出します。
+     * 値の形式・範囲はDBのCHECK制約で保証されているため再検証しません
+     * ({@link com.example.ddd_demo.domain.models.TrustedRestore})。</p>
      *
      * @param input jOOQにより取得された {@link ProductRecord}
      * @return 検証済みの{@link Product}エンティティ(カテゴリと在庫はnullで再構築）
@@ -76,10 +78,10 @@ public interface ProductRecordMapper extends DomainBiMapper<ProductRecord, Produ
             throw new DomainException("商品価格が未設定です。");
         }
 
-        return Product.restore(
-            ProductId.fromString(productUuid.toString()),
-            ProductName.of(name),
-            ProductPrice.of(price),
+        return Product.restoreTrusted(Trusted.TOKEN,
+            ProductId.fromUuid(productUuid),
+            ProductName.trusted(Trusted.TOKEN, name, input.getNameNormalized()),
+            ProductPrice.trusted(Trusted.TOKEN, price),
             (Category) null,
             (Stock) null
         );
@@ -108,7 +110,7 @@ public interface ProductRecordMapper extends DomainBiMapper<ProductRecord, Produ
             throw new DomainException("Productエンティティがnullです。");
         }
         var rec = new ProductRecord();
-        rec.setProductUuid(UUID.fromString(domain.getProductId().value()));
+        rec.setProductUuid(domain.getProductId().toUuid());
         rec.setName(domain.getName().value());
         rec.setPrice(domain.getPrice().value());
         return rec;
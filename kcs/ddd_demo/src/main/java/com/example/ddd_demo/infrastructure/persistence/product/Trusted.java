@@ -0,0 +1,17 @@
+package com.example.ddd_demo.infrastructure.persistence.product;
+
+import java.lang.invoke.MethodHandles;
+
+import com.example.ddd_demo.domain.models.TrustedRestore;
+
+/**
+ * DBから読み込んだ値を検証なしで復元するための権限を保持する(パッケージ外には公開しない)
+ */
+final class Trusted {
+    /**
+     * 永続化層の権限
+     */
+    static final TrustedRestore TOKEN = TrustedRestore.obtain(MethodHandles.lookup());
+
+    private Trusted() {}
+}
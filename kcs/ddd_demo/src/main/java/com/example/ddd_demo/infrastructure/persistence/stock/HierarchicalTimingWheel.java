@@ -0,0 +1,243 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 期限付きのキーを管理する階層型タイミングホイール
+ *
+ * <p>レベル0のホイールは {@code tickMillis} 刻みのスロットを {@code wheelSize} 個持ち、
+ * レベル i のスロット幅はレベル i-1 の1周分となる。期限は、現在時刻と同じ「1つ上のレベルの1スロット」に収まる
+ * 最も下のレベルのスロットへ登録し、上のレベルのスロットは時刻がその境界に達したときに下のレベルへ振り分け直す(カスケード)。</p>
+ * <ul>
+ *   <li>登録・取消はO(1)(スロットは双方向リスト、キーからノードへの索引はハッシュ表)</li>
+ *   <li>時刻を進める処理はスロット数(経過時間 / tickMillis)と期限切れの件数に比例し、登録件数には比例しない
+ *       (期限の近い順に全件を並べ替えるキューや、期限の列を定期的に検索する方式と異なる)</li>
+ *   <li>期限切れの判定はスロット単位のため、期限から最大 {@code tickMillis} 遅れて期限切れとなる(早まることはない)</li>
+ * </ul>
+ * <p>すべての操作は1つのロックで直列化する(各操作はO(1)のため、ロックの保持時間は短い)。</p>
+ *
+ * @param <K> キーの型
+ */
+final class HierarchicalTimingWheel<K> {
+
+    /**
+     * スロット内の要素(双方向リスト)。スロットの番兵もこの型で表す
+     */
+    private static final class Node<K> {
+        final K key;
+        final long deadline;
+        Node<K> prev;
+        Node<K> next;
+
+        Node(K key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+
+        static <K> Node<K> sentinel() {
+            var s = new Node<K>(null, 0);
+            s.prev = s;
+            s.next = s;
+            return s;
+        }
+
+        void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+
+    /**
+     * レベル0のスロット幅(ミリ秒)
+     */
+    private final long tickMillis;
+    /**
+     * 1レベルあたりのスロット数(2のべき乗)
+     */
+    private final int wheelSize;
+    /**
+     * スロット数の2を底とする対数
+     */
+    private final int wheelBits;
+    /**
+     * レベルごとのスロット(必要になったレベルだけ作成する)
+     */
+    private final List<Node<K>[]> levels = new ArrayList<>();
+    /**
+     * キー → ノード(取消に利用)
+     */
+    private final Map<K, Node<K>> index = new HashMap<>();
+    /**
+     * 現在時刻(tickMillisの倍数。このスロット以前は処理済み)
+     */
+    private long currentTime;
+
+    /**
+     * コンストラクタ
+     * @param tickMillis レベル0のスロット幅(ミリ秒)
+     * @param wheelSize 1レベルあたりのスロット数(2のべき乗)
+     * @param startMillis 開始時刻(ミリ秒)
+     */
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("スロット幅は1ミリ秒以上で指定してください。: " + tickMillis);
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("スロット数は2以上の2のべき乗で指定してください。: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.wheelBits = Integer.numberOfTrailingZeros(wheelSize);
+        this.currentTime = Math.floorDiv(startMillis, tickMillis) * tickMillis;
+    }
+
+    /**
+     * キーを期限付きで登録する(登録済みのキーは期限を置き換える)
+     * @param key キー
+     * @param deadlineMillis 期限(ミリ秒)
+     */
+    synchronized void schedule(K key, long deadlineMillis) {
+        var old = index.remove(key);
+        if (old != null) {
+            old.unlink();
+        }
+        var node = new Node<>(key, deadlineMillis);
+        index.put(key, node);
+        place(node);
+    }
+
+    /**
+     * 登録を取り消す
+     * @param key キー
+     * @return 登録されていた場合は {@code true}
+     */
+    synchronized boolean cancel(K key) {
+        var node = index.remove(key);
+        if (node == null) {
+            return false;
+        }
+        node.unlink();
+        return true;
+    }
+
+    /**
+     * 登録件数
+     */
+    synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * 指定時刻まで進め、期限切れとなったキーを取り出す(取り出したキーの登録は取り消される)
+     * @param nowMillis 現在時刻(ミリ秒)
+     * @return 期限切れとなったキー(期限の早いスロット順)
+     */
+    synchronized List<K> advance(long nowMillis) {
+        var expired = new ArrayList<K>();
+        if (index.isEmpty()) {
+            // 登録が無ければスロットを1つずつ進める必要はない
+            if (nowMillis >= currentTime + tickMillis) {
+                currentTime = Math.floorDiv(nowMillis, tickMillis) * tickMillis;
+            }
+            return expired;
+        }
+        while (currentTime + tickMillis <= nowMillis) {
+            // 現在のスロット(期限 < currentTime + tickMillis ≦ nowMillis)はすべて期限切れ
+            drain(levels.get(0)[slot(0, currentTime)], expired);
+            currentTime += tickMillis;
+            cascade();
+        }
+        return expired;
+    }
+
+    /**
+     * 時刻が上のレベルのスロットの境界に達した場合、そのスロットを下のレベルへ振り分け直す(上のレベルから順に)
+     */
+    private void cascade() {
+        int top = 0;
+        for (int level = 1; level < levels.size(); level++) {
+            if (Math.floorMod(currentTime, span(level - 1)) != 0) {
+                break;
+            }
+            top = level;
+        }
+        for (int level = top; level >= 1; level--) {
+            var sentinel = levels.get(level)[slot(level, currentTime)];
+            var moved = new ArrayList<Node<K>>();
+            for (var n = sentinel.next; n != sentinel; ) {
+                var next = n.next;
+                n.unlink();
+                moved.add(n);
+                n = next;
+            }
+            moved.forEach(this::place);
+        }
+    }
+
+    /**
+     * ノードを期限に応じたレベル・スロットへ置く
+     */
+    private void place(Node<K> node) {
+        // 期限を過ぎている場合は現在のスロットへ置く(次に進めたときに期限切れとなる)
+        long deadline = Math.max(node.deadline, currentTime);
+        int level = 0;
+        // 現在時刻と同じ「1つ上のレベルの1スロット」に収まる最も下のレベルを選ぶ
+        while (Math.floorDiv(deadline, span(level)) != Math.floorDiv(currentTime, span(level))) {
+            level++;
+        }
+        var sentinel = slots(level)[slot(level, deadline)];
+        node.prev = sentinel.prev;
+        node.next = sentinel;
+        sentinel.prev.next = node;
+        sentinel.prev = node;
+    }
+
+    private void drain(Node<K> sentinel, List<K> expired) {
+        for (var n = sentinel.next; n != sentinel; ) {
+            var next = n.next;
+            n.unlink();
+            index.remove(n.key);
+            expired.add(n.key);
+            n = next;
+        }
+    }
+
+    /**
+     * レベルのスロット幅(ミリ秒)
+     */
+    private long tick(int level) {
+        return tickMillis << (wheelBits * level);
+    }
+
+    /**
+     * レベルの1周分(ミリ秒)。桁あふれする場合は最大値
+     */
+    private long span(int level) {
+        int shift = wheelBits * (level + 1);
+        if (shift >= Long.numberOfLeadingZeros(tickMillis)) {
+            return Long.MAX_VALUE;
+        }
+        return tickMillis << shift;
+    }
+
+    private int slot(int level, long time) {
+        return (int) (Math.floorDiv(time, tick(level)) & (wheelSize - 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<K>[] slots(int level) {
+        while (levels.size() <= level) {
+            Node<K>[] wheel = new Node[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                wheel[i] = Node.sentinel();
+            }
+            levels.add(wheel);
+        }
+        return levels.get(level);
+    }
+}
@@ -0,0 +1,322 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jooq.DSLContext;
+import org.jooq.exception.DataAccessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.Stock;
+import com.example.ddd_demo.domain.models.stock.StockId;
+import com.example.ddd_demo.domain.models.stock.StockQuantity;
+import com.example.ddd_demo.domain.models.stock.StockRepository;
+import com.example.ddd_demo.infrastructure.exception.InternalException;
+import com.example.ddd_demo.infrastructure.persistence.product.CachingProductRepository;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductStockTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 在庫数をメモリ上のカウンタで管理する {@link StockRepository} の実装(在庫エンジン)
+ *
+ * <p>{@code app.stock.engine=IN_MEMORY} の場合だけ有効になり、{@link StockJooqRepository} に代わって利用される。
+ * フラッシュセールのように同じ商品へ引当が集中すると、{@code product_stock} の1行の行ロックが
+ * スループットの上限になる。このエンジンでは在庫数を {@link StripedStockCounter} で保持し、
+ * 引当をCPUコア数に応じて並列に処理する(範囲 0〜100 の判定もメモリ上で行う)。</p>
+ * <ul>
+ *   <li>起動時に全商品の在庫数をDBから読み込む(最後に書き戻した状態から再開する)。
+ *       起動後に登録された商品は最初の参照時に読み込む</li>
+ *   <li>変更はメモリ上だけで行い、{@code app.stock.flush-interval} ごとに、変更のあった商品1件につき1回の
+ *       {@code UPDATE}(1回のバッチで送信)で書き戻す(write-behind)。その間の増減は1回の更新にまとめられる</li>
+ *   <li>書き戻した商品は商品集約のキャッシュから取り除く(商品の参照結果の在庫数は書き戻しの間隔だけ遅れる)</li>
+ *   <li>終了時にも書き戻す</li>
+ * </ul>
+ * <p>注意: 有効にした場合、{@code product_stock.stock} はこのエンジンだけが更新する前提となる(複数インスタンスでの共有不可)。
+ * また、プロセスが異常終了すると、最後の書き戻し以降の変更は失われる。
+ * 在庫数を絶対値で書き戻すため、在庫の予約({@code product_stock.reserved})とは併用できない。</p>
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "app.stock.engine", havingValue = "IN_MEMORY")
+public class InMemoryStockRepository implements StockRepository {
+
+    /**
+     * 永続化を担う実体のリポジトリ(メモリ上に無い商品の読み込みに利用)
+     */
+    private final StockJooqRepository delegate;
+    /**
+     * jOOQ のクエリ実行を担う DSLContext
+     */
+    private final DSLContext dsl;
+    /**
+     * 商品集約のキャッシュ(書き戻した商品を無効化する)
+     */
+    private final CachingProductRepository productCache;
+    /**
+     * 1商品あたりの最大ストライプ数
+     */
+    private final int stripes;
+    /**
+     * 商品Id → 在庫数のカウンタ
+     */
+    private final Map<ProductId, StripedStockCounter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * コンストラクタ
+     * @param delegate 永続化を担う実体のリポジトリ
+     * @param dsl jOOQ のクエリ実行を担う DSLContext
+     * @param productCache 商品集約のキャッシュ
+     * @param stripes 1商品あたりの最大ストライプ数(0の場合はCPU数。2のべき乗に切り上げる)
+     */
+    public InMemoryStockRepository(
+        StockJooqRepository delegate,
+        DSLContext dsl,
+        CachingProductRepository productCache,
+        @Value("${app.stock.stripes:0}") int stripes) {
+        this.delegate = delegate;
+        this.dsl = dsl;
+        this.productCache = productCache;
+        int requested = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors();
+        this.stripes = Integer.highestOneBit(Math.max(1, Math.min(requested, 1 << 10)) * 2 - 1);
+    }
+
+    /**
+     * 全商品の在庫数をDBから読み込む
+     */
+    @PostConstruct
+    public void recover() {
+        var pt = ProductTable.PRODUCT;
+        var st = ProductStockTable.PRODUCT_STOCK;
+        try {
+            counters.clear();
+            dsl.select(pt.PRODUCT_UUID, st.STOCK_UUID, st.STOCK)
+                .from(st)
+                .join(pt).on(st.PRODUCT_ID.eq(pt.ID))
+                .fetch()
+                .forEach(r -> counters.put(ProductId.fromUuid(r.value1()),
+                    new StripedStockCounter(StockId.fromUuid(r.value2()), r.value3(), stripes)));
+        } catch (DataAccessException ex) {
+            throw new InternalException("在庫情報の読み込み中にデータベースエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 新しい商品在庫を永続化する
+     * @throws DomainException 常にスローする({@link StockJooqRepository#create} を参照)
+     */
+    @Override
+    public void create(Stock stock) {
+        delegate.create(stock);
+    }
+
+    /**
+     * 商品Idで在庫を取得する(メモリ上の在庫数を返す)
+     * @param productId 商品Id(VO)
+     * @return 在庫(存在しない場合は空)
+     */
+    @Override
+    public Optional<Stock> findByProductId(ProductId productId) {
+        if (productId == null) throw new DomainException("商品Idは必須です。");
+        return counter(productId).map(InMemoryStockRepository::toStock);
+    }
+
+    /**
+     * 商品の在庫を、在庫が足りる場合だけメモリ上で減算する
+     * @param productId 商品Id(VO)
+     * @param amount 減算量
+     * @return 減算後の在庫(在庫不足・商品が存在しない場合は空)
+     */
+    @Override
+    public Optional<Stock> decreaseIfAvailable(ProductId productId, int amount) {
+        if (productId == null) throw new DomainException("商品Idは必須です。");
+        if (amount < 1 || amount > StockQuantity.MAX) {
+            throw new DomainException(
+                "在庫の減分は 1 以上 " + StockQuantity.MAX + " 以下で指定してください。: " + amount);
+        }
+        return counter(productId)
+            .filter(c -> c.tryDecrease(amount))
+            .map(InMemoryStockRepository::toStock);
+    }
+
+    /**
+     * 複数商品の在庫数へ増減量をメモリ上でまとめて反映する
+     * @param deltas 商品Id → 増減量
+     * @return 反映結果(それぞれ商品UUID順)
+     */
+    @Override
+    public AdjustmentResult applyDeltas(Map<ProductId, Integer> deltas) {
+        if (deltas == null) throw new DomainException("在庫の増減量は必須です。");
+        var productIds = new ArrayList<ProductId>(deltas.keySet());
+        for (var productId : productIds) {
+            if (productId == null) throw new DomainException("商品Idは必須です。");
+            if (deltas.get(productId) == null) throw new DomainException("在庫の増減量は必須です。");
+        }
+        productIds.sort(Comparator.comparing(ProductId::toUuid));
+
+        var applied = new ArrayList<Applied>(productIds.size());
+        var rejected = new ArrayList<Rejected>();
+        for (var productId : productIds) {
+            int delta = deltas.get(productId);
+            var counter = counter(productId);
+            if (counter.isEmpty()) {
+                rejected.add(new Rejected(productId, delta, RejectReason.NOT_FOUND, null));
+            } else if (counter.get().tryAdjust(delta)) {
+                applied.add(new Applied(productId, toStock(counter.get())));
+            } else {
+                rejected.add(new Rejected(productId, delta, RejectReason.OUT_OF_RANGE, counter.get().sum()));
+            }
+        }
+        return new AdjustmentResult(applied, rejected);
+    }
+
+    /**
+     * 注文の全明細の在庫を、すべて足りる場合だけメモリ上でまとめて減算する
+     * <p>商品UUID順に1明細ずつ保留として減算し、足りない明細があれば減算済みの明細を戻す(商品をまたぐロックは取らない)。
+     * そのため、戻すまでの間は他の引当から減算済みの在庫数が見え、その間に他の引当が断られることがある。
+     * 保留中の在庫数は加算の上限の判定に含まれるため、戻す処理は他の加算と競合しても失敗しない。</p>
+     * @param quantities 商品Id → 減算量
+     * @return 引当結果(明細は引数の反復順)
+     */
+    @Override
+    public AllocationResult allocateAll(Map<ProductId, Integer> quantities) {
+        if (quantities == null) throw new DomainException("注文の明細は必須です。");
+        var productIds = new ArrayList<ProductId>(quantities.keySet());
+        for (var productId : productIds) {
+            if (productId == null) throw new DomainException("商品Idは必須です。");
+            var amount = quantities.get(productId);
+            if (amount == null || amount < 1 || amount > StockQuantity.MAX) {
+                throw new DomainException(
+                    "在庫の減分は 1 以上 " + StockQuantity.MAX + " 以下で指定してください。: " + amount);
+            }
+        }
+        var sorted = new ArrayList<ProductId>(productIds);
+        sorted.sort(Comparator.comparing(ProductId::toUuid));
+
+        var decreased = new ArrayList<StripedStockCounter>(sorted.size());
+        var failed = new HashMap<ProductId, AllocationLine>();
+        for (var productId : sorted) {
+            int amount = quantities.get(productId);
+            var counter = counter(productId);
+            if (counter.isEmpty()) {
+                failed.put(productId, new AllocationLine(productId, amount, AllocationStatus.NOT_FOUND, null, null));
+            } else if (failed.isEmpty() && counter.get().tryHold(amount)) {
+                decreased.add(counter.get());
+            } else {
+                int available = counter.get().sum();
+                var status = available < amount ? AllocationStatus.INSUFFICIENT : AllocationStatus.SKIPPED;
+                failed.put(productId, new AllocationLine(productId, amount, status, available, null));
+            }
+        }
+
+        var lines = new ArrayList<AllocationLine>(productIds.size());
+        if (failed.isEmpty()) {
+            // decreased は sorted の先頭から順に減算した明細
+            for (int i = 0; i < decreased.size(); i++) {
+                decreased.get(i).release(quantities.get(sorted.get(i)));
+            }
+            for (var productId : productIds) {
+                var counter = counters.get(productId);
+                int amount = quantities.get(productId);
+                var stock = toStock(counter);
+                lines.add(new AllocationLine(productId, amount, AllocationStatus.ALLOCATED, stock.getQuantity().value() + amount, stock));
+            }
+            return new AllocationResult(true, lines);
+        }
+        for (int i = 0; i < decreased.size(); i++) {
+            decreased.get(i).restore(quantities.get(sorted.get(i)));
+        }
+        for (var productId : productIds) {
+            var line = failed.get(productId);
+            if (line == null) {
+                int amount = quantities.get(productId);
+                line = new AllocationLine(productId, amount, AllocationStatus.SKIPPED, counters.get(productId).sum(), null);
+            }
+            lines.add(line);
+        }
+        return new AllocationResult(false, lines);
+    }
+
+    /**
+     * 変更のあった商品の在庫数をDBへ書き戻す
+     * <p>変更のあった商品1件につき1回の {@code UPDATE}(現在の在庫数で上書き)を、1回のバッチで送信する。
+     * 失敗した場合は変更ありのまま残し、次回に再度書き戻す。</p>
+     * @return 書き戻した商品の件数
+     */
+    @Scheduled(
+        fixedDelayString = "${app.stock.flush-interval:PT1S}",
+        initialDelayString = "${app.stock.flush-interval:PT1S}")
+    public synchronized int flush() {
+        var st = ProductStockTable.PRODUCT_STOCK;
+        var productIds = new ArrayList<ProductId>();
+        var dirty = new ArrayList<StripedStockCounter>();
+        var modifications = new ArrayList<Long>();
+        counters.forEach((productId, counter) -> {
+            long pending = counter.pendingModifications();
+            if (pending >= 0) {
+                productIds.add(productId);
+                dirty.add(counter);
+                modifications.add(pending);
+            }
+        });
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+        try {
+            var batch = dsl.batch(dsl.update(st).set(st.STOCK, (Integer) null).where(st.STOCK_UUID.eq((UUID) null)));
+            for (var counter : dirty) {
+                // 変更回数を読んだ後の在庫数を書くため、書き戻した値は記録した変更回数以降の状態となる
+                batch.bind(counter.sum(), counter.stockId().toUuid());
+            }
+            batch.execute();
+        } catch (DataAccessException ex) {
+            throw new InternalException("在庫情報の書き戻し中にデータベースエラーが発生しました。", ex);
+        }
+        for (int i = 0; i < dirty.size(); i++) {
+            dirty.get(i).markFlushed(modifications.get(i));
+        }
+        productCache.evict(productIds);
+        return dirty.size();
+    }
+
+    /**
+     * 終了時に書き戻す
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 商品のカウンタを取得する(メモリ上に無ければDBから読み込む)
+     */
+    private Optional<StripedStockCounter> counter(ProductId productId) {
+        var counter = counters.get(productId);
+        if (counter != null) {
+            return Optional.of(counter);
+        }
+        return delegate.findByProductId(productId).map(stock -> counters.computeIfAbsent(productId,
+            k -> new StripedStockCounter(stock.getStockId(), stock.getQuantity().value(), stripes)));
+    }
+
+    /**
+     * カウンタの範囲はメモリ上で保証されているため再検証しない
+     */
+    private static Stock toStock(StripedStockCounter counter) {
+        return Stock.restoreTrusted(Trusted.TOKEN,
+            counter.stockId(), StockQuantity.trusted(Trusted.TOKEN, counter.sum()));
+    }
+}
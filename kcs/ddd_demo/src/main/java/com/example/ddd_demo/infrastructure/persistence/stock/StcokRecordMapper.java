@@ -39,9 +39,10 @@ public interface StcokRecordMapper extends DomainBiMapper<ProductStockRecord, St
         if (quantity == null) {
             throw new DomainException("在庫数が未設定です。");
         }
-        return Stock.restore(
-            StockId.fromString(stockUuid.toString()),
-            StockQuantity.of(quantity)
+        // 在庫数の範囲はDBのCHECK制約で保証されているため再検証しない
+        return Stock.restoreTrusted(Trusted.TOKEN,
+            StockId.fromUuid(stockUuid),
+            StockQuantity.trusted(Trusted.TOKEN, quantity)
         );
     } 
 
@@ -58,7 +59,7 @@ public interface StcokRecordMapper extends DomainBiMapper<ProductStockRecord, St
             throw new DomainException("Stockエンティティがnullです。");
         }
         var rec = new ProductStockRecord();
-        rec.setStockUuid(UUID.fromString(domain.getStockId().value()));
+        rec.setStockUuid(domain.getStockId().toUuid());
         rec.setStock(domain.getQuantity().value());
         return rec;
     }
@@ -0,0 +1,381 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Row2;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.Stock;
+import com.example.ddd_demo.domain.models.stock.StockId;
+import com.example.ddd_demo.domain.models.stock.StockQuantity;
+import com.example.ddd_demo.domain.models.stock.StockRepository;
+import com.example.ddd_demo.infrastructure.exception.InternalException;
+import com.example.ddd_demo.infrastructure.persistence.product.CachingProductRepository;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductStockTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * StockRepositoryインターフェイス実装のjOOQ
+ *
+ * <p>在庫の変更は商品集約のキャッシュ({@link CachingProductRepository})に載っている在庫数を古くするため、
+ * 変更した商品のキャッシュを無効化する。</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockJooqRepository implements StockRepository {
+
+    /**
+     * 一括調整時に1回のSQL文で扱う最大件数(バインド変数の上限を超えないよう分割する)
+     */
+    static final int ADJUST_CHUNK_SIZE = 1000;
+
+    /**
+     * 注文の引当を1回で行うSQL文({@link #allocateAll} を参照)。バインド変数は商品UUIDの配列と減算量の配列
+     */
+    static final String ALLOCATE_SQL = """
+        WITH line AS (
+            SELECT l.ord, l.quantity, p.id AS product_id
+              FROM unnest(?::uuid[], ?::integer[]) WITH ORDINALITY AS l(product_uuid, quantity, ord)
+              LEFT JOIN product p ON p.product_uuid = l.product_uuid
+        ),
+        locked AS (
+            SELECT st.product_id, st.stock - st.reserved AS available
+              FROM product_stock st
+             WHERE st.product_id IN (SELECT product_id FROM line)
+             ORDER BY st.product_id
+               FOR UPDATE
+        ),
+        decision AS (
+            SELECT bool_and(k.available IS NOT NULL AND k.available >= line.quantity) AS ok
+              FROM line LEFT JOIN locked k ON k.product_id = line.product_id
+        ),
+        updated AS (
+            UPDATE product_stock st
+               SET stock = st.stock - line.quantity
+              FROM line, decision
+             WHERE decision.ok
+               AND st.product_id = line.product_id
+               AND st.stock - st.reserved >= line.quantity
+            RETURNING st.product_id, st.stock_uuid, st.stock
+        )
+        SELECT line.ord, line.product_id IS NOT NULL AS found, k.available, u.stock_uuid, u.stock
+          FROM line
+          LEFT JOIN locked k ON k.product_id = line.product_id
+          LEFT JOIN updated u ON u.product_id = line.product_id
+         ORDER BY line.ord
+        """;
+
+    /**
+     * jOOQ のクエリ実行を担う DSLContext
+     */
+    private final DSLContext dsl;
+    /**
+     * 商品集約のキャッシュ(在庫を変更した商品を無効化する)
+     */
+    private final CachingProductRepository productCache;
+
+    /**
+     * 新しい商品在庫を永続化する
+     * <p>在庫は商品に従属し、外部キー(product_id)を在庫単体からは決められないため、
+     * 商品集約の登録({@code ProductRepository#create})と同時にのみ登録する。</p>
+     * @throws DomainException 常にスローする
+     */
+    @Override
+    public void create(Stock stock) {
+        throw new DomainException("在庫は商品の登録と同時に登録してください。");
+    }
+
+    /**
+     * 商品Idで在庫を取得する
+     * @param productId 商品Id(VO)
+     * @return 在庫(存在しない場合は空)
+     */
+    @Override
+    public Optional<Stock> findByProductId(ProductId productId) {
+        if (productId == null) throw new DomainException("商品Idは必須です。");
+        try {
+            var st = ProductStockTable.PRODUCT_STOCK;
+            return dsl.select(st.STOCK_UUID, st.STOCK)
+                .from(st)
+                .where(st.PRODUCT_ID.eq(productPk(productId)))
+                .fetchOptional()
+                .map(r -> toStock(r.value1(), r.value2()));
+        } catch (DataAccessException ex) {
+            throw new InternalException("在庫情報の取得中にデータベースエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 商品の在庫を、在庫が足りる場合だけ減算する
+     *
+     * <p>判定と減算を1つのSQL文で行う(読み取り→書き戻しを行わない)。</p>
+     * <pre>{@code
+     * UPDATE product_stock SET stock = stock - ?
+     *  WHERE product_id = (SELECT id FROM product WHERE product_uuid = ?) AND stock - reserved >= ?
+     * RETURNING stock_uuid, stock
+     * }</pre>
+     * <p>在庫の予約({@code reserved})で仮押さえされた数量は引き当てない。</p>
+     * <p>同じ行への同時更新は行ロックで直列化され、後続の更新は先行の更新がコミットした後の値で
+     * WHERE句を再評価する(READ COMMITTED)。そのため在庫数が負になることはない。</p>
+     *
+     * @param productId 商品Id(VO)
+     * @param amount 減算量
+     * @return 減算後の在庫(在庫不足・商品が存在しない場合は空)
+     */
+    @Override
+    public Optional<Stock> decreaseIfAvailable(ProductId productId, int amount) {
+        if (productId == null) throw new DomainException("商品Idは必須です。");
+        if (amount < 1 || amount > StockQuantity.MAX) {
+            throw new DomainException(
+                "在庫の減分は 1 以上 " + StockQuantity.MAX + " 以下で指定してください。: " + amount);
+        }
+        try {
+            var st = ProductStockTable.PRODUCT_STOCK;
+            var updated = dsl.update(st)
+                .set(st.STOCK, st.STOCK.minus(amount))
+                .where(st.PRODUCT_ID.eq(productPk(productId)))
+                // 予約中の数量(reserved)は引き当てない
+                .and(st.STOCK.minus(st.RESERVED).ge(amount))
+                .returning(st.STOCK_UUID, st.STOCK)
+                .fetchOptional()
+                .map(r -> toStock(r.get(st.STOCK_UUID), r.get(st.STOCK)));
+            updated.ifPresent(s -> productCache.evict(productId));
+            return updated;
+        } catch (DataAccessException ex) {
+            throw new InternalException("在庫の引当中にデータベースエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 複数商品の在庫数へ増減量をまとめて反映する
+     *
+     * <p>はじめに、対象の在庫の行をすべて商品の主キー順に {@code FOR UPDATE} でロックする
+     * (商品UUIDは配列の1つのバインド変数で渡す)。</p>
+     * <pre>{@code
+     * SELECT product_stock.product_id FROM product_stock
+     *  WHERE product_stock.product_id IN (SELECT product.id FROM product WHERE product.product_uuid = ANY(?))
+     *  ORDER BY product_stock.product_id
+     *    FOR UPDATE
+     * }</pre>
+     * <p>ロックの取得順は注文の引当({@link #allocateAll})・在庫の移動の反映と同じ主キー順となるため、
+     * これらと同じ商品を含んでもデッドロックしない。{@code UPDATE ... FROM} だけでは、
+     * 行をロックする順序は結合の実行計画次第となり保証されない。</p>
+     * <p>続いて、{@value #ADJUST_CHUNK_SIZE}件ごとのチャンク単位で、ロック済みの行へ以下のSQL文を1回だけ発行する。
+     * 商品ごとにUPDATEする場合と異なり、往復回数は商品数ではなくチャンク数に比例する。</p>
+     * <pre>{@code
+     * UPDATE product_stock SET stock = product_stock.stock + d.delta
+     *   FROM (VALUES (?, ?), (?, ?), ...) AS d(product_uuid, delta)
+     *   JOIN product ON product.product_uuid = d.product_uuid
+     *  WHERE product_stock.product_id = product.id
+     *    AND d.delta BETWEEN product_stock.reserved - product_stock.stock AND 100 - product_stock.stock
+     * RETURNING product.product_uuid, product_stock.stock_uuid, product_stock.stock
+     * }</pre>
+     * <p>減算の下限は予約中の数量(reserved)とする(予約済みの在庫は減らさない)。
+     * 範囲の判定はSQL内で行い(加算前の値と比較するため桁あふれしない)、
+     * 範囲外となる行は更新せずRETURNINGにも含まれない。RETURNINGに含まれなかった商品だけを
+     * 再度取得し、在庫不足・超過({@link RejectReason#OUT_OF_RANGE})か商品が存在しない
+     * ({@link RejectReason#NOT_FOUND})かを判別する。</p>
+     *
+     * @param deltas 商品Id → 増減量
+     * @return 反映結果(それぞれ商品UUID順)
+     */
+    @Override
+    public AdjustmentResult applyDeltas(Map<ProductId, Integer> deltas) {
+        if (deltas == null) throw new DomainException("在庫の増減量は必須です。");
+        var entries = new ArrayList<Map.Entry<ProductId, Integer>>(deltas.size());
+        for (var entry : deltas.entrySet()) {
+            if (entry.getKey() == null) throw new DomainException("商品Idは必須です。");
+            if (entry.getValue() == null) throw new DomainException("在庫の増減量は必須です。");
+            entries.add(Map.entry(entry.getKey(), entry.getValue()));
+        }
+        entries.sort(Map.Entry.comparingByKey(Comparator.comparing(ProductId::toUuid)));
+        try {
+            lockRows(entries);
+            var applied = new ArrayList<Applied>(entries.size());
+            var rejected = new ArrayList<Rejected>();
+            for (int from = 0; from < entries.size(); from += ADJUST_CHUNK_SIZE) {
+                var chunk = entries.subList(from, Math.min(from + ADJUST_CHUNK_SIZE, entries.size()));
+                applyChunk(chunk, applied, rejected);
+            }
+            if (!applied.isEmpty()) {
+                productCache.evict(applied.stream().map(Applied::productId).toList());
+            }
+            return new AdjustmentResult(applied, rejected);
+        } catch (DataAccessException ex) {
+            throw new InternalException("在庫の一括調整中にデータベースエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 対象の在庫の行を商品の主キー順にロックする
+     * @param entries 商品Idと増減量
+     */
+    private void lockRows(List<Map.Entry<ProductId, Integer>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        var pt = ProductTable.PRODUCT;
+        var st = ProductStockTable.PRODUCT_STOCK;
+        var uuids = entries.stream()
+            .map(e -> e.getKey().toUuid())
+            .toArray(UUID[]::new);
+        dsl.select(st.PRODUCT_ID)
+            .from(st)
+            .where(st.PRODUCT_ID.in(DSL.select(pt.ID).from(pt).where(pt.PRODUCT_UUID.eq(DSL.any(uuids)))))
+            .orderBy(st.PRODUCT_ID)
+            .forUpdate()
+            .execute();
+    }
+
+    /**
+     * 1チャンク分の増減量を反映する
+     * @param chunk 商品Idと増減量(商品UUID順)
+     * @param applied 反映した在庫の格納先
+     * @param rejected 反映しなかった在庫の格納先
+     */
+    private void applyChunk(
+        List<Map.Entry<ProductId, Integer>> chunk, List<Applied> applied, List<Rejected> rejected) {
+        var pt = ProductTable.PRODUCT;
+        var st = ProductStockTable.PRODUCT_STOCK;
+
+        @SuppressWarnings("unchecked")
+        Row2<UUID, Integer>[] rows = new Row2[chunk.size()];
+        for (int i = 0; i < rows.length; i++) {
+            var entry = chunk.get(i);
+            rows[i] = DSL.row(entry.getKey().toUuid(), entry.getValue());
+        }
+        var d = DSL.values(rows).as("d", "product_uuid", "delta");
+        var productUuid = d.field("product_uuid", UUID.class);
+        var delta = d.field("delta", Integer.class);
+
+        Map<UUID, Stock> updated = new HashMap<>(chunk.size() * 2);
+        dsl.update(st)
+            .set(st.STOCK, st.STOCK.plus(delta))
+            .from(d.join(pt).on(pt.PRODUCT_UUID.eq(productUuid)))
+            .where(st.PRODUCT_ID.eq(pt.ID))
+            .and(delta.between(st.RESERVED.minus(st.STOCK), DSL.val(StockQuantity.MAX).minus(st.STOCK)))
+            .returningResult(pt.PRODUCT_UUID, st.STOCK_UUID, st.STOCK)
+            .fetch()
+            .forEach(r -> updated.put(r.value1(), toStock(r.value2(), r.value3())));
+
+        // 反映しなかった商品だけ現在の在庫数を取得し、理由を判別する
+        var missing = chunk.stream()
+            .map(e -> e.getKey().toUuid())
+            .filter(uuid -> !updated.containsKey(uuid))
+            .toList();
+        Map<UUID, Integer> current = missing.isEmpty()
+            ? Map.of()
+            : dsl.select(pt.PRODUCT_UUID, st.STOCK)
+                .from(st)
+                .join(pt).on(st.PRODUCT_ID.eq(pt.ID))
+                .where(pt.PRODUCT_UUID.in(missing))
+                .fetchMap(pt.PRODUCT_UUID, st.STOCK);
+
+        for (var entry : chunk) {
+            var uuid = entry.getKey().toUuid();
+            var stock = updated.get(uuid);
+            if (stock != null) {
+                applied.add(new Applied(entry.getKey(), stock));
+            } else if (current.containsKey(uuid)) {
+                rejected.add(new Rejected(entry.getKey(), entry.getValue(), RejectReason.OUT_OF_RANGE, current.get(uuid)));
+            } else {
+                rejected.add(new Rejected(entry.getKey(), entry.getValue(), RejectReason.NOT_FOUND, null));
+            }
+        }
+    }
+
+    /**
+     * 注文の全明細の在庫を、すべて足りる場合だけまとめて減算する
+     *
+     * <p>明細の件数によらず、{@link #ALLOCATE_SQL} を1回だけ発行する(明細は配列の2つのバインド変数で渡す)。</p>
+     * <ol>
+     *   <li>{@code locked}: 関係する在庫の行を商品の主キー順に {@code FOR UPDATE} でロックし、最新の引当可能数を読む。
+     *       ロックの取得順が常に主キー順のため、同じ商品を異なる順序で含む注文どうしでもデッドロックしない</li>
+     *   <li>{@code decision}: すべての明細の商品が存在し、引当可能数(在庫数 − 予約中の数量)が足りるかを判定する</li>
+     *   <li>{@code updated}: 足りる場合だけ、ロック済みの行を1回の {@code UPDATE ... FROM} で減算する</li>
+     * </ol>
+     * <p>明細ごとの引当可能数と減算後の在庫を入力順に返すため、引き当てられなかった理由を追加の問い合わせなしで判別できる。</p>
+     *
+     * @param quantities 商品Id → 減算量
+     * @return 引当結果(明細は引数の反復順)
+     */
+    @Override
+    public AllocationResult allocateAll(Map<ProductId, Integer> quantities) {
+        if (quantities == null) throw new DomainException("注文の明細は必須です。");
+        var productIds = new ArrayList<ProductId>(quantities.size());
+        var uuids = new UUID[quantities.size()];
+        var amounts = new Integer[quantities.size()];
+        for (var entry : quantities.entrySet()) {
+            if (entry.getKey() == null) throw new DomainException("商品Idは必須です。");
+            var amount = entry.getValue();
+            if (amount == null || amount < 1 || amount > StockQuantity.MAX) {
+                throw new DomainException(
+                    "在庫の減分は 1 以上 " + StockQuantity.MAX + " 以下で指定してください。: " + amount);
+            }
+            uuids[productIds.size()] = entry.getKey().toUuid();
+            amounts[productIds.size()] = amount;
+            productIds.add(entry.getKey());
+        }
+        if (productIds.isEmpty()) {
+            return new AllocationResult(true, List.of());
+        }
+        try {
+            var records = dsl.resultQuery(ALLOCATE_SQL, uuids, amounts).fetch();
+            boolean allocated = records.stream().allMatch(r -> r.get(3) != null);
+            var lines = new ArrayList<AllocationLine>(records.size());
+            for (var r : records) {
+                int i = r.get(0, Integer.class) - 1;
+                var available = r.get(2, Integer.class);
+                AllocationStatus status;
+                Stock stock = null;
+                if (allocated) {
+                    status = AllocationStatus.ALLOCATED;
+                    stock = toStock(r.get(3, UUID.class), r.get(4, Integer.class));
+                } else if (!r.get(1, Boolean.class) || available == null) {
+                    status = AllocationStatus.NOT_FOUND;
+                } else if (available < amounts[i]) {
+                    status = AllocationStatus.INSUFFICIENT;
+                } else {
+                    status = AllocationStatus.SKIPPED;
+                }
+                lines.add(new AllocationLine(productIds.get(i), amounts[i], status, available, stock));
+            }
+            if (allocated) {
+                productCache.evict(productIds);
+            }
+            return new AllocationResult(allocated, lines);
+        } catch (DataAccessException ex) {
+            throw new InternalException("注文の在庫の引当中にデータベースエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 商品UUIDから主キー(product.id)を求めるスカラー副問い合わせ
+     */
+    private Field<Integer> productPk(ProductId productId) {
+        var pt = ProductTable.PRODUCT;
+        return dsl.select(pt.ID).from(pt).where(pt.PRODUCT_UUID.eq(productId.toUuid())).asField();
+    }
+
+    /**
+     * 在庫数はDBのCHECK制約で保証されているため再検証しない
+     */
+    private static Stock toStock(UUID stockUuid, int quantity) {
+        return Stock.restoreTrusted(Trusted.TOKEN,
+            StockId.fromUuid(stockUuid), StockQuantity.trusted(Trusted.TOKEN, quantity));
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.ddd_demo.infrastructure.exception.InternalException;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementAppliedTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementDailyTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementRejectionTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementTable;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 在庫の移動の台帳({@code stock_movement})の日別パーティションを管理する
+ *
+ * <ul>
+ *   <li>起動時と {@code app.stock.ledger.compact-cron} の実行ごとに、前日から {@code app.stock.ledger.partitions-ahead}
+ *       日後までのパーティション(UTCの1日ごと)を作成しておく</li>
+ *   <li>{@code app.stock.ledger.retention} より古く、すべての移動が処理済み(反映・不成立のいずれかを記録済み)のパーティションは、
+ *       商品ごとの日別集計({@code stock_movement_daily})へまとめてから削除する。
+ *       行単位の {@code DELETE} ではなくパーティションごと削除するため、台帳の肥大化やVACUUMの負荷が生じない</li>
+ * </ul>
+ * <p>台帳と同じく {@code app.stock.engine=DATABASE}(既定)の場合だけ登録する。</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.stock.engine", havingValue = "DATABASE", matchIfMissing = true)
+public class StockLedgerCompactor {
+
+    /**
+     * パーティション名の接頭辞(後ろに日付 yyyyMMdd が続く)
+     */
+    static final String PARTITION_PREFIX = "stock_movement_p";
+    private static final DateTimeFormatter PARTITION_DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * jOOQ のクエリ実行を担う DSLContext
+     */
+    private final DSLContext dsl;
+    /**
+     * パーティションごとのトランザクション
+     */
+    private final TransactionTemplate transaction;
+    /**
+     * パーティションの保持期間
+     */
+    private final Duration retention;
+    /**
+     * 事前に作成しておくパーティションの日数
+     */
+    private final int partitionsAhead;
+
+    /**
+     * コンストラクタ
+     * @param dsl jOOQ のクエリ実行を担う DSLContext
+     * @param transaction パーティションごとのトランザクション
+     * @param retention パーティションの保持期間(日単位)
+     * @param partitionsAhead 事前に作成しておくパーティションの日数
+     */
+    public StockLedgerCompactor(
+        DSLContext dsl,
+        TransactionTemplate transaction,
+        @Value("${app.stock.ledger.retention:P30D}") Duration retention,
+        @Value("${app.stock.ledger.partitions-ahead:7}") int partitionsAhead) {
+        if (retention.toDays() < 1) {
+            throw new IllegalArgumentException("パーティションの保持期間は1日以上で指定してください。: " + retention);
+        }
+        if (partitionsAhead < 1) {
+            throw new IllegalArgumentException("事前に作成するパーティションは1日以上で指定してください。: " + partitionsAhead);
+        }
+        this.dsl = dsl;
+        this.transaction = transaction;
+        this.retention = retention;
+        this.partitionsAhead = partitionsAhead;
+    }
+
+    /**
+     * 前日から指定日数後までのパーティションを作成する(作成済みのパーティションはそのまま)
+     */
+    @PostConstruct
+    public void ensurePartitions() {
+        var today = LocalDate.now(ZoneOffset.UTC);
+        try {
+            for (var day = today.minusDays(1); !day.isAfter(today.plusDays(partitionsAhead)); day = day.plusDays(1)) {
+                createPartition(day);
+            }
+        } catch (DataAccessException ex) {
+            throw new InternalException("在庫の移動のパーティションの作成中にデータベースエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 指定した日(UTC)のパーティションを作成する(作成済みの場合は何もしない)
+     * @return パーティション名
+     */
+    String createPartition(LocalDate day) {
+        return dsl.select(DSL.function(
+                DSL.name("public", "create_stock_movement_partition"), String.class, DSL.val(day)))
+            .fetchOne()
+            .value1();
+    }
+
+    /**
+     * パーティションを作成し、保持期間を過ぎたパーティションを集計して削除する
+     * @return 削除したパーティションの日付
+     */
+    @Scheduled(cron = "${app.stock.ledger.compact-cron:0 30 3 * * *}", zone = "UTC")
+    public List<LocalDate> compact() {
+        ensurePartitions();
+        return compactBefore(LocalDate.now(ZoneOffset.UTC).minusDays(retention.toDays()));
+    }
+
+    /**
+     * 指定日より前の、すべての移動が反映済みのパーティションを集計して削除する
+     * @param before この日より前のパーティションが対象
+     * @return 削除したパーティションの日付
+     */
+    List<LocalDate> compactBefore(LocalDate before) {
+        try {
+            var compacted = new ArrayList<LocalDate>();
+            for (var day : partitionDays()) {
+                if (day.isBefore(before) && Boolean.TRUE.equals(transaction.execute(status -> compactPartition(day)))) {
+                    compacted.add(day);
+                }
+            }
+            return compacted;
+        } catch (DataAccessException ex) {
+            throw new InternalException("在庫の移動のパーティションの集計中にデータベースエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 作成済みのパーティションの日付(昇順)
+     */
+    private List<LocalDate> partitionDays() {
+        var names = dsl.resultQuery(
+                "SELECT c.relname FROM pg_catalog.pg_inherits i"
+                    + " JOIN pg_catalog.pg_class c ON c.oid = i.inhrelid"
+                    + " WHERE i.inhparent = 'public.stock_movement'::regclass")
+            .fetch(0, String.class);
+        var days = new ArrayList<LocalDate>(names.size());
+        for (var name : names) {
+            if (!name.startsWith(PARTITION_PREFIX)) continue;
+            try {
+                days.add(LocalDate.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_DAY));
+            } catch (DateTimeParseException ex) {
+                // 命名規則に沿わないパーティションは管理対象外
+            }
+        }
+        days.sort(null);
+        return days;
+    }
+
+    /**
+     * 1日分のパーティションを日別集計へまとめてから削除する(未処理の移動が残る場合は何もしない)
+     *
+     * <p>パーティションを SHARE モードでロックしてから未処理の移動の有無を確かめる
+     * (実行中の追記の完了を待ち、確認から削除までの間の追記を防ぐ)。</p>
+     * <pre>{@code
+     * INSERT INTO stock_movement_daily (product_id, day, net_delta, applied, rejected)
+     * SELECT m.product_id, ?, sum(m.delta) FILTER (WHERE a.movement_uuid IS NOT NULL), ...
+     *   FROM stock_movement m LEFT JOIN stock_movement_applied a ON ... LEFT JOIN stock_movement_rejection r ON ...
+     *  WHERE m.created_at >= ? AND m.created_at < ?
+     *  GROUP BY m.product_id
+     * ON CONFLICT (product_id, day) DO UPDATE SET net_delta = stock_movement_daily.net_delta + excluded.net_delta, ...
+     * }</pre>
+     * @return 削除した場合は {@code true}
+     */
+    private boolean compactPartition(LocalDate day) {
+        var m = StockMovementTable.STOCK_MOVEMENT;
+        var a = StockMovementAppliedTable.STOCK_MOVEMENT_APPLIED;
+        var r = StockMovementRejectionTable.STOCK_MOVEMENT_REJECTION;
+        var d = StockMovementDailyTable.STOCK_MOVEMENT_DAILY;
+        var start = day.atStartOfDay().atOffset(ZoneOffset.UTC);
+        var end = start.plusDays(1);
+        var partition = DSL.name("public", PARTITION_PREFIX + day.format(PARTITION_DAY));
+
+        dsl.query("LOCK TABLE {0} IN SHARE MODE", partition).execute();
+        // 反映・不成立のどちらも記録されていない移動が残るパーティションは削除しない
+        boolean pending = dsl.fetchExists(DSL.selectOne()
+            .from(m)
+            .where(m.CREATED_AT.ge(start))
+            .and(m.CREATED_AT.lt(end))
+            .andNotExists(DSL.selectOne().from(a)
+                .where(a.CREATED_AT.eq(m.CREATED_AT)).and(a.MOVEMENT_UUID.eq(m.MOVEMENT_UUID)))
+            .andNotExists(DSL.selectOne().from(r)
+                .where(r.CREATED_AT.eq(m.CREATED_AT)).and(r.MOVEMENT_UUID.eq(m.MOVEMENT_UUID))));
+        if (pending) {
+            return false;
+        }
+
+        var applied = a.MOVEMENT_UUID.isNotNull();
+        dsl.insertInto(d, d.PRODUCT_ID, d.DAY, d.NET_DELTA, d.APPLIED, d.REJECTED)
+            .select(DSL.select(
+                    m.PRODUCT_ID,
+                    DSL.val(day),
+                    DSL.coalesce(DSL.sum(m.DELTA).filterWhere(applied), DSL.inline(0)).cast(Integer.class),
+                    DSL.count(a.MOVEMENT_UUID).cast(Long.class),
+                    DSL.count(r.MOVEMENT_UUID).cast(Long.class))
+                .from(m)
+                .leftJoin(a).on(a.CREATED_AT.eq(m.CREATED_AT)).and(a.MOVEMENT_UUID.eq(m.MOVEMENT_UUID))
+                .leftJoin(r).on(r.CREATED_AT.eq(m.CREATED_AT)).and(r.MOVEMENT_UUID.eq(m.MOVEMENT_UUID))
+                .where(m.CREATED_AT.ge(start))
+                .and(m.CREATED_AT.lt(end))
+                .groupBy(m.PRODUCT_ID))
+            .onConflict(d.PRODUCT_ID, d.DAY)
+            .doUpdate()
+            .set(d.NET_DELTA, d.NET_DELTA.plus(DSL.excluded(d.NET_DELTA)))
+            .set(d.APPLIED, d.APPLIED.plus(DSL.excluded(d.APPLIED)))
+            .set(d.REJECTED, d.REJECTED.plus(DSL.excluded(d.REJECTED)))
+            .execute();
+
+        dsl.deleteFrom(a)
+            .where(a.CREATED_AT.ge(start))
+            .and(a.CREATED_AT.lt(end))
+            .execute();
+        dsl.deleteFrom(r)
+            .where(r.CREATED_AT.ge(start))
+            .and(r.CREATED_AT.lt(end))
+            .execute();
+
+        // パーティションを削除すると親テーブルからも外れる
+        dsl.dropTable(partition).execute();
+        return true;
+    }
+}
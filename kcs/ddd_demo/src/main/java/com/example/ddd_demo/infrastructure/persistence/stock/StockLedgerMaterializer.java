@@ -0,0 +1,226 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.jooq.DSLContext;
+import org.jooq.Row2;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.StockQuantity;
+import com.example.ddd_demo.infrastructure.exception.InternalException;
+import com.example.ddd_demo.infrastructure.persistence.product.CachingProductRepository;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductStockTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementAppliedTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementRejectionTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementWatermarkTable;
+
+/**
+ * 在庫の移動の台帳({@code stock_movement})を在庫数({@code product_stock.stock})へ反映する
+ *
+ * <p>{@code app.stock.ledger.materialize-interval} ごとに、処理済みの位置(ウォーターマーク)より後の移動を
+ * {@code (txid, movement_uuid)} の順に最大 {@code app.stock.ledger.batch-size} 件ずつ読み、
+ * 商品ごとに畳み込んでから在庫数を更新する。1バッチは1つのトランザクションで、</p>
+ * <ol>
+ *   <li>ウォーターマークの行をロックする(複数インスタンスで同時に反映しない)</li>
+ *   <li>対象の移動を読み、関係する在庫の行を商品の主キー順にロックする</li>
+ *   <li>移動を1件ずつ適用し、反映後の在庫数が範囲外(または予約中の数量未満)となる移動は適用せず
+ *       {@code stock_movement_rejection} に、適用した移動は {@code stock_movement_applied} に記録する</li>
+ *   <li>変わった在庫数を1回の {@code UPDATE} で書き込み、ウォーターマークを最後の移動まで進める</li>
+ * </ol>
+ * <p>を行う。在庫数・反映の記録・ウォーターマークは同時にコミットされるため、在庫数は常に反映済みと記録した移動だけを反映した値となる。
+ * 移動は在庫数への相対値として適用するため、在庫数を直接更新する他のエンドポイントとも共存できる。</p>
+ *
+ * <p>created_at(アプリケーションの時計)も txid(追記したトランザクションのId)もコミットの順序とは一致しない。
+ * そこで、読み取り時点のスナップショットの {@code pg_snapshot_xmin}(実行中の最も古いトランザクション)より前の
+ * txid の移動だけを対象とする。それらのトランザクションはすべて完了済みのため、後からウォーターマークより前の移動が
+ * コミットされることはない(GCの停止・遅いコミット・ロック待ち・時計のずれがあっても取りこぼさない)。
+ * 長時間実行中のトランザクションがある間は、それより後の移動の反映が遅れる。</p>
+ *
+ * <p>{@code app.stock.engine=IN_MEMORY} の場合は在庫数を絶対値で書き戻すため、反映を行わない。
+ * 台帳({@link StockMovementJooqRepository}・{@link StockLedgerCompactor})も登録せず、移動の記録を受け付けない。</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.stock.engine", havingValue = "DATABASE", matchIfMissing = true)
+public class StockLedgerMaterializer {
+
+    /**
+     * jOOQ のクエリ実行を担う DSLContext
+     */
+    private final DSLContext dsl;
+    /**
+     * 商品集約のキャッシュ(在庫数が変わった商品を無効化する)
+     */
+    private final CachingProductRepository productCache;
+    /**
+     * 1バッチごとのトランザクション
+     */
+    private final TransactionTemplate transaction;
+    /**
+     * 1バッチで反映する最大件数
+     */
+    private final int batchSize;
+
+    /**
+     * コンストラクタ
+     * @param dsl jOOQ のクエリ実行を担う DSLContext
+     * @param productCache 商品集約のキャッシュ
+     * @param transaction 1バッチごとのトランザクション
+     * @param batchSize 1バッチで反映する最大件数
+     */
+    public StockLedgerMaterializer(
+        DSLContext dsl,
+        CachingProductRepository productCache,
+        TransactionTemplate transaction,
+        @Value("${app.stock.ledger.batch-size:5000}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("バッチサイズは1以上で指定してください。: " + batchSize);
+        }
+        this.dsl = dsl;
+        this.productCache = productCache;
+        this.transaction = transaction;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 未反映の移動を在庫数へ反映する(反映待ちが無くなるまでバッチを繰り返す)
+     * @return 処理した移動の件数(反映しなかった移動を含む)
+     */
+    @Scheduled(
+        fixedDelayString = "${app.stock.ledger.materialize-interval:PT1S}",
+        initialDelayString = "${app.stock.ledger.materialize-interval:PT1S}")
+    public int materialize() {
+        int total = 0;
+        int processed;
+        do {
+            processed = transaction.execute(status -> materializeBatch());
+            total += processed;
+        } while (processed == batchSize);
+        return total;
+    }
+
+    /**
+     * 1バッチ分の移動を反映する
+     * @return 処理した移動の件数
+     */
+    private int materializeBatch() {
+        var m = StockMovementTable.STOCK_MOVEMENT;
+        var a = StockMovementAppliedTable.STOCK_MOVEMENT_APPLIED;
+        var r = StockMovementRejectionTable.STOCK_MOVEMENT_REJECTION;
+        var w = StockMovementWatermarkTable.STOCK_MOVEMENT_WATERMARK;
+        var st = ProductStockTable.PRODUCT_STOCK;
+        var pt = ProductTable.PRODUCT;
+        try {
+            var watermark = dsl.select(w.TXID, w.MOVEMENT_UUID)
+                .from(w)
+                .where(w.ID.eq((short) 1))
+                .forUpdate()
+                .fetchOptional()
+                .orElseThrow(() -> new InternalException("在庫の移動のウォーターマークが登録されていません。"));
+
+            // 完了済みのトランザクションが追記した移動だけを読む(同じ文のスナップショットで判定する)
+            var completedBefore = DSL.field("pg_snapshot_xmin(pg_current_snapshot())::text::bigint", Long.class);
+            var movements = dsl.select(m.CREATED_AT, m.MOVEMENT_UUID, m.PRODUCT_ID, m.DELTA, m.TXID)
+                .from(m)
+                .where(DSL.row(m.TXID, m.MOVEMENT_UUID).gt(watermark.value1(), watermark.value2()))
+                .and(m.TXID.lt(completedBefore))
+                .orderBy(m.TXID, m.MOVEMENT_UUID)
+                .limit(batchSize)
+                .fetch();
+            if (movements.isEmpty()) {
+                return 0;
+            }
+
+            // 関係する在庫の行を主キー順にロックし、現在の在庫数を読む(他の更新とのデッドロックを避ける)
+            var productIds = new TreeSet<Integer>();
+            movements.forEach(rec -> productIds.add(rec.value3()));
+            var stocks = new HashMap<Integer, Integer>(productIds.size() * 2);
+            var reserved = new HashMap<Integer, Integer>(productIds.size() * 2);
+            var productUuids = new HashMap<Integer, UUID>(productIds.size() * 2);
+            dsl.select(st.PRODUCT_ID, st.STOCK, pt.PRODUCT_UUID, st.RESERVED)
+                .from(st)
+                .join(pt).on(st.PRODUCT_ID.eq(pt.ID))
+                .where(st.PRODUCT_ID.in(productIds))
+                .orderBy(st.PRODUCT_ID)
+                .forUpdate().of(st)
+                .fetch()
+                .forEach(rec -> {
+                    stocks.put(rec.value1(), rec.value2());
+                    productUuids.put(rec.value1(), rec.value3());
+                    reserved.put(rec.value1(), rec.value4());
+                });
+
+            // 移動を順に適用する(範囲外となる移動・予約中の数量を下回る移動は適用しない)
+            var changed = new LinkedHashMap<Integer, Integer>();
+            var applied = dsl.insertInto(a, a.CREATED_AT, a.MOVEMENT_UUID);
+            var rejections = dsl.insertInto(r, r.CREATED_AT, r.MOVEMENT_UUID, r.STOCK);
+            boolean anyApplied = false;
+            boolean rejected = false;
+            for (var rec : movements) {
+                Integer current = changed.containsKey(rec.value3()) ? changed.get(rec.value3()) : stocks.get(rec.value3());
+                long next = current == null ? Long.MIN_VALUE : (long) current + rec.value4();
+                // 予約中の数量(0以上)を下限とする
+                int floor = reserved.getOrDefault(rec.value3(), StockQuantity.MIN);
+                if (next >= floor && next <= StockQuantity.MAX) {
+                    changed.put(rec.value3(), (int) next);
+                    applied = applied.values(rec.value1(), rec.value2());
+                    anyApplied = true;
+                } else {
+                    rejections = rejections.values(rec.value1(), rec.value2(), current);
+                    rejected = true;
+                }
+            }
+
+            if (!changed.isEmpty()) {
+                @SuppressWarnings("unchecked")
+                Row2<Integer, Integer>[] rows = new Row2[changed.size()];
+                int i = 0;
+                for (var e : changed.entrySet()) {
+                    rows[i++] = DSL.row(e.getKey(), e.getValue());
+                }
+                var d = DSL.values(rows).as("d", "product_id", "stock");
+                var productId = d.field("product_id", Integer.class);
+                var stock = d.field("stock", Integer.class);
+                dsl.update(st)
+                    .set(st.STOCK, stock)
+                    .from(d)
+                    .where(st.PRODUCT_ID.eq(productId))
+                    .execute();
+            }
+            if (anyApplied) {
+                applied.execute();
+            }
+            if (rejected) {
+                rejections.execute();
+            }
+
+            var last = movements.get(movements.size() - 1);
+            dsl.update(w)
+                .set(w.TXID, last.value5())
+                .set(w.MOVEMENT_UUID, last.value2())
+                .where(w.ID.eq((short) 1))
+                .execute();
+
+            if (!changed.isEmpty()) {
+                var evicted = new ArrayList<ProductId>(changed.size());
+                changed.keySet().forEach(id -> evicted.add(ProductId.fromUuid(productUuids.get(id))));
+                productCache.evict(evicted);
+            }
+            return movements.size();
+        } catch (DataAccessException ex) {
+            throw new InternalException("在庫の移動の反映中にデータベースエラーが発生しました。", ex);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.jooq.DSLContext;
+import org.jooq.Row4;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.StockMovement;
+import com.example.ddd_demo.domain.models.stock.StockMovementId;
+import com.example.ddd_demo.domain.models.stock.StockMovementRepository;
+import com.example.ddd_demo.infrastructure.exception.InternalException;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementAppliedTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementRejectionTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementTable;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * StockMovementRepositoryインターフェイス実装のjOOQ
+ *
+ * <p>移動は {@code stock_movement} へINSERTするだけで、{@code product_stock} の行には触れない
+ * (同じ商品への記録どうしが行ロックを奪い合わない)。在庫数への反映は {@link StockLedgerMaterializer} が行う。</p>
+ *
+ * <p>反映は {@code app.stock.engine=DATABASE}(既定)の場合だけ行うため、記録も同じ場合だけ受け付ける
+ * (反映されない移動は未処理のまま残り、パーティションも削除できなくなる)。</p>
+ */
+@Repository
+@ConditionalOnProperty(name = "app.stock.engine", havingValue = "DATABASE", matchIfMissing = true)
+@RequiredArgsConstructor
+public class StockMovementJooqRepository implements StockMovementRepository {
+
+    /**
+     * 1回のSQL文で追記する最大件数(バインド変数の上限を超えないよう分割する)
+     */
+    static final int APPEND_CHUNK_SIZE = 500;
+
+    /**
+     * jOOQ のクエリ実行を担う DSLContext
+     */
+    private final DSLContext dsl;
+
+    /**
+     * 在庫の移動をまとめて追記する
+     *
+     * <p>{@value #APPEND_CHUNK_SIZE}件ごとに、商品UUIDを主キーへ解決しながら1回のSQL文で追記する。
+     * 存在しない商品への移動はJOINで除外され、RETURNINGに含まれない。
+     * created_at には移動ID(UUIDv7)の発行時刻を格納する(移動IDだけで格納先のパーティションが決まる)。</p>
+     * <pre>{@code
+     * INSERT INTO stock_movement (movement_uuid, product_id, delta, created_at)
+     * SELECT d.movement_uuid, product.id, d.delta, d.created_at
+     *   FROM (VALUES (?, ?, ?, ?), ...) AS d(movement_uuid, product_uuid, delta, created_at)
+     *   JOIN product ON product.product_uuid = d.product_uuid
+     * RETURNING movement_uuid
+     * }</pre>
+     *
+     * @param movements 追記する移動
+     * @return 追記した移動(入力順)
+     */
+    @Override
+    public List<StockMovement> appendAll(List<StockMovement> movements) {
+        if (movements == null) throw new DomainException("在庫の移動は必須です。");
+        if (movements.contains(null)) throw new DomainException("在庫の移動にnullは指定できません。");
+        try {
+            var appended = new HashSet<UUID>(movements.size() * 2);
+            for (int from = 0; from < movements.size(); from += APPEND_CHUNK_SIZE) {
+                appended.addAll(appendChunk(movements.subList(from, Math.min(from + APPEND_CHUNK_SIZE, movements.size()))));
+            }
+            var result = new ArrayList<StockMovement>(appended.size());
+            for (var movement : movements) {
+                if (appended.contains(movement.getMovementId().toUuid())) {
+                    result.add(movement);
+                }
+            }
+            return result;
+        } catch (DataAccessException ex) {
+            throw new InternalException("在庫の移動の記録中にデータベースエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 1チャンク分の移動を追記する
+     * @return 追記した移動のUUID
+     */
+    private List<UUID> appendChunk(List<StockMovement> chunk) {
+        var m = StockMovementTable.STOCK_MOVEMENT;
+        var pt = ProductTable.PRODUCT;
+
+        @SuppressWarnings("unchecked")
+        Row4<UUID, UUID, Integer, OffsetDateTime>[] rows = new Row4[chunk.size()];
+        for (int i = 0; i < rows.length; i++) {
+            var movement = chunk.get(i);
+            var movementId = movement.getMovementId();
+            rows[i] = DSL.row(movementId.toUuid(), movement.getProductId().toUuid(), movement.getDelta(),
+                OffsetDateTime.ofInstant(movementId.createdAt(), ZoneOffset.UTC));
+        }
+        var d = DSL.values(rows).as("d", "movement_uuid", "product_uuid", "delta", "created_at");
+        var movementUuid = d.field("movement_uuid", UUID.class);
+        var productUuid = d.field("product_uuid", UUID.class);
+        var delta = d.field("delta", Integer.class);
+        var createdAt = d.field("created_at", OffsetDateTime.class);
+
+        return dsl.insertInto(m, m.MOVEMENT_UUID, m.PRODUCT_ID, m.DELTA, m.CREATED_AT)
+            .select(DSL.select(movementUuid, pt.ID, delta, createdAt)
+                .from(d)
+                .join(pt).on(pt.PRODUCT_UUID.eq(productUuid)))
+            .returningResult(m.MOVEMENT_UUID)
+            .fetch(m.MOVEMENT_UUID);
+    }
+
+    /**
+     * 移動IDを指定して、記録した移動と反映状況を取得する
+     * <p>移動IDの発行時刻(= created_at)で検索するため、対象のパーティションだけを参照する。
+     * 反映状況は、反映の記録({@code stock_movement_applied})・不成立の記録({@code stock_movement_rejection})の有無で判定する
+     * (どちらも在庫数の更新と同じトランザクションで記録される)。</p>
+     * @param movementId 移動ID
+     * @return 移動と反映状況(存在しない場合は空)
+     */
+    @Override
+    public Optional<Recorded> findById(StockMovementId movementId) {
+        if (movementId == null) throw new DomainException("移動IDは必須です。");
+        var m = StockMovementTable.STOCK_MOVEMENT;
+        var a = StockMovementAppliedTable.STOCK_MOVEMENT_APPLIED;
+        var r = StockMovementRejectionTable.STOCK_MOVEMENT_REJECTION;
+        var pt = ProductTable.PRODUCT;
+        var createdAt = OffsetDateTime.ofInstant(movementId.createdAt(), ZoneOffset.UTC);
+        try {
+            var applied = DSL.field(DSL.exists(DSL.selectOne().from(a)
+                .where(a.CREATED_AT.eq(m.CREATED_AT))
+                .and(a.MOVEMENT_UUID.eq(m.MOVEMENT_UUID))));
+            var rejected = DSL.field(DSL.exists(DSL.selectOne().from(r)
+                .where(r.CREATED_AT.eq(m.CREATED_AT))
+                .and(r.MOVEMENT_UUID.eq(m.MOVEMENT_UUID))));
+            return dsl.select(pt.PRODUCT_UUID, m.DELTA, applied, rejected)
+                .from(m)
+                .join(pt).on(pt.ID.eq(m.PRODUCT_ID))
+                .where(m.CREATED_AT.eq(createdAt))
+                .and(m.MOVEMENT_UUID.eq(movementId.toUuid()))
+                .fetchOptional()
+                .map(rec -> new Recorded(
+                    StockMovement.restore(movementId, ProductId.fromUuid(rec.value1()), rec.value2()),
+                    rec.value3() ? Status.APPLIED : rec.value4() ? Status.REJECTED : Status.PENDING));
+        } catch (DataAccessException ex) {
+            throw new InternalException("在庫の移動の取得中にデータベースエラーが発生しました。", ex);
+        }
+    }
+}
@@ -0,0 +1,468 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Row2;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.Stock;
+import com.example.ddd_demo.domain.models.stock.StockId;
+import com.example.ddd_demo.domain.models.stock.StockQuantity;
+import com.example.ddd_demo.domain.models.stock.StockReservation;
+import com.example.ddd_demo.domain.models.stock.StockReservationId;
+import com.example.ddd_demo.domain.models.stock.StockReservationRepository;
+import com.example.ddd_demo.infrastructure.exception.InternalException;
+import com.example.ddd_demo.infrastructure.persistence.product.CachingProductRepository;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductStockTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockReservationTable;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * StockReservationRepositoryインターフェイス実装のjOOQ
+ *
+ * <p>有効な予約は {@code stock_reservation} に1行ずつ保持し、商品ごとの予約中の数量の合計は
+ * {@code product_stock.reserved} に保持する(引当可能数の判定は在庫の1行だけで行う)。</p>
+ * <ul>
+ *   <li>予約: {@code UPDATE product_stock SET reserved = reserved + ? WHERE ... AND stock - reserved >= ?} で
+ *       判定と仮押さえを1文で行い、成功した場合だけ予約の行を追加する</li>
+ *   <li>確定・解放: 予約の行を削除し({@code DELETE ... RETURNING})、削除できた場合だけ在庫の行を更新する
+ *       (予約の行 → 在庫の行の順にロックするため、同じ予約への確定と解放が同時に行われても一方だけが成功する)</li>
+ * </ul>
+ *
+ * <p>有効期限はDBを検索せず、メモリ上の {@link HierarchicalTimingWheel} で管理する
+ * (登録・取消はO(1)、期限切れの検出は予約の件数に比例しない)。
+ * 専用のスレッドが {@code app.stock.reservation.tick} ごとにホイールを進め、期限切れとなった予約を
+ * {@value #RELEASE_CHUNK_SIZE}件ずつ1つのトランザクションで解放する。
+ * 起動時には {@code stock_reservation} の全行をホイールへ登録し直す(停止中に期限切れとなった予約は最初の処理で解放する)。</p>
+ *
+ * <p>メトリクス: {@code stock.reservation.active}(有効な予約の件数)、{@code stock.reservation.expirations}
+ * (期限切れで解放した件数)、{@code stock.reservation.expirations.rate}(直近1秒あたりの期限切れの件数)。</p>
+ *
+ * <p>注意: 期限の管理はインスタンスごとに行うため、予約を受け付けたインスタンスが停止している間は期限切れの解放が遅れる
+ * (次の起動時に解放される)。また、{@code app.stock.engine=IN_MEMORY} とは併用できない(在庫数の書き戻しが予約中の数量を考慮しない)ため、
+ * {@code app.stock.engine=DATABASE}(既定)の場合だけ登録する。</p>
+ */
+@Repository
+@ConditionalOnProperty(name = "app.stock.engine", havingValue = "DATABASE", matchIfMissing = true)
+public class StockReservationJooqRepository implements StockReservationRepository {
+
+    /**
+     * 期限切れの予約を1回のトランザクションで解放する最大件数
+     */
+    static final int RELEASE_CHUNK_SIZE = 1000;
+    /**
+     * 解放に失敗した予約を再試行するまでの時間
+     */
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    /**
+     * jOOQ のクエリ実行を担う DSLContext
+     */
+    private final DSLContext dsl;
+    /**
+     * 商品集約のキャッシュ(確定した商品を無効化する)
+     */
+    private final CachingProductRepository productCache;
+    /**
+     * 期限切れの解放ごとのトランザクション
+     */
+    private final TransactionTemplate transaction;
+    /**
+     * 予約Id → 有効期限
+     */
+    private final HierarchicalTimingWheel<StockReservationId> wheel;
+    /**
+     * ホイールを進める間隔
+     */
+    private final Duration tick;
+    /**
+     * 期限切れで解放した件数
+     */
+    private final Counter expirations;
+    /**
+     * 期限切れの解放に失敗した回数
+     */
+    private final Counter expirationFailures;
+    /**
+     * 直近1秒あたりの期限切れの件数
+     */
+    private volatile double expirationRate;
+    /**
+     * 期限切れの件数の集計区間の開始時刻(ミリ秒)と件数(ホイールを進めるスレッドだけが更新する)
+     */
+    private long rateWindowStart;
+    private long rateWindowCount;
+    /**
+     * ホイールを進めるスレッド
+     */
+    private ScheduledExecutorService ticker;
+
+    /**
+     * コンストラクタ
+     * @param dsl jOOQ のクエリ実行を担う DSLContext
+     * @param productCache 商品集約のキャッシュ
+     * @param transaction 期限切れの解放ごとのトランザクション
+     * @param registry メトリクスの登録先
+     * @param tick ホイールを進める間隔(レベル0のスロット幅)
+     * @param wheelSize 1レベルあたりのスロット数(2のべき乗)
+     */
+    public StockReservationJooqRepository(
+        DSLContext dsl,
+        CachingProductRepository productCache,
+        TransactionTemplate transaction,
+        MeterRegistry registry,
+        @Value("${app.stock.reservation.tick:PT0.1S}") Duration tick,
+        @Value("${app.stock.reservation.wheel-size:512}") int wheelSize) {
+        this.dsl = dsl;
+        this.productCache = productCache;
+        this.transaction = transaction;
+        this.tick = tick;
+        long now = System.currentTimeMillis();
+        this.wheel = new HierarchicalTimingWheel<>(tick.toMillis(), wheelSize, now);
+        this.rateWindowStart = now;
+        this.expirations = Counter.builder("stock.reservation.expirations")
+            .description("期限切れで解放した在庫の予約の件数").register(registry);
+        this.expirationFailures = Counter.builder("stock.reservation.expiration.failures")
+            .description("期限切れの在庫の予約の解放に失敗した回数").register(registry);
+        Gauge.builder("stock.reservation.active", wheel, HierarchicalTimingWheel::size)
+            .description("有効な在庫の予約の件数").register(registry);
+        Gauge.builder("stock.reservation.expirations.rate", this, r -> r.expirationRate)
+            .description("直近1秒あたりの期限切れの在庫の予約の件数").baseUnit("per_second").register(registry);
+    }
+
+    /**
+     * 有効な予約をホイールへ登録し直し、ホイールを進めるスレッドを開始する
+     */
+    @PostConstruct
+    public void recover() {
+        var r = StockReservationTable.STOCK_RESERVATION;
+        try {
+            // 件数が多くても全件をメモリへ読み込まないよう、カーソルで読む(PostgreSQLはトランザクション内でのみ有効)
+            transaction.executeWithoutResult(status -> {
+                try (var cursor = dsl.select(r.RESERVATION_UUID, r.EXPIRES_AT).from(r).fetchSize(10_000).fetchLazy()) {
+                    for (var rec : cursor) {
+                        wheel.schedule(StockReservationId.fromUuid(rec.value1()), rec.value2().toInstant().toEpochMilli());
+                    }
+                }
+            });
+        } catch (DataAccessException ex) {
+            throw new InternalException("在庫の予約の読み込み中にデータベースエラーが発生しました。", ex);
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "stock-reservation-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::expire, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * ホイールを進めるスレッドを停止する
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * 引当可能数が足りる場合だけ予約する
+     * <pre>{@code
+     * UPDATE product_stock SET reserved = reserved + ?
+     *  WHERE product_id = (SELECT id FROM product WHERE product_uuid = ?) AND stock - reserved >= ?
+     * RETURNING product_id
+     * -- 成功した場合のみ
+     * INSERT INTO stock_reservation (reservation_uuid, product_id, quantity, expires_at) VALUES (?, ?, ?, ?)
+     * }</pre>
+     * @param reservation 予約
+     * @return 予約できた場合は {@code true}
+     */
+    @Override
+    public boolean reserve(StockReservation reservation) {
+        if (reservation == null) throw new DomainException("在庫の予約は必須です。");
+        var st = ProductStockTable.PRODUCT_STOCK;
+        var r = StockReservationTable.STOCK_RESERVATION;
+        int quantity = reservation.getQuantity();
+        try {
+            var productPk = dsl.update(st)
+                .set(st.RESERVED, st.RESERVED.plus(quantity))
+                .where(st.PRODUCT_ID.eq(productPk(reservation.getProductId())))
+                .and(st.STOCK.minus(st.RESERVED).ge(quantity))
+                .returning(st.PRODUCT_ID)
+                .fetchOptional(st.PRODUCT_ID);
+            if (productPk.isEmpty()) {
+                return false;
+            }
+            dsl.insertInto(r, r.RESERVATION_UUID, r.PRODUCT_ID, r.QUANTITY, r.EXPIRES_AT)
+                .values(reservation.getReservationId().toUuid(), productPk.get(), quantity,
+                    OffsetDateTime.ofInstant(reservation.getExpiresAt(), ZoneOffset.UTC))
+                .execute();
+        } catch (DataAccessException ex) {
+            throw new InternalException("在庫の予約中にデータベースエラーが発生しました。", ex);
+        }
+        var reservationId = reservation.getReservationId();
+        long deadline = reservation.getExpiresAt().toEpochMilli();
+        afterCommit(() -> wheel.schedule(reservationId, deadline));
+        return true;
+    }
+
+    /**
+     * 予約Idを指定して、有効な予約を取得する
+     * @param reservationId 予約Id
+     * @return 予約(確定・解放・期限切れの場合は空)
+     */
+    @Override
+    public Optional<StockReservation> findById(StockReservationId reservationId) {
+        if (reservationId == null) throw new DomainException("予約Idは必須です。");
+        var r = StockReservationTable.STOCK_RESERVATION;
+        var pt = ProductTable.PRODUCT;
+        try {
+            return dsl.select(pt.PRODUCT_UUID, r.QUANTITY, r.EXPIRES_AT)
+                .from(r)
+                .join(pt).on(pt.ID.eq(r.PRODUCT_ID))
+                .where(r.RESERVATION_UUID.eq(reservationId.toUuid()))
+                .and(r.EXPIRES_AT.gt(OffsetDateTime.now(ZoneOffset.UTC)))
+                .fetchOptional()
+                .map(rec -> StockReservation.restore(reservationId,
+                    ProductId.fromUuid(rec.value1()), rec.value2(), rec.value3().toInstant()));
+        } catch (DataAccessException ex) {
+            throw new InternalException("在庫の予約の取得中にデータベースエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 予約を確定し、予約数量を在庫数から減算する(期限切れの予約は確定しない)
+     * <pre>{@code
+     * DELETE FROM stock_reservation WHERE reservation_uuid = ? AND expires_at > now() RETURNING product_id, quantity
+     * UPDATE product_stock SET stock = stock - ?, reserved = reserved - ? WHERE product_id = ? RETURNING ...
+     * }</pre>
+     * @param reservationId 予約Id
+     * @return 減算後の在庫(予約が確定・解放・期限切れの場合は空)
+     */
+    @Override
+    public Optional<Stock> confirm(StockReservationId reservationId) {
+        if (reservationId == null) throw new DomainException("予約Idは必須です。");
+        var r = StockReservationTable.STOCK_RESERVATION;
+        var st = ProductStockTable.PRODUCT_STOCK;
+        var pt = ProductTable.PRODUCT;
+        try {
+            var deleted = dsl.deleteFrom(r)
+                .where(r.RESERVATION_UUID.eq(reservationId.toUuid()))
+                .and(r.EXPIRES_AT.gt(OffsetDateTime.now(ZoneOffset.UTC)))
+                .returningResult(r.PRODUCT_ID, r.QUANTITY)
+                .fetchOptional();
+            if (deleted.isEmpty()) {
+                return Optional.empty();
+            }
+            int quantity = deleted.get().value2();
+            // 予約中の数量は在庫数以下(CHECK制約)のため、減算後の在庫数は負にならない
+            var updated = dsl.update(st)
+                .set(st.STOCK, st.STOCK.minus(quantity))
+                .set(st.RESERVED, st.RESERVED.minus(quantity))
+                .from(pt)
+                .where(st.PRODUCT_ID.eq(deleted.get().value1()))
+                .and(pt.ID.eq(st.PRODUCT_ID))
+                .returningResult(pt.PRODUCT_UUID, st.STOCK_UUID, st.STOCK)
+                .fetchOne();
+            productCache.evict(ProductId.fromUuid(updated.value1()));
+            afterCommit(() -> wheel.cancel(reservationId));
+            return Optional.of(Stock.restoreTrusted(Trusted.TOKEN,
+                StockId.fromUuid(updated.value2()), StockQuantity.trusted(Trusted.TOKEN, updated.value3())));
+        } catch (DataAccessException ex) {
+            throw new InternalException("在庫の予約の確定中にデータベースエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 予約を解放する(在庫数は変わらない)
+     * @param reservationId 予約Id
+     * @return 解放した予約(予約が確定・解放・期限切れの場合は空)
+     */
+    @Override
+    public Optional<StockReservation> release(StockReservationId reservationId) {
+        if (reservationId == null) throw new DomainException("予約Idは必須です。");
+        var r = StockReservationTable.STOCK_RESERVATION;
+        var st = ProductStockTable.PRODUCT_STOCK;
+        var pt = ProductTable.PRODUCT;
+        try {
+            var deleted = dsl.deleteFrom(r)
+                .where(r.RESERVATION_UUID.eq(reservationId.toUuid()))
+                .returningResult(r.PRODUCT_ID, r.QUANTITY, r.EXPIRES_AT)
+                .fetchOptional();
+            if (deleted.isEmpty()) {
+                return Optional.empty();
+            }
+            var productUuid = dsl.update(st)
+                .set(st.RESERVED, st.RESERVED.minus(deleted.get().value2()))
+                .from(pt)
+                .where(st.PRODUCT_ID.eq(deleted.get().value1()))
+                .and(pt.ID.eq(st.PRODUCT_ID))
+                .returningResult(pt.PRODUCT_UUID)
+                .fetchOne(pt.PRODUCT_UUID);
+            afterCommit(() -> wheel.cancel(reservationId));
+            return Optional.of(StockReservation.restore(reservationId, ProductId.fromUuid(productUuid),
+                deleted.get().value2(), deleted.get().value3().toInstant()));
+        } catch (DataAccessException ex) {
+            throw new InternalException("在庫の予約の解放中にデータベースエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * 商品の在庫数と予約中の数量を取得する
+     * @param productId 商品Id(VO)
+     * @return 在庫数と予約中の数量(商品が存在しない場合は空)
+     */
+    @Override
+    public Optional<Availability> findAvailability(ProductId productId) {
+        if (productId == null) throw new DomainException("商品Idは必須です。");
+        var st = ProductStockTable.PRODUCT_STOCK;
+        try {
+            return dsl.select(st.STOCK, st.RESERVED)
+                .from(st)
+                .where(st.PRODUCT_ID.eq(productPk(productId)))
+                .fetchOptional()
+                .map(rec -> new Availability(rec.value1(), rec.value2()));
+        } catch (DataAccessException ex) {
+            throw new InternalException("引当可能数の取得中にデータベースエラーが発生しました。", ex);
+        }
+    }
+
+    /**
+     * ホイールを現在時刻まで進め、期限切れとなった予約を解放する(ホイールを進めるスレッドから呼び出す)
+     * <p>解放に失敗した予約は {@link #RETRY_DELAY} 後に再試行する。</p>
+     * @return 解放した件数
+     */
+    int expire() {
+        long now = System.currentTimeMillis();
+        var expired = wheel.advance(now);
+        int released = 0;
+        for (int from = 0; from < expired.size(); from += RELEASE_CHUNK_SIZE) {
+            var chunk = expired.subList(from, Math.min(from + RELEASE_CHUNK_SIZE, expired.size()));
+            try {
+                released += transaction.execute(status -> releaseExpired(chunk, now));
+            } catch (RuntimeException ex) {
+                expirationFailures.increment();
+                chunk.forEach(id -> wheel.schedule(id, now + RETRY_DELAY.toMillis()));
+            }
+        }
+        expirations.increment(released);
+        rateWindowCount += released;
+        if (now - rateWindowStart >= 1000) {
+            expirationRate = rateWindowCount * 1000.0 / (now - rateWindowStart);
+            rateWindowStart = now;
+            rateWindowCount = 0;
+        }
+        return released;
+    }
+
+    /**
+     * 期限切れの予約をまとめて解放する
+     * <pre>{@code
+     * DELETE FROM stock_reservation WHERE reservation_uuid IN (...) AND expires_at <= ? RETURNING product_id, quantity
+     * SELECT product_id FROM product_stock WHERE product_id IN (...) ORDER BY product_id FOR UPDATE
+     * UPDATE product_stock SET reserved = reserved - d.quantity
+     *   FROM (VALUES (?, ?), ...) AS d(product_id, quantity) WHERE product_stock.product_id = d.product_id
+     * }</pre>
+     * <p>{@code UPDATE ... FROM} が行をロックする順序は結合の実行計画次第のため、
+     * 先に在庫の行を主キー順にロックしてから更新する(注文の引当・在庫の一括調整とのデッドロックを避ける)。</p>
+     * @return 解放した件数(確定・解放済みの予約は含まない)
+     */
+    int releaseExpired(List<StockReservationId> reservationIds, long nowMillis) {
+        var r = StockReservationTable.STOCK_RESERVATION;
+        var st = ProductStockTable.PRODUCT_STOCK;
+        var uuids = new ArrayList<UUID>(reservationIds.size());
+        reservationIds.forEach(id -> uuids.add(id.toUuid()));
+        var deleted = dsl.deleteFrom(r)
+            .where(r.RESERVATION_UUID.in(uuids))
+            .and(r.EXPIRES_AT.le(OffsetDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), ZoneOffset.UTC)))
+            .returningResult(r.PRODUCT_ID, r.QUANTITY)
+            .fetch();
+        if (deleted.isEmpty()) {
+            return 0;
+        }
+        // 商品ごとに合算し、在庫の行を主キー順にロックする
+        Map<Integer, Integer> quantities = new TreeMap<>();
+        deleted.forEach(rec -> quantities.merge(rec.value1(), rec.value2(), Integer::sum));
+        dsl.select(st.PRODUCT_ID)
+            .from(st)
+            .where(st.PRODUCT_ID.in(quantities.keySet()))
+            .orderBy(st.PRODUCT_ID)
+            .forUpdate()
+            .execute();
+        @SuppressWarnings("unchecked")
+        Row2<Integer, Integer>[] rows = new Row2[quantities.size()];
+        int i = 0;
+        for (var e : quantities.entrySet()) {
+            rows[i++] = DSL.row(e.getKey(), e.getValue());
+        }
+        var d = DSL.values(rows).as("d", "product_id", "quantity");
+        dsl.update(st)
+            .set(st.RESERVED, st.RESERVED.minus(d.field("quantity", Integer.class)))
+            .from(d)
+            .where(st.PRODUCT_ID.eq(d.field("product_id", Integer.class)))
+            .execute();
+        return deleted.size();
+    }
+
+    /**
+     * 有効な予約の件数(ホイールに登録されている件数)
+     */
+    int activeCount() {
+        return wheel.size();
+    }
+
+    /**
+     * トランザクション内で呼び出された場合はコミット後に、それ以外は直ちに実行する
+     * (ロールバックされた予約をホイールへ登録しない・取り消さない)
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 商品UUIDから主キー(product.id)を求めるスカラー副問い合わせ
+     */
+    private Field<Integer> productPk(ProductId productId) {
+        var pt = ProductTable.PRODUCT;
+        return dsl.select(pt.ID).from(pt).where(pt.PRODUCT_UUID.eq(productId.toUuid())).asField();
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.ddd_demo.domain.models.stock.StockId;
+import com.example.ddd_demo.domain.models.stock.StockQuantity;
+
+/**
+ * 1商品分の在庫数をストライプ(分割したカウンタ)で保持するカウンタ
+ *
+ * <p>在庫数の合計を複数のストライプに分けて保持し、減算はスレッドごとに決まる1つのストライプへの
+ * CASだけで行う(ロックを取らない)。ストライプは {@code long[]} 上で {@value #PAD} 要素(128バイト)おきに置き、
+ * 異なるスレッドが同じキャッシュラインを奪い合わないようにする。</p>
+ * <ul>
+ *   <li>初めは1ストライプで保持し、CASが競合した時点で最大ストライプ数まで拡張する(参照の少ない商品はメモリを使わない)</li>
+ *   <li>自分のストライプで足りない減算・すべての加算は、ロックを取ってストライプを回収・再配分する(低頻度の経路)</li>
+ *   <li>各ストライプは常に0以上で、加算はロック内で合計を確かめてから行うため、
+ *       合計は {@link StockQuantity#MIN}〜{@link StockQuantity#MAX} の範囲を外れない</li>
+ * </ul>
+ * <p>再配分中のストライプには {@link #RETIRED} を置き、これを読んだCASは失敗して低頻度の経路(ロック待ち)へ回る。
+ * 合計の読み取りは再配分の前後で増える版番号(seqlock)で、再配分中の値を読まないようにする。</p>
+ * <p>複数明細の引当では、減算した在庫数を戻す可能性があるため「保留」として減算する({@link #tryHold(int)})。
+ * 加算は保留中の数を戻しても上限を超えない範囲でだけ反映するため、{@link #restore(int)} は範囲の確認なしに必ず戻せる。</p>
+ */
+final class StripedStockCounter {
+
+    /**
+     * ストライプの間隔(long 16個 = 128バイト。隣接ラインのプリフェッチでも共有しない)
+     */
+    static final int PAD = 16;
+    /**
+     * 再配分中(または拡張前の古い配列)のストライプに置く値
+     */
+    private static final long RETIRED = Long.MIN_VALUE;
+    private static final VarHandle CELLS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * 在庫Id
+     */
+    private final StockId stockId;
+    /**
+     * 最大ストライプ数(2のべき乗)
+     */
+    private final int maxStripes;
+    /**
+     * ストライプ(i番目のストライプは {@code i * PAD} 番目の要素)
+     */
+    private volatile long[] cells;
+    /**
+     * 再配分の版番号(再配分中は奇数)
+     */
+    private volatile long seq;
+    /**
+     * 成功した変更の回数(書き戻しの要否の判定に利用)
+     */
+    private final AtomicLong modifications = new AtomicLong();
+    /**
+     * 最後に書き戻した時点の変更回数
+     */
+    private volatile long flushed;
+    /**
+     * 保留中の減算量(戻す可能性のある減算の合計。ロック内でのみ更新する)
+     */
+    private long held;
+
+    /**
+     * コンストラクタ
+     * @param stockId 在庫Id
+     * @param quantity 現在の在庫数(DBから読み込んだ値)
+     * @param maxStripes 最大ストライプ数(2のべき乗)
+     */
+    StripedStockCounter(StockId stockId, int quantity, int maxStripes) {
+        if (Integer.bitCount(maxStripes) != 1) {
+            throw new IllegalArgumentException("ストライプ数は2のべき乗で指定してください。: " + maxStripes);
+        }
+        this.stockId = stockId;
+        this.maxStripes = maxStripes;
+        this.cells = new long[PAD];
+        this.cells[0] = quantity;
+    }
+
+    StockId stockId() {
+        return stockId;
+    }
+
+    /**
+     * 在庫が足りる場合だけ減算する
+     * @param amount 減算量(1以上)
+     * @return 減算できた場合は {@code true}
+     */
+    boolean tryDecrease(int amount) {
+        var c = cells;
+        int i = index(c);
+        boolean contended = false;
+        long v;
+        while ((v = (long) CELLS.getVolatile(c, i)) >= amount) {
+            if (CELLS.compareAndSet(c, i, v, v - amount)) {
+                modifications.incrementAndGet();
+                return true;
+            }
+            if (c.length / PAD < maxStripes) {
+                // 競合したため、ストライプを増やしてから処理する
+                contended = true;
+                break;
+            }
+        }
+        if (!contended && v != RETIRED && sum() < amount) {
+            // 売り切れ後の要求はロックを取らずに断る
+            return false;
+        }
+        // 自分のストライプでは足りない(または再配分中)場合は、全体から引き当てる
+        return rebalance(-amount, 0, contended);
+    }
+
+    /**
+     * 反映後の在庫数が範囲内の場合だけ増減する(ロックを取る)
+     * @param delta 増減量(負数は減算)
+     * @return 反映できた場合は {@code true}
+     */
+    boolean tryAdjust(int delta) {
+        return rebalance(delta, 0, false);
+    }
+
+    /**
+     * 在庫が足りる場合だけ、後で戻せるよう保留として減算する(ロックを取る)
+     * <p>保留は {@link #release(int)} で確定するか、{@link #restore(int)} で戻す。</p>
+     * @param amount 減算量(1以上)
+     * @return 減算できた場合は {@code true}
+     */
+    boolean tryHold(int amount) {
+        return rebalance(-amount, amount, false);
+    }
+
+    /**
+     * 保留した減算を確定する(在庫数は変わらない)
+     * @param amount {@link #tryHold(int)} で減算した量
+     */
+    synchronized void release(int amount) {
+        held -= amount;
+    }
+
+    /**
+     * 保留した減算を戻す(範囲の確認を行わず、必ず反映する)
+     * <p>保留中は加算が保留の分を空けて判定されるため、戻した後も上限を超えない。</p>
+     * @param amount {@link #tryHold(int)} で減算した量
+     */
+    synchronized void restore(int amount) {
+        held -= amount;
+        if (!rebalance(amount, 0, false)) {
+            // 保留の分を空けて加算を判定しているため起こらない
+            throw new IllegalStateException("保留した在庫数を戻せません。: " + amount);
+        }
+    }
+
+    /**
+     * 現在の在庫数(ロックを取らない)
+     * <p>読み取り中にも減算は進むため、読み取りの開始から終了までのいずれかの時点の値となる。</p>
+     * @return 在庫数
+     */
+    int sum() {
+        while (true) {
+            long before = seq;
+            if ((before & 1) == 0) {
+                var c = cells;
+                long total = 0;
+                for (int i = 0; i < c.length; i += PAD) {
+                    total += (long) CELLS.getVolatile(c, i);
+                }
+                if (seq == before && total >= StockQuantity.MIN) {
+                    return (int) total;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 現在のストライプ数
+     */
+    int stripes() {
+        return cells.length / PAD;
+    }
+
+    /**
+     * 書き戻していない変更があれば、現在の変更回数を返す
+     * @return 変更回数(書き戻し不要の場合は -1)
+     */
+    long pendingModifications() {
+        long current = modifications.get();
+        return current == flushed ? -1 : current;
+    }
+
+    /**
+     * 指定した変更回数までを書き戻したことを記録する
+     */
+    void markFlushed(long modificationCount) {
+        flushed = modificationCount;
+    }
+
+    /**
+     * ストライプを回収し、増減を反映してから再配分する(低頻度の経路)
+     * <p>増減後の在庫数と保留中の減算量の合計が上限を超える場合は反映しない。</p>
+     * @param delta 増減量
+     * @param hold 反映できた場合に保留とする減算量(保留しない場合は0)
+     * @param expand ストライプ数を増やす場合は {@code true}
+     * @return 反映できた場合は {@code true}
+     */
+    private synchronized boolean rebalance(long delta, int hold, boolean expand) {
+        seq = seq + 1;
+        try {
+            var c = cells;
+            long total = 0;
+            for (int i = 0; i < c.length; i += PAD) {
+                total += (long) CELLS.getAndSet(c, i, RETIRED);
+            }
+            long next = total + delta;
+            boolean applied = next >= StockQuantity.MIN && next + held <= StockQuantity.MAX;
+            var target = expand && c.length / PAD < maxStripes ? new long[maxStripes * PAD] : c;
+            distribute(target, applied ? next : total);
+            cells = target;
+            if (applied && delta != 0) {
+                modifications.incrementAndGet();
+            }
+            if (applied) {
+                held += hold;
+            }
+            return applied;
+        } finally {
+            seq = seq + 1;
+        }
+    }
+
+    /**
+     * 合計をストライプへ均等に配分する(端数は先頭から1ずつ)
+     */
+    private static void distribute(long[] c, long total) {
+        int stripes = c.length / PAD;
+        long base = total / stripes;
+        long remainder = total % stripes;
+        for (int s = 0; s < stripes; s++) {
+            CELLS.setVolatile(c, s * PAD, base + (s < remainder ? 1 : 0));
+        }
+    }
+
+    /**
+     * 現在のスレッドが使うストライプの添字
+     */
+    private static int index(long[] c) {
+        int stripes = c.length / PAD;
+        if (stripes == 1) {
+            return 0;
+        }
+        @SuppressWarnings("deprecation")
+        long h = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return (int) ((h >>> 32) & (stripes - 1)) * PAD;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.example.ddd_demo.application.exception.ExistsException;
+import com.example.ddd_demo.application.exception.InsufficientStockException;
 import com.example.ddd_demo.application.exception.InvalidInputException;
 import com.example.ddd_demo.application.exception.NotFoundException;
 import com.example.ddd_demo.domain.exception.DomainException;
@@ -114,6 +115,18 @@ public class ApiExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
     }
 
+    /**
+     * 💬 在庫不足。
+     * <p>在庫の引当で要求数量が在庫数を上回った場合に {@link InsufficientStockException} がスローされる。</p>
+     *
+     * @param ex InsufficientStockException
+     * @return HTTP 409 (Conflict)
+     */
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<String> handleInsufficientStock(InsufficientStockException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+    }
+
     /**
      * 💬 内部的な障害（DBアクセス、通信エラーなど）。
      * <p>インフラ層で発生する {@link InternalException} を処理する。</p>
@@ -0,0 +1,172 @@
+package com.example.ddd_demo.presentation.cache;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * ============================================================================
+ * 【プレゼンテーション層：ConditionalResponses】
+ * ============================================================================
+ * 🎯 役割
+ * - 参照系エンドポイントの条件付きGET(If-None-Match → 304 Not Modified)を共通化する。
+ * - リソースの版から強いETagを生成し、Cache-Control とともに応答ヘッダへ設定する。
+ *
+ * 🧩 設計方針
+ * - 版の取得(軽量)と本文の取得(集約の組み立て・DTO変換)を分け、
+ *   版が一致した場合は本文の Supplier を呼び出さない(JSONのシリアライズも行わない)。
+ * - 本文が版と別の読み取り(キャッシュなど)から得られる場合、本文に付けるETagは本文と同じ読み取りで得た版にする
+ *   (respondVersioned)。事前に取得した版を付けると、古い本文に新しいETagが付き、
+ *   クライアントは古い本文を最新とみなしたまま 304 を受け取り続けてしまう。
+ * - 304 にも 200 と同じ ETag / Cache-Control を付与する(RFC 9110)。
+ * - If-None-Match は弱い比較で判定する(W/ 付きで送り返すプロキシ経由でも一致とみなす)。
+ *
+ * ⚙️ 設定
+ * - app.http.cache.product.max-age  : 商品詳細のキャッシュ有効期間(既定 PT0S = 毎回再検証)
+ * - app.http.cache.category.max-age : カテゴリ一覧のキャッシュ有効期間(既定 PT1M)
+ *
+ * ============================================================================
+ */
+@Component
+public class ConditionalResponses {
+    /**
+     * 商品詳細の Cache-Control
+     */
+    private final CacheControl product;
+    /**
+     * 商品カテゴリ一覧の Cache-Control
+     */
+    private final CacheControl categories;
+
+    /**
+     * コンストラクタ
+     * @param productMaxAge 商品詳細のキャッシュ有効期間(0の場合は毎回再検証させる)
+     * @param categoryMaxAge 商品カテゴリ一覧のキャッシュ有効期間(0の場合は毎回再検証させる)
+     */
+    public ConditionalResponses(
+        @Value("${app.http.cache.product.max-age:PT0S}") Duration productMaxAge,
+        @Value("${app.http.cache.category.max-age:PT1M}") Duration categoryMaxAge) {
+        this.product = cacheControl(productMaxAge);
+        this.categories = cacheControl(categoryMaxAge);
+    }
+
+    /**
+     * 商品詳細の Cache-Control
+     */
+    public CacheControl product() {
+        return product;
+    }
+
+    /**
+     * 商品カテゴリ一覧の Cache-Control
+     */
+    public CacheControl categories() {
+        return categories;
+    }
+
+    /**
+     * 条件付きGETに応答する
+     * @param <T> 本文の型
+     * @param request リクエスト(If-None-Match の判定に利用)
+     * @param cacheControl 付与する Cache-Control
+     * @param version リソースの版
+     * @param body 本文の取得処理(版が一致しなかった場合だけ呼び出す)
+     * @return 304(本文なし)または 200(本文あり)
+     */
+    public <T> ResponseEntity<T> respond(
+        WebRequest request, CacheControl cacheControl, String version, Supplier<T> body) {
+        var etag = etag(version);
+        if (matches(request.getHeaderValues(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .build();
+        }
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(cacheControl)
+            .body(body.get());
+    }
+
+    /**
+     * 条件付きGETに応答する(本文と、その本文を読み取った時点の版を同時に取得する場合)
+     *
+     * <p>{@code currentVersion} は 304 の判定だけに利用し、200 のETagには本文と同じ読み取りで得た版を付与する。
+     * 判定後に更新が入っても、本文とETagは常に対応する。</p>
+     *
+     * @param <T> 本文の型
+     * @param request リクエスト(If-None-Match の判定に利用)
+     * @param cacheControl 付与する Cache-Control
+     * @param currentVersion 304 の判定に利用するリソースの版
+     * @param body 本文と版の取得処理(版が一致しなかった場合だけ呼び出す)
+     * @return 304(本文なし)または 200(本文あり)
+     */
+    public <T> ResponseEntity<T> respondVersioned(
+        WebRequest request, CacheControl cacheControl, String currentVersion, Supplier<Versioned<T>> body) {
+        var etag = etag(currentVersion);
+        if (matches(request.getHeaderValues(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .build();
+        }
+        var versioned = body.get();
+        return ResponseEntity.ok()
+            .eTag(etag(versioned.version()))
+            .cacheControl(cacheControl)
+            .body(versioned.body());
+    }
+
+    /**
+     * 本文と、その本文を読み取った時点の版
+     * @param <T> 本文の型
+     * @param version 版
+     * @param body 本文
+     */
+    public record Versioned<T>(String version, T body) {}
+
+    /**
+     * 版から強いETagを生成する
+     * @param version リソースの版
+     * @return 引用符で囲んだETag
+     */
+    static String etag(String version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * If-None-Match のいずれかのETagが一致するかを判定する(弱い比較・{@code *} は常に一致)
+     * @param ifNoneMatch If-None-Match ヘッダの値(無い場合はnull)
+     * @param etag 現在のETag
+     * @return 一致する場合は {@code true}
+     */
+    static boolean matches(String[] ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        var current = new ETag(etag, false);
+        for (var header : ifNoneMatch) {
+            for (var candidate : ETag.parse(header)) {
+                if (candidate.isWildcard() || candidate.compare(current, false)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static CacheControl cacheControl(Duration maxAge) {
+        if (maxAge.isZero() || maxAge.isNegative()) {
+            return CacheControl.noCache();
+        }
+        return CacheControl.maxAge(maxAge).mustRevalidate();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.ddd_demo.presentation.perf;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.ddd_demo.infrastructure.persistence.perf.QueryStatistics;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ============================================================================
+ * 【プレゼンテーション層：QueryStatisticsController】
+ * ============================================================================
+ * 🎯 役割
+ * - jOOQ が実行したSQL文の形ごとの実行統計を参照・リセットする運用向けのエンドポイントを提供する。
+ * - どのリポジトリのクエリがどれだけ時間を使っているかを把握するために利用する。
+ *
+ * 🧩 設計方針
+ * - 集計は QueryStatistics(インフラ層)が行い、Controller はその内容を返すだけの「薄い層」。
+ * - 業務APIではないため OpenAPI のドキュメントには載せない(@Hidden)。
+ * - SQL文はリテラルを ? に置き換えた形だけを返し、バインド変数の値は含まない。
+ *
+ * 📦 エンドポイント
+ * - GET /internal/perf/queries
+ *   → 形ごとの実行回数・エラー件数・行数・レイテンシ(平均・p50・p95・p99・最大)を所要時間の合計の降順で取得する。
+ * - DELETE /internal/perf/queries
+ *   → 集計結果をすべて破棄する(計測期間を区切る)。
+ *
+ * ============================================================================
+ */
+@Hidden
+@RestController
+@RequestMapping("/internal/perf/queries")
+@RequiredArgsConstructor
+public class QueryStatisticsController {
+    /**
+     * SQL文の形ごとの実行統計
+     */
+    private final QueryStatistics statistics;
+
+    /**
+     * 形ごとの実行統計を取得する
+     * 例: GET /internal/perf/queries
+     * @return 形ごとの集計結果(所要時間の合計の降順)
+     */
+    @GetMapping(produces = "application/json")
+    public List<QueryStatistics.ShapeSnapshot> getQueries() {
+        return statistics.snapshot();
+    }
+
+    /**
+     * 実行統計をリセットする
+     * 例: DELETE /internal/perf/queries
+     */
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void reset() {
+        statistics.reset();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.ddd_demo.presentation.product.command;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import com.example.ddd_demo.application.dto.ProductImportResultDTO;
+import com.example.ddd_demo.application.product.usecase.ImportProductsUsecase;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ============================================================================
+ * 【プレゼンテーション層：ImportProductsCommand】
+ * ============================================================================
+ * 🎯 役割
+ * - ユースケース「商品カタログを一括で取り込む」をコマンドラインから実行する。
+ * - 初期データ投入・夜間バッチなど、HTTPを介さずに大量の商品を登録する。
+ *
+ * 📦 使い方
+ * - java -jar ddd_demo.jar --spring.main.web-application-type=none --import=products.csv
+ *   → 指定したCSVを取り込み、結果を標準出力に出力して終了する(終了コード0)
+ * - --import は複数指定でき、指定順に1ファイルずつ取り込む
+ * - --import を指定した場合は、取り込み後にアプリケーションコンテキストを閉じてJVMを終了する
+ *   (スケジューラ等の常駐スレッドが残っていても終了する。Webサーバを起動した場合も同様)
+ * - 取り込みに失敗した場合は例外で起動が失敗し、0以外の終了コードで終了する
+ * - --import が無い場合は何もしない（通常のWebアプリケーションとして起動する）
+ *
+ * ============================================================================
+ */
+@Component
+@RequiredArgsConstructor
+public class ImportProductsCommand implements ApplicationRunner {
+    /**
+     * 取り込むファイルを指定するオプション名
+     */
+    static final String OPTION = "import";
+
+    /**
+     * ユースケース:[商品カタログを一括で取り込む]を実現するインターフェイス
+     */
+    private final ImportProductsUsecase usecase;
+    /**
+     * 取り込み後に閉じるアプリケーションコンテキスト
+     */
+    private final ConfigurableApplicationContext context;
+
+    /**
+     * --import で指定されたCSVを取り込み、アプリケーションを終了する
+     * @param args コマンドライン引数
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+        for (var file : args.getOptionValues(OPTION)) {
+            try (InputStream in = Files.newInputStream(Path.of(file))) {
+                print(System.out, file, usecase.importCsv(in));
+            }
+        }
+        // コンテキストを閉じてから終了する(@PreDestroy の書き戻し等を実行する)
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    /**
+     * 取り込み結果を出力する
+     */
+    static void print(PrintStream out, String file, ProductImportResultDTO result) {
+        out.printf("%s: 読み込み %d件 / 登録 %d件 / 未登録 %d件 (%dms, %d件/秒)%n",
+            file, result.getRead(), result.getInserted(), result.getRejected(),
+            result.getElapsedMillis(), result.getRowsPerSecond());
+        for (var reject : result.getRejects()) {
+            out.printf("  %d行目 %s: %s%n", reject.getLine(), reject.getReason(), reject.getMessage());
+        }
+        if (result.getRejected() > result.getRejects().size()) {
+            out.printf("  ...ほか %d件%n", result.getRejected() - result.getRejects().size());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.ddd_demo.presentation.product.controller;
+
+import java.util.List;
+
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.ddd_demo.application.dto.StockAdjustmentDTO;
+import com.example.ddd_demo.application.dto.StockAdjustmentResultDTO;
+import com.example.ddd_demo.application.product.usecase.AdjustStockUsecase;
+import com.example.ddd_demo.presentation.product.schema.StockAdjustmentSchema;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.*;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ============================================================================
+ * 【プレゼンテーション層：AdjustStockController】
+ * ============================================================================
+ * 🎯 役割
+ * - ユースケース「在庫を一括調整する」を実現するエンドポイントを提供する。
+ * - 倉庫の棚卸し結果など、数千件の(商品Id, 増減量)をまとめて受け付ける。
+ *
+ * 🧩 設計方針
+ * - Controller 自体はビジネスロジックを一切持たない「薄い層」。
+ * - 増減は一定件数ごとに1回のUPDATEで反映され、範囲(0〜100)の判定もSQL内で行われる。
+ * - 範囲外となる商品・存在しない商品があっても全体を失敗させず、結果で報告する。
+ *
+ * 📦 エンドポイント
+ * - POST /api/stock/adjustments
+ *   → 商品ごとの在庫の増減量をまとめて反映する。
+ *
+ * 📄 入出力
+ * - RequestBody: StockAdjustmentSchema のリスト（1〜10000件）
+ * - Response: StockAdjustmentResultDTO（反映した在庫・反映しなかった商品）
+ *
+ * 🛡️ 例外ハンドリング
+ * - 入力不正（UUID形式違反・増減量の範囲外・件数超過）→ 400 Bad Request
+ *   これらは ApiExceptionHandler にて共通処理される。
+ *
+ * ============================================================================
+ */
+@Tag(name = "AdjustStock", description = "在庫一括調整")
+@RestController
+@RequestMapping("/api/stock")
+@RequiredArgsConstructor
+@Validated
+public class AdjustStockController {
+    /**
+     * 一括調整で受け付ける最大件数
+     */
+    static final int MAX_ADJUSTMENTS = 10000;
+
+    /**
+     * ユースケース:[在庫を一括調整する]を実現するインターフェイス
+     */
+    private final AdjustStockUsecase usecase;
+
+    /**
+     * 商品ごとの在庫の増減量をまとめて反映する
+     * 例: POST /api/stock/adjustments [{"productId": "9959e553-c9da-4646-bd85-8663a3541583", "delta": -3}]
+     * @param req 商品Idと増減量のリスト
+     * @return 反映結果
+     */
+    @Operation(
+        summary = "在庫一括調整",
+        description = "商品ごとの在庫の増減量をまとめて反映します。同じ商品Idの増減量は合算します。"
+            + "反映後の在庫数が範囲外(0未満・100超)となる商品、存在しない商品は反映せず、結果に含めて返します。"
+    )
+    @ApiResponse(responseCode = "200", description = "処理完了(反映しなかった商品を含む)")
+    @ApiResponse(responseCode = "400", description = "入力パラメータが不正な場合")
+    @PostMapping(value = "/adjustments", consumes = "application/json", produces = "application/json")
+    public StockAdjustmentResultDTO adjust(
+        @RequestBody
+        @NotEmpty(message = "在庫調整のリストは必須です")
+        @Size(max = MAX_ADJUSTMENTS, message = "一度に調整できる商品は" + MAX_ADJUSTMENTS + "件までです")
+        List<@Valid StockAdjustmentSchema> req) {
+        var adjustments = req.stream()
+            .map(s -> new StockAdjustmentDTO(s.productId(), s.delta()))
+            .toList();
+        return usecase.adjust(adjustments);
+    }
+}
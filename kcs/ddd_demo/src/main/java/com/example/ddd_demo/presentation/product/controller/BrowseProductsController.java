@@ -0,0 +1,94 @@
+package com.example.ddd_demo.presentation.product.controller;
+
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.ddd_demo.application.dto.ProductPageDTO;
+import com.example.ddd_demo.application.product.usecase.BrowseProductsUsecase;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.*;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ============================================================================
+ * 【プレゼンテーション層：BrowseProductsController】
+ * ============================================================================
+ * 🎯 役割
+ * - ユースケース「商品カテゴリで商品を閲覧する」を実現するエンドポイントを提供する。
+ * - クエリパラメータを受け取り、アプリケーション層の Usecase に委譲する。
+ *
+ * 🧩 設計方針
+ * - Controller 自体はビジネスロジックを一切持たない「薄い層」。
+ * - ページングは OFFSET ではなくカーソル（キーセット）方式。
+ *   レスポンスの next を次のリクエストの after に指定して次ページを取得する。
+ *
+ * 📦 エンドポイント
+ * - GET /api/products?categoryId=XXX&after=YYY&limit=20&sort=name
+ *   → 商品カテゴリに属する商品を1ページ分取得。
+ *
+ * 📄 入出力
+ * - RequestParam: categoryId（必須）, after（任意）, limit（1〜100, 既定20）, sort（price / name, 既定name）
+ * - Response: ProductPageDTO（JSON形式）
+ *
+ * 🛡️ 例外ハンドリング
+ * - NotFoundException → 404 Not Found
+ * - DomainException / 入力検証エラー → 400 Bad Request
+ *   これらは ApiExceptionHandler にて共通処理される。
+ *
+ * ============================================================================
+ */
+@Tag(name = "BrowseProducts", description = "商品一覧(カテゴリで閲覧)")
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+@Validated
+public class BrowseProductsController {
+    /**
+     * ユースケース:[商品カテゴリで商品を閲覧する]を実現するインターフェイス
+     */
+    private final BrowseProductsUsecase usecase;
+
+    /**
+     * 商品カテゴリに属する商品を1ページ分取得する
+     * 例: GET /api/products?categoryId=2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4&limit=20&sort=price
+     * @param categoryId 商品カテゴリId
+     * @param after 直前のページのカーソル
+     * @param limit 1ページあたりの最大件数
+     * @param sort 並び順
+     * @return ProductPageDTO
+     */
+    @Operation(
+        summary = "商品一覧(カテゴリ別)",
+        description = "商品カテゴリに属する商品を並び順(price / name)に1ページ分取得します。"
+            + "次ページはレスポンスのnextをafterに指定して取得します。"
+    )
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    @ApiResponse(responseCode = "404", description = "商品カテゴリが存在しない場合")
+    @ApiResponse(responseCode = "400", description = "入力パラメータが不正な場合")
+    @GetMapping(produces = "application/json")
+    public ProductPageDTO browse(
+        @Parameter(description = "商品カテゴリId(UUID)", required = true, example = "2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4")
+        @RequestParam("categoryId") @NotBlank(message = "商品カテゴリIdは必須です") String categoryId,
+        @Parameter(description = "直前のページのカーソル(レスポンスのnext)")
+        @RequestParam(name = "after", required = false) String after,
+        @Parameter(description = "1ページあたりの最大件数(1〜100)", example = "20")
+        @RequestParam(name = "limit", defaultValue = "20")
+        @Min(value = 1, message = "limitは1以上で指定してください")
+        @Max(value = 100, message = "limitは100以下で指定してください") int limit,
+        @Parameter(description = "並び順(price / name)", example = "name")
+        @RequestParam(name = "sort", defaultValue = "name")
+        @Pattern(regexp = "(?i)price|name", message = "sortはpriceまたはnameで指定してください") String sort) {
+        return usecase.browse(categoryId, after, limit, sort);
+    }
+}
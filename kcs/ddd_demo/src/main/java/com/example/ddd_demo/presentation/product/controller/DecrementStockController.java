@@ -0,0 +1,84 @@
+package com.example.ddd_demo.presentation.product.controller;
+
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.ddd_demo.application.dto.StockDTO;
+import com.example.ddd_demo.application.product.usecase.DecrementStockUsecase;
+import com.example.ddd_demo.presentation.product.schema.StockDecrementSchema;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.*;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ============================================================================
+ * 【プレゼンテーション層：DecrementStockController】
+ * ============================================================================
+ * 🎯 役割
+ * - ユースケース「商品の在庫を引き当てる」を実現するエンドポイントを提供する。
+ * - 注文・決済など、同じ商品へ要求が集中する場面(フラッシュセール)向け。
+ *
+ * 🧩 設計方針
+ * - Controller 自体はビジネスロジックを一切持たない「薄い層」。
+ * - 在庫の判定と減算は1つの条件付きUPDATEで行われ、在庫数は負にならない。
+ *
+ * 📦 エンドポイント
+ * - POST /api/products/{id}/stock/decrement
+ *   → 在庫が足りる場合だけ、指定数量を減算する。
+ *
+ * 📄 入出力
+ * - PathVariable: id（商品Id・UUID形式）
+ * - RequestBody: StockDecrementSchema（quantity: 1〜100）
+ * - Response: StockDTO（減算後の在庫）
+ *
+ * 🛡️ 例外ハンドリング
+ * - NotFoundException → 404 Not Found
+ * - InsufficientStockException → 409 Conflict
+ * - 入力不正（UUID形式違反・数量範囲外）→ 400 Bad Request
+ *   これらは ApiExceptionHandler にて共通処理される。
+ *
+ * ============================================================================
+ */
+@Tag(name = "DecrementStock", description = "在庫引当")
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+@Validated
+public class DecrementStockController {
+    /**
+     * ユースケース:[商品の在庫を引き当てる]を実現するインターフェイス
+     */
+    private final DecrementStockUsecase usecase;
+
+    /**
+     * 商品の在庫を減算する
+     * 例: POST /api/products/9959e553-c9da-4646-bd85-8663a3541583/stock/decrement {"quantity": 1}
+     * @param productId 商品Id(UUID)
+     * @param req 減算する数量
+     * @return 減算後の在庫
+     */
+    @Operation(
+        summary = "在庫引当",
+        description = "在庫が足りる場合だけ、指定数量を減算します。在庫が足りない場合は409を返し、在庫は変更しません。"
+    )
+    @ApiResponse(responseCode = "200", description = "引当成功(減算後の在庫を返す)")
+    @ApiResponse(responseCode = "400", description = "入力パラメータが不正な場合")
+    @ApiResponse(responseCode = "404", description = "該当商品が存在しない場合")
+    @ApiResponse(responseCode = "409", description = "在庫が足りない場合")
+    @PostMapping(value = "/{id}/stock/decrement", consumes = "application/json", produces = "application/json")
+    public StockDTO decrement(
+        @Parameter(description = "商品Id(UUID)", example = "9959e553-c9da-4646-bd85-8663a3541583", required = true)
+        @PathVariable("id") String productId,
+        @Valid @RequestBody StockDecrementSchema req) {
+        return usecase.decrement(productId, req.quantity());
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.ddd_demo.presentation.product.controller;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.product.usecase.ExportProductsUsecase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * ============================================================================
+ * 【プレゼンテーション層：ExportProductsController】
+ * ============================================================================
+ * 🎯 役割
+ * - ユースケース「商品カタログを全件エクスポートする」を実現するエンドポイントを提供する。
+ * - 検索・BIシステムへの夜間連携のため、全商品を NDJSON または CSV で出力する。
+ *
+ * 🧩 設計方針
+ * - 全件をメモリに載せず、DBのカーソルから取得した商品を1件ずつレスポンスへ書き出す
+ *   （StreamingResponseBody）。メモリ使用量は商品数に依存しない。
+ * - Controller は「出力形式への変換」のみを担い、取得は Usecase に委譲する。
+ * - 出力件数・所要時間・毎秒出力件数はメトリクス（product.export.*）として公開する。
+ *
+ * 📦 エンドポイント
+ * - GET /api/products/export?format=ndjson
+ *   → 1行1商品のJSON（application/x-ndjson）
+ * - GET /api/products/export?format=csv
+ *   → ヘッダ行付きCSV（text/csv, UTF-8）
+ *
+ * 🛡️ 例外ハンドリング
+ * - format が不正 → 400 Bad Request（ApiExceptionHandler）
+ * - 出力開始後のエラーはレスポンスを途中で打ち切る（ステータスは変更できない）
+ *
+ * ============================================================================
+ */
+@Tag(name = "ExportProducts", description = "商品カタログのエクスポート")
+@RestController
+@RequestMapping("/api/products")
+@Validated
+public class ExportProductsController {
+    /**
+     * NDJSONのメディアタイプ
+     */
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    /**
+     * CSVのメディアタイプ
+     */
+    static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    /**
+     * CSVのヘッダ行
+     */
+    static final String CSV_HEADER = "id,name,price,categoryId,categoryName,stockId,stockQuantity";
+    /**
+     * 出力バッファのサイズ(バイト)
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * ユースケース:[商品カタログを全件エクスポートする]を実現するインターフェイス
+     */
+    private final ExportProductsUsecase usecase;
+    /**
+     * 商品DTOをJSONに変換するWriter(スレッドセーフ)
+     */
+    private final ObjectWriter jsonWriter;
+
+    /**
+     * コンストラクタ
+     * @param usecase ユースケース:[商品カタログを全件エクスポートする]
+     * @param objectMapper SpringのObjectMapper
+     */
+    public ExportProductsController(ExportProductsUsecase usecase, ObjectMapper objectMapper) {
+        this.usecase = usecase;
+        this.jsonWriter = objectMapper.writerFor(ProductDTO.class);
+    }
+
+    /**
+     * すべての商品を指定形式で出力する
+     * 例: GET /api/products/export?format=csv
+     * @param format 出力形式(ndjson / csv)
+     * @return 商品を逐次書き出すレスポンス
+     */
+    @Operation(
+        summary = "商品カタログのエクスポート",
+        description = "すべての商品をNDJSON(1行1商品)またはCSVで出力します。"
+            + "全件をメモリに保持せず、取得した商品から順に書き出します。"
+    )
+    @ApiResponse(responseCode = "200", description = "出力成功")
+    @ApiResponse(responseCode = "400", description = "formatが不正な場合")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+        @Parameter(description = "出力形式(ndjson / csv)", example = "ndjson")
+        @RequestParam(name = "format", defaultValue = "ndjson")
+        @Pattern(regexp = "(?i)ndjson|csv", message = "formatはndjsonまたはcsvで指定してください") String format) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        StreamingResponseBody body = csv
+            ? out -> writeCsv(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE))
+            : out -> writeNdjson(new BufferedOutputStream(out, BUFFER_SIZE));
+        var disposition = ContentDisposition.attachment()
+            .filename(csv ? "products.csv" : "products.ndjson").build();
+        return ResponseEntity.ok()
+            .contentType(csv ? TEXT_CSV : APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+            .body(body);
+    }
+
+    /**
+     * 1行1商品のJSONで書き出す
+     */
+    private void writeNdjson(BufferedOutputStream out) throws IOException {
+        try {
+            usecase.exportAll(dto -> {
+                try {
+                    out.write(jsonWriter.writeValueAsBytes(dto));
+                    out.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        out.flush();
+    }
+
+    /**
+     * ヘッダ行付きのCSVで書き出す
+     */
+    private void writeCsv(BufferedWriter out) throws IOException {
+        out.write(CSV_HEADER);
+        out.write('\n');
+        try {
+            usecase.exportAll(dto -> {
+                try {
+                    writeCsvRow(out, dto);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        out.flush();
+    }
+
+    /**
+     * 商品1件をCSVの1行として書き出す
+     */
+    private static void writeCsvRow(Writer out, ProductDTO dto) throws IOException {
+        var category = dto.getCategory();
+        var stock = dto.getStock();
+        writeCsvField(out, dto.getId());
+        out.write(',');
+        writeCsvField(out, dto.getName());
+        out.write(',');
+        writeCsvField(out, dto.getPrice() == null ? null : dto.getPrice().toString());
+        out.write(',');
+        writeCsvField(out, category == null ? null : category.getId());
+        out.write(',');
+        writeCsvField(out, category == null ? null : category.getName());
+        out.write(',');
+        writeCsvField(out, stock == null ? null : stock.getId());
+        out.write(',');
+        writeCsvField(out, stock == null || stock.getQuantity() == null ? null : stock.getQuantity().toString());
+        out.write('\n');
+    }
+
+    /**
+     * CSVの1項目を書き出す(カンマ・ダブルクォート・改行を含む場合はダブルクォートで囲む)
+     */
+    static void writeCsvField(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.ddd_demo.presentation.product.controller;
+
+import java.io.InputStream;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.ddd_demo.application.dto.ProductImportResultDTO;
+import com.example.ddd_demo.application.product.usecase.ImportProductsUsecase;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ============================================================================
+ * 【プレゼンテーション層：ImportProductsController】
+ * ============================================================================
+ * 🎯 役割
+ * - ユースケース「商品カタログを一括で取り込む」を実現するエンドポイントを提供する。
+ * - 仕入先から受け取った商品カタログ(CSV)を、1回のリクエストでまとめて登録する。
+ *
+ * 🧩 設計方針
+ * - リクエストボディをバイト列として受け取らず、ストリームのまま Usecase に渡す。
+ *   読み込み・検証・登録は逐次行われ、メモリ使用量は行数に依存しない。
+ * - 不正な行・既に存在する商品名の行があっても全体は失敗させず、結果として報告する。
+ * - 読み込み件数・所要時間・毎秒処理件数はメトリクス（product.import.*）としても公開する。
+ * - 同じ処理はコマンドライン（--import=ファイル）からも実行できる（ImportProductsCommand）。
+ *
+ * 📦 エンドポイント
+ * - POST /api/products/import（Content-Type: text/csv）
+ *   → 1行目はヘッダ行（name,price,categoryId,stockQuantity）
+ *   → エクスポートしたCSV（GET /api/products/export?format=csv）もそのまま取り込める
+ *
+ * 🛡️ 例外ハンドリング
+ * - CSVが空・必須の列が無い → 400 Bad Request（ApiExceptionHandler）
+ *
+ * ============================================================================
+ */
+@Tag(name = "ImportProducts", description = "商品カタログの一括取り込み")
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+public class ImportProductsController {
+    /**
+     * ユースケース:[商品カタログを一括で取り込む]を実現するインターフェイス
+     */
+    private final ImportProductsUsecase usecase;
+
+    /**
+     * CSVの商品をまとめて登録する
+     * 例: POST /api/products/import
+     * @param csv リクエストボディ(CSV, UTF-8)
+     * @return 取り込み結果
+     */
+    @Operation(
+        summary = "商品カタログの一括取り込み",
+        description = "CSV(1行目はヘッダ行)の商品をまとめて登録します。"
+            + "不正な行・既に存在する商品名の行は登録せず、行番号付きで報告します。"
+    )
+    @ApiResponse(responseCode = "200", description = "取り込み完了(登録しなかった行を含む)")
+    @ApiResponse(responseCode = "400", description = "CSVが空、または必須の列が無い場合")
+    @PostMapping(path = "/import", consumes = { "text/csv", "text/plain", "application/octet-stream" })
+    public ResponseEntity<ProductImportResultDTO> importCsv(InputStream csv) {
+        return ResponseEntity.ok(usecase.importCsv(csv));
+    }
+}
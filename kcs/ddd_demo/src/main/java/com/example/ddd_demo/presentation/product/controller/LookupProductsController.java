@@ -0,0 +1,78 @@
+package com.example.ddd_demo.presentation.product.controller;
+
+import java.util.List;
+
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.ddd_demo.application.dto.ProductLookupResultDTO;
+import com.example.ddd_demo.application.product.usecase.LookupProductsUsecase;
+import com.example.ddd_demo.presentation.product.schema.ProductLookupSchema;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.*;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ============================================================================
+ * 【プレゼンテーション層：LookupProductsController】
+ * ============================================================================
+ * 🎯 役割
+ * - ユースケース「複数の商品をまとめて検索する」を実現するエンドポイントを提供する。
+ * - カート・POSなど、1リクエストで多数の商品を解決するクライアント向け。
+ *
+ * 🧩 設計方針
+ * - Controller 自体はビジネスロジックを一切持たない「薄い層」。
+ * - 商品ごとに検索APIを呼ぶ代わりに、1回の問い合わせでまとめて取得する。
+ *
+ * 📦 エンドポイント
+ * - POST /api/products/lookup
+ *   → 商品Idのリストまたは商品名のリストを指定して商品情報をまとめて取得。
+ *
+ * 📄 入出力
+ * - RequestBody: ProductLookupSchema（ids / names のいずれか一方）
+ * - Response: ProductLookupResultDTO の配列（リクエスト順、該当なしは found=false）
+ *
+ * 🛡️ 例外ハンドリング
+ * - 入力不正（UUID形式違反・件数超過など）→ 400 Bad Request
+ *   ApiExceptionHandler にて共通処理される。
+ *
+ * ============================================================================
+ */
+@Tag(name = "LookupProducts", description = "商品一括検索(Id・名前で検索)")
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+@Validated
+public class LookupProductsController {
+    /**
+     * ユースケース:[複数の商品をまとめて検索する]を実現するインターフェイス
+     */
+    private final LookupProductsUsecase usecase;
+
+    /**
+     * 商品Idまたは商品名のリストを指定して商品情報をまとめて取得する
+     * @param req 検索条件(ids / names のいずれか一方)
+     * @return リクエスト順に並んだ検索結果
+     */
+    @Operation(
+        summary = "商品一括検索",
+        description = "商品Idのリストまたは商品名のリストを指定して商品情報をまとめて取得します。"
+            + "結果はリクエスト順に並び、該当商品が存在しないキーは found=false になります。"
+    )
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    @ApiResponse(responseCode = "400", description = "入力パラメータが不正な場合")
+    @PostMapping(value = "/lookup", consumes = "application/json", produces = "application/json")
+    public List<ProductLookupResultDTO> lookup(@Valid @RequestBody ProductLookupSchema req) {
+        if (req.ids() != null && !req.ids().isEmpty()) {
+            return usecase.lookupByIds(req.ids());
+        }
+        return usecase.lookupByNames(req.names());
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.ddd_demo.presentation.product.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.ddd_demo.application.dto.OrderLineDTO;
+import com.example.ddd_demo.application.dto.OrderPlacementResultDTO;
+import com.example.ddd_demo.application.product.usecase.PlaceOrderUsecase;
+import com.example.ddd_demo.presentation.product.schema.OrderLineSchema;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.*;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ============================================================================
+ * 【プレゼンテーション層：PlaceOrderController】
+ * ============================================================================
+ * 🎯 役割
+ * - ユースケース「注文を確定する」を実現するエンドポイントを提供する。
+ * - 1回の注文(1〜100明細)の全商品の在庫を、すべて引き当てるか1つも引き当てないかで処理する。
+ *
+ * 🧩 設計方針
+ * - Controller 自体はビジネスロジックを一切持たない「薄い層」。
+ * - 引当は明細数によらず1回のSQL文で行い、在庫の行は常に商品の主キー順にロックされる
+ *   (同じ商品を含む注文が同時に確定されてもデッドロックしない)。
+ * - 引き当てられなかった場合も、明細ごとの理由を本文で返す。
+ *
+ * 📦 エンドポイント
+ * - POST /api/orders
+ *   → 注文の全明細の在庫を引き当てる。
+ *
+ * 📄 入出力
+ * - RequestBody: OrderLineSchema のリスト（1〜100件）
+ * - Response: OrderPlacementResultDTO（確定したか・明細ごとの引当結果）
+ *   確定した場合は 200 OK、引き当てられない明細があった場合は 409 Conflict。
+ *
+ * 🛡️ 例外ハンドリング
+ * - 入力不正（UUID形式違反・数量の範囲外・件数超過）→ 400 Bad Request
+ *   これらは ApiExceptionHandler にて共通処理される。
+ *
+ * ============================================================================
+ */
+@Tag(name = "PlaceOrder", description = "注文の確定")
+@RestController
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@Validated
+public class PlaceOrderController {
+    /**
+     * ユースケース:[注文を確定する]を実現するインターフェイス
+     */
+    private final PlaceOrderUsecase usecase;
+
+    /**
+     * 注文の全明細の在庫を引き当てる
+     * 例: POST /api/orders [{"productId": "9959e553-c9da-4646-bd85-8663a3541583", "quantity": 2}]
+     * @param req 商品Idと数量のリスト
+     * @return 確定結果
+     */
+    @Operation(
+        summary = "注文の確定",
+        description = "注文の全明細の在庫を、すべての引当可能数が足りる場合だけまとめて減算します。同じ商品Idの数量は合算します。"
+            + "足りない明細・存在しない商品があれば在庫を変更せず、明細ごとの理由を409で返します。"
+    )
+    @ApiResponse(responseCode = "200", description = "確定成功(明細ごとの引当後の在庫を返す)")
+    @ApiResponse(responseCode = "400", description = "入力パラメータが不正な場合")
+    @ApiResponse(responseCode = "409", description = "引き当てられない明細がある場合(在庫は変更しない)")
+    @PostMapping(consumes = "application/json", produces = "application/json")
+    public ResponseEntity<OrderPlacementResultDTO> place(
+        @RequestBody
+        @NotEmpty(message = "注文の明細は必須です")
+        @Size(max = PlaceOrderUsecase.MAX_LINES, message = "1回の注文で指定できる明細は" + PlaceOrderUsecase.MAX_LINES + "件までです")
+        List<@Valid OrderLineSchema> req) {
+        var lines = req.stream()
+            .map(s -> new OrderLineDTO(s.productId(), s.quantity()))
+            .toList();
+        var result = usecase.place(lines);
+        return ResponseEntity.status(result.isPlaced() ? HttpStatus.OK : HttpStatus.CONFLICT).body(result);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.ddd_demo.presentation.product.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.ddd_demo.application.dto.StockAdjustmentDTO;
+import com.example.ddd_demo.application.dto.StockMovementDTO;
+import com.example.ddd_demo.application.dto.StockMovementReceiptDTO;
+import com.example.ddd_demo.application.product.usecase.RecordStockMovementUsecase;
+import com.example.ddd_demo.presentation.product.schema.StockAdjustmentSchema;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.*;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ============================================================================
+ * 【プレゼンテーション層：RecordStockMovementController】
+ * ============================================================================
+ * 🎯 役割
+ * - ユースケース「在庫の移動を記録する」を実現するエンドポイントを提供する。
+ * - 入出庫を在庫の移動の台帳(stock_movement)へ追記するだけで受け付ける。
+ *
+ * 🧩 設計方針
+ * - Controller 自体はビジネスロジックを一切持たない「薄い層」。
+ * - 在庫の行を更新しないため、同じ商品への記録どうしが行ロックを奪い合わない。
+ * - 在庫数への反映はバックグラウンドで行われるため、受付は 202 Accepted で返す。
+ *   反映状況(PENDING / APPLIED / REJECTED)は移動Idで取得する。
+ *
+ * 📦 エンドポイント
+ * - POST /api/stock/movements
+ *   → 商品ごとの在庫の増減を移動として記録する。
+ * - GET /api/stock/movements/{id}
+ *   → 移動Idを指定して、記録した移動と反映状況を取得する。
+ *
+ * 📄 入出力
+ * - RequestBody: StockAdjustmentSchema のリスト（1〜10000件）
+ * - Response: StockMovementReceiptDTO（受け付けた移動・存在しない商品Id）/ StockMovementDTO
+ *
+ * 🛡️ 例外ハンドリング
+ * - 入力不正（UUID形式違反・増減量の範囲外・件数超過）→ 400 Bad Request
+ * - NotFoundException（移動が存在しない）→ 404 Not Found
+ *   これらは ApiExceptionHandler にて共通処理される。
+ *
+ * ============================================================================
+ */
+@Tag(name = "RecordStockMovement", description = "在庫の移動(入出庫)の記録")
+@RestController
+@RequestMapping("/api/stock/movements")
+@RequiredArgsConstructor
+@Validated
+public class RecordStockMovementController {
+    /**
+     * 一度に記録できる最大件数
+     */
+    static final int MAX_MOVEMENTS = 10000;
+
+    /**
+     * ユースケース:[在庫の移動を記録する]を実現するインターフェイス
+     */
+    private final RecordStockMovementUsecase usecase;
+
+    /**
+     * 商品ごとの在庫の増減を移動として記録する
+     * 例: POST /api/stock/movements [{"productId": "9959e553-c9da-4646-bd85-8663a3541583", "delta": -3}]
+     * @param req 商品Idと増減量のリスト
+     * @return 受付結果
+     */
+    @Operation(
+        summary = "在庫の移動の記録",
+        description = "商品ごとの在庫の増減を移動として記録します。在庫数へは非同期に反映します。"
+            + "存在しない商品への移動は記録せず、結果に含めて返します。"
+    )
+    @ApiResponse(responseCode = "202", description = "受付完了(在庫数へは未反映)")
+    @ApiResponse(responseCode = "400", description = "入力パラメータが不正な場合")
+    @PostMapping(consumes = "application/json", produces = "application/json")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public StockMovementReceiptDTO record(
+        @RequestBody
+        @NotEmpty(message = "在庫の移動のリストは必須です")
+        @Size(max = MAX_MOVEMENTS, message = "一度に記録できる移動は" + MAX_MOVEMENTS + "件までです")
+        List<@Valid StockAdjustmentSchema> req) {
+        var movements = req.stream()
+            .map(s -> new StockAdjustmentDTO(s.productId(), s.delta()))
+            .toList();
+        return usecase.record(movements);
+    }
+
+    /**
+     * 移動Idを指定して、記録した移動と反映状況を取得する
+     * 例: GET /api/stock/movements/0192f0c4-6a5e-7c3a-9b1d-2f4e5a6b7c8d
+     * @param movementId 移動Id(UUIDv7)
+     * @return StockMovementDTO
+     */
+    @Operation(
+        summary = "在庫の移動の取得",
+        description = "移動Idを指定して、記録した移動と在庫数への反映状況(PENDING / APPLIED / REJECTED)を取得します。"
+    )
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    @ApiResponse(responseCode = "404", description = "該当する移動が存在しない場合")
+    @ApiResponse(responseCode = "400", description = "移動IdがUUIDv7形式でない場合")
+    @GetMapping(value = "/{id}", produces = "application/json")
+    public StockMovementDTO getById(
+        @Parameter(description = "移動Id(UUIDv7)", example = "0192f0c4-6a5e-7c3a-9b1d-2f4e5a6b7c8d", required = true)
+        @PathVariable("id") String movementId) {
+        return usecase.getMovement(movementId);
+    }
+}
@@ -12,15 +12,19 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.ddd_demo.application.dto.CategoryDTO;
 import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.dto.ProductRegisterResultDTO;
 import com.example.ddd_demo.application.product.usecase.RegisterProductUsecase;
+import com.example.ddd_demo.presentation.cache.ConditionalResponses;
 import com.example.ddd_demo.presentation.product.schema.ProductCreateSchema;
 import com.example.ddd_demo.presentation.product.schema.ProductCreateSchemaMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -28,6 +32,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -47,10 +53,11 @@ import lombok.RequiredArgsConstructor;
  *   DTO / Schema で API 境界を明確に保つ。
  *
  * 📦 主なエンドポイント
- * - GET  /api/products/categories          : カテゴリ一覧取得
+ * - GET  /api/products/categories          : カテゴリ一覧取得（ETag / If-None-Match 対応）
  * - GET  /api/products/categories/{id}     : カテゴリ詳細取得
  * - GET  /api/products/exists?name=XXX     : 商品名の存在チェック
  * - POST /api/products                     : 商品登録
+ * - POST /api/products/batch               : 商品一括登録（1件ごとの結果を返却）
  *
  * 💬 実装概要
  * - Request: ProductCreateSchema（入力スキーマ）
@@ -78,19 +85,35 @@ public class RegisterProductController {
     private final RegisterProductUsecase usecase;
 
     private final ProductCreateSchemaMapper mapper;
+
+    /**
+     * 条件付きGETの応答
+     */
+    private final ConditionalResponses conditional;
+
+    /**
+     * 一括登録で受け付ける最大件数
+     */
+    static final int MAX_BATCH_SIZE = 1000;
    
     /**
      * 商品カテゴリ一覧を提供する
+     * <p>一覧の版から強いETagを生成し、If-None-Match が一致すれば本文なしの304を返す。</p>
+     * @param request If-None-Match の判定に利用するリクエスト
      * @return
      */
     @Operation(summary = "カテゴリ一覧取得",
-        description = "登録時のプルダウンなどに使用するカテゴリ一覧を返します。")
+        description = "登録時のプルダウンなどに使用するカテゴリ一覧を返します。"
+            + "ETagを返し、If-None-Matchが一致する場合は本文なしの304を返します。")
     @ApiResponse(responseCode = "200", description = "取得成功",
         content = @Content(mediaType = "application/json",
-            schema = @Schema(implementation = CategoryDTO.class)))
+            array = @ArraySchema(schema = @Schema(implementation = CategoryDTO.class))))
+    @ApiResponse(responseCode = "304", description = "前回取得時から変更なし")
     @GetMapping("/categories")
-    public List<CategoryDTO> getCategories() {
-        return usecase.getCategories();
+    public ResponseEntity<List<CategoryDTO>> getCategories(WebRequest request) {
+        // 版を先に取得し、一致すれば一覧を組み立てずに304を返す
+        var version = usecase.getCategoriesVersion();
+        return conditional.respond(request, conditional.categories(), version, usecase::getCategories);
     }
 
     /**
@@ -164,11 +187,40 @@ public class RegisterProductController {
         // ProductCreateSchemaからProductDTOに変換する
         var dto = mapper.toDto(req);
 
-        // 事前チェック:同一商品名の有無
-        usecase.existsProduct(req.name());
-        // 商品の登録
+        // 商品の登録(同一商品名の重複は登録時に一意制約で検出され、ExistsException → 409)
         var newProduct = usecase.addProduct(dto);
         var location = URI.create( "/api/products/" + newProduct.getId());
         return ResponseEntity.created(location).body(newProduct);
     }
+
+    /**
+     * 商品をまとめて登録する
+     * <p>要素ごとの入力検証(@Valid)は行わない。不正な要素があっても全体を400にせず、
+     * ユースケースがその要素だけを INVALID として報告する(リスト自体の件数のみここで検証する)。</p>
+     * @param req 登録リクエストDTOのリスト
+     * @return 1件ごとの登録結果(リクエスト順)
+     */
+    @Operation(
+        summary = "商品一括登録",
+        description = "複数の商品をまとめて登録します。1件の失敗で全体を失敗させず、"
+            + "リクエスト順に1件ごとの結果(CREATED/CONFLICT/NOT_FOUND/INVALID)を返します。"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "処理完了(1件ごとの結果を含む)",
+            content = @Content(mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = ProductRegisterResultDTO.class)))),
+        @ApiResponse(responseCode = "400", description = "商品リストが空、または件数の上限を超える"),
+        @ApiResponse(responseCode = "500", description = "サーバ内部エラー")
+    })
+    @PostMapping(value = "/batch", consumes="application/json", produces="application/json")
+    public ResponseEntity<List<ProductRegisterResultDTO>> registerAll(
+        @RequestBody
+        @NotEmpty(message = "商品リストは必須です")
+        @Size(max = MAX_BATCH_SIZE, message = "一度に登録できる商品は" + MAX_BATCH_SIZE + "件までです")
+        List<ProductCreateSchema> req) {
+        // ProductCreateSchemaのリストからProductDTOのリストに変換する
+        var dtos = mapper.toDtoList(req);
+        // 商品の一括登録(存在確認は登録処理の中でまとめて行う)
+        return ResponseEntity.ok(usecase.addProducts(dtos));
+    }
 }
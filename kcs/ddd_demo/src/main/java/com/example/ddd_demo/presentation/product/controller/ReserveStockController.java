@@ -0,0 +1,154 @@
+package com.example.ddd_demo.presentation.product.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.ddd_demo.application.dto.StockAvailabilityDTO;
+import com.example.ddd_demo.application.dto.StockDTO;
+import com.example.ddd_demo.application.dto.StockReservationDTO;
+import com.example.ddd_demo.application.product.usecase.ReserveStockUsecase;
+import com.example.ddd_demo.presentation.product.schema.StockReservationSchema;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.*;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ============================================================================
+ * 【プレゼンテーション層：ReserveStockController】
+ * ============================================================================
+ * 🎯 役割
+ * - ユースケース「在庫を予約する」を実現するエンドポイントを提供する。
+ * - カートに入れた商品の在庫を一定時間だけ仮押さえし、注文の確定時に減算する。
+ *
+ * 🧩 設計方針
+ * - Controller 自体はビジネスロジックを一切持たない「薄い層」。
+ * - 予約中の数量は他の引当・予約に使われない(引当可能数 = 在庫数 − 予約中の数量)。
+ * - 有効期限までに確定されなかった予約は、サーバーが自動的に解放する。
+ *
+ * 📦 エンドポイント
+ * - POST /api/stock/reservations
+ *   → 引当可能数が足りる場合だけ予約する。
+ * - POST /api/stock/reservations/{id}/confirm
+ *   → 予約を確定し、予約数量を在庫数から減算する。
+ * - DELETE /api/stock/reservations/{id}
+ *   → 予約を解放する。
+ * - GET /api/stock/availability/{productId}
+ *   → 在庫数・予約中の数量・引当可能数を取得する。
+ *
+ * 📄 入出力
+ * - RequestBody: StockReservationSchema（productId・quantity: 1〜100・holdMinutes: 1〜120）
+ * - Response: StockReservationDTO / StockDTO（確定後の在庫）/ StockAvailabilityDTO
+ *
+ * 🛡️ 例外ハンドリング
+ * - NotFoundException（商品・予約が存在しない、予約が期限切れ）→ 404 Not Found
+ * - InsufficientStockException（引当可能数が足りない）→ 409 Conflict
+ * - 入力不正（UUID形式違反・数量や保持時間の範囲外）→ 400 Bad Request
+ *   これらは ApiExceptionHandler にて共通処理される。
+ *
+ * ============================================================================
+ */
+@Tag(name = "ReserveStock", description = "在庫の予約")
+@RestController
+@RequestMapping("/api/stock")
+@RequiredArgsConstructor
+@Validated
+public class ReserveStockController {
+    /**
+     * ユースケース:[在庫を予約する]を実現するインターフェイス
+     */
+    private final ReserveStockUsecase usecase;
+
+    /**
+     * 商品の在庫を予約する
+     * 例: POST /api/stock/reservations {"productId": "9959e553-c9da-4646-bd85-8663a3541583", "quantity": 2}
+     * @param req 商品Id・数量・保持時間
+     * @return 予約
+     */
+    @Operation(
+        summary = "在庫の予約",
+        description = "引当可能数が足りる場合だけ、指定数量を保持時間(省略時は15分)だけ予約します。"
+            + "引当可能数が足りない場合は409を返し、予約しません。"
+    )
+    @ApiResponse(responseCode = "201", description = "予約成功")
+    @ApiResponse(responseCode = "400", description = "入力パラメータが不正な場合")
+    @ApiResponse(responseCode = "404", description = "該当商品が存在しない場合")
+    @ApiResponse(responseCode = "409", description = "引当可能数が足りない場合")
+    @PostMapping(value = "/reservations", consumes = "application/json", produces = "application/json")
+    @ResponseStatus(HttpStatus.CREATED)
+    public StockReservationDTO reserve(@Valid @RequestBody StockReservationSchema req) {
+        return usecase.reserve(req.productId(), req.quantity(), req.holdMinutes());
+    }
+
+    /**
+     * 予約を確定し、予約数量を在庫数から減算する
+     * 例: POST /api/stock/reservations/3f1c2b7a-8d4e-4c1a-9f2b-6e5d4c3b2a19/confirm
+     * @param reservationId 予約Id(UUID)
+     * @return 減算後の在庫
+     */
+    @Operation(
+        summary = "在庫の予約の確定",
+        description = "予約を確定し、予約数量を在庫数から減算します。期限切れ・確定済み・解放済みの予約は404を返します。"
+    )
+    @ApiResponse(responseCode = "200", description = "確定成功(減算後の在庫を返す)")
+    @ApiResponse(responseCode = "400", description = "予約IdがUUID形式でない場合")
+    @ApiResponse(responseCode = "404", description = "該当する予約が存在しない場合")
+    @PostMapping(value = "/reservations/{id}/confirm", produces = "application/json")
+    public StockDTO confirm(
+        @Parameter(description = "予約Id(UUID)", example = "3f1c2b7a-8d4e-4c1a-9f2b-6e5d4c3b2a19", required = true)
+        @PathVariable("id") String reservationId) {
+        return usecase.confirm(reservationId);
+    }
+
+    /**
+     * 予約を解放する
+     * 例: DELETE /api/stock/reservations/3f1c2b7a-8d4e-4c1a-9f2b-6e5d4c3b2a19
+     * @param reservationId 予約Id(UUID)
+     */
+    @Operation(
+        summary = "在庫の予約の解放",
+        description = "予約を解放し、予約数量を引当可能数へ戻します。"
+    )
+    @ApiResponse(responseCode = "204", description = "解放成功")
+    @ApiResponse(responseCode = "400", description = "予約IdがUUID形式でない場合")
+    @ApiResponse(responseCode = "404", description = "該当する予約が存在しない場合")
+    @DeleteMapping("/reservations/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void release(
+        @Parameter(description = "予約Id(UUID)", example = "3f1c2b7a-8d4e-4c1a-9f2b-6e5d4c3b2a19", required = true)
+        @PathVariable("id") String reservationId) {
+        usecase.release(reservationId);
+    }
+
+    /**
+     * 商品の引当可能数を取得する
+     * 例: GET /api/stock/availability/9959e553-c9da-4646-bd85-8663a3541583
+     * @param productId 商品Id(UUID)
+     * @return 在庫数・予約中の数量・引当可能数
+     */
+    @Operation(
+        summary = "引当可能数の取得",
+        description = "在庫数・予約中の数量・引当可能数(在庫数 − 予約中の数量)を取得します。"
+    )
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    @ApiResponse(responseCode = "400", description = "商品IdがUUID形式でない場合")
+    @ApiResponse(responseCode = "404", description = "該当商品が存在しない場合")
+    @GetMapping(value = "/availability/{productId}", produces = "application/json")
+    public StockAvailabilityDTO getAvailability(
+        @Parameter(description = "商品Id(UUID)", example = "9959e553-c9da-4646-bd85-8663a3541583", required = true)
+        @PathVariable("productId") String productId) {
+        return usecase.getAvailability(productId);
+    }
+}
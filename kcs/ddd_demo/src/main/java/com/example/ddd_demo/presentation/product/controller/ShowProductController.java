@@ -0,0 +1,97 @@
+package com.example.ddd_demo.presentation.product.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.product.usecase.ShowProductUsecase;
+import com.example.ddd_demo.presentation.cache.ConditionalResponses;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.*;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ============================================================================
+ * 【プレゼンテーション層：ShowProductController】
+ * ============================================================================
+ * 🎯 役割
+ * - ユースケース「商品の詳細を表示する」を実現するエンドポイントを提供する。
+ * - 商品登録(POST /api/products)が返す Location の URI を提供する。
+ *
+ * 🧩 設計方針
+ * - Controller 自体はビジネスロジックを一切持たない「薄い層」。
+ * - 商品集約の版から強いETagを生成し、If-None-Match が一致すれば
+ *   集約の組み立て・JSONのシリアライズを行わずに 304 を返す(ConditionalResponses)。
+ * - 200 のETagは、本文と同じ読み取りで得た版から生成する(古い本文に新しいETagを付けない)。
+ * - ポーリングするクライアントの大半の応答をヘッダのみにする。
+ *
+ * 📦 エンドポイント
+ * - GET /api/products/{id}
+ *   → 商品Idを指定して商品情報を取得(ETag / Cache-Control 付き)。
+ *
+ * 📄 入出力
+ * - PathVariable: id（商品Id・UUID形式）
+ * - RequestHeader: If-None-Match（任意）
+ * - Response: ProductDTO（JSON形式）または 304 Not Modified（本文なし）
+ *
+ * 🛡️ 例外ハンドリング
+ * - NotFoundException → 404 Not Found
+ * - DomainException（UUID形式違反）→ 400 Bad Request
+ *   これらは ApiExceptionHandler にて共通処理される。
+ *
+ * ============================================================================
+ */
+@Tag(name = "ShowProduct", description = "商品詳細(Idで取得)")
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+@Validated
+public class ShowProductController {
+    /**
+     * ユースケース:[商品の詳細を表示する]を実現するインターフェイス
+     */
+    private final ShowProductUsecase usecase;
+    /**
+     * 条件付きGETの応答
+     */
+    private final ConditionalResponses conditional;
+
+    /**
+     * 商品Idを指定して商品情報を取得する
+     * 例: GET /api/products/83fbc81d-2498-4da6-b8c2-54878d3b67ff
+     * @param productId 商品Id(UUID)
+     * @param request If-None-Match の判定に利用するリクエスト
+     * @return ProductDTO(変更が無ければ 304)
+     */
+    @Operation(
+        summary = "商品詳細取得",
+        description = "商品Idを指定して商品情報(ProductDTO)を取得します。"
+            + "ETagを返し、If-None-Matchが一致する場合は本文なしの304を返します。"
+    )
+    @ApiResponse(responseCode = "200", description = "取得成功")
+    @ApiResponse(responseCode = "304", description = "前回取得時から変更なし")
+    @ApiResponse(responseCode = "404", description = "該当商品が存在しない場合")
+    @ApiResponse(responseCode = "400", description = "商品IdがUUID形式でない場合")
+    @GetMapping(value = "/{id}", produces = "application/json")
+    public ResponseEntity<ProductDTO> getById(
+        @Parameter(description = "商品Id(UUID)", example = "83fbc81d-2498-4da6-b8c2-54878d3b67ff", required = true)
+        @PathVariable("id") String productId,
+        WebRequest request) {
+        // 版を先に取得し、一致すれば集約を組み立てずに304を返す
+        var version = usecase.getVersion(productId);
+        // 200のETagには本文と同じ読み取りで得た版を付ける
+        return conditional.respondVersioned(request, conditional.product(), version, () -> {
+            var versioned = usecase.getVersionedProduct(productId);
+            return new ConditionalResponses.Versioned<>(versioned.getVersion(), versioned.getProduct());
+        });
+    }
+}
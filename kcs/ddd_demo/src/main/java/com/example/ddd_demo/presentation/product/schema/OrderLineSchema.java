@@ -0,0 +1,25 @@
+package com.example.ddd_demo.presentation.product.schema;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 📦 注文明細用リクエスト受信用スキーマ（入力DTO・1明細分）
+ *
+ * <p>商品Idと数量（1以上100以下）を指定する。</p>
+ */
+@Schema(name = "OrderLineSchema", description = "注文明細リクエスト(1明細分)")
+public record OrderLineSchema(
+    @Schema(description = "商品Id(UUID)", example = "9959e553-c9da-4646-bd85-8663a3541583", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "商品Idは必須です")
+    String productId,
+
+    @Schema(description = "数量(1以上100以下)", example = "2", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "数量は必須です")
+    @Min(value = 1, message = "数量は1以上で指定してください")
+    @Max(value = 100, message = "数量は100以下で指定してください")
+    Integer quantity
+){}
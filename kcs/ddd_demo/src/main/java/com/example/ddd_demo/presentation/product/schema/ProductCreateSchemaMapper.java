@@ -1,5 +1,7 @@
 package com.example.ddd_demo.presentation.product.schema;
 
+import java.util.List;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Mappings;
@@ -28,4 +30,9 @@ public interface ProductCreateSchemaMapper {
                  expression = "java(new StockDTO(null, schema.stockQuantity()))")
     })
     ProductDTO toDto(ProductCreateSchema schema);
+
+    /**
+     * 一括登録用：スキーマのリストをDTOのリストへ変換する（要素ごとに {@link #toDto} を適用）
+     */
+    List<ProductDTO> toDtoList(List<ProductCreateSchema> schemas);
 }
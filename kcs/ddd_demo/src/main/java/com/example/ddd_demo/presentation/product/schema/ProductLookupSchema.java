@@ -0,0 +1,44 @@
+package com.example.ddd_demo.presentation.product.schema;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 🔎 商品一括検索用リクエスト受信用スキーマ（入力DTO）
+ *
+ * <p>商品Id（{@code ids}）または商品名（{@code names}）のいずれか一方を指定する。
+ * 両方の指定、または両方の未指定はバリデーションエラー（400）とする。</p>
+ */
+@Schema(name = "ProductLookupSchema", description = "商品一括検索リクエスト(idsまたはnamesのいずれか一方を指定)")
+public record ProductLookupSchema(
+    @Schema(description = "商品Id(UUID)のリスト",
+        example = "[\"9959e553-c9da-4646-bd85-8663a3541583\"]")
+    @Size(max = MAX_KEYS, message = "一度に検索できる商品は" + MAX_KEYS + "件までです")
+    List<@NotBlank(message = "商品Idは必須です") String> ids,
+
+    @Schema(description = "商品名のリスト", example = "[\"蛍光ペン(赤)\", \"鉛筆(黒)\"]")
+    @Size(max = MAX_KEYS, message = "一度に検索できる商品は" + MAX_KEYS + "件までです")
+    List<@NotBlank(message = "商品名は必須です") String> names
+){
+    /**
+     * 1リクエストで指定できる検索キーの最大件数
+     */
+    public static final int MAX_KEYS = 500;
+
+    /**
+     * idsとnamesのどちらか一方だけが指定されているか
+     */
+    @JsonIgnore
+    @AssertTrue(message = "idsまたはnamesのいずれか一方を指定してください")
+    public boolean isSingleCriteria() {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        boolean hasNames = names != null && !names.isEmpty();
+        return hasIds ^ hasNames;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.ddd_demo.presentation.product.schema;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 📦 在庫の一括調整用リクエスト受信用スキーマ（入力DTO・1商品分）
+ *
+ * <p>商品Idと在庫の増減量（-100以上100以下、負数は減算）を指定する。</p>
+ */
+@Schema(name = "StockAdjustmentSchema", description = "在庫調整リクエスト(1商品分)")
+public record StockAdjustmentSchema(
+    @Schema(description = "商品Id(UUID)", example = "9959e553-c9da-4646-bd85-8663a3541583", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "商品Idは必須です")
+    String productId,
+
+    @Schema(description = "在庫の増減量(-100以上100以下、負数は減算)", example = "-3", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "増減量は必須です")
+    @Min(value = -100, message = "増減量は-100以上で指定してください")
+    @Max(value = 100, message = "増減量は100以下で指定してください")
+    Integer delta
+){}
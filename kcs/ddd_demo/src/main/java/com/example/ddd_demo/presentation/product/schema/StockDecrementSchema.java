@@ -0,0 +1,20 @@
+package com.example.ddd_demo.presentation.product.schema;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 📦 在庫引当用リクエスト受信用スキーマ（入力DTO）
+ *
+ * <p>減算する数量を指定する（1以上100以下）。</p>
+ */
+@Schema(name = "StockDecrementSchema", description = "在庫引当リクエスト")
+public record StockDecrementSchema(
+    @Schema(description = "減算する数量(1以上100以下)", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "数量は必須です")
+    @Min(value = 1, message = "数量は1以上で指定してください")
+    @Max(value = 100, message = "数量は100以下で指定してください")
+    Integer quantity
+){}
@@ -0,0 +1,30 @@
+package com.example.ddd_demo.presentation.product.schema;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 📦 在庫の予約用リクエスト受信用スキーマ（入力DTO）
+ *
+ * <p>予約する商品Id・数量（1以上100以下）・保持時間（分。省略時は15分、最大120分）を指定する。</p>
+ */
+@Schema(name = "StockReservationSchema", description = "在庫の予約リクエスト")
+public record StockReservationSchema(
+    @Schema(description = "商品Id(UUID)", example = "9959e553-c9da-4646-bd85-8663a3541583", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "商品Idは必須です")
+    String productId,
+
+    @Schema(description = "予約する数量(1以上100以下)", example = "2", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "数量は必須です")
+    @Min(value = 1, message = "数量は1以上で指定してください")
+    @Max(value = 100, message = "数量は100以下で指定してください")
+    Integer quantity,
+
+    @Schema(description = "保持時間(分。1以上120以下、省略時は15)", example = "15")
+    @Min(value = 1, message = "保持時間は1分以上で指定してください")
+    @Max(value = 120, message = "保持時間は120分以下で指定してください")
+    Integer holdMinutes
+){}
@@ -14,6 +14,29 @@ CREATE DATABASE "restapi-exercise"
     TABLESPACE = pg_default
     CONNECTION LIMIT = -1
     IS_TEMPLATE = False;
+-- Sequence: public.row_version_seq
+-- 商品・在庫・商品カテゴリの行の版(version列)を採番する。全テーブル共通の単調増加値のため、
+-- 行を削除・再登録しても同じ版は再び現れない(ETagの衝突を避ける)。
+
+-- DROP SEQUENCE IF EXISTS public.row_version_seq;
+
+CREATE SEQUENCE IF NOT EXISTS public.row_version_seq;
+
+-- FUNCTION: public.bump_row_version()
+-- 行の内容が変わった場合だけ version 列を新しい値に進める(BEFORE UPDATE トリガから呼び出す)
+
+-- DROP FUNCTION IF EXISTS public.bump_row_version();
+
+CREATE OR REPLACE FUNCTION public.bump_row_version()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $BODY$
+BEGIN
+    NEW.version := nextval('public.row_version_seq');
+    RETURN NEW;
+END;
+$BODY$;
+
 -- Table: public.product_category
 
 -- DROP TABLE IF EXISTS public.product_category;
@@ -23,14 +46,32 @@ CREATE TABLE IF NOT EXISTS public.product_category
     id integer NOT NULL GENERATED BY DEFAULT AS IDENTITY ( INCREMENT 1 START 1 MINVALUE 1 MAXVALUE 2147483647 CACHE 1 ),
     category_uuid uuid NOT NULL DEFAULT gen_random_uuid(),
     name character varying(20) COLLATE pg_catalog."default",
+    version bigint NOT NULL DEFAULT nextval('public.row_version_seq'),
     CONSTRAINT product_category_pkey PRIMARY KEY (id),
-    CONSTRAINT uq_product_category_uuid UNIQUE (category_uuid)
+    CONSTRAINT uq_product_category_uuid UNIQUE (category_uuid),
+    CONSTRAINT ck_product_category__name CHECK (name IS NOT NULL AND name <> '' AND name = btrim(name))
 )
 
 TABLESPACE pg_default;
 
+-- 既存のデータベース(版・制約の追加前に作成済み)の場合は列と制約を追加する(何度実行してもよい)
+ALTER TABLE IF EXISTS public.product_category
+    ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT nextval('public.row_version_seq'),
+    DROP CONSTRAINT IF EXISTS ck_product_category__name,
+    ADD CONSTRAINT ck_product_category__name CHECK (name IS NOT NULL AND name <> '' AND name = btrim(name));
+
 ALTER TABLE IF EXISTS public.product_category
     OWNER to postgres;
+-- Trigger: trg_product_category__version
+
+-- DROP TRIGGER IF EXISTS trg_product_category__version ON public.product_category;
+
+CREATE OR REPLACE TRIGGER trg_product_category__version
+    BEFORE UPDATE
+    ON public.product_category
+    FOR EACH ROW
+    WHEN (OLD.* IS DISTINCT FROM NEW.*)
+    EXECUTE FUNCTION public.bump_row_version();
 
 -- Table: public.product
 
@@ -43,8 +84,13 @@ CREATE TABLE IF NOT EXISTS public.product
     name character varying(30) COLLATE pg_catalog."default",
     price integer,
     category_id integer,
+    -- 正規化した商品名(ProductName.normalize の値を永続化層が書き込む。DB側では算出しない)
+    name_normalized character varying COLLATE pg_catalog."default" NOT NULL,
+    version bigint NOT NULL DEFAULT nextval('public.row_version_seq'),
     CONSTRAINT product_pkey PRIMARY KEY (id),
     CONSTRAINT uq_product_uuid UNIQUE (product_uuid),
+    CONSTRAINT ck_product__name CHECK (name IS NOT NULL AND name <> '' AND name = btrim(name)),
+    CONSTRAINT ck_product__price CHECK (price IS NOT NULL AND price BETWEEN 50 AND 10000),
     CONSTRAINT fk_product__category FOREIGN KEY (category_id)
         REFERENCES public.product_category (id) MATCH SIMPLE
         ON UPDATE NO ACTION
@@ -53,8 +99,48 @@ CREATE TABLE IF NOT EXISTS public.product
 
 TABLESPACE pg_default;
 
+-- 既存のデータベース(版・正規化した商品名・制約の追加前に作成済み)の場合は列と制約を追加する(何度実行してもよい)
+ALTER TABLE IF EXISTS public.product
+    ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT nextval('public.row_version_seq'),
+    ADD COLUMN IF NOT EXISTS name_normalized character varying COLLATE pg_catalog."default",
+    DROP CONSTRAINT IF EXISTS ck_product__name,
+    ADD CONSTRAINT ck_product__name CHECK (name IS NOT NULL AND name <> '' AND name = btrim(name)),
+    DROP CONSTRAINT IF EXISTS ck_product__price,
+    ADD CONSTRAINT ck_product__price CHECK (price IS NOT NULL AND price BETWEEN 50 AND 10000);
+
+-- 追加した name_normalized を ProductName.normalize と同じ手順(NFKC → 大文字化 → 小文字化 → NFKC)で埋める。
+-- ただし upper/lower は1文字ずつ変換するため、Javaの変換が複数文字・文脈依存となる文字
+-- (ß・ギリシャ文字のシグマ(語末は ς)・İ・合字など)を含む商品名は同じ値にならない。
+-- その場合は移行を中止する(該当する商品名を変更するか、スキーマを作り直してから取り込み直すこと)。
+-- 大文字・小文字だけが異なる商品名が登録済みの場合は、uq_product__name_normalized の作成が失敗する。
+DO $BODY$
+BEGIN
+    IF EXISTS (SELECT 1 FROM public.product
+                WHERE name_normalized IS NULL
+                  AND normalize(name, NFKC) ~ '[ßŉǰΐΰևẖ-ẚὐὒὔὖᾀ-ᾴᾶᾷᾼῂ-ῄῆῇῌῒΐῖῗῢ-ῤῦῧῲ-ῴῶῷῼﬀ-ﬆﬓ-ﬗİΣσς]') THEN
+        RAISE EXCEPTION 'name_normalized をSQLで算出できない商品名があります。スキーマを作り直してください。';
+    END IF;
+    UPDATE public.product
+       SET name_normalized = normalize(lower(upper(normalize(name, NFKC))), NFKC)
+     WHERE name_normalized IS NULL;
+END;
+$BODY$;
+
+ALTER TABLE IF EXISTS public.product
+    ALTER COLUMN name_normalized SET NOT NULL;
+
 ALTER TABLE IF EXISTS public.product
     OWNER to postgres;
+-- Trigger: trg_product__version
+
+-- DROP TRIGGER IF EXISTS trg_product__version ON public.product;
+
+CREATE OR REPLACE TRIGGER trg_product__version
+    BEFORE UPDATE
+    ON public.product
+    FOR EACH ROW
+    WHEN (OLD.* IS DISTINCT FROM NEW.*)
+    EXECUTE FUNCTION public.bump_row_version();
 -- Index: idx_product__category_id
 
 -- DROP INDEX IF EXISTS public.idx_product__category_id;
@@ -63,6 +149,30 @@ CREATE INDEX IF NOT EXISTS idx_product__category_id
     ON public.product USING btree
     (category_id ASC NULLS LAST)
     TABLESPACE pg_default;
+-- Index: uq_product__name_normalized
+
+-- DROP INDEX IF EXISTS public.uq_product__name_normalized;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_product__name_normalized
+    ON public.product USING btree
+    (name_normalized COLLATE pg_catalog."default" ASC NULLS LAST)
+    TABLESPACE pg_default;
+-- Index: idx_product__category_id_price_uuid
+
+-- DROP INDEX IF EXISTS public.idx_product__category_id_price_uuid;
+
+CREATE INDEX IF NOT EXISTS idx_product__category_id_price_uuid
+    ON public.product USING btree
+    (category_id ASC NULLS LAST, price ASC NULLS LAST, product_uuid ASC NULLS LAST)
+    TABLESPACE pg_default;
+-- Index: idx_product__category_id_name_uuid
+
+-- DROP INDEX IF EXISTS public.idx_product__category_id_name_uuid;
+
+CREATE INDEX IF NOT EXISTS idx_product__category_id_name_uuid
+    ON public.product USING btree
+    (category_id ASC NULLS LAST, name COLLATE pg_catalog."default" ASC NULLS LAST, product_uuid ASC NULLS LAST)
+    TABLESPACE pg_default;
 
 -- Table: public.product_stock
 
@@ -74,8 +184,12 @@ CREATE TABLE IF NOT EXISTS public.product_stock
     stock_uuid uuid NOT NULL DEFAULT gen_random_uuid(),
     stock integer,
     product_id integer,
+    version bigint NOT NULL DEFAULT nextval('public.row_version_seq'),
+    reserved integer NOT NULL DEFAULT 0,
     CONSTRAINT product_stock_pkey PRIMARY KEY (id),
     CONSTRAINT uq_product_stock_uuid UNIQUE (stock_uuid),
+    CONSTRAINT ck_product_stock__stock CHECK (stock IS NOT NULL AND stock BETWEEN 0 AND 100),
+    CONSTRAINT ck_product_stock__reserved CHECK (reserved >= 0 AND reserved <= stock),
     CONSTRAINT fk_product_stock__product FOREIGN KEY (product_id)
         REFERENCES public.product (id) MATCH SIMPLE
         ON UPDATE NO ACTION
@@ -84,8 +198,29 @@ CREATE TABLE IF NOT EXISTS public.product_stock
 
 TABLESPACE pg_default;
 
+-- 既存のデータベース(版・予約中の数量・制約の追加前に作成済み)の場合は列と制約を追加する(何度実行してもよい)
+ALTER TABLE IF EXISTS public.product_stock
+    ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT nextval('public.row_version_seq'),
+    ADD COLUMN IF NOT EXISTS reserved integer NOT NULL DEFAULT 0,
+    DROP CONSTRAINT IF EXISTS ck_product_stock__stock,
+    ADD CONSTRAINT ck_product_stock__stock CHECK (stock IS NOT NULL AND stock BETWEEN 0 AND 100),
+    DROP CONSTRAINT IF EXISTS ck_product_stock__reserved,
+    ADD CONSTRAINT ck_product_stock__reserved CHECK (reserved >= 0 AND reserved <= stock);
+
 ALTER TABLE IF EXISTS public.product_stock
     OWNER to postgres;
+-- Trigger: trg_product_stock__version
+
+-- DROP TRIGGER IF EXISTS trg_product_stock__version ON public.product_stock;
+
+-- 予約中の数量(reserved)だけの変更は商品の表現を変えないため、版を進めない
+
+CREATE OR REPLACE TRIGGER trg_product_stock__version
+    BEFORE UPDATE
+    ON public.product_stock
+    FOR EACH ROW
+    WHEN ((OLD.id, OLD.stock_uuid, OLD.stock, OLD.product_id) IS DISTINCT FROM (NEW.id, NEW.stock_uuid, NEW.stock, NEW.product_id))
+    EXECUTE FUNCTION public.bump_row_version();
 -- Index: idx_product_stock__product_id
 
 -- DROP INDEX IF EXISTS public.idx_product_stock__product_id;
@@ -93,4 +228,155 @@ ALTER TABLE IF EXISTS public.product_stock
 CREATE INDEX IF NOT EXISTS idx_product_stock__product_id
     ON public.product_stock USING btree
     (product_id ASC NULLS LAST)
-    TABLESPACE pg_default;
\ No newline at end of file
+    TABLESPACE pg_default;
+-- Table: public.stock_movement
+-- 在庫の移動(入出庫)の台帳。追記のみで、更新・削除は行わない(古いパーティションは集計後に切り離して削除する)。
+-- movement_uuid はUUIDv7で、created_at にはその発行時刻(UTC)を格納する。created_at の日単位でパーティションに分割する。
+-- 同じ商品への追記が行ロックを奪い合わないよう、product への外部キーは設けない(追記時に商品の存在を確かめる)。
+-- txid は追記したトランザクションのId。コミットの順序とは一致しないため、反映は pg_snapshot_xmin より前(完了済み)の
+-- トランザクションの移動だけを対象とし、txid の順に進める。
+
+-- DROP TABLE IF EXISTS public.stock_movement;
+
+CREATE TABLE IF NOT EXISTS public.stock_movement
+(
+    movement_uuid uuid NOT NULL,
+    product_id integer NOT NULL,
+    delta integer NOT NULL,
+    created_at timestamp with time zone NOT NULL,
+    txid bigint NOT NULL DEFAULT (pg_current_xact_id()::text::bigint),
+    CONSTRAINT stock_movement_pkey PRIMARY KEY (created_at, movement_uuid),
+    CONSTRAINT ck_stock_movement__delta CHECK (delta <> 0 AND delta BETWEEN -100 AND 100)
+) PARTITION BY RANGE (created_at);
+
+ALTER TABLE IF EXISTS public.stock_movement
+    OWNER to postgres;
+-- Index: idx_stock_movement__txid_movement_uuid
+
+-- DROP INDEX IF EXISTS public.idx_stock_movement__txid_movement_uuid;
+
+CREATE INDEX IF NOT EXISTS idx_stock_movement__txid_movement_uuid
+    ON public.stock_movement USING btree
+    (txid ASC NULLS LAST, movement_uuid ASC NULLS LAST);
+
+-- FUNCTION: public.create_stock_movement_partition(date)
+-- 指定した日(UTC)のパーティション stock_movement_pYYYYMMDD を作成する(作成済みなら何もしない)
+
+-- DROP FUNCTION IF EXISTS public.create_stock_movement_partition(date);
+
+CREATE OR REPLACE FUNCTION public.create_stock_movement_partition(day date)
+    RETURNS text
+    LANGUAGE plpgsql
+AS $BODY$
+DECLARE
+    part text := format('stock_movement_p%s', to_char(day, 'YYYYMMDD'));
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS public.%I PARTITION OF public.stock_movement FOR VALUES FROM (%L) TO (%L)',
+        part, day::timestamp AT TIME ZONE 'UTC', (day + 1)::timestamp AT TIME ZONE 'UTC');
+    RETURN part;
+END;
+$BODY$;
+
+-- Table: public.stock_movement_applied
+-- 在庫数へ反映した移動(追記のみ)。在庫数と同じトランザクションで記録する
+
+-- DROP TABLE IF EXISTS public.stock_movement_applied;
+
+CREATE TABLE IF NOT EXISTS public.stock_movement_applied
+(
+    created_at timestamp with time zone NOT NULL,
+    movement_uuid uuid NOT NULL,
+    CONSTRAINT stock_movement_applied_pkey PRIMARY KEY (created_at, movement_uuid)
+)
+
+TABLESPACE pg_default;
+
+ALTER TABLE IF EXISTS public.stock_movement_applied
+    OWNER to postgres;
+
+-- Table: public.stock_movement_rejection
+-- 反映後の在庫数が範囲外となるため反映しなかった移動(追記のみ)
+
+-- DROP TABLE IF EXISTS public.stock_movement_rejection;
+
+CREATE TABLE IF NOT EXISTS public.stock_movement_rejection
+(
+    created_at timestamp with time zone NOT NULL,
+    movement_uuid uuid NOT NULL,
+    stock integer,
+    CONSTRAINT stock_movement_rejection_pkey PRIMARY KEY (created_at, movement_uuid)
+)
+
+TABLESPACE pg_default;
+
+ALTER TABLE IF EXISTS public.stock_movement_rejection
+    OWNER to postgres;
+
+-- Table: public.stock_movement_watermark
+-- 処理済み(反映・不成立)の移動の位置((txid, movement_uuid) の順でこの位置以前は処理済み)。1行のみ。
+-- 位置は完了済みのトランザクションの移動の中でだけ進めるため、後からコミットされる移動がこの位置より前になることはない。
+-- 在庫数(product_stock.stock)と同じトランザクションで進めるため、在庫数は常にこの位置までの移動を反映した値となる。
+
+-- DROP TABLE IF EXISTS public.stock_movement_watermark;
+
+CREATE TABLE IF NOT EXISTS public.stock_movement_watermark
+(
+    id smallint NOT NULL DEFAULT 1,
+    txid bigint NOT NULL DEFAULT 0,
+    movement_uuid uuid NOT NULL DEFAULT '00000000-0000-0000-0000-000000000000',
+    CONSTRAINT stock_movement_watermark_pkey PRIMARY KEY (id),
+    CONSTRAINT ck_stock_movement_watermark__single CHECK (id = 1)
+)
+
+TABLESPACE pg_default;
+
+ALTER TABLE IF EXISTS public.stock_movement_watermark
+    OWNER to postgres;
+
+INSERT INTO public.stock_movement_watermark (id) VALUES (1) ON CONFLICT DO NOTHING;
+
+-- Table: public.stock_movement_daily
+-- 集計済み(パーティション削除済み)の移動の、商品・日(UTC)ごとの集計
+
+-- DROP TABLE IF EXISTS public.stock_movement_daily;
+
+CREATE TABLE IF NOT EXISTS public.stock_movement_daily
+(
+    product_id integer NOT NULL,
+    day date NOT NULL,
+    net_delta integer NOT NULL,
+    applied bigint NOT NULL,
+    rejected bigint NOT NULL,
+    CONSTRAINT stock_movement_daily_pkey PRIMARY KEY (product_id, day)
+)
+
+TABLESPACE pg_default;
+
+ALTER TABLE IF EXISTS public.stock_movement_daily
+    OWNER to postgres;
+
+-- Table: public.stock_reservation
+-- 有効な在庫の予約(確定・解放・期限切れで削除する)。期限の管理はアプリケーションのメモリ上で行い、
+-- このテーブルは再起動時の復元に利用する。予約中の数量の合計は product_stock.reserved に保持する。
+
+-- DROP TABLE IF EXISTS public.stock_reservation;
+
+CREATE TABLE IF NOT EXISTS public.stock_reservation
+(
+    reservation_uuid uuid NOT NULL,
+    product_id integer NOT NULL,
+    quantity integer NOT NULL,
+    expires_at timestamp with time zone NOT NULL,
+    CONSTRAINT stock_reservation_pkey PRIMARY KEY (reservation_uuid),
+    CONSTRAINT ck_stock_reservation__quantity CHECK (quantity BETWEEN 1 AND 100),
+    CONSTRAINT fk_stock_reservation__product FOREIGN KEY (product_id)
+        REFERENCES public.product (id) MATCH SIMPLE
+        ON UPDATE NO ACTION
+        ON DELETE NO ACTION
+)
+
+TABLESPACE pg_default;
+
+ALTER TABLE IF EXISTS public.stock_reservation
+    OWNER to postgres;
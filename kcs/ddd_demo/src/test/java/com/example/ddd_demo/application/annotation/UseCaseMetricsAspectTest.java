@@ -0,0 +1,87 @@
+package com.example.ddd_demo.application.annotation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.example.ddd_demo.application.exception.NotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ユースケースの計測のテストドライバ
+ */
+public class UseCaseMetricsAspectTest {
+
+    /**
+     * 計測対象のユースケース
+     */
+    @UseCase
+    public static class SampleInteractor {
+        private final AtomicReference<Double> inFlightDuringCall = new AtomicReference<>();
+        private SimpleMeterRegistry registry;
+
+        public String find(String id) {
+            inFlightDuringCall.set(registry.get(UseCaseMetricsAspect.IN_FLIGHT).gauge().value());
+            if (id.isEmpty()) {
+                throw new NotFoundException("該当する商品が存在しません。");
+            }
+            return id;
+        }
+    }
+
+    private SimpleMeterRegistry registry;
+    private SampleInteractor target;
+    private SampleInteractor proxy;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        target = new SampleInteractor();
+        target.registry = registry;
+        var factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new UseCaseMetricsAspect(registry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("成功した呼び出しは所要時間に記録され、実行中の件数は呼び出し中だけ1になる")
+    void records_success() {
+        assertEquals("a", proxy.find("a"));
+        assertEquals("b", proxy.find("b"));
+
+        var timer = registry.get(UseCaseMetricsAspect.EXECUTION)
+            .tag("usecase", "SampleInteractor")
+            .tag("method", "find")
+            .tag("outcome", "SUCCESS")
+            .tag("exception", "none")
+            .timer();
+        assertEquals(2, timer.count());
+        assertEquals(1.0, target.inFlightDuringCall.get());
+        assertEquals(0.0, registry.get(UseCaseMetricsAspect.IN_FLIGHT).tag("usecase", "SampleInteractor").gauge().value());
+        assertTrue(registry.find(UseCaseMetricsAspect.ERRORS).counters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("例外はそのまま送出され、例外の型ごとにエラー件数と所要時間が記録される")
+    void records_errors_by_type() {
+        assertThrows(NotFoundException.class, () -> proxy.find(""));
+        assertThrows(NotFoundException.class, () -> proxy.find(""));
+
+        assertEquals(2.0, registry.get(UseCaseMetricsAspect.ERRORS)
+            .tag("usecase", "SampleInteractor")
+            .tag("exception", "NotFoundException")
+            .counter().count());
+        assertEquals(2, registry.get(UseCaseMetricsAspect.EXECUTION)
+            .tag("outcome", "ERROR")
+            .tag("exception", "NotFoundException")
+            .timer().count());
+        assertEquals(0.0, registry.get(UseCaseMetricsAspect.IN_FLIGHT).gauge().value());
+    }
+}
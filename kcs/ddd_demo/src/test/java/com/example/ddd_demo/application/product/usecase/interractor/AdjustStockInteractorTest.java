@@ -0,0 +1,70 @@
+package com.example.ddd_demo.application.product.usecase.interractor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.application.dto.StockAdjustmentDTO;
+import com.example.ddd_demo.application.dto.StockAdjustmentResultDTO.Reason;
+import com.example.ddd_demo.application.exception.InvalidInputException;
+import com.example.ddd_demo.application.product.usecase.interactor.AdjustStockInteractor;
+import com.example.ddd_demo.domain.exception.DomainException;
+
+/**
+ * ユースケース:[在庫を一括調整する]を実現するインターフェイス実装のテストドライバ
+ */
+@SpringBootTest
+@Transactional
+public class AdjustStockInteractorTest {
+    /**
+     * テストターゲット
+     */
+    @Autowired
+    private AdjustStockInteractor interactor;
+
+    private static final String EXISTING_ID = "9959e553-c9da-4646-bd85-8663a3541583";
+    private static final String UNKNOWN_ID  = "ffffffff-ffff-ffff-ffff-ffffffffffff";
+
+    @Test
+    @DisplayName("adjust(): 同じ商品Idの増減量は合算して反映する")
+    void adjust_merges_duplicates() {
+        var result = interactor.adjust(List.of(
+            new StockAdjustmentDTO(EXISTING_ID, -30),
+            new StockAdjustmentDTO(EXISTING_ID, 10)));
+        assertThat(result.getAppliedCount()).isEqualTo(1);
+        assertThat(result.getApplied().get(0).getProductId()).isEqualTo(EXISTING_ID);
+        assertThat(result.getApplied().get(0).getStock().getQuantity()).isEqualTo(80);
+        assertThat(result.getRejects()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("adjust(): 範囲外・存在しない商品は理由とメッセージ付きで報告する")
+    void adjust_reports_rejects() {
+        var result = interactor.adjust(List.of(
+            new StockAdjustmentDTO(EXISTING_ID, 1),
+            new StockAdjustmentDTO(UNKNOWN_ID, -1)));
+        assertThat(result.getAppliedCount()).isZero();
+        assertThat(result.getRejectedCount()).isEqualTo(2);
+        assertThat(result.getRejects())
+            .extracting(r -> r.getProductId(), r -> r.getReason(), r -> r.getCurrent())
+            .containsExactlyInAnyOrder(
+                tuple(EXISTING_ID, Reason.OUT_OF_RANGE, 100),
+                tuple(UNKNOWN_ID, Reason.NOT_FOUND, null));
+        assertThat(result.getRejects()).allMatch(r -> r.getMessage() != null);
+    }
+
+    @Test
+    @DisplayName("adjust(): 商品IdがUUID形式でない・未指定の場合は例外をスローする")
+    void adjust_invalid() {
+        assertThatThrownBy(() -> interactor.adjust(List.of(new StockAdjustmentDTO("not-a-uuid", 1))))
+            .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> interactor.adjust(List.of(new StockAdjustmentDTO(null, 1))))
+            .isInstanceOf(InvalidInputException.class);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.ddd_demo.application.product.usecase.interractor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.exception.NotFoundException;
+import com.example.ddd_demo.application.product.usecase.interactor.BrowseProductsInteractor;
+import com.example.ddd_demo.domain.exception.DomainException;
+
+/**
+ * ユースケース:[商品カテゴリで商品を閲覧する]を実現するインターフェイス実装のテストドライバ
+ */
+@SpringBootTest
+public class BrowseProductsInteractorTest {
+    /**
+     * テストターゲット
+     */
+    @Autowired
+    private BrowseProductsInteractor interactor;
+
+    private static final String STATIONERY = "2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4";
+
+    @Test
+    @DisplayName("browse(): nextをafterに指定して最終ページまで辿れる")
+    void browse_walks_pages() {
+        var all = new ArrayList<ProductDTO>();
+        String after = null;
+        do {
+            var page = interactor.browse(STATIONERY, after, 6, "price");
+            all.addAll(page.getItems());
+            after = page.getNext();
+        } while (after != null);
+        // 文房具の初期データ14件が単価順に取得されることを検証する
+        assertThat(all).hasSize(14);
+        assertThat(all).extracting(ProductDTO::getPrice).isSorted();
+        assertThat(all.get(0).getCategory().getName()).isEqualTo("文房具");
+    }
+
+    @Test
+    @DisplayName("browse(): 存在しないカテゴリIdならNotFoundExceptionをスローする")
+    void browse_unknown_category() {
+        assertThatThrownBy(() -> interactor.browse(UUID.randomUUID().toString(), null, 10, "name"))
+            .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("browse(): 不正なカーソル・並び順ならDomainExceptionをスローする")
+    void browse_invalid_input() {
+        assertThatThrownBy(() -> interactor.browse(STATIONERY, "broken-cursor", 10, "name"))
+            .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> interactor.browse(STATIONERY, null, 10, "stock"))
+            .isInstanceOf(DomainException.class);
+    }
+}
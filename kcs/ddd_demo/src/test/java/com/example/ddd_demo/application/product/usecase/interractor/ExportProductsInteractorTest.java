@@ -0,0 +1,65 @@
+package com.example.ddd_demo.application.product.usecase.interractor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.product.usecase.interactor.ExportProductsInteractor;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * ユースケース:[商品カタログを全件エクスポートする]のテストドライバ
+ */
+@SpringBootTest
+public class ExportProductsInteractorTest {
+    /**
+     * テストターゲット
+     */
+    @Autowired
+    private ExportProductsInteractor interactor;
+    @Autowired
+    private DSLContext dsl;
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    @DisplayName("exportAll(): すべての商品を登録順に1件ずつ出力先へ渡し、件数を返す")
+    void exportAll_streams_every_product() {
+        var received = new ArrayList<ProductDTO>();
+        long count = interactor.exportAll(received::add);
+
+        int total = dsl.fetchCount(ProductTable.PRODUCT);
+        assertThat(count).isEqualTo(total);
+        assertThat(received).hasSize(total);
+        // 商品・カテゴリ・在庫が揃った状態で渡されることを検証する
+        assertThat(received).allSatisfy(dto -> {
+            assertThat(dto.getId()).isNotBlank();
+            assertThat(dto.getCategory().getName()).isNotBlank();
+            assertThat(dto.getStock().getQuantity()).isNotNull();
+        });
+        assertThat(received).extracting(ProductDTO::getName).contains("油性ボールペン(黒)");
+        // 件数と所要時間をメトリクスに記録することを検証する
+        assertThat(registry.find("product.export").timer().count()).isPositive();
+        assertThat(registry.find("product.export.rows").counter().count()).isGreaterThanOrEqualTo(total);
+    }
+
+    @Test
+    @DisplayName("exportAll(): 出力先が例外をスローすると走査を中断する")
+    void exportAll_aborts_when_sink_fails() {
+        var received = new ArrayList<ProductDTO>();
+        assertThatThrownBy(() -> interactor.exportAll(dto -> {
+            received.add(dto);
+            if (received.size() == 3) throw new IllegalStateException("出力先の切断");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(received).hasSize(3);
+    }
+}
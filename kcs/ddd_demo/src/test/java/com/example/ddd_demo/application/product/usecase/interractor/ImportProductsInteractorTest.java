@@ -0,0 +1,150 @@
+package com.example.ddd_demo.application.product.usecase.interractor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.application.dto.ProductImportResultDTO.Reason;
+import com.example.ddd_demo.application.dto.ProductImportResultDTO.Reject;
+import com.example.ddd_demo.application.exception.InvalidInputException;
+import com.example.ddd_demo.application.product.service.ProductService;
+import com.example.ddd_demo.application.product.usecase.interactor.ImportProductsInteractor;
+import com.example.ddd_demo.domain.models.product.ProductName;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductStockTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * ユースケース:[商品カタログを一括で取り込む]のテストドライバ
+ */
+@SpringBootTest
+@Transactional
+public class ImportProductsInteractorTest {
+    /**
+     * テストターゲット
+     */
+    @Autowired
+    private ImportProductsInteractor interactor;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private DSLContext dsl;
+    @Autowired
+    private MeterRegistry registry;
+
+    private static final String STATIONERY = "2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4";
+    private static final String GOODS = "4c2bde9b-7e67-49ce-93a0-79c9f1b0a6b1";
+
+    private static InputStream csv(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("importCsv(): 正しい行を登録し、不正な行・重複した行を行番号付きで報告する")
+    void importCsv_inserts_valid_rows_and_reports_rejects() {
+        int products = dsl.fetchCount(ProductTable.PRODUCT);
+        int stocks = dsl.fetchCount(ProductStockTable.PRODUCT_STOCK);
+        var result = interactor.importCsv(csv(String.join("\n",
+            "name,price,categoryId,stockQuantity",
+            "取込ペン(赤),120," + STATIONERY + ",10",
+            "\"取込ノート, A5\",200," + GOODS + ",20",
+            "",
+            "取込ペン(青),abc," + STATIONERY + ",10",
+            "取込ペン(緑),120,00000000-0000-0000-0000-000000000000,10",
+            "取込ペン(黄),120," + STATIONERY + ",101",
+            "油性ボールペン(黒),100," + STATIONERY + ",10",
+            "取込ペン(ＲＥＤ),120," + STATIONERY + ",10",
+            "取込ペン(red),130," + STATIONERY + ",5",
+            "\"取込ペン(紫),120," + STATIONERY + ",10")));
+
+        assertThat(result.getRead()).isEqualTo(9);
+        assertThat(result.getInserted()).isEqualTo(3);
+        assertThat(result.getRejected()).isEqualTo(6);
+        assertThat(result.getRejects())
+            .extracting(Reject::getLine, Reject::getReason)
+            .containsExactly(
+                tuple(5L, Reason.INVALID),
+                tuple(6L, Reason.NOT_FOUND),
+                tuple(7L, Reason.INVALID),
+                tuple(8L, Reason.CONFLICT),
+                tuple(10L, Reason.CONFLICT),
+                tuple(11L, Reason.INVALID));
+        assertThat(result.getRejects().get(0).getMessage()).contains("商品単価は整数で指定してください。");
+        assertThat(result.getRejects().get(3).getName()).isEqualTo("油性ボールペン(黒)");
+        // 商品と在庫が揃って登録されることを検証する
+        assertThat(dsl.fetchCount(ProductTable.PRODUCT)).isEqualTo(products + 3);
+        assertThat(dsl.fetchCount(ProductStockTable.PRODUCT_STOCK)).isEqualTo(stocks + 3);
+        var note = productService.getProductByName(ProductName.of("取込ノート, A5"));
+        assertThat(note.getPrice().value()).isEqualTo(200);
+        assertThat(note.getCategory().getName().value()).isEqualTo("雑貨");
+        assertThat(note.getStock().getQuantity().value()).isEqualTo(20);
+        // ファイル内の重複(正規化後)は先の行を登録する
+        assertThat(productService.getProductByName(ProductName.of("取込ペン(ＲＥＤ)")).getPrice().value())
+            .isEqualTo(120);
+        // 件数をメトリクスに記録することを検証する
+        assertThat(registry.find("product.import").timer().count()).isPositive();
+        assertThat(registry.find("product.import.rows").tag("result", "inserted").counter().count())
+            .isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("importCsv(): 検証の並列数を超える行数でも、すべての行を読み込み順に登録する")
+    void importCsv_many_rows() {
+        var sb = new StringBuilder("categoryId,stockQuantity,price,name\n");
+        int rows = 5000;
+        for (int i = 0; i < rows; i++) {
+            sb.append(STATIONERY).append(',').append(i % 101).append(',').append(50 + i % 100)
+              .append(",大量取込商品-").append(i).append('\n');
+        }
+        var result = interactor.importCsv(csv(sb.toString()));
+
+        assertThat(result.getRead()).isEqualTo(rows);
+        assertThat(result.getInserted()).isEqualTo(rows);
+        assertThat(result.getRejected()).isZero();
+        assertThat(result.getRejects()).isEmpty();
+        assertThat(result.getRowsPerSecond()).isPositive();
+        var last = productService.getProductByName(ProductName.of("大量取込商品-" + (rows - 1)));
+        assertThat(last.getStock().getQuantity().value()).isEqualTo((rows - 1) % 101);
+        // 主キーは読み込み順に採番される
+        var pt = ProductTable.PRODUCT;
+        var first = dsl.select(pt.ID).from(pt).where(pt.NAME.eq("大量取込商品-0")).fetchOne(pt.ID);
+        var lastId = dsl.select(pt.ID).from(pt).where(pt.NAME.eq("大量取込商品-" + (rows - 1))).fetchOne(pt.ID);
+        assertThat(lastId - first).isEqualTo(rows - 1);
+    }
+
+    @Test
+    @DisplayName("importCsv(): エクスポートしたCSV(id等の列を含む)をそのまま取り込める")
+    void importCsv_accepts_exported_csv() {
+        var result = interactor.importCsv(csv(String.join("\n",
+            "\uFEFFid,name,price,categoryId,categoryName,stockId,stockQuantity",
+            "9959e553-c9da-4646-bd85-8663a3541583,取込消しゴム,80," + STATIONERY
+                + ",文房具,11111111-2222-3333-4444-555555555555,30")));
+
+        assertThat(result.getInserted()).isEqualTo(1);
+        var product = productService.getProductByName(ProductName.of("取込消しゴム"));
+        // 商品Id・在庫Idは新たに採番される
+        assertThat(product.getProductId().value()).isNotEqualTo("9959e553-c9da-4646-bd85-8663a3541583");
+        assertThat(product.getStock().getQuantity().value()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("importCsv(): CSVが空、または必須の列が無い場合はInvalidInputExceptionをスローする")
+    void importCsv_invalid_header_throws() {
+        assertThatThrownBy(() -> interactor.importCsv(csv("")))
+            .isInstanceOf(InvalidInputException.class)
+            .hasMessage("CSVが空です。");
+        assertThatThrownBy(() -> interactor.importCsv(csv("name,price,categoryId\n")))
+            .isInstanceOf(InvalidInputException.class)
+            .hasMessage("ヘッダ行に列:[stockquantity]がありません。");
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.ddd_demo.application.product.usecase.interractor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.ddd_demo.application.dto.ProductLookupResultDTO;
+import com.example.ddd_demo.application.product.usecase.interactor.LookupProductsInteractor;
+import com.example.ddd_demo.domain.exception.DomainException;
+
+/**
+ * ユースケース:[複数の商品をまとめて検索する]を実現するインターフェイス実装のテストドライバ
+ */
+@SpringBootTest
+public class LookupProductsInteractorTest {
+    /**
+     * テストターゲット
+     */
+    @Autowired
+    private LookupProductsInteractor interactor;
+
+    @Test
+    @DisplayName("lookupByIds(): 指定順に結果が返り、存在しない商品Idはfound=falseになる")
+    void lookupByIds_in_request_order() {
+        var results = interactor.lookupByIds(List.of(
+            "e4850253-f363-4e79-8110-7335e4af45be",
+            "ffffffff-ffff-ffff-ffff-ffffffffffff",
+            "9959E553-C9DA-4646-BD85-8663A3541583"));
+        // 指定順に検索キーが並ぶことを検証する
+        assertThat(results).extracting(ProductLookupResultDTO::getKey).containsExactly(
+            "e4850253-f363-4e79-8110-7335e4af45be",
+            "ffffffff-ffff-ffff-ffff-ffffffffffff",
+            "9959E553-C9DA-4646-BD85-8663A3541583");
+        // 存在有無を検証する
+        assertThat(results).extracting(ProductLookupResultDTO::isFound).containsExactly(true, false, true);
+        // 取得した商品を検証する
+        assertThat(results.get(0).getProduct().getName()).isEqualTo("鉛筆(黒)");
+        assertThat(results.get(1).getProduct()).isNull();
+        assertThat(results.get(2).getProduct().getName()).isEqualTo("油性ボールペン(黒)");
+        assertThat(results.get(2).getProduct().getStock().getQuantity()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("lookupByNames(): 指定順に結果が返り、重複指定も同じ商品で埋められる")
+    void lookupByNames_in_request_order() {
+        var results = interactor.lookupByNames(List.of("蛍光ペン(赤)", "ペーパーナイフ", "鉛筆(黒)", "蛍光ペン(赤)"));
+        // 存在有無を検証する
+        assertThat(results).extracting(ProductLookupResultDTO::isFound).containsExactly(true, false, true, true);
+        // 取得した商品を検証する
+        assertThat(results.get(0).getProduct().getId()).isEqualTo("83fbc81d-2498-4da6-b8c2-54878d3b67ff");
+        assertThat(results.get(0).getProduct().getCategory().getName()).isEqualTo("文房具");
+        assertThat(results.get(2).getProduct().getName()).isEqualTo("鉛筆(黒)");
+        assertThat(results.get(3).getProduct().getId()).isEqualTo("83fbc81d-2498-4da6-b8c2-54878d3b67ff");
+    }
+
+    @Test
+    @DisplayName("lookupByIds(): UUID形式でない商品IdならDomainExceptionをスローする")
+    void lookupByIds_invalid_id() {
+        assertThatThrownBy(() -> interactor.lookupByIds(List.of("not-a-uuid")))
+            .isInstanceOf(DomainException.class);
+    }
+}
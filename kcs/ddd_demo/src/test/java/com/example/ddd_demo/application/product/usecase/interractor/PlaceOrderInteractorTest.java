@@ -0,0 +1,83 @@
+package com.example.ddd_demo.application.product.usecase.interractor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.application.dto.OrderLineDTO;
+import com.example.ddd_demo.application.dto.OrderPlacementResultDTO.Status;
+import com.example.ddd_demo.application.exception.InvalidInputException;
+import com.example.ddd_demo.application.product.usecase.PlaceOrderUsecase;
+import com.example.ddd_demo.application.product.usecase.interactor.PlaceOrderInteractor;
+import com.example.ddd_demo.domain.exception.DomainException;
+
+/**
+ * ユースケース:[注文を確定する]を実現するインターフェイス実装のテストドライバ
+ */
+@SpringBootTest
+@Transactional
+public class PlaceOrderInteractorTest {
+    /**
+     * テストターゲット
+     */
+    @Autowired
+    private PlaceOrderInteractor interactor;
+
+    private static final String EXISTING_ID  = "9959e553-c9da-4646-bd85-8663a3541583";
+    private static final String EXISTING_ID2 = "83fbc81d-2498-4da6-b8c2-54878d3b67ff";
+    private static final String UNKNOWN_ID   = "ffffffff-ffff-ffff-ffff-ffffffffffff";
+
+    @Test
+    @DisplayName("place(): 同じ商品Idの数量は合算して引き当てる")
+    void place_merges_duplicates() {
+        var result = interactor.place(List.of(
+            new OrderLineDTO(EXISTING_ID, 30),
+            new OrderLineDTO(EXISTING_ID2, 5),
+            new OrderLineDTO(EXISTING_ID, 10)));
+        assertThat(result.isPlaced()).isTrue();
+        assertThat(result.getLines())
+            .extracting(l -> l.getProductId(), l -> l.getQuantity(), l -> l.getStatus(), l -> l.getStock().getQuantity())
+            .containsExactly(
+                tuple(EXISTING_ID, 40, Status.ALLOCATED, 60),
+                tuple(EXISTING_ID2, 5, Status.ALLOCATED, 95));
+    }
+
+    @Test
+    @DisplayName("place(): 存在しない商品を含む注文は確定せず、他の明細も引き当てない")
+    void place_not_placed() {
+        var result = interactor.place(List.of(
+            new OrderLineDTO(EXISTING_ID, 1),
+            new OrderLineDTO(UNKNOWN_ID, 1)));
+        assertThat(result.isPlaced()).isFalse();
+        assertThat(result.getLines())
+            .extracting(l -> l.getStatus(), l -> l.getStock())
+            .containsExactly(tuple(Status.SKIPPED, null), tuple(Status.NOT_FOUND, null));
+    }
+
+    @Test
+    @DisplayName("place(): 空・件数超過・未指定・UUID形式でない・合算後の数量が範囲外の場合は例外をスローする")
+    void place_invalid() {
+        assertThatThrownBy(() -> interactor.place(List.of()))
+            .isInstanceOf(InvalidInputException.class);
+        var tooMany = new ArrayList<OrderLineDTO>();
+        for (int i = 0; i <= PlaceOrderUsecase.MAX_LINES; i++) {
+            tooMany.add(new OrderLineDTO(EXISTING_ID, 1));
+        }
+        assertThatThrownBy(() -> interactor.place(tooMany))
+            .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> interactor.place(List.of(new OrderLineDTO(EXISTING_ID, null))))
+            .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> interactor.place(List.of(new OrderLineDTO("not-a-uuid", 1))))
+            .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> interactor.place(List.of(
+                new OrderLineDTO(EXISTING_ID, 60), new OrderLineDTO(EXISTING_ID, 60))))
+            .isInstanceOf(DomainException.class);
+    }
+}
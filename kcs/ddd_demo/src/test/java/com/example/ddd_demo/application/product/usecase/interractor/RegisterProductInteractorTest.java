@@ -1,17 +1,29 @@
 package com.example.ddd_demo.application.product.usecase.interractor;
 
 import static org.assertj.core.api.Assertions.*;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.ddd_demo.application.dto.CategoryDTO;
 import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.dto.ProductRegisterResultDTO;
+import com.example.ddd_demo.application.dto.ProductRegisterResultDTO.Status;
 import com.example.ddd_demo.application.dto.StockDTO;
 import com.example.ddd_demo.application.exception.ExistsException;
 import com.example.ddd_demo.application.exception.NotFoundException;
@@ -19,6 +31,8 @@ import com.example.ddd_demo.application.product.usecase.interactor.RegisterProdu
 import com.example.ddd_demo.domain.models.product.Product;
 import com.example.ddd_demo.domain.models.product.ProductName;
 import com.example.ddd_demo.domain.models.product.ProductRepository;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductStockTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
 
 /**
  * ユースケース:[商品を登録する]のカテゴリ関連機能のテストドライバ
@@ -36,6 +50,11 @@ public class RegisterProductInteractorTest {
      */
     @Autowired
     private ProductRepository repository;
+    /**
+     * 同時登録テストの後始末で利用
+     */
+    @Autowired
+    private DSLContext dsl;
 
     @Test
     @DisplayName("getCategories(): 登録済みカテゴリをすべて取得できる")
@@ -123,4 +142,104 @@ public class RegisterProductInteractorTest {
         assertThat(p.currentStock().value()).isEqualTo(15);
     }
 
+    @Test
+    @DisplayName("addProducts(): 1件ごとに登録結果(CREATED/CONFLICT/NOT_FOUND/INVALID)が入力順に返される")
+    void addProducts_reports_each_item() {
+        var stationery = "2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4";
+        var dtos = List.of(
+            new ProductDTO(null, "ペーパーナイフ", 1200, new CategoryDTO(stationery, null), new StockDTO(null, 15)),
+            new ProductDTO(null, "水性ボールペン(青)", 120, new CategoryDTO(stationery, null), new StockDTO(null, 1)),
+            new ProductDTO(null, "定規", 150, new CategoryDTO(UUID.randomUUID().toString(), null), new StockDTO(null, 1)),
+            new ProductDTO(null, "付箋", 10, new CategoryDTO(stationery, null), new StockDTO(null, 1)),
+            new ProductDTO(null, "ペーパーナイフ", 900, new CategoryDTO(stationery, null), new StockDTO(null, 1))
+        );
+        // まとめて登録する
+        List<ProductRegisterResultDTO> results = interactor.addProducts(dtos);
+        // 入力順に結果が返されることを検証する
+        assertThat(results).extracting(ProductRegisterResultDTO::getIndex).containsExactly(0, 1, 2, 3, 4);
+        assertThat(results).extracting(ProductRegisterResultDTO::getStatus).containsExactly(
+            Status.CREATED, Status.CONFLICT, Status.NOT_FOUND, Status.INVALID, Status.CONFLICT);
+        // 登録成功した商品はカテゴリ名・在庫を含むDTOが返されることを検証する
+        var created = results.get(0).getProduct();
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getCategory().getName()).isEqualTo("文房具");
+        assertThat(created.getStock().getQuantity()).isEqualTo(15);
+        // 登録成功した商品だけが永続化されていることを検証する
+        var found = repository.findByName(ProductName.of("ペーパーナイフ"));
+        assertThat(found).isPresent();
+        assertThat(found.get().getPrice().value()).isEqualTo(1200);
+        assertThat(repository.findByName(ProductName.of("定規"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("addProducts(): 入力値が不正な要素はINVALIDとして報告し、他の要素は登録する")
+    void addProducts_reports_invalid_items_by_index() {
+        var stationery = "2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4";
+        var dtos = new ArrayList<ProductDTO>();
+        dtos.add(new ProductDTO(null, " ", 120, new CategoryDTO(stationery, null), new StockDTO(null, 1)));
+        dtos.add(new ProductDTO(null, "ルーペ", 300, new CategoryDTO(stationery, null), new StockDTO(null, 3)));
+        dtos.add(new ProductDTO(null, "画鋲", null, new CategoryDTO(stationery, null), new StockDTO(null, 1)));
+        dtos.add(new ProductDTO(null, "クリップ", 100, new CategoryDTO("", null), new StockDTO(null, 1)));
+        dtos.add(new ProductDTO(null, "輪ゴム", 100, new CategoryDTO(stationery, null), new StockDTO(null, -1)));
+        dtos.add(null);
+
+        List<ProductRegisterResultDTO> results = interactor.addProducts(dtos);
+
+        assertThat(results).extracting(ProductRegisterResultDTO::getIndex).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(results).extracting(ProductRegisterResultDTO::getStatus).containsExactly(
+            Status.INVALID, Status.CREATED, Status.INVALID, Status.INVALID, Status.INVALID, Status.INVALID);
+        assertThat(results).filteredOn(r -> r.getStatus() == Status.INVALID)
+            .allSatisfy(r -> assertThat(r.getMessage()).isNotBlank());
+    }
+
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("addProduct(): 同名商品を同時に登録しても成功するのは1件だけで、残りはExistsExceptionとなる")
+    void addProduct_concurrent_registrations_only_one_succeeds() throws Exception {
+        final int threads = 8;
+        final String name = "同時登録テスト用商品";
+        var barrier = new CyclicBarrier(threads);
+        var executor = Executors.newFixedThreadPool(threads);
+        try {
+            var futures = new ArrayList<Future<ProductDTO>>();
+            for (int i = 0; i < threads; i++) {
+                Callable<ProductDTO> task = () -> {
+                    var dto = new ProductDTO(null, name, 500,
+                        new CategoryDTO("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4", "文房具"),
+                        new StockDTO(null, 1));
+                    barrier.await(10, TimeUnit.SECONDS);
+                    return interactor.addProduct(dto);
+                };
+                futures.add(executor.submit(task));
+            }
+            int created = 0;
+            int conflicts = 0;
+            for (var f : futures) {
+                try {
+                    f.get(30, TimeUnit.SECONDS);
+                    created++;
+                } catch (ExecutionException ex) {
+                    assertThat(ex.getCause()).isInstanceOf(ExistsException.class);
+                    conflicts++;
+                }
+            }
+            assertThat(created).isEqualTo(1);
+            assertThat(conflicts).isEqualTo(threads - 1);
+            // 商品も在庫も1件だけ登録されていることを検証する
+            var pt = ProductTable.PRODUCT;
+            var st = ProductStockTable.PRODUCT_STOCK;
+            assertThat(dsl.fetchCount(pt, pt.NAME.eq(name))).isEqualTo(1);
+            assertThat(dsl.fetchCount(st, st.PRODUCT_ID.in(
+                dsl.select(pt.ID).from(pt).where(pt.NAME.eq(name))))).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+            // コミットされた登録を削除する
+            var pt = ProductTable.PRODUCT;
+            var st = ProductStockTable.PRODUCT_STOCK;
+            dsl.deleteFrom(st).where(st.PRODUCT_ID.in(
+                dsl.select(pt.ID).from(pt).where(pt.NAME.eq(name)))).execute();
+            dsl.deleteFrom(pt).where(pt.NAME.eq(name)).execute();
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package com.example.ddd_demo.application.product.usecase.interractor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.ddd_demo.application.exception.NotFoundException;
+import com.example.ddd_demo.application.product.usecase.interactor.ShowProductInteractor;
+import com.example.ddd_demo.domain.exception.DomainException;
+
+/**
+ * ユースケース:[商品の詳細を表示する]を実現するインターフェイス実装のテストドライバ
+ */
+@SpringBootTest
+public class ShowProductInteractorTest {
+    /**
+     * テストターゲット
+     */
+    @Autowired
+    private ShowProductInteractor interactor;
+
+    private static final String EXISTING_ID = "83fbc81d-2498-4da6-b8c2-54878d3b67ff";
+
+    @Test
+    @DisplayName("getProduct(): 既存の商品Idで取得でき、DTOが正しく返る")
+    void getProduct_success() {
+        var dto = interactor.getProduct(EXISTING_ID);
+        assertThat(dto.getId()).isEqualTo(EXISTING_ID);
+        assertThat(dto.getName()).isEqualTo("蛍光ペン(赤)");
+        assertThat(dto.getCategory().getId()).isEqualTo("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4");
+        assertThat(dto.getStock().getQuantity()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("getVersion(): 同じ内容なら同じ版を返す")
+    void getVersion_stable() {
+        var version = interactor.getVersion(EXISTING_ID);
+        assertThat(version).matches("\\d+\\.\\d+\\.\\d+");
+        assertThat(interactor.getVersion(EXISTING_ID)).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("getVersion()/getProduct(): 存在しない商品IdならNotFoundExceptionをスローする")
+    void not_found() {
+        var unknown = "ffffffff-ffff-ffff-ffff-ffffffffffff";
+        assertThatThrownBy(() -> interactor.getVersion(unknown))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessageContaining("商品Id:[" + unknown + "]の商品は存在しません。");
+        assertThatThrownBy(() -> interactor.getProduct(unknown))
+            .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("getVersion(): UUID形式でない商品IdならDomainExceptionをスローする")
+    void invalid_id() {
+        assertThatThrownBy(() -> interactor.getVersion("abc"))
+            .isInstanceOf(DomainException.class);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.ddd_demo.application.stock.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.application.exception.InsufficientStockException;
+import com.example.ddd_demo.application.exception.NotFoundException;
+import com.example.ddd_demo.application.stock.service.StockService;
+import com.example.ddd_demo.domain.models.product.ProductId;
+
+/**
+ * 在庫サービスインターフェイス実装のテストドライバ
+ */
+@SpringBootTest
+@Transactional
+public class StockServiceImplTest {
+
+    /**
+     * テストターゲット
+     */
+    @Autowired
+    private StockService service;
+
+    private static final ProductId EXISTING = ProductId.fromString("9959e553-c9da-4646-bd85-8663a3541583");
+
+    @Test
+    @DisplayName("decreaseStock(): 在庫が足りれば減算後の在庫を返す")
+    void decreaseStock_success() {
+        assertThat(service.decreaseStock(EXISTING, 3).getQuantity().value()).isEqualTo(97);
+    }
+
+    @Test
+    @DisplayName("decreaseStock(): 在庫が足りなければInsufficientStockExceptionをスローする")
+    void decreaseStock_insufficient_throws() {
+        service.decreaseStock(EXISTING, 100);
+        assertThatThrownBy(() -> service.decreaseStock(EXISTING, 1))
+            .isInstanceOf(InsufficientStockException.class)
+            .hasMessageContaining("在庫が足りません。(在庫数:0、要求数:1)");
+    }
+
+    @Test
+    @DisplayName("decreaseStock(): 存在しない商品ならNotFoundExceptionをスローする")
+    void decreaseStock_notFound_throws() {
+        var unknown = ProductId.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+        assertThatThrownBy(() -> service.decreaseStock(unknown, 1))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessageContaining("商品Id:[ffffffff-ffff-ffff-ffff-ffffffffffff]の商品は存在しません。");
+    }
+}
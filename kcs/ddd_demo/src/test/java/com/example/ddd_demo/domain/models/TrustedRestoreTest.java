@@ -0,0 +1,45 @@
+package com.example.ddd_demo.domain.models;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.invoke.MethodHandles;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.category.CategoryName;
+import com.example.ddd_demo.domain.models.product.ProductName;
+import com.example.ddd_demo.domain.models.product.ProductPrice;
+import com.example.ddd_demo.domain.models.stock.StockQuantity;
+
+/**
+ * TrustedRestore の単体テストドライバ
+ * - 永続化層以外からは権限を取得できず、検証なしのファクトリも利用できないことを検証する
+ */
+@DisplayName("TrustedRestore の単体テスト")
+public class TrustedRestoreTest {
+
+    @Test
+    @DisplayName("obtain(): 永続化層以外のクラスのLookupでは権限を取得できない")
+    void obtain_OutsidePersistence_ShouldThrow() {
+        assertThrows(DomainException.class, () -> TrustedRestore.obtain(MethodHandles.lookup()));
+    }
+
+    @Test
+    @DisplayName("obtain(): 権限を落としたLookupでは権限を取得できない")
+    void obtain_ReducedLookup_ShouldThrow() {
+        // publicLookup はlookupClassがObject(java.lang)で、完全な権限も持たない
+        assertThrows(DomainException.class, () -> TrustedRestore.obtain(MethodHandles.publicLookup()));
+        assertThrows(DomainException.class, () -> TrustedRestore.obtain(null));
+    }
+
+    @Test
+    @DisplayName("trusted(): 権限なしでは検証なしのファクトリを利用できない")
+    void trustedFactories_WithoutToken_ShouldThrow() {
+        assertThrows(DomainException.class, () -> ProductName.trusted(null, "えんぴつ", null));
+        assertThrows(DomainException.class, () -> ProductPrice.trusted(null, 120));
+        assertThrows(DomainException.class, () -> StockQuantity.trusted(null, 10));
+        assertThrows(DomainException.class, () -> CategoryName.trusted(null, "文房具"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.ddd_demo.domain.models;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * UuidFormat の単体テストドライバ
+ * - 形式検証・64ビット値への解析・canonical文字列化が java.util.UUID と一致することを検証する
+ */
+@DisplayName("UuidFormat の単体テスト")
+public class UuidFormatTest {
+
+    @Test
+    @DisplayName("isValid(): 8-4-4-4-12形式の16進文字列(大文字/小文字)を受け付ける")
+    void isValid_ShouldAcceptUuid() {
+        assertTrue(UuidFormat.isValid("ac413f22-0cf1-490a-9635-7e9ca810e544"));
+        assertTrue(UuidFormat.isValid("AC413F22-0CF1-490A-9635-7E9CA810E544"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "",
+        "ac413f22-0cf1-490a-9635-7e9ca810e54",    // 35文字
+        "ac413f22-0cf1-490a-9635-7e9ca810e5444",  // 37文字
+        "ac413f220cf1-490a-9635-7e9ca810e5444",   // ハイフン位置違い
+        "ac413f22-0cf1-490a-9635-7e9ca810e54g",   // 16進以外
+        "ac413f22ー0cf1-490a-9635-7e9ca810e544"    // 全角長音
+    })
+    @DisplayName("isValid(): UUID形式でない文字列は受け付けない")
+    void isValid_ShouldRejectInvalid(String raw) {
+        assertFalse(UuidFormat.isValid(raw));
+    }
+
+    @Test
+    @DisplayName("isValid(): nullは受け付けない")
+    void isValid_Null_ShouldReturnFalse() {
+        assertFalse(UuidFormat.isValid(null));
+    }
+
+    @Test
+    @DisplayName("解析/文字列化: java.util.UUIDと同じ64ビット値・文字列になる")
+    void parseAndFormat_ShouldMatchJavaUtilUuid() {
+        for (int i = 0; i < 1000; i++) {
+            var uuid = UUID.randomUUID();
+            var upper = uuid.toString().toUpperCase();
+            assertEquals(uuid.getMostSignificantBits(), UuidFormat.mostSignificantBits(upper));
+            assertEquals(uuid.getLeastSignificantBits(), UuidFormat.leastSignificantBits(upper));
+            assertEquals(uuid.toString(),
+                UuidFormat.toCanonical(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+        }
+    }
+}
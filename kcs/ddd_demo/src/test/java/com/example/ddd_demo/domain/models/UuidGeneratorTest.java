@@ -0,0 +1,100 @@
+package com.example.ddd_demo.domain.models;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+
+/**
+ * UuidGenerator の単体テストドライバ
+ * - UUIDv7の構造(バージョン・バリアント・時刻)と単調増加、生成方式の切り替えを検証する
+ */
+@DisplayName("UuidGenerator の単体テスト")
+public class UuidGeneratorTest {
+
+    /** 他のテストに影響しないよう、既定の生成方式に戻す */
+    @AfterEach
+    void tearDown() {
+        UuidGenerator.use(UuidGenerator.Strategy.RANDOM);
+    }
+
+    @Test
+    @DisplayName("nextTimeOrdered(): バージョン7・RFCバリアントで、先頭48ビットが現在時刻(ミリ秒)である")
+    void nextTimeOrdered_ShouldBeVersion7() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidGenerator.nextTimeOrdered();
+        long after = System.currentTimeMillis();
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long millis = uuid.getMostSignificantBits() >>> 16;
+        // 同一ミリ秒内のカウンタ溢れで時刻部が実時刻より先行することはあるが、過去にはならない
+        assertTrue(millis >= before && millis <= after + 1_000, "timestamp=" + millis);
+    }
+
+    @Test
+    @DisplayName("nextTimeOrdered(): 同一スレッドで連続して発行したUUIDは厳密に昇順である")
+    void nextTimeOrdered_ShouldBeMonotonic() {
+        UUID prev = UuidGenerator.nextTimeOrdered();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidGenerator.nextTimeOrdered();
+            // 先頭64ビット(時刻+カウンタ)だけで順序が決まる
+            assertTrue(Long.compareUnsigned(prev.getMostSignificantBits(), next.getMostSignificantBits()) < 0);
+            prev = next;
+        }
+    }
+
+    @Test
+    @DisplayName("nextTimeOrdered(): 複数スレッドから同時に発行しても重複しない")
+    void nextTimeOrdered_Concurrent_ShouldBeUnique() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        var pool = Executors.newFixedThreadPool(threads);
+        try {
+            var tasks = new ArrayList<Callable<List<Long>>>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    var stamps = new ArrayList<Long>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        stamps.add(UuidGenerator.nextTimeOrdered().getMostSignificantBits());
+                    }
+                    return stamps;
+                });
+            }
+            var seen = new HashSet<Long>();
+            for (var f : pool.invokeAll(tasks)) {
+                for (var stamp : f.get()) {
+                    // 時刻+カウンタ部がプロセス内で一意であること
+                    assertTrue(seen.add(stamp));
+                }
+            }
+            assertEquals(threads * perThread, seen.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("next(): 設定した生成方式のUUIDを発行する")
+    void next_ShouldFollowStrategy() {
+        UuidGenerator.use(UuidGenerator.Strategy.TIME_ORDERED);
+        assertEquals(7, UuidGenerator.next().version());
+        UuidGenerator.use(UuidGenerator.Strategy.RANDOM);
+        assertEquals(4, UuidGenerator.next().version());
+    }
+
+    @Test
+    @DisplayName("use(): nullはDomainExceptionがスローされる")
+    void use_Null_ShouldThrow() {
+        assertThrows(DomainException.class, () -> UuidGenerator.use(null));
+    }
+}
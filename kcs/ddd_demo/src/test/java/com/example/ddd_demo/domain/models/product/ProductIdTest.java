@@ -3,6 +3,7 @@ package com.example.ddd_demo.domain.models.product;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Locale;
+import java.util.UUID;
 import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.DisplayName;
@@ -21,7 +22,7 @@ public class ProductIdTest {
     // UUIDのcanonical形式を表す正規表現（バージョン/バリアントも検証）
     private static final Pattern CANONICAL_UUID =
         Pattern.compile(
-    "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$");
+    "^[0-9a-f]{8}-[0-9a-f]{4}-[1-57][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$");
 
 
     @Test
@@ -86,6 +87,32 @@ public class ProductIdTest {
         assertThrows(DomainException.class, () -> ProductId.fromString(raw));
     }
 
+    @Test
+    @DisplayName("fromUuid(): UUIDから復元した値はfromString()で復元した値と等価である")
+    void fromUuid_ShouldEqualFromString() {
+        var uuid = UUID.fromString("AC413F22-0CF1-490A-9635-7E9CA810E544");
+        var id = ProductId.fromUuid(uuid);
+        assertEquals("ac413f22-0cf1-490a-9635-7e9ca810e544", id.value());
+        assertTrue(CANONICAL_UUID.matcher(id.value()).matches());
+        assertEquals(ProductId.fromString(uuid.toString()), id);
+    }
+
+    @Test
+    @DisplayName("fromUuid(): nullはDomainExceptionがスローされる")
+    void fromUuid_Null_ShouldThrow() {
+        assertThrows(DomainException.class, () -> ProductId.fromUuid(null));
+    }
+
+    @Test
+    @DisplayName("toUuid(): 文字列から復元した値を同じUUIDとして取り出せる")
+    void toUuid_ShouldRoundTrip() {
+        var raw = "AC413F22-0CF1-490A-9635-7E9CA810E544";
+        var id = ProductId.fromString(raw);
+        assertEquals(UUID.fromString(raw), id.toUuid());
+        assertEquals(id, ProductId.fromUuid(id.toUuid()));
+        assertEquals(id.hashCode(), ProductId.fromUuid(id.toUuid()).hashCode());
+    }
+
     @Test
     @DisplayName("equals/hashCode: 同じUUID文字列なら等価")
     void equalsHashCode_SameValue_ShouldBeEqual() {
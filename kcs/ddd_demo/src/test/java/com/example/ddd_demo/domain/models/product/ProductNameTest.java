@@ -81,4 +81,25 @@ public class ProductNameTest {
         var name = ProductName.of(just);
         assertEquals(just, name.value());
     }
+
+    @Test
+    @DisplayName("normalized(): 全角/半角・大文字/小文字の違いを同一視した値を返す")
+    void normalized_unifies_width_and_case() {
+        var full = ProductName.of("ＵＳＢ有線式キーボード");
+        var half = ProductName.of("USB有線式ｷｰﾎﾞｰﾄﾞ");
+        assertEquals("usb有線式キーボード", full.normalized());
+        assertEquals(full.normalized(), half.normalized());
+        // 表示用の値は入力のまま(等価性も表示用の値で判定する)
+        assertEquals("ＵＳＢ有線式キーボード", full.value());
+        assertNotEquals(full, half);
+    }
+
+    @Test
+    @DisplayName("normalized(): 英字以外の大文字/小文字の組も同じ値に畳み込む")
+    void normalized_folds_non_ascii_case_pairs() {
+        assertEquals(ProductName.of("ΣΟΦΟΣ").normalized(), ProductName.of("σοφοσ").normalized());
+        assertEquals(ProductName.of("σοφος").normalized(), ProductName.of("σοφοσ").normalized());
+        assertEquals("strasse", ProductName.of("straße").normalized());
+        assertEquals(ProductName.of("İSTANBUL").normalized(), ProductName.of("i̇stanbul").normalized());
+    }
 }
@@ -0,0 +1,74 @@
+package com.example.ddd_demo.domain.models.product;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.example.ddd_demo.domain.models.category.Category;
+import com.example.ddd_demo.domain.models.category.CategoryId;
+import com.example.ddd_demo.domain.models.category.CategoryName;
+import com.example.ddd_demo.domain.models.stock.StockQuantity;
+import com.example.ddd_demo.domain.exception.DomainException;
+
+/**
+ * ProductPageCursor 値オブジェクトの単体テストドライバ
+ * - トークンへの変換・復元、不正トークンの検証を行う
+ */
+@DisplayName("ProductPageCursor 値オブジェクトの単体テスト")
+public class ProductPageCursorTest {
+
+    private static Product product(String name, int price) {
+        var category = Category.restore(
+            CategoryId.fromString("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4"), CategoryName.of("文房具"));
+        return Product.createNew(ProductName.of(name), ProductPrice.of(price), category, StockQuantity.of(1));
+    }
+
+    @Test
+    @DisplayName("after()/encode()/decode(): 単価順のカーソルはトークン経由で同値に復元できる")
+    void price_roundTrip() {
+        var p = product("万年筆", 1200);
+        var cursor = ProductPageCursor.after(ProductSortKey.PRICE, p);
+        var restored = ProductPageCursor.decode(cursor.encode());
+        assertEquals(cursor, restored);
+        assertEquals(ProductSortKey.PRICE, restored.getSortKey());
+        assertEquals(1200, restored.priceValue());
+        assertEquals(p.getProductId(), restored.getProductId());
+    }
+
+    @Test
+    @DisplayName("after()/encode()/decode(): 区切り文字を含む商品名でも同値に復元できる")
+    void name_roundTrip() {
+        var p = product("ノート:A5/方眼", 200);
+        var cursor = ProductPageCursor.after(ProductSortKey.NAME, p);
+        var restored = ProductPageCursor.decode(cursor.encode());
+        assertEquals(cursor, restored);
+        assertEquals("ノート:A5/方眼", restored.getSortValue());
+        // URLにそのまま載せられる文字だけで構成される
+        assertTrue(cursor.encode().matches("^[A-Za-z0-9_-]+$"));
+    }
+
+    @Test
+    @DisplayName("priceValue(): 商品名順のカーソルではDomainExceptionをスローする")
+    void priceValue_on_name_cursor_throws() {
+        var cursor = ProductPageCursor.after(ProductSortKey.NAME, product("万年筆", 1200));
+        assertThrows(DomainException.class, cursor::priceValue);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", " ", "!!!", "UFJJQ0U6MTIz", "UFJJQ0U6OTk1OWU1NTMtYzlkYS00NjQ2LWJkODUtODY2M2EzNTQxNTgzOmFiYw" })
+    @DisplayName("decode(): 不正なトークンはDomainExceptionをスローする")
+    void decode_invalid_throws(String token) {
+        assertThrows(DomainException.class, () -> ProductPageCursor.decode(token));
+    }
+
+    @Test
+    @DisplayName("ProductSortKey.fromString(): 大文字/小文字を区別せず復元し、未知の値はDomainException")
+    void sortKey_fromString() {
+        assertEquals(ProductSortKey.PRICE, ProductSortKey.fromString("price"));
+        assertEquals(ProductSortKey.NAME, ProductSortKey.fromString("Name"));
+        assertThrows(DomainException.class, () -> ProductSortKey.fromString("stock"));
+    }
+}
@@ -79,4 +79,10 @@ public class ProductPriceTest {
         var price = ProductPrice.of(10000);
         assertEquals(10000, price.value());
     }
+
+    @Test
+    @DisplayName("of(): 同じ値には同じインスタンスを返す(Flyweight)")
+    void of_SameValue_ShouldReturnSameInstance() {
+        assertSame(ProductPrice.of(120), ProductPrice.of(120));
+    }
 }
@@ -0,0 +1,39 @@
+package com.example.ddd_demo.domain.models.product;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+
+/**
+ * ProductVersion 値オブジェクトの単体テストドライバ
+ * - 文字列表現・等価性・不正値の検証を行う
+ */
+@DisplayName("ProductVersion 値オブジェクトの単体テスト")
+public class ProductVersionTest {
+
+    @Test
+    @DisplayName("of()/value(): 商品.在庫.商品カテゴリの順に版を連結する")
+    void value_ShouldJoinVersions() {
+        assertEquals("12.13.2", ProductVersion.of(12, 13, 2).value());
+    }
+
+    @Test
+    @DisplayName("equals()/hashCode(): 各行の版がすべて同じなら等価")
+    void equals_ShouldCompareAllVersions() {
+        assertEquals(ProductVersion.of(12, 13, 2), ProductVersion.of(12, 13, 2));
+        assertEquals(ProductVersion.of(12, 13, 2).hashCode(), ProductVersion.of(12, 13, 2).hashCode());
+        assertNotEquals(ProductVersion.of(12, 13, 2), ProductVersion.of(12, 14, 2));
+        assertNotEquals(ProductVersion.of(12, 13, 2), ProductVersion.of(12, 13, 3));
+    }
+
+    @Test
+    @DisplayName("of(): 1未満の版はDomainExceptionをスローする")
+    void of_ShouldRejectNonPositive() {
+        assertThrows(DomainException.class, () -> ProductVersion.of(0, 1, 1));
+        assertThrows(DomainException.class, () -> ProductVersion.of(1, -1, 1));
+        assertThrows(DomainException.class, () -> ProductVersion.of(1, 1, 0));
+    }
+}
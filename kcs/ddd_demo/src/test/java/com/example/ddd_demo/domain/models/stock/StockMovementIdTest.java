@@ -0,0 +1,72 @@
+package com.example.ddd_demo.domain.models.stock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.product.ProductId;
+
+/**
+ * StockMovementId 値オブジェクト・StockMovement エンティティの単体テストドライバ
+ */
+@DisplayName("StockMovementId 値オブジェクトの単体テスト")
+public class StockMovementIdTest {
+
+    @Test
+    @DisplayName("createNew(): UUIDv7で、発行時刻(ミリ秒)を取り出せる")
+    void createNew_isVersion7_withCreatedAt() {
+        long before = Instant.now().toEpochMilli();
+        var id = StockMovementId.createNew();
+        long after = Instant.now().toEpochMilli();
+
+        assertEquals(7, id.toUuid().version());
+        long createdAt = id.createdAt().toEpochMilli();
+        assertTrue(createdAt >= before && createdAt <= after);
+    }
+
+    @Test
+    @DisplayName("createNew(): 後に発行したIdほど大きい(記録順に並ぶ)")
+    void createNew_isTimeOrdered() {
+        var a = StockMovementId.createNew();
+        var b = StockMovementId.createNew();
+        assertTrue(a.value().compareTo(b.value()) < 0);
+    }
+
+    @Test
+    @DisplayName("fromString(): 文字列から復元したIdは元のIdと等しい")
+    void fromString_roundTrip() {
+        var id = StockMovementId.createNew();
+        var restored = StockMovementId.fromString(id.value().toUpperCase());
+        assertEquals(id, restored);
+        assertEquals(id.hashCode(), restored.hashCode());
+        assertEquals(id.createdAt(), restored.createdAt());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not-a-uuid", "9959e553-c9da-4646-bd85-8663a3541583"})
+    @DisplayName("fromString(): 空文字・UUID形式でない・UUIDv7でない場合はDomainException")
+    void fromString_invalid_throws(String raw) {
+        assertThrows(DomainException.class, () -> StockMovementId.fromString(raw));
+    }
+
+    @Test
+    @DisplayName("fromUuid(): UUIDv4はDomainException")
+    void fromUuid_version4_throws() {
+        assertThrows(DomainException.class, () -> StockMovementId.fromUuid(UUID.randomUUID()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 101, -101})
+    @DisplayName("StockMovement.record(): 増減量が0・範囲外の場合はDomainException")
+    void record_invalidDelta_throws(int delta) {
+        var productId = ProductId.fromString("9959e553-c9da-4646-bd85-8663a3541583");
+        assertThrows(DomainException.class, () -> StockMovement.record(productId, delta));
+    }
+}
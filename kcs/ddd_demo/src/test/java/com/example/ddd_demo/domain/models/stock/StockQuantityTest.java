@@ -76,4 +76,10 @@ public class StockQuantityTest {
         var q = StockQuantity.of(100);
         assertEquals(100, q.value());
     }
+
+    @Test
+    @DisplayName("of(): 同じ値には同じインスタンスを返す(Flyweight)")
+    void of_SameValue_ShouldReturnSameInstance() {
+        assertSame(StockQuantity.of(10), StockQuantity.of(10));
+    }
 }
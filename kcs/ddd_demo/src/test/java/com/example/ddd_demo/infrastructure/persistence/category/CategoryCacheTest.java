@@ -0,0 +1,146 @@
+package com.example.ddd_demo.infrastructure.persistence.category;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jooq.DSLContext;
+import org.jooq.ExecuteListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.ddd_demo.domain.models.category.CategoryId;
+import com.example.ddd_demo.domain.models.category.CategoryName;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 商品カテゴリキャッシュのテストドライバ
+ */
+@SpringBootTest
+public class CategoryCacheTest {
+
+    @Autowired
+    private DSLContext dsl;
+    @Autowired
+    private CategoryRecordMapper mapper;
+
+    /**
+     * テストターゲット(SQL文の実行回数とメトリクスを個別に計測するため、テストごとに生成する)
+     */
+    private CategoryCache cache;
+    private SimpleMeterRegistry registry;
+    private AtomicInteger statements;
+
+    private static final String STATIONERY = "2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4";
+
+    @BeforeEach
+    void setUp() {
+        statements = new AtomicInteger();
+        var countingDsl = dsl.configuration()
+            .deriveAppending(ExecuteListener.onExecuteStart(ctx -> statements.incrementAndGet()))
+            .dsl();
+        registry = new SimpleMeterRegistry();
+        cache = new CategoryCache(countingDsl, mapper, registry);
+    }
+
+    private double count(String name, String result) {
+        var search = registry.find(name);
+        if (result != null) search = search.tag("result", result);
+        return search.counter().count();
+    }
+
+    @Test
+    @DisplayName("初回参照で1回だけ全件を読み込み、以降の参照はSQL文を発行しない")
+    void loads_once_then_serves_from_snapshot() {
+        assertThat(cache.findAll()).hasSize(3);
+        for (int i = 0; i < 10; i++) {
+            assertThat(cache.findById(CategoryId.fromString(STATIONERY))).isPresent();
+            assertThat(cache.resolvePk(CategoryId.fromString(STATIONERY))).contains(1);
+        }
+        assertThat(statements.get()).isEqualTo(1);
+        assertThat(count("category.cache.requests", "hit")).isEqualTo(21);
+        assertThat(count("category.cache.refreshes", null)).isEqualTo(1);
+        assertThat(registry.find("category.cache.size").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("version(): 一覧の版はスナップショットから応答し、内容が同じなら再読み込み後も同じ値になる")
+    void version_is_stable_for_same_content() {
+        var version = cache.version();
+        assertThat(version).hasSize(16);
+        assertThat(cache.version()).isEqualTo(version);
+        assertThat(statements.get()).isEqualTo(1);
+
+        cache.refresh();
+        assertThat(cache.version()).isEqualTo(version);
+        assertThat(CategoryCache.versionOf(cache.findAll())).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("versionOf(): 名前・並び順が変わると一覧の版も変わる")
+    void versionOf_changes_with_content() {
+        var all = cache.findAll();
+        var version = CategoryCache.versionOf(all);
+        var reversed = new ArrayList<>(all);
+        Collections.reverse(reversed);
+        assertThat(CategoryCache.versionOf(reversed)).isNotEqualTo(version);
+        assertThat(CategoryCache.versionOf(all.subList(0, all.size() - 1))).isNotEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("スナップショットに無いカテゴリIdはミスとして計上し、DBに無ければ空を返す")
+    void miss_for_unknown_category() {
+        cache.findAll();
+        var result = cache.resolve(CategoryId.fromString(UUID.randomUUID().toString()));
+        assertThat(result).isEmpty();
+        assertThat(count("category.cache.requests", "miss")).isEqualTo(1);
+        // 全件読み込み1回 + 存在確認1回
+        assertThat(statements.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("findAll(): 主キー順の不変リストを返す")
+    void findAll_ordered_and_immutable() {
+        var all = cache.findAll();
+        assertThat(all).extracting(c -> c.getName().value())
+            .containsExactly("文房具", "雑貨", "パソコン周辺機器");
+        assertThatThrownBy(() -> all.add(all.get(0)))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("findById()/findAll()/resolve(): 呼び出しごとに新しいエンティティを返し、変更はキャッシュに波及しない")
+    void returns_fresh_entities() {
+        var id = CategoryId.fromString(STATIONERY);
+        var first = cache.findById(id).orElseThrow();
+        first.rename(CategoryName.of("改名した文房具"));
+        cache.findAll().get(0).rename(CategoryName.of("改名した文房具"));
+        cache.resolve(id).orElseThrow().category().rename(CategoryName.of("改名した文房具"));
+
+        var second = cache.findById(id).orElseThrow();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName().value()).isEqualTo("文房具");
+        assertThat(cache.findAll().get(0).getName().value()).isEqualTo("文房具");
+        assertThat(cache.resolve(id).orElseThrow().toRecord().getName()).isEqualTo("文房具");
+        // 値オブジェクトは共有する
+        assertThat(second.getCategoryId()).isSameAs(cache.findById(id).orElseThrow().getCategoryId());
+    }
+
+    @Test
+    @DisplayName("invalidate()/refresh(): 破棄後の参照とリフレッシュで再読み込みする")
+    void invalidate_and_refresh_reload() {
+        cache.findAll();
+        cache.invalidate();
+        cache.findAll();
+        cache.refresh();
+        assertThat(statements.get()).isEqualTo(3);
+        assertThat(count("category.cache.refreshes", null)).isEqualTo(3);
+    }
+}
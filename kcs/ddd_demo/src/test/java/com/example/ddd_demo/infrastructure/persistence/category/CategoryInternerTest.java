@@ -0,0 +1,56 @@
+package com.example.ddd_demo.infrastructure.persistence.category;
+
+import static org.assertj.core.api.Assertions.*;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.category.CategoryName;
+
+/**
+ * {@link CategoryInterner} の単体テストクラス
+ *
+ * <p>同じカテゴリの値オブジェクトが共有され、エンティティは行ごとに別インスタンスとなることを検証する。</p>
+ */
+public class CategoryInternerTest {
+
+    @Test
+    @DisplayName("restore(): 同じカテゴリはCategoryId/CategoryNameを共有し、Categoryは別インスタンスを返す")
+    void restore_shares_value_objects() {
+        UUID uuid = UUID.randomUUID();
+        var first = CategoryInterner.restore(uuid, "文房具");
+        var second = CategoryInterner.restore(uuid, "文房具");
+
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+        assertThat(second.getCategoryId()).isSameAs(first.getCategoryId());
+        assertThat(second.getName()).isSameAs(first.getName());
+        assertThat(second.getCategoryId().value()).isEqualTo(uuid.toString());
+    }
+
+    @Test
+    @DisplayName("restore(): 呼び出し側で名称を変更しても、他の行のカテゴリには影響しない")
+    void restore_returns_independent_entities() {
+        UUID uuid = UUID.randomUUID();
+        var first = CategoryInterner.restore(uuid, "文房具");
+        first.rename(CategoryName.of("雑貨"));
+
+        assertThat(CategoryInterner.restore(uuid, "文房具").getName().value()).isEqualTo("文房具");
+    }
+
+    @Test
+    @DisplayName("restore(): カテゴリ名が変わった場合は新しい名称で置き換える")
+    void restore_replaces_renamed_category() {
+        UUID uuid = UUID.randomUUID();
+        CategoryInterner.restore(uuid, "文房具");
+        assertThat(CategoryInterner.restore(uuid, "事務用品").getName().value()).isEqualTo("事務用品");
+    }
+
+    @Test
+    @DisplayName("restore(): 初めて見たカテゴリの名称は検証する")
+    void restore_validates_new_category() {
+        assertThatThrownBy(() -> CategoryInterner.restore(UUID.randomUUID(), "   "))
+            .isInstanceOf(DomainException.class);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.ddd_demo.infrastructure.persistence.perf;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import org.jooq.SQLDialect;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SQL文の形ごとの実行統計のテストドライバ
+ */
+public class QueryStatisticsTest {
+
+    @Test
+    @DisplayName("リテラルだけが異なるSQL文は1つの形に集計され、件数・行数・分位点が求まる")
+    void aggregates_by_shape() {
+        var stats = new QueryStatistics(Duration.ofSeconds(10), 100);
+        for (int i = 1; i <= 100; i++) {
+            stats.record("select * from product where id = " + i, i * 1_000_000L, 1, null);
+        }
+        stats.record("select * from category", 5_000_000L, 7, null);
+
+        var snapshot = stats.snapshot();
+        assertEquals(2, snapshot.size());
+        var product = snapshot.get(0); // 所要時間の合計の降順
+        assertEquals("select * from product where id = ?", product.sql());
+        assertEquals(SqlFingerprint.hash(product.sql()), product.fingerprint());
+        assertEquals(100, product.count());
+        assertEquals(100, product.rows());
+        assertEquals(0, product.errors());
+        // 有効桁2桁(誤差1%以内)
+        assertEquals(50_000, product.p50Micros(), 500);
+        assertEquals(95_000, product.p95Micros(), 950);
+        assertEquals(100_000, product.maxMicros(), 1_000);
+        assertEquals(5_050, product.totalMillis(), 50);
+        assertEquals(7, snapshot.get(1).rows());
+    }
+
+    @Test
+    @DisplayName("エラーは例外の型ごとに数えられる")
+    void counts_errors_by_type() {
+        var stats = new QueryStatistics(Duration.ofSeconds(10), 100);
+        stats.record("update product_stock set stock = ?", 1_000, -1, new DataAccessException("deadlock"));
+        stats.record("update product_stock set stock = ?", 1_000, -1, new DataAccessException("deadlock"));
+        stats.record("update product_stock set stock = ?", 1_000, 1, null);
+
+        var shape = stats.snapshot().get(0);
+        assertEquals(3, shape.count());
+        assertEquals(2, shape.errors());
+        assertEquals(2L, shape.errorTypes().get(DataAccessException.class.getName()));
+        assertEquals(1, shape.rows());
+    }
+
+    @Test
+    @DisplayName("形の数が上限を超えると(other)にまとめられ、リセットで空になる")
+    void bounded_shapes_and_reset() {
+        var stats = new QueryStatistics(Duration.ofSeconds(10), 2);
+        stats.record("select a from t", 1_000, 0, null);
+        stats.record("select b from t", 1_000, 0, null);
+        stats.record("select c from t", 1_000, 0, null);
+        stats.record("select d from t", 1_000, 0, null);
+
+        var sqls = stats.snapshot().stream().map(QueryStatistics.ShapeSnapshot::sql).toList();
+        assertEquals(3, sqls.size());
+        assertTrue(sqls.contains(QueryStatistics.OTHER_SHAPE));
+        assertEquals(2, stats.snapshot().stream()
+            .filter(s -> s.sql().equals(QueryStatistics.OTHER_SHAPE)).findFirst().orElseThrow().count());
+
+        stats.reset();
+        assertTrue(stats.snapshot().isEmpty());
+    }
+
+    @Test
+    @DisplayName("ExecuteListener は DSLContext が実行したSQL文の件数・行数・エラーを記録する")
+    void listener_records_executions() {
+        var stats = new QueryStatistics(Duration.ofSeconds(10), 100);
+        var connection = new MockConnection(ctx -> {
+            if (ctx.sql().startsWith("delete")) {
+                throw new SQLException("permission denied", "42501");
+            }
+            if (ctx.sql().startsWith("update")) {
+                return new MockResult[] { new MockResult(3, null) };
+            }
+            var create = DSL.using(SQLDialect.POSTGRES);
+            var id = DSL.field("id", SQLDataType.INTEGER);
+            var result = create.newResult(id);
+            result.add(create.newRecord(id).values(1));
+            result.add(create.newRecord(id).values(2));
+            return new MockResult[] { new MockResult(2, result) };
+        });
+        var dsl = DSL.using(connection, SQLDialect.POSTGRES)
+            .configuration()
+            .deriveAppending(new QueryStatisticsListener(stats))
+            .dsl();
+        var t = DSL.table(DSL.name("t"));
+        var id = DSL.field(DSL.name("id"), Integer.class);
+
+        dsl.select(id).from(t).where(id.eq(1)).fetch();
+        dsl.select(id).from(t).where(id.eq(2)).fetch();
+        dsl.update(t).set(id, 5).where(id.in(1, 2, 3)).execute();
+        assertThrows(DataAccessException.class, () -> dsl.deleteFrom(t).where(id.eq(1)).execute());
+
+        var bySql = stats.snapshot().stream()
+            .collect(java.util.stream.Collectors.toMap(QueryStatistics.ShapeSnapshot::sql, s -> s));
+        var select = bySql.get("select \"id\" from \"t\" where \"id\" = ?");
+        assertNotNull(select, bySql.keySet().toString());
+        assertEquals(2, select.count());
+        assertEquals(4, select.rows());
+        var update = bySql.get("update \"t\" set \"id\" = ? where \"id\" in (?, ...)");
+        assertNotNull(update, bySql.keySet().toString());
+        assertEquals(3, update.rows());
+        var delete = bySql.get("delete from \"t\" where \"id\" = ?");
+        assertNotNull(delete, bySql.keySet().toString());
+        assertEquals(1, delete.errors());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.ddd_demo.infrastructure.persistence.perf;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SQL文の形(フィンガープリント)のテストドライバ
+ */
+public class SqlFingerprintTest {
+
+    @Test
+    @DisplayName("文字列・数値のリテラルは ? に置き換えられ、識別子中の数字や引用符付きの識別子は残る")
+    void literals_replaced() {
+        assertEquals(
+            "select \"p\".\"id\" from \"product_p20250101\" p where p.name = ? and p.price > ? limit ?",
+            SqlFingerprint.normalize(
+                "select \"p\".\"id\" from \"product_p20250101\" p where p.name = 'it''s' and p.price > -1.5 limit 10"));
+    }
+
+    @Test
+    @DisplayName("INリストは要素数によらず同じ形になる")
+    void in_lists_collapsed() {
+        var one = SqlFingerprint.normalize("select * from product where id in (?)");
+        var three = SqlFingerprint.normalize("select * from product where id in (?, ?, ?)");
+        var literals = SqlFingerprint.normalize("select * from product where id in (1, 2)");
+        assertEquals("select * from product where id in (?, ...)", one);
+        assertEquals(one, SqlFingerprint.normalize("select * from product where id in (?, ...)"));
+        assertEquals(one, three);
+        assertEquals(one, literals);
+    }
+
+    @Test
+    @DisplayName("複数行のVALUESは行数によらず同じ形になる")
+    void values_rows_collapsed() {
+        var single = SqlFingerprint.normalize("insert into t (a, b) values (?, ?)");
+        var multi = SqlFingerprint.normalize("insert into t (a, b) values (?, ?), (?, ?),\n (?, ?)");
+        assertEquals(single, multi);
+    }
+
+    @Test
+    @DisplayName("空白・改行の違いは同じ形になり、識別子は形が同じなら同じ値になる")
+    void whitespace_and_hash() {
+        var a = SqlFingerprint.normalize("select  *\n  from product\twhere id = ?  ");
+        var b = SqlFingerprint.normalize("select * from product where id = 42");
+        assertEquals(a, b);
+        assertEquals(SqlFingerprint.hash(a), SqlFingerprint.hash(b));
+        assertEquals(16, SqlFingerprint.hash(a).length());
+        assertNotEquals(SqlFingerprint.hash(a), SqlFingerprint.hash(SqlFingerprint.normalize("select * from category where id = ?")));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.ddd_demo.infrastructure.persistence.product;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ブルームフィルタのテストドライバ
+ */
+public class BloomFilterTest {
+
+    @Test
+    @DisplayName("追加した要素は必ず存在するかもしれないと判定される(偽陰性が無い)")
+    void no_false_negatives() {
+        var filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("商品-" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("商品-" + i));
+        }
+        assertEquals(10_000, filter.insertions());
+    }
+
+    @Test
+    @DisplayName("想定要素数まで追加した時点の偽陽性率は目標値の近傍に収まる")
+    void false_positive_rate_near_target() {
+        var filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("商品-" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("未登録-" + i)) falsePositives++;
+        }
+        double rate = falsePositives / 100_000.0;
+        assertTrue(rate < 0.02, "偽陽性率: " + rate);
+        assertTrue(filter.expectedFpp() < 0.02, "推定偽陽性率: " + filter.expectedFpp());
+    }
+
+    @Test
+    @DisplayName("空のフィルタはすべて確実に存在しないと判定する")
+    void empty_filter_rejects_all() {
+        var filter = BloomFilter.create(100, 0.01);
+        assertFalse(filter.mightContain("万年筆"));
+        assertEquals(0.0, filter.expectedFpp());
+    }
+
+    @Test
+    @DisplayName("不正な想定要素数・偽陽性率はIllegalArgumentExceptionをスローする")
+    void invalid_parameters() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1.0));
+    }
+}
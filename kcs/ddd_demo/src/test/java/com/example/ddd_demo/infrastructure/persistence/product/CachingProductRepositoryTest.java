@@ -0,0 +1,211 @@
+package com.example.ddd_demo.infrastructure.persistence.product;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jooq.DSLContext;
+import org.jooq.ExecuteListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.ddd_demo.domain.models.category.CategoryId;
+import com.example.ddd_demo.domain.models.product.Product;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.product.ProductName;
+import com.example.ddd_demo.domain.models.product.ProductPrice;
+import com.example.ddd_demo.domain.models.stock.StockQuantity;
+import com.example.ddd_demo.infrastructure.persistence.category.CategoryCache;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductStockTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 商品集約キャッシュ(ProductRepositoryのデコレータ)のテストドライバ
+ */
+@SpringBootTest
+public class CachingProductRepositoryTest {
+
+    @Autowired
+    private DSLContext dsl;
+    @Autowired
+    private ProductAssembler assembler;
+    @Autowired
+    private CategoryCache categoryCache;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * テストターゲット(SQL文の実行回数とメトリクスを個別に計測するため、テストごとに生成する)
+     */
+    private CachingProductRepository repository;
+    private ProductNameFilter nameFilter;
+    private SimpleMeterRegistry registry;
+    private AtomicInteger statements;
+
+    private static final String BALLPEN_ID = "9959e553-c9da-4646-bd85-8663a3541583";
+    private static final String BALLPEN_NAME = "油性ボールペン(黒)";
+    private static final String PENCIL_ID = "e4850253-f363-4e79-8110-7335e4af45be";
+
+    @BeforeEach
+    void setUp() {
+        // カテゴリの読み込みを計測対象から外す
+        categoryCache.findAll();
+        statements = new AtomicInteger();
+        var countingDsl = dsl.configuration()
+            .deriveAppending(ExecuteListener.onExecuteStart(ctx -> statements.incrementAndGet()))
+            .dsl();
+        registry = new SimpleMeterRegistry();
+        nameFilter = new ProductNameFilter(dsl, registry, 0.01, 1000);
+        nameFilter.rebuild();
+        repository = new CachingProductRepository(
+            new ProductJooqRepository(countingDsl, assembler, categoryCache),
+            nameFilter, registry, 1024 * 1024, Duration.ofMinutes(10));
+    }
+
+    private double gets(String result) {
+        return registry.find("cache.gets").tag("cache", "product").tag("result", result)
+            .functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("2回目以降のfindByIdはSQL文を発行せず、ヒットとして計上する")
+    void findById_served_from_cache() {
+        var first = repository.findById(ProductId.fromString(BALLPEN_ID));
+        var second = repository.findById(ProductId.fromString(BALLPEN_ID));
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(statements.get()).isEqualTo(1);
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+        // 重みの集計はCaffeineのメンテナンスで非同期に反映される
+        var estimated = registry.find("product.cache.estimated.bytes").gauge();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(estimated.value()).isPositive());
+    }
+
+    @Test
+    @DisplayName("findByNameでキャッシュした商品はfindByIdでもヒットする(逆も同様)")
+    void name_and_id_share_entries() {
+        assertThat(repository.findByName(ProductName.of(BALLPEN_NAME))).isPresent();
+        assertThat(repository.findById(ProductId.fromString(BALLPEN_ID))).isPresent();
+        assertThat(repository.findByName(ProductName.of(BALLPEN_NAME))).isPresent();
+        assertThat(repository.existsByName(ProductName.of(BALLPEN_NAME))).isTrue();
+        assertThat(statements.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ヒット時は毎回新しい集約を返し、呼び出し側の変更はキャッシュに影響しない")
+    void returns_safe_copies() {
+        var first = repository.findById(ProductId.fromString(BALLPEN_ID)).get();
+        first.reprice(ProductPrice.of(9999));
+        first.changeStock(StockQuantity.of(1));
+        var second = repository.findById(ProductId.fromString(BALLPEN_ID)).get();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getPrice().value()).isEqualTo(100);
+        assertThat(second.currentStock().value()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("findAllByIdsはキャッシュに無い商品だけをDBから取得する")
+    void findAllByIds_fetches_only_misses() {
+        repository.findById(ProductId.fromString(BALLPEN_ID));
+        statements.set(0);
+        var found = repository.findAllByIds(
+            List.of(ProductId.fromString(BALLPEN_ID), ProductId.fromString(PENCIL_ID)));
+        assertThat(found).extracting(p -> p.getProductId().value())
+            .containsExactlyInAnyOrder(BALLPEN_ID, PENCIL_ID);
+        assertThat(statements.get()).isEqualTo(1);
+        // 2回目はすべてヒット
+        repository.findAllByIds(List.of(ProductId.fromString(BALLPEN_ID), ProductId.fromString(PENCIL_ID)));
+        assertThat(statements.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ロールバックされた更新系トランザクション内で読んだ商品はキャッシュされない")
+    void rolled_back_reads_are_not_cached() {
+        var name = ProductName.of("キャッシュテスト用商品");
+        var category = categoryCache.findById(
+            CategoryId.fromString("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4")).get();
+        var tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            var created = repository.create(Product.createNew(
+                name, ProductPrice.of(500), category, StockQuantity.of(5))).orElseThrow();
+            assertThat(repository.findById(created.getProductId())).isPresent();
+            assertThat(repository.findByName(name)).isPresent();
+            status.setRollbackOnly();
+        });
+        assertThat(repository.findByName(name)).isEmpty();
+        assertThat(repository.existsByName(name)).isFalse();
+    }
+
+    @Test
+    @DisplayName("キャッシュがDBより古くても、findVersionedByIdはDBの同じ行から集約と版を返す")
+    void findVersionedById_ignores_stale_cache() {
+        var id = ProductId.fromString(BALLPEN_ID);
+        repository.findById(id).orElseThrow();
+        var before = repository.findVersionById(id).orElseThrow();
+        var pt = ProductTable.PRODUCT;
+        var st = ProductStockTable.PRODUCT_STOCK;
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // キャッシュを経由せずにDBの在庫数を更新する(キャッシュは古いまま)
+            dsl.update(st).set(st.STOCK, 42)
+                .where(st.PRODUCT_ID.eq(dsl.select(pt.ID).from(pt).where(pt.PRODUCT_UUID.eq(id.toUuid()))))
+                .execute();
+            assertThat(repository.findById(id).orElseThrow().currentStock().value()).isEqualTo(100);
+
+            var versioned = repository.findVersionedById(id).orElseThrow();
+
+            assertThat(versioned.product().currentStock().value()).isEqualTo(42);
+            assertThat(versioned.version()).isEqualTo(repository.findVersionById(id).orElseThrow());
+            assertThat(versioned.version()).isNotEqualTo(before);
+            status.setRollbackOnly();
+        });
+    }
+
+    @Test
+    @DisplayName("evictした商品は次回参照時にDBから再取得する")
+    void evict_forces_reload() {
+        repository.findById(ProductId.fromString(BALLPEN_ID));
+        repository.evict(ProductId.fromString(BALLPEN_ID));
+        repository.findById(ProductId.fromString(BALLPEN_ID));
+        repository.findByName(ProductName.of(BALLPEN_NAME));
+        assertThat(statements.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ブルームフィルタが否定した商品名はSQL文を発行せずに存在しないと判定する")
+    void existsByName_skips_database_for_absent_names() {
+        for (int i = 0; i < 20; i++) {
+            repository.existsByName(ProductName.of("未登録の商品-" + i));
+        }
+        double absent = registry.find("product.name.filter.requests").tag("result", "absent").counter().count();
+        double falsePositives = registry.find("product.name.filter.false.positives").counter().count();
+        assertThat(absent + falsePositives).isEqualTo(20);
+        // DBで確認したのは偽陽性の分だけ
+        assertThat(statements.get()).isEqualTo((int) falsePositives);
+        assertThat(repository.existsByName(ProductName.of(BALLPEN_NAME))).isTrue();
+    }
+
+    @Test
+    @DisplayName("登録した商品名は直ちにブルームフィルタに追加される")
+    void create_adds_name_to_filter() {
+        var name = ProductName.of("フィルタ追加テスト用商品");
+        var category = categoryCache.findById(
+            CategoryId.fromString("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4")).get();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            repository.create(Product.createNew(name, ProductPrice.of(500), category, StockQuantity.of(5)));
+            assertThat(nameFilter.mightContain(name.normalized())).isTrue();
+            assertThat(repository.existsByName(name)).isTrue();
+            status.setRollbackOnly();
+        });
+    }
+}
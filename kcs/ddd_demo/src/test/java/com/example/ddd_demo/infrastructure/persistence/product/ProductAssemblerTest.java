@@ -2,6 +2,10 @@ package com.example.ddd_demo.infrastructure.persistence.product;
 import static org.assertj.core.api.Assertions.*;
 import java.util.UUID;
 
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -143,6 +147,68 @@ public class ProductAssemblerTest {
         }
     }
 
+    @Nested
+    class 行からの合成テスト {
+        /**
+         * AGGREGATE_FIELDSの並び順で1行分のRecordを生成するヘルパー
+         */
+        private Record row(UUID pUuid, String name, Integer price,
+            UUID cUuid, String categoryName, UUID sUuid, Integer qty) {
+            var rec = DSL.using(SQLDialect.POSTGRES).newRecord(
+                ProductAssembler.AGGREGATE_FIELDS.toArray(Field<?>[]::new));
+            // name_normalized は登録時と同じく ProductName.normalize で算出する
+            var normalized = name == null ? null : ProductName.normalize(name);
+            rec.fromArray(pUuid, name, normalized, price, cUuid, categoryName, sUuid, qty);
+            return rec;
+        }
+
+        /**
+         * 【正常系】
+         * <p>JOINした1行から、テーブルごとのRecordを経由せずに完全な Product 集約を合成できることを確認する。</p>
+         */
+        @Test
+        @DisplayName("assemble(Record): JOINした1行から完全なProduct集約を合成できる")
+        void assemble_row_success() {
+            UUID pUuid = UUID.fromString("aaaaaaaa-1111-2222-3333-bbbbbbbbbbbb");
+            UUID cUuid = UUID.fromString("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4");
+            UUID sUuid = UUID.fromString("22222222-2222-2222-2222-222222222222");
+
+            Product product = assembler.assemble(row(pUuid, "えんぴつ", 120, cUuid, "文房具", sUuid, 10));
+
+            // 3つのRecordから合成した場合と同じ集約になることを検証する
+            var expected = assembler.assemble(pr(pUuid, "えんぴつ", 120), cr(cUuid, "文房具"), sr(sUuid, 10));
+            assertThat(product).isEqualTo(expected);
+            assertThat(product.getName().value()).isEqualTo("えんぴつ");
+            assertThat(product.getPrice().value()).isEqualTo(120);
+            assertThat(product.getCategory().getCategoryId().value()).isEqualTo(cUuid.toString());
+            assertThat(product.getCategory().getName().value()).isEqualTo("文房具");
+            assertThat(product.getStock().getStockId().value()).isEqualTo(sUuid.toString());
+            assertThat(product.currentStock().value()).isEqualTo(10);
+        }
+
+        /**
+         * 【異常系】
+         * <p>必須の列がnullの場合に、列ごとの DomainException が送出されることを検証する。</p>
+         */
+        @Test
+        @DisplayName("assemble(Record): 必須の列がnullの場合はDomainExceptionをスローする")
+        void assemble_row_missing_column_throws() {
+            UUID u = UUID.randomUUID();
+            assertThatThrownBy(() -> assembler.assemble((Record) null))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("商品情報が取得できません。");
+            assertThatThrownBy(() -> assembler.assemble(row(null, "A", 100, u, "カテゴリ", u, 5)))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("商品UUIDが不正です。");
+            assertThatThrownBy(() -> assembler.assemble(row(u, "A", 100, u, null, u, 5)))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("カテゴリ名が未設定です。");
+            assertThatThrownBy(() -> assembler.assemble(row(u, "A", 100, u, "カテゴリ", u, null)))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("在庫数が未設定です。");
+        }
+    }
+
     @Nested
     class 分解テスト {
         /**
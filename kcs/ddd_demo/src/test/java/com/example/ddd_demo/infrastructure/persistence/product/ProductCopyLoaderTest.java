@@ -0,0 +1,109 @@
+package com.example.ddd_demo.infrastructure.persistence.product;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.domain.models.category.Category;
+import com.example.ddd_demo.domain.models.category.CategoryId;
+import com.example.ddd_demo.domain.models.category.CategoryName;
+import com.example.ddd_demo.domain.models.product.Product;
+import com.example.ddd_demo.domain.models.product.ProductBulkLoader.Rejected;
+import com.example.ddd_demo.domain.models.product.ProductName;
+import com.example.ddd_demo.domain.models.product.ProductPrice;
+import com.example.ddd_demo.domain.models.stock.StockQuantity;
+import com.example.ddd_demo.infrastructure.exception.InternalException;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductStockTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
+
+/**
+ * ProductBulkLoaderインターフェイス実装(COPY)のテストドライバ
+ */
+@SpringBootTest
+@Transactional
+public class ProductCopyLoaderTest {
+
+    /**
+     * テストターゲット
+     */
+    @Autowired
+    private ProductCopyLoader loader;
+    @Autowired
+    private ProductJooqRepository repository;
+    @Autowired
+    private DSLContext dsl;
+
+    private static final Category STATIONERY = Category.restore(
+        CategoryId.fromString("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4"), CategoryName.of("文房具"));
+
+    private static Product newProduct(String name, int price, int quantity) {
+        return Product.createNew(ProductName.of(name), ProductPrice.of(price), STATIONERY, StockQuantity.of(quantity));
+    }
+
+    @Test
+    @DisplayName("merge(): 投入した商品を登録し、既存商品・先に投入した商品と同名(正規化後)のものは登録しない")
+    void merge_inserts_staged_products_except_conflicts() {
+        int products = dsl.fetchCount(ProductTable.PRODUCT);
+        int stocks = dsl.fetchCount(ProductStockTable.PRODUCT_STOCK);
+        try (var session = loader.begin()) {
+            session.stage(2, newProduct("COPYペン \"A\"", 150, 10));
+            session.stage(3, newProduct("COPYノート", 250, 20));
+            session.stage(4, newProduct("ＣＯＰＹペン \"a\"", 160, 30));
+            session.stage(5, newProduct("油性ボールペン(黒)", 100, 40));
+            var result = session.merge(10);
+
+            assertThat(result.staged()).isEqualTo(4);
+            assertThat(result.inserted()).isEqualTo(2);
+            assertThat(result.conflicted()).isEqualTo(2);
+            assertThat(result.conflicts()).containsExactly(
+                new Rejected(4, "ＣＯＰＹペン \"a\""), new Rejected(5, "油性ボールペン(黒)"));
+        }
+        assertThat(dsl.fetchCount(ProductTable.PRODUCT)).isEqualTo(products + 2);
+        assertThat(dsl.fetchCount(ProductStockTable.PRODUCT_STOCK)).isEqualTo(stocks + 2);
+        // 引用符を含む商品名もそのまま登録される
+        var pen = repository.findByName(ProductName.of("COPYペン \"A\"")).orElseThrow();
+        assertThat(pen.getPrice().value()).isEqualTo(150);
+        assertThat(pen.getStock().getQuantity().value()).isEqualTo(10);
+        assertThat(pen.getCategory().getName().value()).isEqualTo("文房具");
+    }
+
+    @Test
+    @DisplayName("merge(): 未登録商品の報告はrejectLimit件までとし、件数はすべて数える")
+    void merge_limits_reported_conflicts() {
+        try (var session = loader.begin()) {
+            session.stage(2, newProduct("油性ボールペン(黒)", 100, 1));
+            session.stage(3, newProduct("鉛筆(黒)", 100, 1));
+            session.stage(4, newProduct("蛍光ペン(黄)", 100, 1));
+            var result = session.merge(1);
+
+            assertThat(result.conflicted()).isEqualTo(3);
+            assertThat(result.conflicts()).extracting(Rejected::line).containsExactly(2L);
+        }
+    }
+
+    @Test
+    @DisplayName("close(): 登録前に終了した場合は投入を中止し、以降も同じトランザクションで問い合わせできる")
+    void close_without_merge_cancels() {
+        int products = dsl.fetchCount(ProductTable.PRODUCT);
+        try (var session = loader.begin()) {
+            session.stage(2, newProduct("COPY中止商品", 150, 10));
+        }
+        assertThat(dsl.fetchCount(ProductTable.PRODUCT)).isEqualTo(products);
+        assertThat(repository.existsByName(ProductName.of("COPY中止商品"))).isFalse();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("begin(): トランザクション外で呼び出した場合はInternalExceptionをスローする")
+    void begin_without_transaction_throws() {
+        assertThatThrownBy(() -> loader.begin())
+            .isInstanceOf(InternalException.class)
+            .hasMessage("商品の一括取り込みはトランザクション内で実行してください。");
+    }
+}
@@ -2,8 +2,14 @@ package com.example.ddd_demo.infrastructure.persistence.product;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.jooq.DSLContext;
+import org.jooq.ExecuteListener;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,8 +23,13 @@ import com.example.ddd_demo.domain.models.category.CategoryName;
 import com.example.ddd_demo.domain.models.product.Product;
 import com.example.ddd_demo.domain.models.product.ProductId;
 import com.example.ddd_demo.domain.models.product.ProductName;
+import com.example.ddd_demo.domain.models.product.ProductPageCursor;
 import com.example.ddd_demo.domain.models.product.ProductPrice;
+import com.example.ddd_demo.domain.models.product.ProductSortKey;
 import com.example.ddd_demo.domain.models.stock.StockQuantity;
+import com.example.ddd_demo.infrastructure.persistence.category.CategoryCache;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductStockTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
 
 /**
  * ProductRepositoryインターフェイス実装のテストドライバ
@@ -32,6 +43,15 @@ public class ProductJooqRepositoryTest {
      */
     @Autowired
     private ProductJooqRepository repository;
+    /**
+     * SQL文の実行回数計測用
+     */
+    @Autowired
+    private DSLContext dsl;
+    @Autowired
+    private ProductAssembler assembler;
+    @Autowired
+    private CategoryCache categoryCache;
 
     // 既存データ（初期投入）に合わせた期待値
     private static final String EXISTING_PRODUCT_ID   = "9959e553-c9da-4646-bd85-8663a3541583";
@@ -76,6 +96,31 @@ public class ProductJooqRepositoryTest {
         assertThat(found).isEmpty();
     }
 
+    @Test
+    @DisplayName("findVersionById(): 存在する商品Idの場合は版を取得でき、在庫を更新すると版が変わる")
+    void findVersionById_changes_on_update() {
+        var id = ProductId.fromString(EXISTING_PRODUCT_ID);
+        var before = repository.findVersionById(id);
+        assertThat(before).isPresent();
+        // 同じ内容なら版は変わらない
+        assertThat(repository.findVersionById(id)).isEqualTo(before);
+
+        // 在庫の行を更新する(トリガで version 列が進む)
+        var st = ProductStockTable.PRODUCT_STOCK;
+        var pt = ProductTable.PRODUCT;
+        dsl.update(st).set(st.STOCK, 99)
+            .where(st.PRODUCT_ID.eq(dsl.select(pt.ID).from(pt).where(pt.PRODUCT_UUID.eq(id.toUuid()))))
+            .execute();
+        assertThat(repository.findVersionById(id)).isPresent().isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("findVersionById(): 存在しない商品Idの場合はOptional.empty()が返される")
+    void findVersionById_notFound() {
+        var id = ProductId.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+        assertThat(repository.findVersionById(id)).isEmpty();
+    }
+
     @Test
     @DisplayName("findById(): nullを渡すとDomainExceptionをスローする")
     void findById_null_throws() {
@@ -98,6 +143,47 @@ public class ProductJooqRepositoryTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    @DisplayName("existsByName(): 全角/半角・大文字/小文字の違いは同じ商品名とみなす")
+    void existsByName_width_and_case_insensitive() {
+        assertThat(repository.existsByName(ProductName.of("ＵＳＢ有線式キーボード"))).isTrue();
+        assertThat(repository.existsByName(ProductName.of("usb有線式ｷｰﾎﾞｰﾄﾞ"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("create()/findByName(): 英字以外の大文字/小文字の組もDBを経由して同じ商品名とみなす")
+    void name_case_pairs_round_trip_through_database() {
+        var category = Category.restore(
+            CategoryId.fromString(EXISTING_CATEGORY_UUID),
+            CategoryName.of(EXISTING_CATEGORY_NAME));
+        // 登録する商品名と、同じ商品名とみなされるべき表記
+        var pairs = List.of(
+            List.of("ΣΟΦΟΣ", "σοφοσ"),          // 語末のシグマ(ς / σ)
+            List.of("STRASSE", "straße"),       // ß
+            List.of("İSTANBUL", "i̇stanbul"),   // ドット付きのI
+            List.of("ЁЛКА", "ёлка"));
+        for (var pair : pairs) {
+            var product = Product.createNew(
+                ProductName.of(pair.get(0)), ProductPrice.of(150), category, StockQuantity.of(1));
+            assertThat(repository.create(product)).isPresent();
+
+            var other = ProductName.of(pair.get(1));
+            // DBに格納した正規化値で検索・重複判定できることを検証する
+            assertThat(repository.existsByName(other)).as(pair.toString()).isTrue();
+            var found = repository.findByName(other).orElseThrow();
+            assertThat(found.getProductId()).isEqualTo(product.getProductId());
+            assertThat(found.getName().normalized()).isEqualTo(other.normalized());
+            assertThat(dsl.select(ProductTable.PRODUCT.NAME_NORMALIZED)
+                    .from(ProductTable.PRODUCT)
+                    .where(ProductTable.PRODUCT.PRODUCT_UUID.eq(product.getProductId().toUuid()))
+                    .fetchOne(ProductTable.PRODUCT.NAME_NORMALIZED))
+                .isEqualTo(ProductName.normalize(pair.get(0)));
+            // 別の表記でも重複として登録されない
+            assertThat(repository.create(Product.createNew(other, ProductPrice.of(150), category, StockQuantity.of(1))))
+                .as(pair.toString()).isEmpty();
+        }
+    }
+
     @Test
     @DisplayName("existsByName(): nullを渡すとDomainException")
     void existsByName_null_throws() {
@@ -138,6 +224,37 @@ public class ProductJooqRepositoryTest {
         assertThat(rec.getCategory().getCategoryId()).isEqualTo(category.getCategoryId());
     }
 
+    @Test
+    @DisplayName("create(): 商品と在庫の登録は1回のSQL文で完了し(カテゴリ解決はキャッシュ)、登録済みの集約を返す")
+    void create_executes_single_statement() {
+        // 実行されたSQL文の数を数えるリスナーを付与したリポジトリを用意する
+        var statements = new AtomicInteger();
+        var countingDsl = dsl.configuration()
+            .deriveAppending(ExecuteListener.onExecuteStart(ctx -> statements.incrementAndGet()))
+            .dsl();
+        var countingRepository = new ProductJooqRepository(countingDsl, assembler, categoryCache);
+        // 登録データを用意する
+        var category = Category.restore(
+            CategoryId.fromString(EXISTING_CATEGORY_UUID),
+            CategoryName.of(EXISTING_CATEGORY_NAME)
+        );
+        Product product = Product.createNew(
+            ProductName.of("ボールペン替芯"), ProductPrice.of(80), category, StockQuantity.of(20));
+        // 商品を永続化する
+        Product saved = countingRepository.create(product).orElseThrow();
+        // 1往復(1文)で登録されたことを検証する
+        assertThat(statements.get()).isEqualTo(1);
+        // 戻り値が永続化された集約であることを検証する
+        assertThat(saved.getProductId()).isEqualTo(product.getProductId());
+        assertThat(saved.getName()).isEqualTo(product.getName());
+        assertThat(saved.getPrice()).isEqualTo(product.getPrice());
+        assertThat(saved.getStock().getStockId()).isEqualTo(product.getStock().getStockId());
+        assertThat(saved.currentStock()).isEqualTo(StockQuantity.of(20));
+        assertThat(saved.getCategory().getCategoryId()).isEqualTo(category.getCategoryId());
+        // DB側のカテゴリ名で再構築されていることを検証する
+        assertThat(saved.getCategory().getName().value()).isEqualTo("文房具");
+    }
+
     @Test
     @DisplayName("create(): 存在しないカテゴリId(UUID)ならDomainExceptionをスローする")
     void create_with_unknown_category_throws() {
@@ -158,6 +275,72 @@ public class ProductJooqRepositoryTest {
             .hasMessageContaining("指定された商品カテゴリが存在しません。");
     }
 
+    @Test
+    @DisplayName("createAll(): 既存名・リスト内重複・カテゴリ不明を除いた商品が入力順に登録される")
+    void createAll_skips_conflicts_and_unknown_categories() {
+        var category = Category.restore(
+            CategoryId.fromString(EXISTING_CATEGORY_UUID),
+            CategoryName.of(EXISTING_CATEGORY_NAME)
+        );
+        var unknownCategory = Category.restore(
+            CategoryId.fromString(java.util.UUID.randomUUID().toString()),
+            CategoryName.of("不明カテゴリ")
+        );
+        var stapler  = Product.createNew(ProductName.of("ホッチキス"), ProductPrice.of(220), category, StockQuantity.of(5));
+        var existing = Product.createNew(ProductName.of(EXISTING_PRODUCT_NAME), ProductPrice.of(100), category, StockQuantity.of(1));
+        var unknown  = Product.createNew(ProductName.of("定規"), ProductPrice.of(150), unknownCategory, StockQuantity.of(1));
+        var duplicate = Product.createNew(ProductName.of("ホッチキス"), ProductPrice.of(300), category, StockQuantity.of(1));
+        var eraser   = Product.createNew(ProductName.of("消しゴム"), ProductPrice.of(80), category, StockQuantity.of(40));
+        // まとめて永続化する
+        var saved = repository.createAll(List.of(stapler, existing, unknown, duplicate, eraser));
+        // 登録可能な商品だけが入力順に返されることを検証する
+        assertThat(saved).extracting(Product::getProductId)
+            .containsExactly(stapler.getProductId(), eraser.getProductId());
+        assertThat(saved.get(1).currentStock()).isEqualTo(StockQuantity.of(40));
+        assertThat(saved.get(1).getCategory().getName().value()).isEqualTo("文房具");
+        // 登録された商品が取得できることを検証する
+        var found = repository.findById(eraser.getProductId());
+        assertThat(found).isPresent();
+        assertThat(found.get().currentStock()).isEqualTo(StockQuantity.of(40));
+        // リスト内で重複した2件目・カテゴリ不明の商品は登録されていないことを検証する
+        assertThat(repository.findById(duplicate.getProductId())).isEmpty();
+        assertThat(repository.findById(unknown.getProductId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("createAll(): SQL文の数は件数ではなくチャンク数に比例する")
+    void createAll_statements_do_not_grow_per_item() {
+        var statements = new AtomicInteger();
+        var countingDsl = dsl.configuration()
+            .deriveAppending(ExecuteListener.onExecuteStart(ctx -> statements.incrementAndGet()))
+            .dsl();
+        var countingRepository = new ProductJooqRepository(countingDsl, assembler, categoryCache);
+        var category = Category.restore(
+            CategoryId.fromString(EXISTING_CATEGORY_UUID),
+            CategoryName.of(EXISTING_CATEGORY_NAME)
+        );
+        // チャンクサイズを超える件数の商品を用意する
+        int count = ProductJooqRepository.BATCH_CHUNK_SIZE + 1;
+        var products = new ArrayList<Product>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(Product.createNew(
+                ProductName.of("一括登録商品" + i), ProductPrice.of(100), category, StockQuantity.of(1)));
+        }
+        // まとめて永続化する
+        var saved = countingRepository.createAll(products);
+        // すべて登録されたことを検証する
+        assertThat(saved).hasSize(count);
+        // 1チャンクあたり2文(商品INSERT・在庫INSERT)で完了することを検証する
+        // (既存名は一意制約で除外し、カテゴリUUID→PKの解決はキャッシュで行うためSQL文を発行しない)
+        assertThat(statements.get()).isEqualTo(2 * 2);
+    }
+
+    @Test
+    @DisplayName("createAll(): 空のリストならSQLを発行せず空のリストを返す")
+    void createAll_empty() {
+        assertThat(repository.createAll(List.of())).isEmpty();
+    }
+
     @Test
     @DisplayName("findByName(): 登録済み商品名で取得できる")
     void findByName_found() {
@@ -195,6 +378,52 @@ public class ProductJooqRepositoryTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("findByName(): 全角/半角・大文字/小文字の表記揺れがあっても登録済み商品を取得できる")
+    void findByName_width_variant() {
+        var found = repository.findByName(ProductName.of("ＵＳＢ有線式キーボード"));
+        assertThat(found).isPresent();
+        // 取得した商品名は登録時の表記のまま
+        assertThat(found.get().getName().value()).isEqualTo("USB有線式キーボード");
+        assertThat(repository.findAllByNames(List.of(ProductName.of("usb有線式キーボード"))))
+            .extracting(p -> p.getName().value())
+            .containsExactly("USB有線式キーボード");
+    }
+
+    @Test
+    @DisplayName("createAll(): 既存の商品名と表記揺れの関係にある商品は登録されない")
+    void createAll_skips_width_variants() {
+        var category = Category.restore(
+            CategoryId.fromString(EXISTING_CATEGORY_UUID), CategoryName.of(EXISTING_CATEGORY_NAME));
+        var variant = Product.createNew(
+            ProductName.of("ＵＳＢ有線式キーボード"), ProductPrice.of(1000), category, StockQuantity.of(1));
+        var fresh1 = Product.createNew(
+            ProductName.of("Ａ４ノート"), ProductPrice.of(200), category, StockQuantity.of(1));
+        var fresh2 = Product.createNew(
+            ProductName.of("a4ノート"), ProductPrice.of(200), category, StockQuantity.of(1));
+        var saved = repository.createAll(List.of(variant, fresh1, fresh2));
+        assertThat(saved).extracting(p -> p.getName().value()).containsExactly("Ａ４ノート");
+    }
+
+    @Test
+    @DisplayName("create(): 既存名(表記揺れを含む)の商品は一意制約により登録されず、1回のSQL文でemptyを返す")
+    void create_conflict_returns_empty() {
+        var statements = new AtomicInteger();
+        var countingDsl = dsl.configuration()
+            .deriveAppending(ExecuteListener.onExecuteStart(ctx -> statements.incrementAndGet()))
+            .dsl();
+        var countingRepository = new ProductJooqRepository(countingDsl, assembler, categoryCache);
+        var category = Category.restore(
+            CategoryId.fromString(EXISTING_CATEGORY_UUID), CategoryName.of(EXISTING_CATEGORY_NAME));
+        var variant = Product.createNew(
+            ProductName.of("ＵＳＢ有線式キーボード"), ProductPrice.of(1000), category, StockQuantity.of(1));
+        // 事前の存在確認なしで、登録の1文だけで重複を検出する
+        assertThat(countingRepository.create(variant)).isEmpty();
+        assertThat(statements.get()).isEqualTo(1);
+        // 商品も在庫も登録されていないことを検証する
+        assertThat(repository.findById(variant.getProductId())).isEmpty();
+    }
+
     @Test
     @DisplayName("findByName(): nullはDomainException")
     void findByName_null_throws() {
@@ -202,4 +431,109 @@ public class ProductJooqRepositoryTest {
             .isInstanceOf(DomainException.class)
             .hasMessageContaining("商品名は必須です。");
     }
+
+    @Test
+    @DisplayName("findAllByIds(): 1回のSQL文で存在する商品だけをまとめて取得できる")
+    void findAllByIds_single_statement() {
+        var statements = new AtomicInteger();
+        var countingDsl = dsl.configuration()
+            .deriveAppending(ExecuteListener.onExecuteStart(ctx -> statements.incrementAndGet()))
+            .dsl();
+        var countingRepository = new ProductJooqRepository(countingDsl, assembler, categoryCache);
+        // 既存2件・存在しない1件を指定して取得する
+        var found = countingRepository.findAllByIds(List.of(
+            ProductId.fromString(EXISTING_PRODUCT_ID),
+            ProductId.fromString("e4850253-f363-4e79-8110-7335e4af45be"),
+            ProductId.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff")));
+        // 1回のSQL文で取得されたことを検証する
+        assertThat(statements.get()).isEqualTo(1);
+        // 存在する商品だけが取得されることを検証する
+        assertThat(found).extracting(p -> p.getName().value())
+            .containsExactlyInAnyOrder(EXISTING_PRODUCT_NAME, "鉛筆(黒)");
+        // 集約が合成されていることを検証する
+        assertThat(found).allSatisfy(p -> {
+            assertThat(p.getCategory().getCategoryId().value()).isEqualTo(EXISTING_CATEGORY_UUID);
+            assertThat(p.currentStock().value()).isEqualTo(EXISTING_QTY);
+        });
+    }
+
+    @Test
+    @DisplayName("findAllByNames(): 存在する商品名の商品だけをまとめて取得できる")
+    void findAllByNames_found() {
+        var found = repository.findAllByNames(List.of(
+            ProductName.of("鉛筆(黒)"), ProductName.of("存在しない商品名"), ProductName.of("蛍光ペン(黄)")));
+        assertThat(found).extracting(p -> p.getName().value())
+            .containsExactlyInAnyOrder("鉛筆(黒)", "蛍光ペン(黄)");
+    }
+
+    @Test
+    @DisplayName("findAllByIds()/findAllByNames(): 空のコレクションなら空のリスト、nullはDomainException")
+    void findAll_empty_and_null() {
+        assertThat(repository.findAllByIds(List.of())).isEmpty();
+        assertThat(repository.findAllByNames(List.of())).isEmpty();
+        assertThatThrownBy(() -> repository.findAllByIds(null))
+            .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> repository.findAllByNames(null))
+            .isInstanceOf(DomainException.class);
+    }
+
+    @Test
+    @DisplayName("findPageByCategory(): 単価順にカーソルで全ページを辿ると、重複・欠落なく並び順どおりに取得できる")
+    void findPageByCategory_price_walks_all_pages() {
+        var categoryId = CategoryId.fromString(EXISTING_CATEGORY_UUID);
+        var all = new ArrayList<Product>();
+        ProductPageCursor cursor = null;
+        int pages = 0;
+        do {
+            var page = repository.findPageByCategory(categoryId, cursor, 5, ProductSortKey.PRICE);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(5);
+            all.addAll(page.getItems());
+            cursor = page.getNext().orElse(null);
+            pages++;
+        } while (cursor != null);
+        // 文房具の初期データ14件が3ページで取得されることを検証する
+        assertThat(pages).isEqualTo(3);
+        assertThat(all).hasSize(14);
+        assertThat(all).extracting(Product::getProductId).doesNotHaveDuplicates();
+        // (単価, 商品Id)の昇順に並んでいることを検証する
+        // ※ UUID#compareToは符号付き比較のため、PostgreSQLと同じ並びになるcanonical文字列で比較する
+        assertThat(all).isSortedAccordingTo(
+            Comparator.comparing((Product p) -> p.getPrice().value())
+                .thenComparing(p -> p.getProductId().value()));
+        // カテゴリ・在庫まで合成されていることを検証する
+        assertThat(all).allSatisfy(p ->
+            assertThat(p.getCategory().getCategoryId()).isEqualTo(categoryId));
+    }
+
+    @Test
+    @DisplayName("findPageByCategory(): 商品名順の次ページは直前のページの最後の商品より後ろから始まる")
+    void findPageByCategory_name_seek() {
+        var categoryId = CategoryId.fromString(EXISTING_CATEGORY_UUID);
+        var first = repository.findPageByCategory(categoryId, null, 4, ProductSortKey.NAME);
+        var whole = repository.findPageByCategory(categoryId, null, 8, ProductSortKey.NAME);
+        assertThat(first.getNext()).isPresent();
+        var second = repository.findPageByCategory(categoryId, first.getNext().get(), 4, ProductSortKey.NAME);
+        // 1ページ目+2ページ目が、8件まとめて取得した結果と一致することを検証する
+        var combined = new ArrayList<>(first.getItems());
+        combined.addAll(second.getItems());
+        assertThat(combined).extracting(Product::getProductId)
+            .containsExactlyElementsOf(whole.getItems().stream().map(Product::getProductId).toList());
+    }
+
+    @Test
+    @DisplayName("findPageByCategory(): 存在しないカテゴリは空のページ、ソートキーの異なるカーソルはDomainException")
+    void findPageByCategory_unknown_category_and_mismatched_cursor() {
+        var unknown = repository.findPageByCategory(
+            CategoryId.fromString(java.util.UUID.randomUUID().toString()), null, 10, ProductSortKey.PRICE);
+        assertThat(unknown.getItems()).isEmpty();
+        assertThat(unknown.getNext()).isEmpty();
+
+        var categoryId = CategoryId.fromString(EXISTING_CATEGORY_UUID);
+        var page = repository.findPageByCategory(categoryId, null, 1, ProductSortKey.PRICE);
+        assertThatThrownBy(() ->
+            repository.findPageByCategory(categoryId, page.getNext().get(), 1, ProductSortKey.NAME))
+            .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> repository.findPageByCategory(categoryId, null, 0, ProductSortKey.NAME))
+            .isInstanceOf(DomainException.class);
+    }
 }
@@ -0,0 +1,81 @@
+package com.example.ddd_demo.infrastructure.persistence.product;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jooq.DSLContext;
+import org.jooq.ExecuteListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.ddd_demo.domain.models.product.ProductName;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 商品名のブルームフィルタのテストドライバ
+ */
+@SpringBootTest
+public class ProductNameFilterTest {
+
+    @Autowired
+    private DSLContext dsl;
+
+    /**
+     * テストターゲット(SQL文の実行回数とメトリクスを個別に計測するため、テストごとに生成する)
+     */
+    private ProductNameFilter filter;
+    private SimpleMeterRegistry registry;
+    private AtomicInteger statements;
+
+    @BeforeEach
+    void setUp() {
+        statements = new AtomicInteger();
+        var countingDsl = dsl.configuration()
+            .deriveAppending(ExecuteListener.onExecuteStart(ctx -> statements.incrementAndGet()))
+            .dsl();
+        registry = new SimpleMeterRegistry();
+        filter = new ProductNameFilter(countingDsl, registry, 0.01, 1000);
+    }
+
+    @Test
+    @DisplayName("構築前は常に存在するかもしれないと判定する")
+    void before_build_everything_maybe() {
+        assertThat(filter.mightContain("未登録の商品")).isTrue();
+        assertThat(registry.find("product.name.filter.requests").tag("result", "maybe")
+            .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("構築後は登録済みの商品名を存在するかもしれない、未登録の商品名を確実に存在しないと判定する")
+    void built_from_database() {
+        filter.rebuild();
+        // 件数の取得 + 商品名の走査
+        assertThat(statements.get()).isEqualTo(2);
+        assertThat(filter.mightContain(ProductName.normalize("油性ボールペン(黒)"))).isTrue();
+        assertThat(filter.mightContain(ProductName.normalize("鉛筆(黒)"))).isTrue();
+        int absent = 0;
+        for (int i = 0; i < 100; i++) {
+            if (!filter.mightContain("未登録の商品-" + i)) absent++;
+        }
+        assertThat(absent).isGreaterThan(90);
+        assertThat(registry.find("product.name.filter.rebuild").timer().count()).isEqualTo(1);
+        assertThat(registry.find("product.name.filter.bits").gauge().value()).isPositive();
+        assertThat(registry.find("product.name.filter.expected.fpp").gauge().value()).isLessThan(0.01);
+    }
+
+    @Test
+    @DisplayName("追加した商品名は直ちに、また再構築後も存在するかもしれないと判定される")
+    void put_survives_rebuild() {
+        filter.rebuild();
+        filter.put("新しい商品");
+        assertThat(filter.mightContain("新しい商品")).isTrue();
+        // DBに存在しない(未コミット・ロールバック等)商品名も、追加履歴から引き継ぐ
+        filter.rebuild();
+        assertThat(filter.mightContain("新しい商品")).isTrue();
+    }
+}
@@ -118,22 +118,15 @@ public class ProductRecordMapperTest {
                 .hasMessageContaining("商品価格");
         }
 
+        /**
+         * 単価の範囲はDBのCHECK制約(ck_product__price)で保証されるため、toDomain()では再検証しない。
+         * (範囲外の値はそもそもテーブルに格納できない)
+         */
         @Test
-        @DisplayName("toDomain(): 単価が50未満の場合はDomainExceptionをスローする")
-        void toDomain_price_tooLow() {
-            ProductRecord record = pr(UUID.randomUUID(), "定規", 49);
-            assertThatThrownBy(() -> mapper.toDomain(record))
-                .isInstanceOf(DomainException.class)
-                .hasMessageContaining("単価");
-        }
-
-        @Test
-        @DisplayName("toDomain(): 単価が10000を超える場合はDomainExceptionをスローする")
-        void toDomain_price_tooHigh() {
+        @DisplayName("toDomain(): DBの値は範囲を再検証せずに復元する")
+        void toDomain_price_notRevalidated() {
             ProductRecord record = pr(UUID.randomUUID(), "高級ノート", 10001);
-            assertThatThrownBy(() -> mapper.toDomain(record))
-                .isInstanceOf(DomainException.class)
-                .hasMessageContaining("単価");
+            assertThat(mapper.toDomain(record).getPrice().value()).isEqualTo(10001);
         }
 
         @Test
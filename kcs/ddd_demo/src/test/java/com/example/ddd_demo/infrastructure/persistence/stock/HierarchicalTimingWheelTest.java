@@ -0,0 +1,100 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 階層型タイミングホイールのテストドライバ
+ */
+public class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("期限に達したキーだけを取り出し、取り出したキーの登録は取り消される")
+    void advance_returns_expired_keys() {
+        var wheel = new HierarchicalTimingWheel<String>(10, 8, 0);
+        wheel.schedule("a", 25);
+        wheel.schedule("b", 55);
+        assertEquals(2, wheel.size());
+
+        assertEquals(List.of(), wheel.advance(20));
+        assertEquals(List.of("a"), wheel.advance(30));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("b"), wheel.advance(60));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("取り消したキーは期限に達しても取り出さない、再登録は期限を置き換える")
+    void cancel_and_reschedule() {
+        var wheel = new HierarchicalTimingWheel<String>(10, 8, 0);
+        wheel.schedule("a", 15);
+        wheel.schedule("b", 15);
+        assertTrue(wheel.cancel("a"));
+        assertFalse(wheel.cancel("a"));
+        wheel.schedule("b", 500);
+
+        assertEquals(List.of(), wheel.advance(100));
+        assertEquals(List.of("b"), wheel.advance(510));
+    }
+
+    @Test
+    @DisplayName("1周(レベル0)を超える期限も上位のレベルから振り分け直して取り出す")
+    void cascade_across_levels() {
+        var wheel = new HierarchicalTimingWheel<Integer>(1, 4, 0);
+        wheel.schedule(1, 3);
+        wheel.schedule(2, 17);
+        wheel.schedule(3, 70);
+        wheel.schedule(4, 1_000_000);
+
+        assertEquals(List.of(1), wheel.advance(4));
+        assertEquals(List.of(), wheel.advance(17));
+        assertEquals(List.of(2), wheel.advance(18));
+        assertEquals(List.of(3), wheel.advance(71));
+        assertEquals(List.of(4), wheel.advance(1_000_001));
+    }
+
+    @Test
+    @DisplayName("期限を過ぎたキーは次に進めたときに取り出す")
+    void past_deadline_expires_on_next_advance() {
+        var wheel = new HierarchicalTimingWheel<String>(10, 8, 1_000);
+        wheel.schedule("late", 0);
+        assertEquals(List.of("late"), wheel.advance(1_010));
+    }
+
+    @Test
+    @DisplayName("ランダムな登録・取消でも、期限より早く取り出さず、遅れは1刻み未満")
+    void random_never_early_never_late() {
+        long tick = 7;
+        var wheel = new HierarchicalTimingWheel<Integer>(tick, 16, 0);
+        var deadlines = new HashMap<Integer, Long>();
+        var random = new Random(42);
+        long now = 0;
+        for (int step = 0; step < 20_000; step++) {
+            int key = random.nextInt(2_000);
+            int op = random.nextInt(10);
+            if (op < 6) {
+                long deadline = now + random.nextInt(random.nextBoolean() ? 200 : 50_000);
+                wheel.schedule(key, deadline);
+                deadlines.put(key, deadline);
+            } else if (op < 7) {
+                assertEquals(deadlines.remove(key) != null, wheel.cancel(key));
+            } else {
+                now += random.nextInt(40);
+                for (var expired : wheel.advance(now)) {
+                    long deadline = deadlines.remove(expired);
+                    assertTrue(deadline <= now, "期限より早く取り出した");
+                }
+                for (var e : deadlines.entrySet()) {
+                    assertTrue(e.getValue() > now - tick, "期限から1刻み以上遅れている: " + e.getKey());
+                }
+            }
+            assertEquals(deadlines.size(), wheel.size());
+        }
+    }
+}
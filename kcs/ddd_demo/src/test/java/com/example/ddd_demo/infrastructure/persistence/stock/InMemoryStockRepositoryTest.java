@@ -0,0 +1,197 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.StockRepository.AllocationLine;
+import com.example.ddd_demo.domain.models.stock.StockRepository.AllocationStatus;
+import com.example.ddd_demo.domain.models.stock.StockRepository.RejectReason;
+import com.example.ddd_demo.domain.models.stock.StockRepository.Rejected;
+import com.example.ddd_demo.infrastructure.persistence.product.CachingProductRepository;
+
+/**
+ * メモリ上の在庫エンジンのテストドライバ
+ *
+ * <p>スケジューラ・終了時の書き戻しがテストデータをコミットしないよう、
+ * Beanとしては登録せずテスト内で生成し、書き戻しはテストのトランザクション内で行う(ロールバックされる)。</p>
+ */
+@SpringBootTest
+@Transactional
+public class InMemoryStockRepositoryTest {
+
+    @Autowired
+    private StockJooqRepository jooqRepository;
+    @Autowired
+    private DSLContext dsl;
+    @Autowired
+    private CachingProductRepository productCache;
+
+    /**
+     * テストターゲット
+     */
+    private InMemoryStockRepository repository;
+
+    // 既存データ（初期投入）に合わせた期待値
+    private static final ProductId EXISTING = ProductId.fromString("9959e553-c9da-4646-bd85-8663a3541583");
+    private static final ProductId EXISTING2 = ProductId.fromString("83fbc81d-2498-4da6-b8c2-54878d3b67ff");
+    private static final ProductId UNKNOWN  = ProductId.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryStockRepository(jooqRepository, dsl, productCache, 4);
+        repository.recover();
+    }
+
+    @Test
+    @DisplayName("decreaseIfAvailable(): メモリ上で減算し、書き戻すまでDBは変更しない")
+    void decrease_in_memory_until_flush() {
+        assertThat(repository.decreaseIfAvailable(EXISTING, 30).get().getQuantity().value()).isEqualTo(70);
+        assertThat(repository.decreaseIfAvailable(EXISTING, 80)).isEmpty();
+        assertThat(repository.findByProductId(EXISTING).get().getQuantity().value()).isEqualTo(70);
+        assertThat(jooqRepository.findByProductId(EXISTING).get().getQuantity().value()).isEqualTo(100);
+
+        assertThat(repository.flush()).isEqualTo(1);
+        assertThat(jooqRepository.findByProductId(EXISTING).get().getQuantity().value()).isEqualTo(70);
+        // 変更が無ければ書き戻さない
+        assertThat(repository.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush(): 複数回の増減は商品ごとに1回の更新にまとめて書き戻し、商品のキャッシュにも反映される")
+    void flush_coalesces_and_evicts_product_cache() {
+        productCache.findById(EXISTING);
+        for (int i = 0; i < 10; i++) {
+            repository.decreaseIfAvailable(EXISTING, 1);
+        }
+        repository.applyDeltas(Map.of(EXISTING2, -5));
+        assertThat(repository.flush()).isEqualTo(2);
+        assertThat(productCache.findById(EXISTING).get().currentStock().value()).isEqualTo(90);
+        assertThat(jooqRepository.findByProductId(EXISTING2).get().getQuantity().value()).isEqualTo(95);
+    }
+
+    @Test
+    @DisplayName("recover(): 書き戻した状態から再開できる")
+    void recover_from_last_flush() {
+        repository.decreaseIfAvailable(EXISTING, 40);
+        repository.flush();
+        // 書き戻していない変更は再開後に失われる
+        repository.decreaseIfAvailable(EXISTING, 10);
+
+        var restarted = new InMemoryStockRepository(jooqRepository, dsl, productCache, 4);
+        restarted.recover();
+        assertThat(restarted.findByProductId(EXISTING).get().getQuantity().value()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("applyDeltas(): 範囲外・存在しない商品は反映せず報告する")
+    void applyDeltas_rejects() {
+        var deltas = new LinkedHashMap<ProductId, Integer>();
+        deltas.put(EXISTING, 1);
+        deltas.put(EXISTING2, -20);
+        deltas.put(UNKNOWN, 5);
+        var result = repository.applyDeltas(deltas);
+
+        assertThat(result.applied()).hasSize(1);
+        assertThat(result.applied().get(0).stock().getQuantity().value()).isEqualTo(80);
+        assertThat(result.rejected())
+            .extracting(Rejected::productId, Rejected::reason, Rejected::current)
+            .containsExactlyInAnyOrder(
+                tuple(EXISTING, RejectReason.OUT_OF_RANGE, 100),
+                tuple(UNKNOWN, RejectReason.NOT_FOUND, null));
+    }
+
+    @Test
+    @DisplayName("allocateAll(): 足りない明細があれば減算済みの明細を戻し、どの商品の在庫も変えない")
+    void allocateAll_all_or_nothing() {
+        repository.decreaseIfAvailable(EXISTING, 95);
+
+        var quantities = new LinkedHashMap<ProductId, Integer>();
+        quantities.put(EXISTING, 6);
+        quantities.put(EXISTING2, 10);
+        var failed = repository.allocateAll(quantities);
+        assertThat(failed.allocated()).isFalse();
+        assertThat(failed.lines())
+            .extracting(AllocationLine::productId, AllocationLine::status, AllocationLine::available)
+            .containsExactly(
+                tuple(EXISTING, AllocationStatus.INSUFFICIENT, 5),
+                tuple(EXISTING2, AllocationStatus.SKIPPED, 100));
+        assertThat(repository.findByProductId(EXISTING2).get().getQuantity().value()).isEqualTo(100);
+
+        quantities.put(EXISTING, 5);
+        var placed = repository.allocateAll(quantities);
+        assertThat(placed.allocated()).isTrue();
+        assertThat(placed.lines())
+            .extracting(AllocationLine::status, l -> l.stock().getQuantity().value())
+            .containsExactly(
+                tuple(AllocationStatus.ALLOCATED, 0),
+                tuple(AllocationStatus.ALLOCATED, 90));
+    }
+
+    @Test
+    @DisplayName("allocateAll(): 減算済みの明細を戻すまでに加算が割り込んでも、戻す在庫数は失われない")
+    void allocateAll_restore_races_with_increase() throws Exception {
+        // EXISTING2(商品UUID順で先)は保留して減算し、EXISTING(在庫0)で引当が不成立となり戻す
+        repository.decreaseIfAvailable(EXISTING, 100);
+        repository.decreaseIfAvailable(EXISTING2, 30);
+        var quantities = new LinkedHashMap<ProductId, Integer>();
+        quantities.put(EXISTING2, 30);
+        quantities.put(EXISTING, 1);
+        int rounds = 2000;
+        var start = new CountDownLatch(1);
+        var allocator = new Thread(() -> {
+            await(start);
+            for (int i = 0; i < rounds; i++) {
+                assertThat(repository.allocateAll(quantities).allocated()).isFalse();
+            }
+        });
+        // 保留中に上限まで加算し、加算できた分はすぐに減算する(在庫数の増減は差し引き0)
+        var adjuster = new Thread(() -> {
+            await(start);
+            for (int i = 0; i < rounds; i++) {
+                var result = repository.applyDeltas(Map.of(EXISTING2, 30));
+                if (result.rejected().isEmpty()) {
+                    assertThat(repository.decreaseIfAvailable(EXISTING2, 30)).isPresent();
+                }
+            }
+        });
+        var errors = new ConcurrentLinkedQueue<Throwable>();
+        allocator.setUncaughtExceptionHandler((t, e) -> errors.add(e));
+        adjuster.setUncaughtExceptionHandler((t, e) -> errors.add(e));
+        allocator.start();
+        adjuster.start();
+        start.countDown();
+        allocator.join();
+        adjuster.join();
+
+        assertThat(errors).isEmpty();
+        assertThat(repository.findByProductId(EXISTING2).get().getQuantity().value()).isEqualTo(70);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("findByProductId(): 存在しない商品はOptional.empty()")
+    void findByProductId_notFound() {
+        assertThat(repository.findByProductId(UNKNOWN)).isEmpty();
+        assertThat(repository.decreaseIfAvailable(UNKNOWN, 1)).isEmpty();
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jooq.DSLContext;
+import org.jooq.ExecuteListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.StockRepository.AllocationLine;
+import com.example.ddd_demo.domain.models.stock.StockRepository.AllocationStatus;
+import com.example.ddd_demo.domain.models.stock.StockRepository.Applied;
+import com.example.ddd_demo.domain.models.stock.StockRepository.RejectReason;
+import com.example.ddd_demo.domain.models.stock.StockRepository.Rejected;
+import com.example.ddd_demo.infrastructure.persistence.product.CachingProductRepository;
+
+/**
+ * StockRepositoryインターフェイス実装のテストドライバ
+ */
+@SpringBootTest
+@Transactional
+public class StockJooqRepositoryTest {
+
+    /**
+     * テストターゲット
+     */
+    @Autowired
+    private StockJooqRepository repository;
+    @Autowired
+    private DSLContext dsl;
+    @Autowired
+    private CachingProductRepository productCache;
+
+    // 既存データ（初期投入）に合わせた期待値
+    private static final ProductId EXISTING = ProductId.fromString("9959e553-c9da-4646-bd85-8663a3541583");
+    private static final ProductId EXISTING2 = ProductId.fromString("83fbc81d-2498-4da6-b8c2-54878d3b67ff");
+    private static final ProductId UNKNOWN  = ProductId.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+
+    @Test
+    @DisplayName("findByProductId(): 存在する商品の在庫を取得できる")
+    void findByProductId_found() {
+        var stock = repository.findByProductId(EXISTING);
+        assertThat(stock).isPresent();
+        assertThat(stock.get().getQuantity().value()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("findByProductId(): 存在しない商品はOptional.empty()")
+    void findByProductId_notFound() {
+        assertThat(repository.findByProductId(UNKNOWN)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("decreaseIfAvailable(): 在庫が足りれば減算し、減算後の在庫を返す(SQL文は1回)")
+    void decrease_success_single_statement() {
+        var statements = new AtomicInteger();
+        var counting = new StockJooqRepository(
+            dsl.configuration()
+               .deriveAppending(ExecuteListener.onExecuteStart(ctx -> statements.incrementAndGet()))
+               .dsl(),
+            productCache);
+
+        var result = counting.decreaseIfAvailable(EXISTING, 30);
+        assertThat(result).isPresent();
+        assertThat(result.get().getQuantity().value()).isEqualTo(70);
+        assertThat(statements.get()).isEqualTo(1);
+        assertThat(repository.findByProductId(EXISTING).get().getQuantity().value()).isEqualTo(70);
+    }
+
+    @Test
+    @DisplayName("decreaseIfAvailable(): 在庫が足りなければ変更せずOptional.empty()")
+    void decrease_insufficient() {
+        assertThat(repository.decreaseIfAvailable(EXISTING, 60)).isPresent();
+        // 残り40に対して60は引き当てられない
+        assertThat(repository.decreaseIfAvailable(EXISTING, 60)).isEmpty();
+        assertThat(repository.findByProductId(EXISTING).get().getQuantity().value()).isEqualTo(40);
+        // 在庫ちょうどなら0まで引き当てられる
+        assertThat(repository.decreaseIfAvailable(EXISTING, 40).get().isOutOfStock()).isTrue();
+        assertThat(repository.decreaseIfAvailable(EXISTING, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("decreaseIfAvailable(): 存在しない商品はOptional.empty()")
+    void decrease_unknownProduct() {
+        assertThat(repository.decreaseIfAvailable(UNKNOWN, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("decreaseIfAvailable(): 減算量が1～100の範囲外ならDomainExceptionをスローする")
+    void decrease_invalidAmount() {
+        assertThatThrownBy(() -> repository.decreaseIfAvailable(EXISTING, 0))
+            .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> repository.decreaseIfAvailable(EXISTING, 101))
+            .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> repository.decreaseIfAvailable(null, 1))
+            .isInstanceOf(DomainException.class);
+    }
+
+    @Test
+    @DisplayName("decreaseIfAvailable(): 減算後は商品の取得結果(キャッシュ経由)にも反映される")
+    void decrease_visible_through_product_cache() {
+        productCache.findById(EXISTING);
+        repository.decreaseIfAvailable(EXISTING, 5);
+        assertThat(productCache.findById(EXISTING).get().currentStock().value()).isEqualTo(95);
+    }
+
+    @Test
+    @DisplayName("applyDeltas(): 範囲内の増減は反映し、範囲外・存在しない商品は反映せず報告する")
+    void applyDeltas_applies_and_rejects() {
+        assertThat(repository.decreaseIfAvailable(EXISTING2, 50)).isPresent();
+
+        var deltas = new LinkedHashMap<ProductId, Integer>();
+        deltas.put(EXISTING, 1);     // 100 → 101 は上限超過
+        deltas.put(EXISTING2, -20);  // 50 → 30
+        deltas.put(UNKNOWN, 5);
+        var result = repository.applyDeltas(deltas);
+
+        assertThat(result.applied())
+            .extracting(Applied::productId, a -> a.stock().getQuantity().value())
+            .containsExactly(tuple(EXISTING2, 30));
+        assertThat(result.rejected())
+            .extracting(Rejected::productId, Rejected::delta, Rejected::reason, Rejected::current)
+            .containsExactlyInAnyOrder(
+                tuple(EXISTING, 1, RejectReason.OUT_OF_RANGE, 100),
+                tuple(UNKNOWN, 5, RejectReason.NOT_FOUND, null));
+        assertThat(repository.findByProductId(EXISTING).get().getQuantity().value()).isEqualTo(100);
+        assertThat(repository.findByProductId(EXISTING2).get().getQuantity().value()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("applyDeltas(): 境界値(0と100ちょうど)は反映し、負数になる減算は反映しない")
+    void applyDeltas_bounds() {
+        var toZero = repository.applyDeltas(Map.of(EXISTING, -100));
+        assertThat(toZero.applied()).hasSize(1);
+        assertThat(toZero.applied().get(0).stock().isOutOfStock()).isTrue();
+
+        var negative = repository.applyDeltas(Map.of(EXISTING, -1));
+        assertThat(negative.applied()).isEmpty();
+        assertThat(negative.rejected()).extracting(Rejected::reason).containsExactly(RejectReason.OUT_OF_RANGE);
+
+        var toFull = repository.applyDeltas(Map.of(EXISTING, 100));
+        assertThat(toFull.applied().get(0).stock().isFullCapacity()).isTrue();
+        // 桁あふれする増減量でもエラーにならず範囲外として扱う
+        var overflow = repository.applyDeltas(Map.of(EXISTING, Integer.MAX_VALUE));
+        assertThat(overflow.rejected()).extracting(Rejected::reason).containsExactly(RejectReason.OUT_OF_RANGE);
+    }
+
+    @Test
+    @DisplayName("applyDeltas(): 主キー順のロックが1回・チャンクごとのSQL文が1回(全件反映できた場合は再取得しない)")
+    void applyDeltas_one_statement_per_chunk() {
+        var statements = new ArrayList<String>();
+        var counting = new StockJooqRepository(
+            dsl.configuration()
+               .deriveAppending(ExecuteListener.onExecuteStart(ctx -> statements.add(ctx.sql().toLowerCase())))
+               .dsl(),
+            productCache);
+
+        var result = counting.applyDeltas(Map.of(EXISTING, -10, EXISTING2, -20));
+        assertThat(result.applied()).hasSize(2);
+        assertThat(result.rejected()).isEmpty();
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(0)).contains("order by", "for update");
+        assertThat(statements.get(1)).startsWith("update");
+    }
+
+    @Test
+    @DisplayName("applyDeltas(): チャンクの件数を超える入力も分割して反映する")
+    void applyDeltas_multiple_chunks() {
+        var deltas = new HashMap<ProductId, Integer>();
+        deltas.put(EXISTING, -1);
+        for (int i = 0; i < StockJooqRepository.ADJUST_CHUNK_SIZE; i++) {
+            deltas.put(ProductId.createNew(), 1);
+        }
+        var result = repository.applyDeltas(deltas);
+        assertThat(result.applied()).extracting(Applied::productId).containsExactly(EXISTING);
+        assertThat(result.rejected()).hasSize(StockJooqRepository.ADJUST_CHUNK_SIZE)
+            .allMatch(r -> r.reason() == RejectReason.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("applyDeltas(): 反映後は商品の取得結果(キャッシュ経由)にも反映される")
+    void applyDeltas_visible_through_product_cache() {
+        productCache.findById(EXISTING);
+        repository.applyDeltas(Map.of(EXISTING, -7));
+        assertThat(productCache.findById(EXISTING).get().currentStock().value()).isEqualTo(93);
+    }
+
+    @Test
+    @DisplayName("applyDeltas(): nullの引数・キー・値はDomainExceptionをスローする")
+    void applyDeltas_invalid() {
+        assertThatThrownBy(() -> repository.applyDeltas(null))
+            .isInstanceOf(DomainException.class);
+        var nullValue = new HashMap<ProductId, Integer>();
+        nullValue.put(EXISTING, null);
+        assertThatThrownBy(() -> repository.applyDeltas(nullValue))
+            .isInstanceOf(DomainException.class);
+    }
+
+    @Test
+    @DisplayName("allocateAll(): すべての明細が足りれば1回のSQL文でまとめて減算し、明細を指定順に返す")
+    void allocateAll_success_single_statement() {
+        var statements = new AtomicInteger();
+        var counting = new StockJooqRepository(
+            dsl.configuration()
+               .deriveAppending(ExecuteListener.onExecuteStart(ctx -> statements.incrementAndGet()))
+               .dsl(),
+            productCache);
+
+        var quantities = new LinkedHashMap<ProductId, Integer>();
+        quantities.put(EXISTING2, 20);
+        quantities.put(EXISTING, 30);
+        var result = counting.allocateAll(quantities);
+
+        assertThat(result.allocated()).isTrue();
+        assertThat(result.lines())
+            .extracting(AllocationLine::productId, AllocationLine::status, AllocationLine::available,
+                l -> l.stock().getQuantity().value())
+            .containsExactly(
+                tuple(EXISTING2, AllocationStatus.ALLOCATED, 100, 80),
+                tuple(EXISTING, AllocationStatus.ALLOCATED, 100, 70));
+        assertThat(statements.get()).isEqualTo(1);
+        assertThat(repository.findByProductId(EXISTING).get().getQuantity().value()).isEqualTo(70);
+        assertThat(repository.findByProductId(EXISTING2).get().getQuantity().value()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("allocateAll(): 足りない・存在しない明細があれば、どの商品も減算せず理由を返す")
+    void allocateAll_all_or_nothing() {
+        assertThat(repository.decreaseIfAvailable(EXISTING2, 95)).isPresent();
+
+        var quantities = new LinkedHashMap<ProductId, Integer>();
+        quantities.put(EXISTING, 10);
+        quantities.put(EXISTING2, 6);
+        quantities.put(UNKNOWN, 1);
+        var result = repository.allocateAll(quantities);
+
+        assertThat(result.allocated()).isFalse();
+        assertThat(result.lines())
+            .extracting(AllocationLine::productId, AllocationLine::status, AllocationLine::available, AllocationLine::stock)
+            .containsExactly(
+                tuple(EXISTING, AllocationStatus.SKIPPED, 100, null),
+                tuple(EXISTING2, AllocationStatus.INSUFFICIENT, 5, null),
+                tuple(UNKNOWN, AllocationStatus.NOT_FOUND, null, null));
+        assertThat(repository.findByProductId(EXISTING).get().getQuantity().value()).isEqualTo(100);
+        assertThat(repository.findByProductId(EXISTING2).get().getQuantity().value()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("allocateAll(): 空の明細は何もせず成功、範囲外の数量はDomainExceptionをスローする")
+    void allocateAll_invalid() {
+        assertThat(repository.allocateAll(Map.of()).allocated()).isTrue();
+        assertThatThrownBy(() -> repository.allocateAll(null))
+            .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> repository.allocateAll(Map.of(EXISTING, 0)))
+            .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> repository.allocateAll(Map.of(EXISTING, 101)))
+            .isInstanceOf(DomainException.class);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.product.ProductName;
+import com.example.ddd_demo.domain.models.stock.StockMovement;
+import com.example.ddd_demo.domain.models.stock.StockMovementRepository.Status;
+import com.example.ddd_demo.infrastructure.persistence.product.CachingProductRepository;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductCategoryTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductStockTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.ProductTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementAppliedTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementRejectionTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementTable;
+
+/**
+ * 在庫の移動の反映のテストドライバ
+ *
+ * <p>反映は完了済みのトランザクションの移動だけが対象のため、移動はコミットして記録する。
+ * テスト用の商品を作成し、終了時に商品・移動・反映の記録を削除する。
+ * 定期実行の反映と競合しないよう、反映間隔を十分に長くする。</p>
+ */
+@SpringBootTest(properties = "app.stock.ledger.materialize-interval=PT1H")
+public class StockLedgerMaterializerTest {
+
+    @Autowired
+    private StockMovementJooqRepository movements;
+    @Autowired
+    private DSLContext dsl;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private CachingProductRepository productCache;
+    @Autowired
+    private TransactionTemplate transaction;
+
+    private StockLedgerMaterializer materializer;
+    private ProductId productId;
+    private Integer productPk;
+
+    @BeforeEach
+    void setUp() {
+        materializer = new StockLedgerMaterializer(dsl, productCache, transaction, 2);
+        var pt = ProductTable.PRODUCT;
+        var st = ProductStockTable.PRODUCT_STOCK;
+        var c = ProductCategoryTable.PRODUCT_CATEGORY;
+        var uuid = UUID.randomUUID();
+        productId = ProductId.fromUuid(uuid);
+        productPk = transaction.execute(status -> {
+            var categoryId = dsl.select(c.ID).from(c).orderBy(c.ID).limit(1).fetchOne(c.ID);
+            var name = "台帳テスト-" + uuid.toString().substring(0, 8);
+            var id = dsl.insertInto(pt, pt.PRODUCT_UUID, pt.NAME, pt.NAME_NORMALIZED, pt.PRICE, pt.CATEGORY_ID)
+                .values(uuid, name, ProductName.normalize(name), 100, categoryId)
+                .returning(pt.ID)
+                .fetchOne(pt.ID);
+            dsl.insertInto(st, st.STOCK_UUID, st.STOCK, st.PRODUCT_ID)
+                .values(UUID.randomUUID(), 100, id)
+                .execute();
+            return id;
+        });
+        // それまでに記録された移動はテストの対象外とする
+        materializer.materialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        var m = StockMovementTable.STOCK_MOVEMENT;
+        var a = StockMovementAppliedTable.STOCK_MOVEMENT_APPLIED;
+        var r = StockMovementRejectionTable.STOCK_MOVEMENT_REJECTION;
+        transaction.executeWithoutResult(status -> {
+            var uuids = DSL.select(m.MOVEMENT_UUID).from(m).where(m.PRODUCT_ID.eq(productPk));
+            dsl.deleteFrom(a).where(a.MOVEMENT_UUID.in(uuids)).execute();
+            dsl.deleteFrom(r).where(r.MOVEMENT_UUID.in(uuids)).execute();
+            dsl.deleteFrom(m).where(m.PRODUCT_ID.eq(productPk)).execute();
+            dsl.deleteFrom(ProductStockTable.PRODUCT_STOCK).where(ProductStockTable.PRODUCT_STOCK.PRODUCT_ID.eq(productPk)).execute();
+            dsl.deleteFrom(ProductTable.PRODUCT).where(ProductTable.PRODUCT.ID.eq(productPk)).execute();
+        });
+        productCache.evict(List.of(productId));
+    }
+
+    @Test
+    @DisplayName("materialize(): 移動を順に反映し、範囲外となる移動はREJECTEDにする")
+    void materialize_appliesInOrder_rejectsOutOfRange() {
+        var m1 = StockMovement.record(productId, -30);
+        var m2 = StockMovement.record(productId, 40);   // 70 + 40 = 110 は範囲外
+        var m3 = StockMovement.record(productId, -70);
+        movements.appendAll(List.of(m1, m2, m3));
+
+        // バッチサイズ(2)を超えても、反映待ちが無くなるまで繰り返す
+        assertThat(materializer.materialize()).isEqualTo(3);
+
+        assertThat(movements.findById(m1.getMovementId()).orElseThrow().status()).isEqualTo(Status.APPLIED);
+        assertThat(movements.findById(m2.getMovementId()).orElseThrow().status()).isEqualTo(Status.REJECTED);
+        assertThat(movements.findById(m3.getMovementId()).orElseThrow().status()).isEqualTo(Status.APPLIED);
+        assertThat(stock()).isZero();
+        // 処理済みの移動は再度反映しない
+        assertThat(materializer.materialize()).isZero();
+    }
+
+    @Test
+    @DisplayName("materialize(): 後の時刻の移動より遅れてコミットされた移動も取りこぼさない")
+    void materialize_lateCommit_notLost() throws Exception {
+        var early = StockMovement.record(productId, -5);
+        Thread.sleep(5);
+        var late = StockMovement.record(productId, -7);
+
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            // 先に作成した移動を、別のトランザクションで追記したままコミットしない
+            new StockMovementJooqRepository(DSL.using(connection, SQLDialect.POSTGRES)).appendAll(List.of(early));
+            // 後に作成した移動は先にコミットされる
+            movements.appendAll(List.of(late));
+
+            // 実行中のトランザクションより後の移動は反映しない(反映するとウォーターマークが early を追い越す)
+            materializer.materialize();
+            assertThat(movements.findById(late.getMovementId()).orElseThrow().status()).isEqualTo(Status.PENDING);
+            assertThat(stock()).isEqualTo(100);
+
+            connection.commit();
+        }
+
+        materializer.materialize();
+
+        assertThat(movements.findById(early.getMovementId()).orElseThrow().status()).isEqualTo(Status.APPLIED);
+        assertThat(movements.findById(late.getMovementId()).orElseThrow().status()).isEqualTo(Status.APPLIED);
+        assertThat(stock()).isEqualTo(88);
+    }
+
+    private int stock() {
+        var st = ProductStockTable.PRODUCT_STOCK;
+        return dsl.select(st.STOCK).from(st).where(st.PRODUCT_ID.eq(productPk)).fetchOne(st.STOCK);
+    }
+}
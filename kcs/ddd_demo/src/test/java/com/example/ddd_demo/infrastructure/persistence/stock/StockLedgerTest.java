@@ -0,0 +1,133 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.StockMovement;
+import com.example.ddd_demo.domain.models.stock.StockMovementId;
+import com.example.ddd_demo.domain.models.stock.StockMovementRepository.Status;
+import com.example.ddd_demo.domain.models.stock.StockRepository;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementAppliedTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementDailyTable;
+import com.example.ddd_demo.infrastructure.persistence.schema.tables.StockMovementRejectionTable;
+
+/**
+ * 在庫の移動の台帳(追記・集計)のテストドライバ
+ *
+ * <p>反映は完了済みのトランザクションの移動だけが対象のため、テストのトランザクション内では行えない。
+ * 反映のテストは {@link StockLedgerMaterializerTest} で行う。</p>
+ */
+@SpringBootTest
+@Transactional
+public class StockLedgerTest {
+
+    @Autowired
+    private StockMovementJooqRepository movements;
+    @Autowired
+    private StockRepository stocks;
+    @Autowired
+    private StockLedgerCompactor compactor;
+    @Autowired
+    private DSLContext dsl;
+
+    private static final ProductId EXISTING = ProductId.fromString("9959e553-c9da-4646-bd85-8663a3541583");
+    private static final ProductId UNKNOWN = ProductId.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+
+    @Test
+    @DisplayName("appendAll(): 存在しない商品への移動は追記しない・追記直後はPENDING")
+    void appendAll_skipsUnknownProducts() {
+        var ok = StockMovement.record(EXISTING, -3);
+        var unknown = StockMovement.record(UNKNOWN, 5);
+
+        var appended = movements.appendAll(List.of(ok, unknown));
+
+        assertThat(appended).containsExactly(ok);
+        var found = movements.findById(ok.getMovementId()).orElseThrow();
+        assertThat(found.status()).isEqualTo(Status.PENDING);
+        assertThat(found.movement().getDelta()).isEqualTo(-3);
+        assertThat(movements.findById(unknown.getMovementId())).isEmpty();
+        // 在庫数はまだ変わらない
+        assertThat(stocks.findByProductId(EXISTING).orElseThrow().getQuantity().value()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("findById(): 存在しない移動Idは空")
+    void findById_unknown_empty() {
+        assertThat(movements.findById(StockMovementId.createNew())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findById(): 反映・不成立の記録があればAPPLIED・REJECTED")
+    void findById_statusFromMarkers() {
+        var applied = StockMovement.record(EXISTING, -1);
+        var rejected = StockMovement.record(EXISTING, 1);
+        movements.appendAll(List.of(applied, rejected));
+
+        markApplied(applied);
+        markRejected(rejected);
+
+        assertThat(movements.findById(applied.getMovementId()).orElseThrow().status()).isEqualTo(Status.APPLIED);
+        assertThat(movements.findById(rejected.getMovementId()).orElseThrow().status()).isEqualTo(Status.REJECTED);
+    }
+
+    @Test
+    @DisplayName("compactBefore(): 未処理の移動が残るパーティションは削除せず、すべて処理済みになれば日別集計へまとめて削除する")
+    void compact_summarizesAndDropsPartition() {
+        var today = LocalDate.now(ZoneOffset.UTC);
+        compactor.ensurePartitions();
+        var m1 = StockMovement.record(EXISTING, -10);
+        var m2 = StockMovement.record(EXISTING, 100);  // 90 + 100 は範囲外
+        var m3 = StockMovement.record(EXISTING, 5);
+        movements.appendAll(List.of(m1, m2, m3));
+        // 反映の結果を記録する(反映自体はテストのトランザクション内では行えない)
+        markApplied(m1);
+        markRejected(m2);
+
+        // m3 が未処理のため削除しない
+        assertThat(compactor.compactBefore(today.plusDays(1))).doesNotContain(today);
+
+        markApplied(m3);
+        var compacted = compactor.compactBefore(today.plusDays(1));
+
+        assertThat(compacted).contains(today);
+        var d = StockMovementDailyTable.STOCK_MOVEMENT_DAILY;
+        var daily = dsl.select(d.NET_DELTA, d.APPLIED, d.REJECTED).from(d).where(d.DAY.eq(today)).fetch();
+        assertThat(daily).hasSize(1);
+        assertThat(daily.get(0).value1()).isEqualTo(-5);
+        assertThat(daily.get(0).value2()).isEqualTo(2L);
+        assertThat(daily.get(0).value3()).isEqualTo(1L);
+        assertThat(movements.findById(m1.getMovementId())).isEmpty();
+        // 保持期間内のパーティションは削除しない
+        assertThat(compacted).doesNotContain(today.plusDays(1));
+    }
+
+    private void markApplied(StockMovement movement) {
+        var a = StockMovementAppliedTable.STOCK_MOVEMENT_APPLIED;
+        dsl.insertInto(a, a.CREATED_AT, a.MOVEMENT_UUID)
+            .values(createdAt(movement), movement.getMovementId().toUuid())
+            .execute();
+    }
+
+    private void markRejected(StockMovement movement) {
+        var r = StockMovementRejectionTable.STOCK_MOVEMENT_REJECTION;
+        dsl.insertInto(r, r.CREATED_AT, r.MOVEMENT_UUID, r.STOCK)
+            .values(createdAt(movement), movement.getMovementId().toUuid(), 90)
+            .execute();
+    }
+
+    private static OffsetDateTime createdAt(StockMovement movement) {
+        return OffsetDateTime.ofInstant(movement.getMovementId().createdAt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.ddd_demo.domain.models.product.ProductId;
+import com.example.ddd_demo.domain.models.stock.StockReservation;
+import com.example.ddd_demo.domain.models.stock.StockReservationId;
+
+/**
+ * StockReservationRepositoryインターフェイス実装のテストドライバ
+ */
+@SpringBootTest
+@Transactional
+public class StockReservationJooqRepositoryTest {
+
+    /**
+     * テストターゲット
+     */
+    @Autowired
+    private StockReservationJooqRepository repository;
+    @Autowired
+    private StockJooqRepository stockRepository;
+
+    // 既存データ（初期投入）に合わせた期待値
+    private static final ProductId EXISTING = ProductId.fromString("9959e553-c9da-4646-bd85-8663a3541583");
+    private static final ProductId UNKNOWN  = ProductId.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+
+    private static Instant later() {
+        return Instant.now().plus(Duration.ofMinutes(15));
+    }
+
+    @Test
+    @DisplayName("reserve(): 予約すると引当可能数が減り、在庫数は変わらない")
+    void reserve_reduces_available_to_promise() {
+        var reservation = StockReservation.hold(EXISTING, 30, later());
+        assertThat(repository.reserve(reservation)).isTrue();
+
+        var availability = repository.findAvailability(EXISTING).orElseThrow();
+        assertThat(availability.onHand()).isEqualTo(100);
+        assertThat(availability.reserved()).isEqualTo(30);
+        assertThat(availability.availableToPromise()).isEqualTo(70);
+        assertThat(repository.findById(reservation.getReservationId())).contains(reservation);
+    }
+
+    @Test
+    @DisplayName("reserve(): 引当可能数が足りない・商品が存在しない場合はfalse(何も変えない)")
+    void reserve_insufficient_or_unknown() {
+        assertThat(repository.reserve(StockReservation.hold(EXISTING, 80, later()))).isTrue();
+        var rejected = StockReservation.hold(EXISTING, 21, later());
+        assertThat(repository.reserve(rejected)).isFalse();
+        assertThat(repository.findById(rejected.getReservationId())).isEmpty();
+        assertThat(repository.findAvailability(EXISTING).orElseThrow().reserved()).isEqualTo(80);
+
+        assertThat(repository.reserve(StockReservation.hold(UNKNOWN, 1, later()))).isFalse();
+        assertThat(repository.findAvailability(UNKNOWN)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("confirm(): 予約数量を在庫数から減算し、同じ予約は2度確定できない")
+    void confirm_decreases_stock_once() {
+        var reservation = StockReservation.hold(EXISTING, 5, later());
+        repository.reserve(reservation);
+
+        var stock = repository.confirm(reservation.getReservationId());
+        assertThat(stock).isPresent();
+        assertThat(stock.get().getQuantity().value()).isEqualTo(95);
+        var availability = repository.findAvailability(EXISTING).orElseThrow();
+        assertThat(availability.onHand()).isEqualTo(95);
+        assertThat(availability.reserved()).isZero();
+
+        assertThat(repository.confirm(reservation.getReservationId())).isEmpty();
+        assertThat(repository.release(reservation.getReservationId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("release(): 解放すると引当可能数が戻る")
+    void release_restores_available_to_promise() {
+        var reservation = StockReservation.hold(EXISTING, 10, later());
+        repository.reserve(reservation);
+
+        assertThat(repository.release(reservation.getReservationId())).contains(reservation);
+        var availability = repository.findAvailability(EXISTING).orElseThrow();
+        assertThat(availability.onHand()).isEqualTo(100);
+        assertThat(availability.availableToPromise()).isEqualTo(100);
+        assertThat(repository.findById(reservation.getReservationId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("予約中の数量は他の引当(decreaseIfAvailable)に使われない")
+    void decrease_respects_reserved() {
+        repository.reserve(StockReservation.hold(EXISTING, 60, later()));
+
+        assertThat(stockRepository.decreaseIfAvailable(EXISTING, 41)).isEmpty();
+        var stock = stockRepository.decreaseIfAvailable(EXISTING, 40);
+        assertThat(stock).isPresent();
+        assertThat(stock.get().getQuantity().value()).isEqualTo(60);
+        assertThat(repository.findAvailability(EXISTING).orElseThrow().availableToPromise()).isZero();
+    }
+
+    @Test
+    @DisplayName("期限切れの予約は確定できず、releaseExpired()で解放される(期限前の予約は解放しない)")
+    void expired_reservation_is_released() {
+        var expired = StockReservation.hold(EXISTING, 7, Instant.now().minusSeconds(1));
+        var active = StockReservation.hold(EXISTING, 3, later());
+        repository.reserve(expired);
+        repository.reserve(active);
+
+        assertThat(repository.findById(expired.getReservationId())).isEmpty();
+        assertThat(repository.confirm(expired.getReservationId())).isEmpty();
+
+        List<StockReservationId> due = List.of(expired.getReservationId(), active.getReservationId());
+        assertThat(repository.releaseExpired(due, System.currentTimeMillis())).isEqualTo(1);
+        assertThat(repository.findAvailability(EXISTING).orElseThrow().reserved()).isEqualTo(3);
+        assertThat(repository.findById(active.getReservationId())).isPresent();
+
+        // 解放済みの予約を再び解放しても何も起きない
+        assertThat(repository.releaseExpired(due, System.currentTimeMillis())).isZero();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.ddd_demo.infrastructure.persistence.stock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.ddd_demo.domain.models.stock.StockId;
+
+/**
+ * ストライプ化した在庫カウンタのテストドライバ
+ */
+public class StripedStockCounterTest {
+
+    @Test
+    @DisplayName("在庫が足りる場合だけ減算し、0未満にはならない")
+    void decrease_within_bounds() {
+        var counter = new StripedStockCounter(StockId.createNew(), 10, 8);
+        assertTrue(counter.tryDecrease(4));
+        assertEquals(6, counter.sum());
+        assertFalse(counter.tryDecrease(7));
+        assertEquals(6, counter.sum());
+        assertTrue(counter.tryDecrease(6));
+        assertEquals(0, counter.sum());
+        assertFalse(counter.tryDecrease(1));
+    }
+
+    @Test
+    @DisplayName("増減後の在庫数が0～100の範囲外となる場合は反映しない")
+    void adjust_within_bounds() {
+        var counter = new StripedStockCounter(StockId.createNew(), 50, 8);
+        assertTrue(counter.tryAdjust(50));
+        assertEquals(100, counter.sum());
+        assertFalse(counter.tryAdjust(1));
+        assertFalse(counter.tryAdjust(-101));
+        assertTrue(counter.tryAdjust(-100));
+        assertEquals(0, counter.sum());
+        assertFalse(counter.tryAdjust(Integer.MIN_VALUE));
+    }
+
+    @Test
+    @DisplayName("保留中に加算が割り込んでも、保留した在庫数は必ず戻せる(上限も超えない)")
+    void restore_after_concurrent_increase() {
+        var counter = new StripedStockCounter(StockId.createNew(), 100, 8);
+        assertTrue(counter.tryHold(30));
+        assertEquals(70, counter.sum());
+        // 戻すまでの間に加算が割り込む(保留の30を空けた範囲でだけ反映する)
+        assertFalse(counter.tryAdjust(30));
+        assertTrue(counter.tryDecrease(10));
+        assertTrue(counter.tryAdjust(10));
+        assertFalse(counter.tryAdjust(1));
+        counter.restore(30);
+        assertEquals(100, counter.sum());
+        // 戻した後は保留の分を空けずに判定する
+        assertTrue(counter.tryDecrease(5));
+        assertTrue(counter.tryAdjust(5));
+    }
+
+    @Test
+    @DisplayName("確定した保留は戻さず、以降の加算の判定にも含めない")
+    void release_keeps_decrease() {
+        var counter = new StripedStockCounter(StockId.createNew(), 50, 8);
+        assertTrue(counter.tryHold(20));
+        assertFalse(counter.tryHold(31));
+        counter.release(20);
+        assertEquals(30, counter.sum());
+        assertTrue(counter.tryAdjust(70));
+        assertEquals(100, counter.sum());
+    }
+
+    @Test
+    @DisplayName("多数のスレッドから同時に減算しても、成功数は初期在庫数と一致し在庫数は負にならない")
+    void concurrent_decrease_never_oversells() throws Exception {
+        var counter = new StripedStockCounter(StockId.createNew(), 100, 16);
+        var sold = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        for (int t = 0; t < 32; t++) {
+            var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 1_000; i++) {
+                    if (counter.tryDecrease(1)) sold.incrementAndGet();
+                    // 補充と引当を混在させる(補充は上限を超えない範囲でのみ反映される)
+                    if (i % 100 == 0 && counter.tryAdjust(1)) sold.decrementAndGet();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (var thread : threads) {
+            thread.join();
+        }
+        assertEquals(100 - sold.get(), counter.sum());
+        assertTrue(counter.sum() >= 0);
+    }
+
+    @Test
+    @DisplayName("変更のあった場合だけ書き戻し対象となり、書き戻し後は対象外となる")
+    void pending_modifications() {
+        var counter = new StripedStockCounter(StockId.createNew(), 10, 4);
+        assertEquals(-1, counter.pendingModifications());
+        counter.tryDecrease(1);
+        counter.tryDecrease(1);
+        long pending = counter.pendingModifications();
+        assertEquals(2, pending);
+        counter.markFlushed(pending);
+        assertEquals(-1, counter.pendingModifications());
+        // 反映しなかった増減は変更に数えない
+        counter.tryAdjust(1_000);
+        assertEquals(-1, counter.pendingModifications());
+    }
+
+    @Test
+    @DisplayName("ストライプ数は2のべき乗でなければならない")
+    void stripes_must_be_power_of_two() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedStockCounter(StockId.createNew(), 1, 3));
+        assertEquals(1, new StripedStockCounter(StockId.createNew(), 1, 4).stripes());
+    }
+}
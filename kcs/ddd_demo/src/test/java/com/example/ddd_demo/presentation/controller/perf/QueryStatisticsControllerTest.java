@@ -0,0 +1,58 @@
+package com.example.ddd_demo.presentation.controller.perf;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.ddd_demo.infrastructure.persistence.perf.QueryStatistics;
+import com.example.ddd_demo.presentation.advice.ApiExceptionHandler;
+import com.example.ddd_demo.presentation.perf.QueryStatisticsController;
+
+/**
+ * SQL文の実行統計コントローラのMockMVCテストドライバ
+ */
+@WebMvcTest(controllers = QueryStatisticsController.class)
+@Import(ApiExceptionHandler.class) // 404/400/500など共通ハンドラを有効にする
+public class QueryStatisticsControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    // Controllerが依存する実行統計をモック
+    @MockitoBean
+    private QueryStatistics statistics;
+
+    @Test
+    @DisplayName("GET /internal/perf/queries：200 & 形ごとの集計結果")
+    void get_queries() throws Exception {
+        given(statistics.snapshot()).willReturn(List.of(new QueryStatistics.ShapeSnapshot(
+            "1a8e8e97662876c0", "select * from product where id = ?", 10, 1,
+            Map.of("org.jooq.exception.DataAccessException", 1L), 9, 12.5, 1250.0, 1000, 3000, 4000, 4100)));
+
+        mockMvc.perform(get("/internal/perf/queries"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].fingerprint").value("1a8e8e97662876c0"))
+            .andExpect(jsonPath("$[0].sql").value("select * from product where id = ?"))
+            .andExpect(jsonPath("$[0].count").value(10))
+            .andExpect(jsonPath("$[0].errors").value(1))
+            .andExpect(jsonPath("$[0].p95Micros").value(3000));
+    }
+
+    @Test
+    @DisplayName("DELETE /internal/perf/queries：204 & 集計結果を破棄する")
+    void reset_queries() throws Exception {
+        mockMvc.perform(delete("/internal/perf/queries"))
+            .andExpect(status().isNoContent());
+
+        then(statistics).should().reset();
+    }
+}
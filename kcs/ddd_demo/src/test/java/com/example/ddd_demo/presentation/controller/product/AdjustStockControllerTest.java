@@ -0,0 +1,80 @@
+package com.example.ddd_demo.presentation.controller.product;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.ddd_demo.application.dto.StockAdjustmentDTO;
+import com.example.ddd_demo.application.dto.StockAdjustmentResultDTO;
+import com.example.ddd_demo.application.dto.StockAdjustmentResultDTO.Applied;
+import com.example.ddd_demo.application.dto.StockAdjustmentResultDTO.Reason;
+import com.example.ddd_demo.application.dto.StockAdjustmentResultDTO.Reject;
+import com.example.ddd_demo.application.dto.StockDTO;
+import com.example.ddd_demo.application.product.usecase.AdjustStockUsecase;
+import com.example.ddd_demo.presentation.advice.ApiExceptionHandler;
+import com.example.ddd_demo.presentation.product.controller.AdjustStockController;
+
+/**
+ * 在庫一括調整コントローラのMockMVCテストドライバ
+ */
+@WebMvcTest(controllers = AdjustStockController.class)
+@Import(ApiExceptionHandler.class) // 404/400/500など共通ハンドラを有効にする
+public class AdjustStockControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    // Controllerが依存するユースケースをモック
+    @MockitoBean
+    private AdjustStockUsecase usecase;
+
+    private static final String ID1 = "9959e553-c9da-4646-bd85-8663a3541583";
+    private static final String ID2 = "83fbc81d-2498-4da6-b8c2-54878d3b67ff";
+
+    @Test
+    @DisplayName("POST /api/stock/adjustments：200 & 反映した在庫・反映しなかった商品")
+    void adjust_ok() throws Exception {
+        given(usecase.adjust(List.of(new StockAdjustmentDTO(ID1, -3), new StockAdjustmentDTO(ID2, 10))))
+            .willReturn(new StockAdjustmentResultDTO(1, 1,
+                List.of(new Applied(ID1, new StockDTO("11111111-2222-3333-4444-555555555555", 97))),
+                List.of(new Reject(ID2, 10, Reason.OUT_OF_RANGE, 100, "範囲外です。"))));
+
+        mockMvc.perform(post("/api/stock/adjustments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"productId\":\"" + ID1 + "\",\"delta\":-3},"
+                    + "{\"productId\":\"" + ID2 + "\",\"delta\":10}]"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.appliedCount").value(1))
+            .andExpect(jsonPath("$.rejectedCount").value(1))
+            .andExpect(jsonPath("$.applied[0].stock.quantity").value(97))
+            .andExpect(jsonPath("$.rejects[0].reason").value("OUT_OF_RANGE"))
+            .andExpect(jsonPath("$.rejects[0].current").value(100));
+    }
+
+    @Test
+    @DisplayName("POST /api/stock/adjustments：空リスト・増減量の範囲外・商品Id未指定→400")
+    void adjust_invalid() throws Exception {
+        for (var body : new String[] {
+                "[]",
+                "[{\"productId\":\"" + ID1 + "\",\"delta\":101}]",
+                "[{\"productId\":\"" + ID1 + "\",\"delta\":-101}]",
+                "[{\"productId\":\"" + ID1 + "\"}]",
+                "[{\"delta\":1}]"}) {
+            mockMvc.perform(post("/api/stock/adjustments")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                .andExpect(status().isBadRequest());
+        }
+        then(usecase).should(never()).adjust(any());
+    }
+}
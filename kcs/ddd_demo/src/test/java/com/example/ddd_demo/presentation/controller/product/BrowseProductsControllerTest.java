@@ -0,0 +1,93 @@
+package com.example.ddd_demo.presentation.controller.product;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.ddd_demo.application.dto.CategoryDTO;
+import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.dto.ProductPageDTO;
+import com.example.ddd_demo.application.dto.StockDTO;
+import com.example.ddd_demo.application.exception.NotFoundException;
+import com.example.ddd_demo.application.product.usecase.BrowseProductsUsecase;
+import com.example.ddd_demo.presentation.advice.ApiExceptionHandler;
+import com.example.ddd_demo.presentation.product.controller.BrowseProductsController;
+
+/**
+ * 商品一覧コントローラのMockMVCテストドライバ
+ */
+@WebMvcTest(controllers = BrowseProductsController.class)
+@Import(ApiExceptionHandler.class) // 404/400/500など共通ハンドラを有効にする
+public class BrowseProductsControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    // Controllerが依存するユースケースをモック
+    @MockitoBean
+    private BrowseProductsUsecase usecase;
+
+    private static final String STATIONERY = "2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4";
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("GET /api/products?categoryId=...：200 & 既定値(limit=20, sort=name)で委譲")
+    void browse_ok() throws Exception {
+        var dto = new ProductDTO(
+            "83fbc81d-2498-4da6-b8c2-54878d3b67ff", "蛍光ペン(赤)", 130,
+            new CategoryDTO(STATIONERY, "文房具"),
+            new StockDTO("11111111-2222-3333-4444-555555555555", 100));
+        given(usecase.browse(STATIONERY, null, 20, "name"))
+            .willReturn(new ProductPageDTO(List.of(dto), "next-token"));
+
+        mockMvc.perform(get("/api/products").param("categoryId", STATIONERY))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.items[0].name").value("蛍光ペン(赤)"))
+            .andExpect(jsonPath("$.next").value("next-token"));
+    }
+
+    @Test
+    @DisplayName("GET /api/products?...&after=...&limit=5&sort=price：パラメータをそのまま委譲")
+    void browse_with_cursor() throws Exception {
+        given(usecase.browse(STATIONERY, "cursor", 5, "price"))
+            .willReturn(new ProductPageDTO(List.of(), null));
+
+        mockMvc.perform(get("/api/products")
+                .param("categoryId", STATIONERY)
+                .param("after", "cursor")
+                .param("limit", "5")
+                .param("sort", "price"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items").isEmpty());
+    }
+
+    @Test
+    @DisplayName("GET /api/products：存在しないカテゴリ → 404")
+    void browse_notFound() throws Exception {
+        given(usecase.browse(anyString(), any(), anyInt(), anyString()))
+            .willThrow(new NotFoundException("カテゴリが存在しません"));
+
+        mockMvc.perform(get("/api/products").param("categoryId", STATIONERY))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/products：limit範囲外・不正なsort → 400")
+    void browse_badRequest() throws Exception {
+        mockMvc.perform(get("/api/products").param("categoryId", STATIONERY).param("limit", "101"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products").param("categoryId", STATIONERY).param("sort", "stock"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.ddd_demo.presentation.controller.product;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.ddd_demo.application.dto.StockDTO;
+import com.example.ddd_demo.application.exception.InsufficientStockException;
+import com.example.ddd_demo.application.exception.NotFoundException;
+import com.example.ddd_demo.application.product.usecase.DecrementStockUsecase;
+import com.example.ddd_demo.presentation.advice.ApiExceptionHandler;
+import com.example.ddd_demo.presentation.product.controller.DecrementStockController;
+
+/**
+ * 在庫引当コントローラのMockMVCテストドライバ
+ */
+@WebMvcTest(controllers = DecrementStockController.class)
+@Import(ApiExceptionHandler.class) // 404/400/500など共通ハンドラを有効にする
+public class DecrementStockControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    // Controllerが依存するユースケースをモック
+    @MockitoBean
+    private DecrementStockUsecase usecase;
+
+    private static final String ID = "9959e553-c9da-4646-bd85-8663a3541583";
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("POST /api/products/{id}/stock/decrement：200 & 減算後の在庫")
+    void decrement_ok() throws Exception {
+        given(usecase.decrement(ID, 2))
+            .willReturn(new StockDTO("11111111-2222-3333-4444-555555555555", 98));
+
+        mockMvc.perform(post("/api/products/{id}/stock/decrement", ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"quantity\": 2}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.quantity").value(98));
+    }
+
+    @Test
+    @DisplayName("POST /api/products/{id}/stock/decrement：在庫不足→409")
+    void decrement_insufficient() throws Exception {
+        given(usecase.decrement(ID, 5))
+            .willThrow(new InsufficientStockException("在庫が足りません。"));
+
+        mockMvc.perform(post("/api/products/{id}/stock/decrement", ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"quantity\": 5}"))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("POST /api/products/{id}/stock/decrement：存在しない商品→404")
+    void decrement_notFound() throws Exception {
+        given(usecase.decrement(ID, 1))
+            .willThrow(new NotFoundException("商品は存在しません。"));
+
+        mockMvc.perform(post("/api/products/{id}/stock/decrement", ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"quantity\": 1}"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("POST /api/products/{id}/stock/decrement：数量が範囲外・未指定→400")
+    void decrement_invalidQuantity() throws Exception {
+        for (var body : new String[] {"{\"quantity\": 0}", "{\"quantity\": 101}", "{}"}) {
+            mockMvc.perform(post("/api/products/{id}/stock/decrement", ID)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                .andExpect(status().isBadRequest());
+        }
+        then(usecase).should(never()).decrement(anyString(), anyInt());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.ddd_demo.presentation.controller.product;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.ddd_demo.application.dto.CategoryDTO;
+import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.dto.StockDTO;
+import com.example.ddd_demo.application.product.usecase.ExportProductsUsecase;
+import com.example.ddd_demo.presentation.advice.ApiExceptionHandler;
+import com.example.ddd_demo.presentation.product.controller.ExportProductsController;
+
+/**
+ * 商品エクスポートコントローラのMockMVCテストドライバ
+ */
+@WebMvcTest(controllers = ExportProductsController.class)
+@Import(ApiExceptionHandler.class) // 404/400/500など共通ハンドラを有効にする
+public class ExportProductsControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    // Controllerが依存するユースケースをモック
+    @MockitoBean
+    private ExportProductsUsecase usecase;
+
+    private static final String STATIONERY = "2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4";
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        // ユースケースは2件の商品DTOを出力先に渡す
+        given(usecase.exportAll(any())).willAnswer(inv -> {
+            Consumer<ProductDTO> sink = inv.getArgument(0);
+            sink.accept(new ProductDTO("83fbc81d-2498-4da6-b8c2-54878d3b67ff", "蛍光ペン(赤)", 130,
+                new CategoryDTO(STATIONERY, "文房具"), new StockDTO("11111111-2222-3333-4444-555555555555", 100)));
+            sink.accept(new ProductDTO("9959e553-c9da-4646-bd85-8663a3541583", "ペン, \"太字\"", 100,
+                new CategoryDTO(STATIONERY, "文房具"), new StockDTO("66666666-7777-8888-9999-000000000000", 5)));
+            return 2L;
+        });
+    }
+
+    @Test
+    @DisplayName("GET /api/products/export：既定はNDJSON(1行1商品)で出力する")
+    void export_ndjson() throws Exception {
+        var result = mockMvc.perform(get("/api/products/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        // JSONはUTF-8で出力される
+        result.getResponse().setCharacterEncoding("UTF-8");
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"products.ndjson\""))
+            .andExpect(content().string(org.hamcrest.Matchers.matchesRegex(
+                "(?s)\\{\"id\":\"83fbc81d[^\\n]*\"name\":\"蛍光ペン\\(赤\\)\"[^\\n]*\\}\\n\\{\"id\":\"9959e553[^\\n]*\\}\\n")));
+    }
+
+    @Test
+    @DisplayName("GET /api/products/export?format=csv：ヘッダ行付きCSVで出力し、カンマ・引用符を含む項目は引用符で囲む")
+    void export_csv() throws Exception {
+        var result = mockMvc.perform(get("/api/products/export").param("format", "csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        result.getResponse().setCharacterEncoding("UTF-8");
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+            .andExpect(content().string(
+                "id,name,price,categoryId,categoryName,stockId,stockQuantity\n"
+                + "83fbc81d-2498-4da6-b8c2-54878d3b67ff,蛍光ペン(赤),130," + STATIONERY + ",文房具,11111111-2222-3333-4444-555555555555,100\n"
+                + "9959e553-c9da-4646-bd85-8663a3541583,\"ペン, \"\"太字\"\"\",100," + STATIONERY + ",文房具,66666666-7777-8888-9999-000000000000,5\n"));
+    }
+
+    @Test
+    @DisplayName("GET /api/products/export?format=xml：不正な形式は400")
+    void export_invalid_format() throws Exception {
+        mockMvc.perform(get("/api/products/export").param("format", "xml"))
+            .andExpect(status().isBadRequest());
+        then(usecase).should(never()).exportAll(any());
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.ddd_demo.presentation.controller.product;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.ddd_demo.application.dto.ProductImportResultDTO;
+import com.example.ddd_demo.application.dto.ProductImportResultDTO.Reason;
+import com.example.ddd_demo.application.dto.ProductImportResultDTO.Reject;
+import com.example.ddd_demo.application.exception.InvalidInputException;
+import com.example.ddd_demo.application.product.usecase.ImportProductsUsecase;
+import com.example.ddd_demo.presentation.advice.ApiExceptionHandler;
+import com.example.ddd_demo.presentation.product.controller.ImportProductsController;
+
+/**
+ * 商品取り込みコントローラのMockMVCテストドライバ
+ */
+@WebMvcTest(controllers = ImportProductsController.class)
+@Import(ApiExceptionHandler.class) // 404/400/500など共通ハンドラを有効にする
+public class ImportProductsControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    // Controllerが依存するユースケースをモック
+    @MockitoBean
+    private ImportProductsUsecase usecase;
+
+    private static final String CSV = "name,price,categoryId,stockQuantity\n"
+        + "蛍光ペン(赤),130,2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4,100\n";
+
+    @Test
+    @DisplayName("POST /api/products/import：リクエストボディのCSVをユースケースへ渡し、取り込み結果を200で返す")
+    void import_ok() throws Exception {
+        var received = new AtomicReference<String>();
+        given(usecase.importCsv(any())).willAnswer(inv -> {
+            InputStream in = inv.getArgument(0);
+            received.set(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            return new ProductImportResultDTO(2, 1, 1, 15, 133, List.of(
+                new Reject(3, "油性ボールペン(黒)", Reason.CONFLICT, "商品名:[油性ボールペン(黒)]は既に登録済みです。")));
+        });
+
+        mockMvc.perform(post("/api/products/import")
+                .contentType("text/csv")
+                .content(CSV.getBytes(StandardCharsets.UTF_8)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.read").value(2))
+            .andExpect(jsonPath("$.inserted").value(1))
+            .andExpect(jsonPath("$.rejected").value(1))
+            .andExpect(jsonPath("$.rowsPerSecond").value(133))
+            .andExpect(jsonPath("$.rejects[0].line").value(3))
+            .andExpect(jsonPath("$.rejects[0].reason").value("CONFLICT"));
+        assertThat(received.get()).isEqualTo(CSV);
+    }
+
+    @Test
+    @DisplayName("POST /api/products/import：必須の列が無い場合は400を返す")
+    void import_invalid_header() throws Exception {
+        given(usecase.importCsv(any())).willThrow(new InvalidInputException("ヘッダ行に列:[price]がありません。"));
+
+        mockMvc.perform(post("/api/products/import")
+                .contentType("text/csv")
+                .content("name\n".getBytes(StandardCharsets.UTF_8)))
+            .andExpect(status().isBadRequest());
+    }
+}
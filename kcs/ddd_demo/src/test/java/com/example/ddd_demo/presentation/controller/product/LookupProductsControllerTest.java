@@ -0,0 +1,107 @@
+package com.example.ddd_demo.presentation.controller.product;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.ddd_demo.application.dto.CategoryDTO;
+import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.dto.ProductLookupResultDTO;
+import com.example.ddd_demo.application.dto.StockDTO;
+import com.example.ddd_demo.application.product.usecase.LookupProductsUsecase;
+import com.example.ddd_demo.presentation.advice.ApiExceptionHandler;
+import com.example.ddd_demo.presentation.product.controller.LookupProductsController;
+
+/**
+ * 商品一括検索コントローラのMockMVCテストドライバ
+ */
+@WebMvcTest(controllers = LookupProductsController.class)
+@Import(ApiExceptionHandler.class) // 404/400/500など共通ハンドラを有効にする
+public class LookupProductsControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    // Controllerが依存するユースケースをモック
+    @MockitoBean
+    private LookupProductsUsecase usecase;
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("POST /api/products/lookup (names)：200 & リクエスト順の結果")
+    void lookup_byNames_ok() throws Exception {
+        var dto = new ProductDTO(
+            "83fbc81d-2498-4da6-b8c2-54878d3b67ff",
+            "蛍光ペン(赤)",
+            130,
+            new CategoryDTO("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4", "文房具"),
+            new StockDTO("11111111-2222-3333-4444-555555555555", 100)
+        );
+        given(usecase.lookupByNames(List.of("蛍光ペン(赤)", "存在しない"))).willReturn(List.of(
+            new ProductLookupResultDTO("蛍光ペン(赤)", true, dto),
+            new ProductLookupResultDTO("存在しない", false, null)));
+
+        mockMvc.perform(post("/api/products/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "names": ["蛍光ペン(赤)", "存在しない"] }
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$[0].key").value("蛍光ペン(赤)"))
+            .andExpect(jsonPath("$[0].found").value(true))
+            .andExpect(jsonPath("$[0].product.price").value(130))
+            .andExpect(jsonPath("$[1].key").value("存在しない"))
+            .andExpect(jsonPath("$[1].found").value(false));
+
+        then(usecase).should(never()).lookupByIds(anyList());
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("POST /api/products/lookup (ids)：200 & lookupByIdsに委譲")
+    void lookup_byIds_ok() throws Exception {
+        var id = "9959e553-c9da-4646-bd85-8663a3541583";
+        given(usecase.lookupByIds(List.of(id))).willReturn(List.of(
+            new ProductLookupResultDTO(id, false, null)));
+
+        mockMvc.perform(post("/api/products/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"ids\": [\"" + id + "\"] }"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].key").value(id))
+            .andExpect(jsonPath("$[0].found").value(false));
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("POST /api/products/lookup：idsとnamesの両方指定 → 400")
+    void lookup_bothCriteria_badRequest() throws Exception {
+        mockMvc.perform(post("/api/products/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "ids": ["9959e553-c9da-4646-bd85-8663a3541583"], "names": ["鉛筆(黒)"] }
+                    """))
+            .andExpect(status().isBadRequest());
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("POST /api/products/lookup：検索キー未指定 → 400")
+    void lookup_noCriteria_badRequest() throws Exception {
+        mockMvc.perform(post("/api/products/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+            .andExpect(status().isBadRequest());
+    }
+}
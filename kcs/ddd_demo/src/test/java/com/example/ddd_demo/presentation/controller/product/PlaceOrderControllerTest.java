@@ -0,0 +1,99 @@
+package com.example.ddd_demo.presentation.controller.product;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.ddd_demo.application.dto.OrderLineDTO;
+import com.example.ddd_demo.application.dto.OrderPlacementResultDTO;
+import com.example.ddd_demo.application.dto.OrderPlacementResultDTO.Line;
+import com.example.ddd_demo.application.dto.OrderPlacementResultDTO.Status;
+import com.example.ddd_demo.application.dto.StockDTO;
+import com.example.ddd_demo.application.product.usecase.PlaceOrderUsecase;
+import com.example.ddd_demo.presentation.advice.ApiExceptionHandler;
+import com.example.ddd_demo.presentation.product.controller.PlaceOrderController;
+
+/**
+ * 注文の確定コントローラのMockMVCテストドライバ
+ */
+@WebMvcTest(controllers = PlaceOrderController.class)
+@Import(ApiExceptionHandler.class) // 404/400/500など共通ハンドラを有効にする
+public class PlaceOrderControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    // Controllerが依存するユースケースをモック
+    @MockitoBean
+    private PlaceOrderUsecase usecase;
+
+    private static final String ID1 = "9959e553-c9da-4646-bd85-8663a3541583";
+    private static final String ID2 = "83fbc81d-2498-4da6-b8c2-54878d3b67ff";
+
+    @Test
+    @DisplayName("POST /api/orders：全明細を引き当てた場合は200 & 明細ごとの引当後の在庫")
+    void place_ok() throws Exception {
+        given(usecase.place(List.of(new OrderLineDTO(ID1, 2), new OrderLineDTO(ID2, 3))))
+            .willReturn(new OrderPlacementResultDTO(true, List.of(
+                new Line(ID1, 2, Status.ALLOCATED, 100, new StockDTO("11111111-2222-3333-4444-555555555555", 98)),
+                new Line(ID2, 3, Status.ALLOCATED, 100, new StockDTO("66666666-7777-8888-9999-000000000000", 97)))));
+
+        mockMvc.perform(post("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"productId\": \"" + ID1 + "\", \"quantity\": 2},"
+                    + " {\"productId\": \"" + ID2 + "\", \"quantity\": 3}]"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.placed").value(true))
+            .andExpect(jsonPath("$.lines[1].stock.quantity").value(97));
+    }
+
+    @Test
+    @DisplayName("POST /api/orders：引き当てられない明細がある場合は409 & 明細ごとの理由")
+    void place_conflict() throws Exception {
+        given(usecase.place(List.of(new OrderLineDTO(ID1, 2), new OrderLineDTO(ID2, 50))))
+            .willReturn(new OrderPlacementResultDTO(false, List.of(
+                new Line(ID1, 2, Status.SKIPPED, 100, null),
+                new Line(ID2, 50, Status.INSUFFICIENT, 10, null))));
+
+        mockMvc.perform(post("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"productId\": \"" + ID1 + "\", \"quantity\": 2},"
+                    + " {\"productId\": \"" + ID2 + "\", \"quantity\": 50}]"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.placed").value(false))
+            .andExpect(jsonPath("$.lines[1].status").value("INSUFFICIENT"))
+            .andExpect(jsonPath("$.lines[1].availableToPromise").value(10));
+    }
+
+    @Test
+    @DisplayName("POST /api/orders：空の注文・数量が範囲外・明細数の超過→400")
+    void place_invalid() throws Exception {
+        var tooMany = new StringBuilder("[");
+        for (int i = 0; i <= PlaceOrderUsecase.MAX_LINES; i++) {
+            tooMany.append(i == 0 ? "" : ",").append("{\"productId\": \"" + ID1 + "\", \"quantity\": 1}");
+        }
+        tooMany.append("]");
+        for (var body : new String[] {
+                "[]",
+                "[{\"productId\": \"" + ID1 + "\", \"quantity\": 0}]",
+                "[{\"productId\": \"" + ID1 + "\", \"quantity\": 101}]",
+                "[{\"quantity\": 1}]",
+                tooMany.toString()}) {
+            mockMvc.perform(post("/api/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                .andExpect(status().isBadRequest());
+        }
+        then(usecase).should(never()).place(anyList());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.ddd_demo.presentation.controller.product;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.ddd_demo.application.dto.StockAdjustmentDTO;
+import com.example.ddd_demo.application.dto.StockMovementDTO;
+import com.example.ddd_demo.application.dto.StockMovementDTO.Status;
+import com.example.ddd_demo.application.dto.StockMovementReceiptDTO;
+import com.example.ddd_demo.application.exception.NotFoundException;
+import com.example.ddd_demo.application.product.usecase.RecordStockMovementUsecase;
+import com.example.ddd_demo.presentation.advice.ApiExceptionHandler;
+import com.example.ddd_demo.presentation.product.controller.RecordStockMovementController;
+
+/**
+ * 在庫の移動の記録コントローラのMockMVCテストドライバ
+ */
+@WebMvcTest(controllers = RecordStockMovementController.class)
+@Import(ApiExceptionHandler.class) // 404/400/500など共通ハンドラを有効にする
+public class RecordStockMovementControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    // Controllerが依存するユースケースをモック
+    @MockitoBean
+    private RecordStockMovementUsecase usecase;
+
+    private static final String PRODUCT_ID = "9959e553-c9da-4646-bd85-8663a3541583";
+    private static final String UNKNOWN_ID = "ffffffff-ffff-ffff-ffff-ffffffffffff";
+    private static final String MOVEMENT_ID = "0192f0c4-6a5e-7c3a-9b1d-2f4e5a6b7c8d";
+
+    @Test
+    @DisplayName("POST /api/stock/movements：202 & 受け付けた移動・存在しない商品Id")
+    void record_accepted() throws Exception {
+        given(usecase.record(List.of(new StockAdjustmentDTO(PRODUCT_ID, -3), new StockAdjustmentDTO(UNKNOWN_ID, 1))))
+            .willReturn(new StockMovementReceiptDTO(1,
+                List.of(new StockMovementDTO(MOVEMENT_ID, PRODUCT_ID, -3, Status.PENDING)),
+                List.of(UNKNOWN_ID)));
+
+        mockMvc.perform(post("/api/stock/movements")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"productId\":\"" + PRODUCT_ID + "\",\"delta\":-3},"
+                    + "{\"productId\":\"" + UNKNOWN_ID + "\",\"delta\":1}]"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.acceptedCount").value(1))
+            .andExpect(jsonPath("$.accepted[0].movementId").value(MOVEMENT_ID))
+            .andExpect(jsonPath("$.accepted[0].status").value("PENDING"))
+            .andExpect(jsonPath("$.notFoundProductIds[0]").value(UNKNOWN_ID));
+    }
+
+    @Test
+    @DisplayName("POST /api/stock/movements：空リスト・増減量の範囲外・商品Id未指定→400")
+    void record_invalid() throws Exception {
+        for (var body : new String[] {
+                "[]",
+                "[{\"productId\":\"" + PRODUCT_ID + "\",\"delta\":101}]",
+                "[{\"productId\":\"" + PRODUCT_ID + "\"}]",
+                "[{\"delta\":1}]"}) {
+            mockMvc.perform(post("/api/stock/movements")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                .andExpect(status().isBadRequest());
+        }
+        then(usecase).should(never()).record(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/stock/movements/{id}：200 & 反映状況")
+    void getById_ok() throws Exception {
+        given(usecase.getMovement(MOVEMENT_ID))
+            .willReturn(new StockMovementDTO(MOVEMENT_ID, PRODUCT_ID, -3, Status.APPLIED));
+
+        mockMvc.perform(get("/api/stock/movements/{id}", MOVEMENT_ID))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.productId").value(PRODUCT_ID))
+            .andExpect(jsonPath("$.delta").value(-3))
+            .andExpect(jsonPath("$.status").value("APPLIED"));
+    }
+
+    @Test
+    @DisplayName("GET /api/stock/movements/{id}：存在しない移動→404")
+    void getById_notFound() throws Exception {
+        given(usecase.getMovement(MOVEMENT_ID))
+            .willThrow(new NotFoundException("移動Id:[" + MOVEMENT_ID + "]の在庫の移動は存在しません。"));
+
+        mockMvc.perform(get("/api/stock/movements/{id}", MOVEMENT_ID))
+            .andExpect(status().isNotFound());
+    }
+}
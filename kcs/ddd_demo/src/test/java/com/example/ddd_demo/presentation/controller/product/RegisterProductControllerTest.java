@@ -19,11 +19,14 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.example.ddd_demo.application.dto.CategoryDTO;
 import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.dto.ProductRegisterResultDTO;
+import com.example.ddd_demo.application.dto.ProductRegisterResultDTO.Status;
 import com.example.ddd_demo.application.dto.StockDTO;
 import com.example.ddd_demo.application.exception.ExistsException;
 import com.example.ddd_demo.application.exception.NotFoundException;
 import com.example.ddd_demo.application.product.usecase.RegisterProductUsecase;
 import com.example.ddd_demo.presentation.advice.ApiExceptionHandler;
+import com.example.ddd_demo.presentation.cache.ConditionalResponses;
 import com.example.ddd_demo.presentation.product.controller.RegisterProductController;
 import com.example.ddd_demo.presentation.product.schema.ProductCreateSchemaMapperImpl;
 
@@ -31,7 +34,7 @@ import com.example.ddd_demo.presentation.product.schema.ProductCreateSchemaMappe
  * 商品登録コントローラのMockMVCテストドライバ
  */
 @WebMvcTest(controllers = RegisterProductController.class) 
-@Import({ApiExceptionHandler.class,ProductCreateSchemaMapperImpl.class}) // 404/400/500など共通ハンドラを有効にする
+@Import({ApiExceptionHandler.class,ProductCreateSchemaMapperImpl.class,ConditionalResponses.class}) // 404/400/500など共通ハンドラを有効にする
 public class RegisterProductControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -49,11 +52,14 @@ public class RegisterProductControllerTest {
             new CategoryDTO("4c2bde9b-7e67-49ce-93a0-79c9f1b0a6b1", "雑貨"),
             new CategoryDTO("9c7a7a42-1e44-45ed-b9d7-4df90f09a0b1", "パソコン周辺機器")
         );
+        given(usecase.getCategoriesVersion()).willReturn("0123456789abcdef");
         given(usecase.getCategories()).willReturn(list);
 
         mockMvc.perform(get("/api/products/categories"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"0123456789abcdef\""))
+                .andExpect(header().string("Cache-Control", "max-age=60, must-revalidate"))
                 .andExpect(jsonPath("$[0].id").value("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4"))
                 .andExpect(jsonPath("$[0].name").value("文房具"))
                 .andExpect(jsonPath("$[1].id").value("4c2bde9b-7e67-49ce-93a0-79c9f1b0a6b1"))
@@ -62,6 +68,34 @@ public class RegisterProductControllerTest {
                 .andExpect(jsonPath("$[2].name").value("パソコン周辺機器"));
     }
 
+    @Test
+    @DisplayName("GET /api/products/categories (If-None-Match一致)：304 & 一覧は組み立てない")
+    void getCategories_notModified() throws Exception {
+        given(usecase.getCategoriesVersion()).willReturn("0123456789abcdef");
+
+        mockMvc.perform(get("/api/products/categories")
+                    .header("If-None-Match", "\"0123456789abcdef\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"0123456789abcdef\""))
+                .andExpect(header().string("Cache-Control", "max-age=60, must-revalidate"))
+                .andExpect(content().string(""));
+        then(usecase).should(never()).getCategories();
+    }
+
+    @Test
+    @DisplayName("GET /api/products/categories (If-None-Match不一致)：200 & 新しいETag")
+    void getCategories_modified() throws Exception {
+        given(usecase.getCategoriesVersion()).willReturn("fedcba9876543210");
+        given(usecase.getCategories()).willReturn(List.of(
+            new CategoryDTO("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4", "文房具")));
+
+        mockMvc.perform(get("/api/products/categories")
+                    .header("If-None-Match", "\"0123456789abcdef\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"fedcba9876543210\""))
+                .andExpect(jsonPath("$[0].name").value("文房具"));
+    }
+
     @Nested
     class GetCategoryById {
 
@@ -149,8 +183,6 @@ public class RegisterProductControllerTest {
                 new StockDTO("s-1", 10)
             );
 
-            // exists チェックは何も起きない（未存在）
-            willDoNothing().given(usecase).existsProduct("万年筆");
             // addProduct は created を返す
             given(usecase.addProduct(any(ProductDTO.class))).willReturn(created);
 
@@ -167,7 +199,8 @@ public class RegisterProductControllerTest {
                    .andExpect(jsonPath("$.category.id").value("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4"))
                    .andExpect(jsonPath("$.stock.quantity").value(10));
 
-            then(usecase).should().existsProduct("万年筆");
+            // 事前の存在確認は行わない(重複は登録時に一意制約で検出する)
+            then(usecase).should(never()).existsProduct(anyString());
             then(usecase).should().addProduct(any(ProductDTO.class));
         }
 
@@ -204,8 +237,8 @@ public class RegisterProductControllerTest {
                 }
                 """;
 
-            willThrow(new ExistsException("既に存在"))
-                .given(usecase).existsProduct("万年筆");
+            given(usecase.addProduct(any(ProductDTO.class)))
+                .willThrow(new ExistsException("既に存在"));
 
             mockMvc.perform(post("/api/products")
                     .contentType(MediaType.APPLICATION_JSON)
@@ -226,8 +259,7 @@ public class RegisterProductControllerTest {
                 }
                 """;
 
-            // exists は OK だが addProduct 時にカテゴリ無し
-            willDoNothing().given(usecase).existsProduct("万年筆");
+            // addProduct 時にカテゴリ無し
             given(usecase.addProduct(any(ProductDTO.class)))
                 .willThrow(new NotFoundException("カテゴリが存在しません"));
 
@@ -237,4 +269,90 @@ public class RegisterProductControllerTest {
                    .andExpect(status().isNotFound());
         }
     }
+
+    @Nested
+    class RegisterProducts {
+
+        @SuppressWarnings({ "null", "unchecked" })
+        @Test
+        @DisplayName("POST /api/products/batch：200 & 1件ごとの結果")
+        void registerAll_ok() throws Exception {
+            var requestJson = """
+                [
+                  { "name": "万年筆", "price": 1200,
+                    "categoryId": "2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4", "stockQuantity": 10 },
+                  { "name": "水性ボールペン(青)", "price": 120,
+                    "categoryId": "2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4", "stockQuantity": 5 }
+                ]
+                """;
+            var created = new ProductDTO(
+                "83fbc81d-2498-4da6-b8c2-54878d3b67ff", "万年筆", 1200,
+                new CategoryDTO("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4", "文房具"),
+                new StockDTO("s-1", 10));
+            given(usecase.addProducts(anyList())).willReturn(List.of(
+                new ProductRegisterResultDTO(0, "万年筆", Status.CREATED, null, created),
+                new ProductRegisterResultDTO(1, "水性ボールペン(青)", Status.CONFLICT, "既に存在", null)));
+
+            mockMvc.perform(post("/api/products/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(requestJson))
+                   .andExpect(status().isOk())
+                   .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                   .andExpect(jsonPath("$[0].index").value(0))
+                   .andExpect(jsonPath("$[0].status").value("CREATED"))
+                   .andExpect(jsonPath("$[0].product.id").value(created.getId()))
+                   .andExpect(jsonPath("$[1].index").value(1))
+                   .andExpect(jsonPath("$[1].status").value("CONFLICT"));
+
+            // 一括登録では商品ごとの事前チェックを行わない
+            then(usecase).should(never()).existsProduct(anyString());
+            then(usecase).should().addProducts(argThat((List<ProductDTO> list) ->
+                list.size() == 2 && "万年筆".equals(list.get(0).getName())
+                && "2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4".equals(list.get(0).getCategory().getId())
+                && list.get(0).getStock().getQuantity() == 10));
+        }
+
+        @SuppressWarnings("null")
+        @Test
+        @DisplayName("POST /api/products/batch：空の配列 → 400")
+        void registerAll_empty_badRequest() throws Exception {
+            mockMvc.perform(post("/api/products/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[]"))
+                   .andExpect(status().isBadRequest());
+        }
+
+        @SuppressWarnings({ "null", "unchecked" })
+        @Test
+        @DisplayName("POST /api/products/batch：不正な要素が混ざっていても200 & その要素だけINVALID")
+        void registerAll_invalidElement_reportedPerItem() throws Exception {
+            var mixedJson = """
+                [
+                  { "name": "万年筆", "price": 1200,
+                    "categoryId": "2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4", "stockQuantity": 10 },
+                  { "name": " ", "price": 10, "categoryId": "", "stockQuantity": -1 }
+                ]
+                """;
+            var created = new ProductDTO(
+                "83fbc81d-2498-4da6-b8c2-54878d3b67ff", "万年筆", 1200,
+                new CategoryDTO("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4", "文房具"),
+                new StockDTO("s-1", 10));
+            given(usecase.addProducts(anyList())).willReturn(List.of(
+                new ProductRegisterResultDTO(0, "万年筆", Status.CREATED, null, created),
+                new ProductRegisterResultDTO(1, " ", Status.INVALID, "商品名は空にできません。", null)));
+
+            mockMvc.perform(post("/api/products/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(mixedJson))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$[0].status").value("CREATED"))
+                   .andExpect(jsonPath("$[1].index").value(1))
+                   .andExpect(jsonPath("$[1].status").value("INVALID"));
+
+            // 不正な要素も除外せずユースケースへ渡す(判定はユースケースが要素ごとに行う)
+            then(usecase).should().addProducts(argThat((List<ProductDTO> list) ->
+                list.size() == 2 && list.get(1).getPrice() == 10
+                && list.get(1).getStock().getQuantity() == -1));
+        }
+    }
 }
@@ -0,0 +1,126 @@
+package com.example.ddd_demo.presentation.controller.product;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.ddd_demo.application.dto.StockAvailabilityDTO;
+import com.example.ddd_demo.application.dto.StockDTO;
+import com.example.ddd_demo.application.dto.StockReservationDTO;
+import com.example.ddd_demo.application.exception.InsufficientStockException;
+import com.example.ddd_demo.application.exception.NotFoundException;
+import com.example.ddd_demo.application.product.usecase.ReserveStockUsecase;
+import com.example.ddd_demo.presentation.advice.ApiExceptionHandler;
+import com.example.ddd_demo.presentation.product.controller.ReserveStockController;
+
+/**
+ * 在庫の予約コントローラのMockMVCテストドライバ
+ */
+@WebMvcTest(controllers = ReserveStockController.class)
+@Import(ApiExceptionHandler.class) // 404/400/500など共通ハンドラを有効にする
+public class ReserveStockControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    // Controllerが依存するユースケースをモック
+    @MockitoBean
+    private ReserveStockUsecase usecase;
+
+    private static final String PRODUCT_ID = "9959e553-c9da-4646-bd85-8663a3541583";
+    private static final String RESERVATION_ID = "3f1c2b7a-8d4e-4c1a-9f2b-6e5d4c3b2a19";
+
+    @Test
+    @DisplayName("POST /api/stock/reservations：201 & 予約(保持時間の省略はnull)")
+    void reserve_created() throws Exception {
+        given(usecase.reserve(PRODUCT_ID, 2, null))
+            .willReturn(new StockReservationDTO(RESERVATION_ID, PRODUCT_ID, 2, Instant.parse("2025-01-01T00:15:00Z")));
+
+        mockMvc.perform(post("/api/stock/reservations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"productId\": \"" + PRODUCT_ID + "\", \"quantity\": 2}"))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.reservationId").value(RESERVATION_ID))
+            .andExpect(jsonPath("$.quantity").value(2));
+    }
+
+    @Test
+    @DisplayName("POST /api/stock/reservations：引当可能数の不足→409")
+    void reserve_insufficient() throws Exception {
+        given(usecase.reserve(PRODUCT_ID, 5, 30))
+            .willThrow(new InsufficientStockException("引当可能数が足りません。"));
+
+        mockMvc.perform(post("/api/stock/reservations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"productId\": \"" + PRODUCT_ID + "\", \"quantity\": 5, \"holdMinutes\": 30}"))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("POST /api/stock/reservations：数量・保持時間が範囲外、商品Id未指定→400")
+    void reserve_invalid() throws Exception {
+        for (var body : new String[] {
+                "{\"productId\": \"" + PRODUCT_ID + "\", \"quantity\": 0}",
+                "{\"productId\": \"" + PRODUCT_ID + "\", \"quantity\": 101}",
+                "{\"productId\": \"" + PRODUCT_ID + "\", \"quantity\": 1, \"holdMinutes\": 121}",
+                "{\"quantity\": 1}"}) {
+            mockMvc.perform(post("/api/stock/reservations")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                .andExpect(status().isBadRequest());
+        }
+        then(usecase).should(never()).reserve(anyString(), anyInt(), any());
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("POST /api/stock/reservations/{id}/confirm：200 & 減算後の在庫")
+    void confirm_ok() throws Exception {
+        given(usecase.confirm(RESERVATION_ID))
+            .willReturn(new StockDTO("11111111-2222-3333-4444-555555555555", 98));
+
+        mockMvc.perform(post("/api/stock/reservations/{id}/confirm", RESERVATION_ID))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.quantity").value(98));
+    }
+
+    @Test
+    @DisplayName("POST /api/stock/reservations/{id}/confirm：期限切れ・存在しない予約→404")
+    void confirm_notFound() throws Exception {
+        given(usecase.confirm(RESERVATION_ID))
+            .willThrow(new NotFoundException("予約は存在しないか、有効期限が切れています。"));
+
+        mockMvc.perform(post("/api/stock/reservations/{id}/confirm", RESERVATION_ID))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/stock/reservations/{id}：204")
+    void release_noContent() throws Exception {
+        mockMvc.perform(delete("/api/stock/reservations/{id}", RESERVATION_ID))
+            .andExpect(status().isNoContent());
+        then(usecase).should().release(RESERVATION_ID);
+    }
+
+    @Test
+    @DisplayName("GET /api/stock/availability/{productId}：200 & 在庫数・予約中の数量・引当可能数")
+    void availability_ok() throws Exception {
+        given(usecase.getAvailability(PRODUCT_ID))
+            .willReturn(new StockAvailabilityDTO(PRODUCT_ID, 100, 3, 97));
+
+        mockMvc.perform(get("/api/stock/availability/{productId}", PRODUCT_ID))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.reserved").value(3))
+            .andExpect(jsonPath("$.availableToPromise").value(97));
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.ddd_demo.presentation.controller.product;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.ddd_demo.application.dto.CategoryDTO;
+import com.example.ddd_demo.application.dto.ProductDTO;
+import com.example.ddd_demo.application.dto.StockDTO;
+import com.example.ddd_demo.application.dto.VersionedProductDTO;
+import com.example.ddd_demo.application.exception.NotFoundException;
+import com.example.ddd_demo.application.product.usecase.ShowProductUsecase;
+import com.example.ddd_demo.domain.exception.DomainException;
+import com.example.ddd_demo.presentation.advice.ApiExceptionHandler;
+import com.example.ddd_demo.presentation.cache.ConditionalResponses;
+import com.example.ddd_demo.presentation.product.controller.ShowProductController;
+
+/**
+ * 商品詳細コントローラのMockMVCテストドライバ
+ */
+@WebMvcTest(controllers = ShowProductController.class)
+@Import({ApiExceptionHandler.class, ConditionalResponses.class}) // 404/400/500など共通ハンドラを有効にする
+public class ShowProductControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    // Controllerが依存するユースケースをモック
+    @MockitoBean
+    private ShowProductUsecase usecase;
+
+    private static final String ID = "83fbc81d-2498-4da6-b8c2-54878d3b67ff";
+
+    @SuppressWarnings("null")
+    @Test
+    @DisplayName("GET /api/products/{id}：200 OK & ETag & Cache-Control")
+    void getById_ok() throws Exception {
+        var dto = new ProductDTO(
+            ID,
+            "蛍光ペン(赤)",
+            130,
+            new CategoryDTO("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4", "文房具"),
+            new StockDTO("11111111-2222-3333-4444-555555555555", 100)
+        );
+        given(usecase.getVersion(ID)).willReturn("12.13.2");
+        given(usecase.getVersionedProduct(ID)).willReturn(new VersionedProductDTO("12.13.2", dto));
+
+        mockMvc.perform(get("/api/products/{id}", ID)
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(header().string("ETag", "\"12.13.2\""))
+            .andExpect(header().string("Cache-Control", "no-cache"))
+            .andExpect(jsonPath("$.id").value(ID))
+            .andExpect(jsonPath("$.name").value("蛍光ペン(赤)"))
+            .andExpect(jsonPath("$.stock.quantity").value(100));
+    }
+
+    @Test
+    @DisplayName("GET /api/products/{id} (If-None-Match一致)：304 & 集約は取得しない")
+    void getById_notModified() throws Exception {
+        given(usecase.getVersion(ID)).willReturn("12.13.2");
+
+        mockMvc.perform(get("/api/products/{id}", ID)
+                .header("If-None-Match", "\"12.13.2\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "\"12.13.2\""))
+            .andExpect(header().string("Cache-Control", "no-cache"))
+            .andExpect(content().string(""));
+        then(usecase).should(never()).getVersionedProduct(ID);
+    }
+
+    @Test
+    @DisplayName("GET /api/products/{id} (If-None-Matchに複数・弱いETag)：いずれかが一致すれば304")
+    void getById_notModified_anyOf() throws Exception {
+        given(usecase.getVersion(ID)).willReturn("12.13.2");
+
+        mockMvc.perform(get("/api/products/{id}", ID)
+                .header("If-None-Match", "\"11.13.2\", W/\"12.13.2\""))
+            .andExpect(status().isNotModified());
+        then(usecase).should(never()).getVersionedProduct(ID);
+    }
+
+    @Test
+    @DisplayName("GET /api/products/{id} (If-None-Match不一致)：200")
+    void getById_modified() throws Exception {
+        given(usecase.getVersion(ID)).willReturn("14.13.2");
+        given(usecase.getVersionedProduct(ID)).willReturn(new VersionedProductDTO("14.13.2", new ProductDTO(
+            ID, "蛍光ペン(赤)", 130,
+            new CategoryDTO("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4", "文房具"),
+            new StockDTO("11111111-2222-3333-4444-555555555555", 99))));
+
+        mockMvc.perform(get("/api/products/{id}", ID)
+                .header("If-None-Match", "\"12.13.2\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"14.13.2\""))
+            .andExpect(jsonPath("$.stock.quantity").value(99));
+    }
+
+    @Test
+    @DisplayName("GET /api/products/{id} (版の確認後に更新)：ETagは本文と同じ読み取りで得た版")
+    void getById_updatedAfterVersionCheck_etagMatchesBody() throws Exception {
+        // 版の確認時点は 12.13.2、本文の取得時点では更新済み(15.13.2)
+        given(usecase.getVersion(ID)).willReturn("12.13.2");
+        given(usecase.getVersionedProduct(ID)).willReturn(new VersionedProductDTO("15.13.2", new ProductDTO(
+            ID, "蛍光ペン(赤)", 130,
+            new CategoryDTO("2d8e2b0d-49ef-4b36-a4f3-1c6a2e0b84c4", "文房具"),
+            new StockDTO("11111111-2222-3333-4444-555555555555", 98))));
+
+        mockMvc.perform(get("/api/products/{id}", ID)
+                .header("If-None-Match", "\"11.13.2\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"15.13.2\""))
+            .andExpect(jsonPath("$.stock.quantity").value(98));
+    }
+
+    @Test
+    @DisplayName("GET /api/products/{id}：存在しない→404")
+    void getById_notFound() throws Exception {
+        given(usecase.getVersion(ID))
+            .willThrow(new NotFoundException("商品Id:[" + ID + "]の商品は存在しません。"));
+
+        mockMvc.perform(get("/api/products/{id}", ID))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/products/{id}：UUID形式でない→400")
+    void getById_invalidId() throws Exception {
+        given(usecase.getVersion("abc"))
+            .willThrow(new DomainException("商品IdはUUID形式でなければなりません。"));
+
+        mockMvc.perform(get("/api/products/{id}", "abc"))
+            .andExpect(status().isBadRequest());
+    }
+}